@@ -0,0 +1,62 @@
+package benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import participant.AvailabilitySlot;
+import participant.Participant;
+
+/**
+ * Measures booking and releasing time in a participant's availability, with the participant
+ * holding {@code size} separate slots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityBenchmark {
+    private static final LocalDateTime FIRST_SLOT = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Participant participant;
+    private LocalDateTime eventStart;
+    private LocalDateTime eventEnd;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.silenceLogging();
+        // Building the list in start order keeps setup linear; each slot is an hour long with an hour gap
+        List<AvailabilitySlot> slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = FIRST_SLOT.plusHours(2L * i);
+            slots.add(new AvailabilitySlot(start, start.plusHours(1)));
+        }
+        participant = new Participant("bench", "pw", Participant.AccessLevel.MEMBER);
+        participant.setAvailableTimes(slots);
+        eventStart = FIRST_SLOT.plusHours(2L * (size / 2)).plusMinutes(15);
+        eventEnd = eventStart.plusMinutes(30);
+    }
+
+    /**
+     * Books a slot in the middle of the availability and releases it again, leaving the
+     * participant as it was so that every invocation does the same work.
+     */
+    @Benchmark
+    public boolean assignAndUnassign() {
+        boolean assigned = participant.assignEventTime(eventStart, eventEnd);
+        participant.unassignEventTime(eventStart, eventEnd);
+        return assigned;
+    }
+}
@@ -0,0 +1,109 @@
+package benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import event.Event;
+import exception.SyncException;
+import label.Priority;
+import participant.AvailabilitySlot;
+import participant.Participant;
+
+/**
+ * Builds the same events and participants for every run of a benchmark, so that results can be
+ * compared between commits. Everything is derived from a fixed seed and the requested size.
+ */
+final class BenchmarkData {
+    static final long SEED = 2113L;
+    static final int LOCATIONS = 50;
+    static final int PARTICIPANTS_PER_EVENT = 2;
+
+    /** Participants are capped so that loading events is not dominated by the linear name lookup. */
+    static final int MAX_USERS = 1000;
+
+    private static final LocalDateTime FIRST_DAY = LocalDateTime.of(2025, 1, 1, 8, 0);
+    private static final String[] PRIORITIES = {Priority.LOW, Priority.MEDIUM, Priority.HIGH};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Turns off logging, since the hot paths log at INFO and console output would dominate the timings.
+     */
+    static void silenceLogging() {
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    /**
+     * Returns participants with a few availability slots each.
+     *
+     * @param count the number of participants.
+     * @return the participants, named {@code user0}, {@code user1} and so on.
+     */
+    static ArrayList<Participant> participants(int count) {
+        ArrayList<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<AvailabilitySlot> slots = new ArrayList<>();
+            Participant participant = new Participant("user" + i, "pw" + i,
+                    i == 0 ? Participant.AccessLevel.ADMIN : Participant.AccessLevel.MEMBER, slots);
+            for (int day = 0; day < 4; day++) {
+                LocalDateTime start = FIRST_DAY.plusDays(day * 7L);
+                participant.addAvailableTime(start, start.plusDays(5));
+            }
+            participants.add(participant);
+        }
+        return participants;
+    }
+
+    /**
+     * Returns events spread over a year at {@link #LOCATIONS} locations, each with
+     * {@link #PARTICIPANTS_PER_EVENT} participants drawn from the given list.
+     *
+     * @param count        the number of events.
+     * @param participants the participants to assign.
+     * @return the events in insertion order.
+     * @throws SyncException never, since each event gets distinct participants.
+     */
+    static ArrayList<Event> events(int count, List<Participant> participants) throws SyncException {
+        Random random = new Random(SEED);
+        ArrayList<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = FIRST_DAY.plusMinutes(30L * random.nextInt(365 * 24 * 2));
+            Event event = new Event("Event " + i, start, start.plusMinutes(30L * (1 + random.nextInt(4))),
+                    "Room " + random.nextInt(LOCATIONS), (i % 10 == 0 ? "Weekly sync " : "Review ") + i);
+            int first = participants.isEmpty() ? 0 : random.nextInt(participants.size());
+            for (int p = 0; p < Math.min(PARTICIPANTS_PER_EVENT, participants.size()); p++) {
+                event.addParticipant(participants.get((first + p) % participants.size()));
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Returns a priority for each event, cycling through the three levels.
+     *
+     * @param count the number of events.
+     * @return the priorities in event order.
+     */
+    static ArrayList<String> priorities(int count) {
+        ArrayList<String> priorities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            priorities.add(PRIORITIES[i % PRIORITIES.length]);
+        }
+        return priorities;
+    }
+
+    /**
+     * Replaces the shared priority list with one priority per event.
+     *
+     * @param count the number of events.
+     */
+    static void loadPriorities(int count) {
+        Priority.loadFromStorage(priorities(count));
+    }
+}
@@ -0,0 +1,55 @@
+package benchmark;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import ui.UI;
+
+/**
+ * Measures the collision check run before every add and edit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionBenchmark {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private EventManager eventManager;
+    private String start;
+    private String end;
+    private String location;
+
+    @Setup
+    public void setUp() throws SyncException {
+        BenchmarkData.silenceLogging();
+        ArrayList<Event> events = BenchmarkData.events(size, BenchmarkData.participants(BenchmarkData.MAX_USERS));
+        BenchmarkData.loadPriorities(size);
+        eventManager = new EventManager(events, new UI(), null, null);
+
+        Event probe = events.get(size / 2);
+        start = probe.getStartTime().format(FORMATTER);
+        end = probe.getEndTime().format(FORMATTER);
+        location = probe.getLocation();
+    }
+
+    @Benchmark
+    public ArrayList<Event> checkCollision() {
+        return eventManager.checkCollision(start, end, location, eventManager.getEvents(), -1);
+    }
+}
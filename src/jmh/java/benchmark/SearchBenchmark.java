@@ -0,0 +1,91 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import command.FilterCommand;
+import command.FindCommand;
+import command.QueryCache;
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Measures {@code find} and {@code filter} end to end, both computing the result and serving it
+ * from the query cache. Results are handed to a blackhole instead of being printed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private DiscardingUI ui;
+
+    /**
+     * A UI that hands listings to a blackhole instead of printing them.
+     */
+    private static class DiscardingUI extends UI {
+        private Blackhole blackhole;
+
+        @Override
+        public void printMatchingEvents(ArrayList<Event> events) {
+            blackhole.consume(events);
+        }
+    }
+
+    @Setup
+    public void setUp() throws SyncException {
+        BenchmarkData.silenceLogging();
+        ArrayList<Participant> participants = BenchmarkData.participants(BenchmarkData.MAX_USERS);
+        ArrayList<Event> events = BenchmarkData.events(size, participants);
+        BenchmarkData.loadPriorities(size);
+        ui = new DiscardingUI();
+        eventManager = new EventManager(events, ui, null, null);
+        participantManager = new ParticipantManager(participants, ui, null);
+        // user0 is the only admin, so find searches every event and filter only the admin's own
+        participantManager.setCurrentUser(participants.get(0));
+    }
+
+    @Benchmark
+    public void findUncached(Blackhole blackhole) throws SyncException {
+        ui.blackhole = blackhole;
+        QueryCache.getShared().clear();
+        new FindCommand("weekly").execute(eventManager, ui, participantManager);
+    }
+
+    @Benchmark
+    public void findCached(Blackhole blackhole) throws SyncException {
+        ui.blackhole = blackhole;
+        new FindCommand("weekly").execute(eventManager, ui, participantManager);
+    }
+
+    @Benchmark
+    public void filterUncached(Blackhole blackhole) throws SyncException {
+        ui.blackhole = blackhole;
+        QueryCache.getShared().clear();
+        new FilterCommand(2, 3).execute(eventManager, ui, participantManager);
+    }
+
+    @Benchmark
+    public void filterCached(Blackhole blackhole) throws SyncException {
+        ui.blackhole = blackhole;
+        new FilterCommand(2, 3).execute(eventManager, ui, participantManager);
+    }
+}
@@ -0,0 +1,75 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import event.Event;
+import exception.SyncException;
+import sort.Sort;
+import sort.SortByEndTime;
+import sort.SortByPriority;
+import sort.SortByStartTime;
+
+/**
+ * Measures each sort strategy used by {@code list} and {@code listall}.
+ * The strategies are quadratic, so sizes stop at 100k; a million events would take hours per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"priority", "start", "end"})
+    public String strategy;
+
+    private ArrayList<Event> events;
+    private ArrayList<String> priorities;
+    private ArrayList<Event> eventsToSort;
+    private ArrayList<String> prioritiesToSort;
+    private Sort sort;
+
+    @Setup
+    public void setUp() throws SyncException {
+        BenchmarkData.silenceLogging();
+        events = BenchmarkData.events(size, new ArrayList<>());
+        priorities = BenchmarkData.priorities(size);
+        switch (strategy) {
+        case "priority":
+            sort = new SortByPriority();
+            break;
+        case "start":
+            sort = new SortByStartTime();
+            break;
+        default:
+            sort = new SortByEndTime();
+            break;
+        }
+    }
+
+    /**
+     * Restores the unsorted lists, since every strategy sorts in place.
+     */
+    @Setup(Level.Invocation)
+    public void copyLists() {
+        eventsToSort = new ArrayList<>(events);
+        prioritiesToSort = new ArrayList<>(priorities);
+    }
+
+    @Benchmark
+    public ArrayList<Event> sort() {
+        sort.sort(eventsToSort, prioritiesToSort);
+        return eventsToSort;
+    }
+}
@@ -0,0 +1,85 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import event.Event;
+import exception.SyncException;
+import participant.Participant;
+import storage.Storage;
+import storage.UserStorage;
+
+/**
+ * Measures reading and writing the event and user files. The user file holds {@code size} users, of which
+ * the first {@link BenchmarkData#MAX_USERS} take part in the events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Path directory;
+    private Storage storage;
+    private UserStorage userStorage;
+    private ArrayList<Event> events;
+    private ArrayList<String> priorities;
+    private ArrayList<Participant> participants;
+
+    @Setup
+    public void setUp() throws IOException, SyncException {
+        BenchmarkData.silenceLogging();
+        directory = Files.createTempDirectory("eventsync-bench");
+        userStorage = new UserStorage(directory.resolve("users.txt").toString());
+        storage = new Storage(directory.resolve("events.txt").toString(), userStorage);
+
+        participants = BenchmarkData.participants(size);
+        events = BenchmarkData.events(size, participants.subList(0, Math.min(size, BenchmarkData.MAX_USERS)));
+        priorities = BenchmarkData.priorities(size);
+        userStorage.saveUsers(participants);
+        storage.saveEvents(events, priorities);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Event> loadEvents() throws SyncException {
+        return storage.loadEvents();
+    }
+
+    @Benchmark
+    public void saveEvents() throws SyncException {
+        storage.saveEvents(events, priorities);
+    }
+
+    @Benchmark
+    public ArrayList<Participant> loadUsers() throws SyncException {
+        return userStorage.loadUsers();
+    }
+
+    @Benchmark
+    public void saveUsers() throws SyncException {
+        userStorage.saveUsers(participants);
+    }
+}
@@ -16,14 +16,27 @@ public class AddEventCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(AddEventCommand.class.getName());
 
     private final Event event;
+    private final String priority;
 
     /**
      * Constructs an {@code AddEventCommand} with the specified event.
+     * The user is asked for the priority once the event has been accepted.
      *
      * @param event the event to be added.
      */
     public AddEventCommand(Event event) {
+        this(event, null);
+    }
+
+    /**
+     * Constructs an {@code AddEventCommand} with the specified event and priority.
+     *
+     * @param event    the event to be added.
+     * @param priority the priority of the event, or null to ask the user.
+     */
+    public AddEventCommand(Event event, String priority) {
         this.event = event;
+        this.priority = priority;
     }
 
     /**
@@ -37,7 +50,7 @@ public class AddEventCommand extends Command {
     public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
         LOGGER.info("Attempting to create AddEventCommand");
         assert event != null : "Event cannot be null";
-        events.addEvent(event, participantManager);
+        events.addEvent(event, participantManager, priority);
     }
 
     /**
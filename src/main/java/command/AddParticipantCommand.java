@@ -10,7 +10,6 @@ import participant.Participant;
 import participant.ParticipantManager;
 import exception.SyncException;
 import ui.UI;
-import label.Priority;
 
 /**
  * Represents a command to add a participant to an event.
@@ -24,6 +23,7 @@ public class AddParticipantCommand extends Command {
     private final String participantName;
     private final UI ui;
     private final ParticipantManager participantManager;
+    private final boolean isInline;
 
     /**
      * Constructs an {@code AddParticipantCommand} with the given event index,
@@ -35,10 +35,26 @@ public class AddParticipantCommand extends Command {
      * @param participantManager the manager handling participants.
      */
     public AddParticipantCommand(int eventIndex, String participantName, UI ui, ParticipantManager participantManager) {
+        this(eventIndex, participantName, ui, participantManager, false);
+    }
+
+    /**
+     * Constructs an {@code AddParticipantCommand} that may have been typed inline.
+     *
+     * @param eventIndex the index of the event to add the participant to.
+     * @param participantName the name of the participant to be added.
+     * @param ui the user interface for interaction.
+     * @param participantManager the manager handling participants.
+     * @param isInline whether the command was typed inline, in which case a missing participant is an error
+     *                 instead of being offered for creation.
+     */
+    public AddParticipantCommand(int eventIndex, String participantName, UI ui, ParticipantManager participantManager,
+                                 boolean isInline) {
         this.eventIndex = eventIndex;
         this.participantName = participantName;
         this.ui = ui;
         this.participantManager = participantManager;
+        this.isInline = isInline;
     }
 
     /**
@@ -61,6 +77,10 @@ public class AddParticipantCommand extends Command {
 
         Participant participant = participantManager.getParticipant(participantName);
 
+        if (participant == null && isInline) {
+            throw new SyncException("Participant '" + participantName + "' does not exist. "
+                    + "Enter 'create' to create them first.");
+        }
         if (participant == null) {
             boolean shouldCreate = ui.askConfirmation(
                     "Participant '" + participantName + "' does not exist. Create a new one? (Y/N)"
@@ -83,6 +103,7 @@ public class AddParticipantCommand extends Command {
             boolean assigned = participantManager.assignParticipant(event, participant);
             if (assigned) {
                 event.addParticipant(participant);
+                eventManager.reindexEvent(event);
                 ui.showMessage("Participant " + participant.getName() + " has been added.");
             } else {
                 ui.showMessage("Failed to assign time slot. Enter 'addparticipant' to try again.");
@@ -92,7 +113,7 @@ public class AddParticipantCommand extends Command {
                     "Enter 'addparticipant' to try again or try other features.");
         }
 
-        eventManager.getStorage().saveEvents(eventManager.getEvents(), Priority.getAllPriorities());
+        eventManager.save();
     }
 
     /**
@@ -0,0 +1,62 @@
+package command;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import event.EventManager;
+import exception.SyncException;
+import participant.BulkAssignResult;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that adds many participants to one event in a single pass,
+ * reporting the names that could not be added.
+ */
+public class AddParticipantsCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(AddParticipantsCommand.class.getName());
+
+    private final int eventIndex;
+    private final List<String> participantNames;
+
+    /**
+     * Constructs an AddParticipantsCommand.
+     *
+     * @param eventIndex the zero-based index of the event
+     * @param participantNames the names of the participants to add
+     */
+    public AddParticipantsCommand(int eventIndex, List<String> participantNames) {
+        this.eventIndex = eventIndex;
+        this.participantNames = participantNames;
+    }
+
+    /**
+     * Executes the command, adding every available participant and listing the rejected names.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if the event index is invalid or the data cannot be saved
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        assert eventIndex >= 0 : "Event index must be non-negative";
+        LOGGER.info("Adding " + participantNames.size() + " participants to event " + eventIndex);
+        BulkAssignResult result = events.addParticipants(eventIndex, participantNames, participantManager);
+
+        ui.showMessage("Added " + result.getAssigned().size() + " participant(s) to "
+                + events.getEvent(eventIndex).getName() + ".");
+        for (Map.Entry<String, String> rejected : result.getRejected().entrySet()) {
+            ui.showMessage("  Not added: " + rejected.getKey() + " " + rejected.getValue());
+        }
+    }
+
+    public int getEventIndex() {
+        return eventIndex;
+    }
+
+    public List<String> getParticipantNames() {
+        return participantNames;
+    }
+}
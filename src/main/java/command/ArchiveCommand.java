@@ -0,0 +1,59 @@
+package command;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Logger;
+
+import event.EventManager;
+import exception.SyncException;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that moves the events which ended before a horizon out of the event list
+ * and into the archive, where they can still be searched with the archived command.
+ */
+public class ArchiveCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(ArchiveCommand.class.getName());
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final LocalDateTime horizon;
+
+    /**
+     * Constructs an ArchiveCommand that archives the events which ended before the horizon.
+     *
+     * @param horizon the time before which events must have ended to be archived
+     */
+    public ArchiveCommand(LocalDateTime horizon) {
+        this.horizon = horizon;
+    }
+
+    /**
+     * Executes the command, archiving the events and reporting how many were moved.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if the current user is not an admin or the events cannot be archived
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        assert horizon != null : "Horizon cannot be null";
+        LOGGER.info("Archiving events that ended before " + horizon);
+        if (participantManager.getCurrentUser() == null || !participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admin can archive events!");
+        }
+
+        int archived = events.archiveEndedBefore(horizon);
+        if (archived == 0) {
+            ui.showMessage("No events ended before " + horizon.format(FORMATTER) + ".");
+            return;
+        }
+        ui.showMessage("Archived " + archived + " events that ended before " + horizon.format(FORMATTER) + ". "
+                + events.size() + " events remain. Use 'archived [keyword]' to search the archive.");
+    }
+
+    public LocalDateTime getHorizon() {
+        return horizon;
+    }
+}
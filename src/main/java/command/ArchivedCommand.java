@@ -0,0 +1,77 @@
+package command;
+
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Archive;
+import ui.UI;
+
+/**
+ * Represents a command that searches the archived events by keyword, the most recently archived first.
+ * Like the find command, members only see the events they took part in.
+ */
+public class ArchivedCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(ArchivedCommand.class.getName());
+
+    /**
+     * The most archived events listed at a time, so a search never reads more of the archive than it shows.
+     */
+    public static final int LIMIT = 20;
+
+    private final String keyword;
+
+    /**
+     * Constructs an ArchivedCommand that lists the archived events matching a keyword.
+     *
+     * @param keyword the keyword to search for in event names and descriptions, or empty to match every event
+     */
+    public ArchivedCommand(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Executes the command, displaying the most recently archived events that match the keyword.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if no user is logged in or the archive cannot be read
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        assert keyword != null : "Search keyword cannot be null";
+        LOGGER.info("Searching archived events with keyword: " + keyword);
+        Participant participant = participantManager.getCurrentUser();
+        if (participant == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+        Archive archive = events.getArchive();
+        if (archive == null) {
+            throw new SyncException("Archiving is not available.");
+        }
+
+        String searchKeyword = keyword.toLowerCase();
+        // One more than is shown, to tell whether older matches were left out
+        ArrayList<Event> found = archive.find(event -> (participant.isAdmin() || event.hasParticipant(participant))
+                && (event.getName().toLowerCase().contains(searchKeyword)
+                || event.getDescription().toLowerCase().contains(searchKeyword)), LIMIT + 1);
+        boolean hasMore = found.size() > LIMIT;
+        if (hasMore) {
+            found.remove(LIMIT);
+        }
+        ui.printMatchingEvents(found);
+        if (hasMore) {
+            ui.showMessage("Only the " + LIMIT + " most recently archived matches are shown. "
+                    + "Use a more specific keyword to find older events.");
+        }
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+}
@@ -0,0 +1,77 @@
+package command;
+
+import java.util.logging.Logger;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that reports every overlapping booking in the system.
+ * Location conflicts are always reported; participant double-bookings can be included as well.
+ * The report is written out as it goes, even while output is held, so a long one is never kept whole in memory.
+ * This command requires the user to be an Admin.
+ */
+public class ConflictsCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(ConflictsCommand.class.getName());
+
+    /**
+     * The number of conflicts shown between writes of the output.
+     */
+    static final int FLUSH_EVERY = 100;
+
+    private final boolean includeParticipants;
+    private long shown;
+
+    /**
+     * Constructs a ConflictsCommand.
+     *
+     * @param includeParticipants whether to also report participants booked into overlapping events
+     */
+    public ConflictsCommand(boolean includeParticipants) {
+        this.includeParticipants = includeParticipants;
+    }
+
+    /**
+     * Executes the command, printing each overlapping pair as it is found followed by a summary.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if no user is logged in or the user is not an admin
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        LOGGER.info("Reporting conflicts, including participants: " + includeParticipants);
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Please enter 'login' to login.");
+        }
+        if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admin can view the conflict report!");
+        }
+
+        long locationConflicts = events.reportLocationConflicts(
+                (location, first, second) -> showConflict(ui, "Location: " + location, first, second));
+        ui.showMessage("Found " + locationConflicts + " location conflict(s).");
+
+        if (includeParticipants) {
+            long participantConflicts = events.reportParticipantConflicts(
+                    (name, first, second) -> showConflict(ui, "Participant: " + name, first, second));
+            ui.showMessage("Found " + participantConflicts + " participant double-booking(s).");
+        }
+    }
+
+    private void showConflict(UI ui, String key, Event first, Event second) {
+        ui.showConflict(key, first, second);
+        shown++;
+        if (shown % FLUSH_EVERY == 0) {
+            ui.flush();
+        }
+    }
+
+    public boolean isIncludeParticipants() {
+        return includeParticipants;
+    }
+}
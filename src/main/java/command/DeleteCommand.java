@@ -14,6 +14,7 @@ import java.util.logging.Logger;
 public class DeleteCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(DeleteCommand.class.getName());
     private final int index;
+    private final boolean isConfirmed;
 
     /**
      * Constructs a {@code DeleteCommand} with the specified event index.
@@ -21,7 +22,18 @@ public class DeleteCommand extends Command {
      * @param index the index of the event to be deleted.
      */
     public DeleteCommand(int index) {
+        this(index, false);
+    }
+
+    /**
+     * Constructs a {@code DeleteCommand} that may skip the confirmation prompt.
+     *
+     * @param index the index of the event to be deleted.
+     * @param isConfirmed whether the deletion was already confirmed, for example by naming the event inline.
+     */
+    public DeleteCommand(int index, boolean isConfirmed) {
         this.index = index;
+        this.isConfirmed = isConfirmed;
     }
 
     /**
@@ -47,7 +59,7 @@ public class DeleteCommand extends Command {
 
         Event eventToDelete = eventManager.getEvents().get(index);
 
-        if (ui.confirmDeletion(eventToDelete.getName())) {
+        if (isConfirmed || ui.confirmDeletion(eventToDelete.getName())) {
             eventManager.deleteEvent(index);
             for (Participant participant : eventToDelete.getParticipants()) {
                 participant.unassignEventTime(eventToDelete.getStartTime(), eventToDelete.getEndTime());
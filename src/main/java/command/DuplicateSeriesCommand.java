@@ -0,0 +1,99 @@
+package command;
+
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import event.DuplicationResult;
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that duplicates an event into a series of copies at a fixed interval,
+ * reporting every copy that conflicts with an existing event, and every copy that participants were
+ * left out of because they are busy, instead of stopping at the first one.
+ */
+public class DuplicateSeriesCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(DuplicateSeriesCommand.class.getName());
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final int eventIndex;
+    private final Duration step;
+    private final int count;
+
+    /**
+     * Constructs a DuplicateSeriesCommand.
+     *
+     * @param eventIndex the zero-based index of the event to copy.
+     * @param step       the time between consecutive copies.
+     * @param count      the number of copies to create.
+     */
+    public DuplicateSeriesCommand(int eventIndex, Duration step, int count) {
+        this.eventIndex = eventIndex;
+        this.step = step;
+        this.count = count;
+    }
+
+    /**
+     * Executes the command, adding the copies and listing any conflicts and unavailable participants.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the participant manager used to save participants' availability
+     * @throws SyncException if the event cannot be copied or the events cannot be saved
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        LOGGER.info("Duplicating event " + eventIndex + " " + count + " times every " + step);
+        DuplicationResult result = events.duplicateEventSeries(eventIndex, step, count, participantManager);
+        Event first = result.getCopies().get(0);
+        Event last = result.getCopies().get(result.getCopies().size() - 1);
+        ui.showMessage("Added " + result.getCopies().size() + " copies of " + first.getName() + " from "
+                + first.getStartTime().format(FORMATTER) + " to " + last.getStartTime().format(FORMATTER) + ".");
+
+        if (!result.getConflicts().isEmpty()) {
+            ui.showMessage(result.getConflicts().size() + " of the copies overlap other events at "
+                    + first.getLocation() + ":");
+            for (Map.Entry<Event, ArrayList<Event>> conflict : result.getConflicts().entrySet()) {
+                StringBuilder line = new StringBuilder("  ")
+                        .append(conflict.getKey().getStartTime().format(FORMATTER)).append(" overlaps ");
+                for (int i = 0; i < conflict.getValue().size(); i++) {
+                    Event other = conflict.getValue().get(i);
+                    line.append(i == 0 ? "" : ", ").append(other.getName())
+                            .append(" (").append(other.getStartTime().format(FORMATTER)).append(")");
+                }
+                ui.showMessage(line.toString());
+            }
+        }
+
+        if (!result.getUnavailable().isEmpty()) {
+            ui.showMessage(result.getUnavailable().size() + " of the copies leave out participants who are busy:");
+            for (Map.Entry<Event, ArrayList<Participant>> busy : result.getUnavailable().entrySet()) {
+                StringBuilder line = new StringBuilder("  ")
+                        .append(busy.getKey().getStartTime().format(FORMATTER)).append(" without ");
+                for (int i = 0; i < busy.getValue().size(); i++) {
+                    line.append(i == 0 ? "" : ", ").append(busy.getValue().get(i).getName());
+                }
+                ui.showMessage(line.toString());
+            }
+        }
+    }
+
+    public int getEventIndex() {
+        return eventIndex;
+    }
+
+    public Duration getStep() {
+        return step;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
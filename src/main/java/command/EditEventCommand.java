@@ -2,6 +2,7 @@ package command;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.logging.Logger;
 
 import event.Event;
@@ -21,6 +22,7 @@ public class EditEventCommand extends Command {
 
     private final int index;
     private final ParticipantManager participantManager;
+    private final Event edits;
 
     /**
      * Constructor to initialize the EditEventCommand with an event index and participant manager.
@@ -29,8 +31,21 @@ public class EditEventCommand extends Command {
      * @param participantManager The participant manager responsible for managing participants
      */
     public EditEventCommand(int index, ParticipantManager participantManager) {
+        this(index, participantManager, null);
+    }
+
+    /**
+     * Constructor for an EditEventCommand that replaces the name, times, location and description of an event
+     * at once instead of showing the edit menu.
+     *
+     * @param index The index of the event to edit
+     * @param participantManager The participant manager responsible for managing participants
+     * @param edits An event holding the new details, or null to show the edit menu
+     */
+    public EditEventCommand(int index, ParticipantManager participantManager, Event edits) {
         this.index = index;
         this.participantManager = participantManager;
+        this.edits = edits;
     }
 
     /**
@@ -53,6 +68,17 @@ public class EditEventCommand extends Command {
         Event event = events.getEvent(index);
         assert event != null : "Event to edit should not be null";
 
+        if (edits != null) {
+            // The participants keep the event, so their availability is checked against the new times
+            Event updatedEvent = new Event(edits.getName(), edits.getStartTime(), edits.getEndTime(),
+                    edits.getLocation(), edits.getDescription(), new ArrayList<>(event.getParticipants()));
+            updatedEvent.setRecurrence(event.getRecurrence());
+            updatedEvent.setPriority(event.getPriority());
+            events.updateEvent(index, updatedEvent);
+            participantManager.save();
+            return;
+        }
+
         boolean editing = true;
 
         while (editing) {
@@ -88,6 +114,7 @@ public class EditEventCommand extends Command {
                 ui.showEditCommandCorrectFormat();
             }
 
+            events.reindexEvent(event);
             events.save();
             participantManager.save();
         }
@@ -131,14 +158,15 @@ public class EditEventCommand extends Command {
                 continue;
             }
 
+            Event moved = withTimes(event, newStart, event.getEndTime());
             for (Participant p : event.getParticipants()) {
-                p.unassignEventTime(event.getStartTime(), event.getEndTime());
+                event.forEachOccurrence(p::unassignEventTime);
             }
 
             for (Participant p : event.getParticipants()) {
-                if (!p.isAvailableDuring(newStart, event.getEndTime())) {
+                if (!moved.allOccurrencesMatch(p::isAvailableDuring)) {
                     for (Participant recover : event.getParticipants()) {
-                        recover.assignEventTime(event.getStartTime(), event.getEndTime());
+                        event.forEachOccurrence(recover::assignEventTime);
                         participantManager.save(recover);
                     }
                     throw new SyncException(SyncException.participantUnavailableDuringEditError(
@@ -147,7 +175,7 @@ public class EditEventCommand extends Command {
             }
 
             for (Participant p : event.getParticipants()) {
-                p.assignEventTime(newStart, event.getEndTime());
+                moved.forEachOccurrence(p::assignEventTime);
                 participantManager.save(p);
             }
 
@@ -178,14 +206,15 @@ public class EditEventCommand extends Command {
                 continue;
             }
 
+            Event moved = withTimes(event, event.getStartTime(), newEnd);
             for (Participant p : event.getParticipants()) {
-                p.unassignEventTime(event.getStartTime(), event.getEndTime());
+                event.forEachOccurrence(p::unassignEventTime);
             }
 
             for (Participant p : event.getParticipants()) {
-                if (!p.isAvailableDuring(event.getStartTime(), newEnd)) {
+                if (!moved.allOccurrencesMatch(p::isAvailableDuring)) {
                     for (Participant recover : event.getParticipants()) {
-                        recover.assignEventTime(event.getStartTime(), event.getEndTime());
+                        event.forEachOccurrence(recover::assignEventTime);
                         participantManager.save();
                     }
                     throw new SyncException(SyncException.participantUnavailableDuringEditError(
@@ -194,7 +223,7 @@ public class EditEventCommand extends Command {
             }
 
             for (Participant p : event.getParticipants()) {
-                p.assignEventTime(event.getStartTime(), newEnd);
+                moved.forEachOccurrence(p::assignEventTime);
                 participantManager.save();
             }
 
@@ -203,6 +232,22 @@ public class EditEventCommand extends Command {
         }
     }
 
+    /**
+     * Creates a copy of the event with new times for the first occurrence, keeping its recurrence rule,
+     * so every occurrence at the new times can be checked before the event itself is changed.
+     *
+     * @param event The event to copy
+     * @param start The new start time
+     * @param end The new end time
+     * @return The copy with the new times
+     */
+    private Event withTimes(Event event, LocalDateTime start, LocalDateTime end) {
+        Event moved = event.duplicate(event.getName());
+        moved.setStartTime(start);
+        moved.setEndTime(end);
+        return moved;
+    }
+
     /**
      * Edits the event's location.
      *
@@ -6,11 +6,12 @@ import participant.ParticipantManager;
 import ui.UI;
 import exception.SyncException;
 import event.Event;
+import event.EventOrder;
+import event.EventPage;
+import event.PageRequest;
 import label.Priority;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Command that filters events based on priority bounds for the current user.
@@ -21,6 +22,7 @@ public class FilterCommand extends Command {
 
     private final int lowerBound;
     private final int upperBound;
+    private final PageRequest pageRequest;
 
     /**
      * Constructor to initialize the FilterCommand with a lower and upper priority bound.
@@ -29,8 +31,20 @@ public class FilterCommand extends Command {
      * @param upper The upper bound for filtering events by priority
      */
     public FilterCommand(int lower, int upper) {
+        this(lower, upper, null);
+    }
+
+    /**
+     * Constructor for a FilterCommand that shows a single page of the matching events.
+     *
+     * @param lower The lower bound for filtering events by priority
+     * @param upper The upper bound for filtering events by priority
+     * @param pageRequest The page to show, or null to show every match
+     */
+    public FilterCommand(int lower, int upper, PageRequest pageRequest) {
         this.lowerBound = lower;
         this.upperBound = upper;
+        this.pageRequest = pageRequest;
     }
 
 
@@ -42,6 +56,10 @@ public class FilterCommand extends Command {
         return upperBound;
     }
 
+    public PageRequest getPageRequest() {
+        return pageRequest;
+    }
+
 
     /**
      * Executes the command to filter events based on the priority bounds.
@@ -66,33 +84,31 @@ public class FilterCommand extends Command {
                 return;
             }
 
-            List<Event> userEvents = eventManager.getEvents().stream()
-                    .filter(event -> event.hasParticipant(currentUser))
-                    .collect(Collectors.toList());
+            BiPredicate<Event, String> isMatch = (event, priority) -> event.hasParticipant(currentUser)
+                    && Priority.getValue(priority) >= lowerBound && Priority.getValue(priority) <= upperBound;
+            QueryCache cache = QueryCache.getShared();
 
-            if (userEvents.isEmpty()) {
-                ui.showMessage("No events assigned to you.");
+            if (pageRequest != null) {
+                eventManager.setPageQuery(isMatch, EventOrder.NONE, pageRequest);
+                ui.showEventPage(cache.computeIfAbsent(
+                        QueryCache.key(currentUser, "filter", lowerBound, upperBound, pageRequest),
+                        eventManager, () -> eventManager.getPage(isMatch, EventOrder.NONE, pageRequest)));
                 return;
             }
 
-            ArrayList<Event> matchingEvents = new ArrayList<>();
-            ArrayList<String> allPriorities = Priority.getAllPriorities();
-
-            if (allPriorities.size() != eventManager.size()) {
+            if (Priority.getAllPriorities().size() != eventManager.size()) {
                 throw new SyncException("Priority list is out of sync with events");
             }
 
-            for (int i = 0; i < eventManager.size(); i++) {
-                Event event = eventManager.getEvent(i);
-                if (event.hasParticipant(currentUser)) {  // Check if user is assigned
-                    String priority = allPriorities.get(i);
-                    int priorityValue = Priority.getValue(priority);
-                    if (priorityValue >= lowerBound && priorityValue <= upperBound) {
-                        matchingEvents.add(event);
-                    }
-                }
+            EventPage matchingEvents = cache.computeIfAbsent(
+                    QueryCache.key(currentUser, "filter", lowerBound, upperBound),
+                    eventManager, () -> eventManager.getMatching(isMatch));
+            if (matchingEvents.getEvents().isEmpty()
+                    && eventManager.getEvents().stream().noneMatch(event -> event.hasParticipant(currentUser))) {
+                ui.showMessage("No events assigned to you.");
+                return;
             }
-            ui.printMatchingEvents(matchingEvents);
+            ui.printMatchingEvents(matchingEvents.getEvents());
         } catch (Exception e) {
             throw new SyncException("Error filtering events: " + e.getMessage());
         }
@@ -6,7 +6,10 @@ import participant.ParticipantManager;
 import ui.UI;
 import exception.SyncException;
 import event.Event;
-import java.util.ArrayList;
+import event.EventOrder;
+import event.EventPage;
+import event.PageRequest;
+import java.util.function.BiPredicate;
 import java.util.logging.Logger;
 
 /**
@@ -20,6 +23,7 @@ public class FindCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(FindCommand.class.getName());
 
     private final String keyword;
+    private final PageRequest pageRequest;
 
     /**
      * Constructs a new FindCommand with the specified search keyword.
@@ -27,7 +31,18 @@ public class FindCommand extends Command {
      * @param keyword the keyword to search for in event names and descriptions
      */
     public FindCommand(String keyword) {
+        this(keyword, null);
+    }
+
+    /**
+     * Constructs a new FindCommand that shows a single page of the matching events.
+     *
+     * @param keyword the keyword to search for in event names and descriptions
+     * @param pageRequest the page to show, or null to show every match
+     */
+    public FindCommand(String keyword, PageRequest pageRequest) {
         this.keyword = keyword;
+        this.pageRequest = pageRequest;
     }
 
     /**
@@ -50,29 +65,29 @@ public class FindCommand extends Command {
                 throw new SyncException("You are not logged in. Enter 'login' to log in first.");
             }
 
-            ArrayList<Event> matchingEvents = new ArrayList<>();
-            ArrayList<Event> allEvents = new ArrayList<>();
+            String searchKeyword = keyword.trim().toLowerCase();
+            BiPredicate<Event, String> isMatch = (event, priority) ->
+                    (participant.isAdmin() || event.hasParticipant(participant)) && matches(event, searchKeyword);
+            QueryCache cache = QueryCache.getShared();
 
-            if (participant.isAdmin()) {
-                allEvents = events.getEvents();
-            } else {
-                allEvents = events.getEventsByParticipant(participantManager);
+            if (pageRequest != null) {
+                events.setPageQuery(isMatch, EventOrder.NONE, pageRequest);
+                ui.showEventPage(cache.computeIfAbsent(QueryCache.key(participant, "find", searchKeyword, pageRequest),
+                        events, () -> events.getPage(isMatch, EventOrder.NONE, pageRequest)));
+                return;
             }
 
-            for (Event event : allEvents) {
-                String eventName = event.getName().trim().toLowerCase();
-                String eventDescription = event.getDescription().trim().toLowerCase();
-                String searchKeyword = keyword.trim().toLowerCase();
-
-                if (eventName.contains(searchKeyword) || eventDescription.contains(searchKeyword)) {
-                    matchingEvents.add(event);
-                }
-            }
-
-            ui.printMatchingEvents(matchingEvents);
+            EventPage matchingEvents = cache.computeIfAbsent(QueryCache.key(participant, "find", searchKeyword),
+                    events, () -> events.getMatching(isMatch));
+            ui.printMatchingEvents(matchingEvents.getEvents());
 
         } catch (Exception e) {
             throw new SyncException("Error during find operation: " + e.getMessage());
         }
     }
+
+    private static boolean matches(Event event, String searchKeyword) {
+        return event.getName().trim().toLowerCase().contains(searchKeyword)
+                || event.getDescription().trim().toLowerCase().contains(searchKeyword);
+    }
 }
@@ -0,0 +1,79 @@
+package command;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import event.EventManager;
+import exception.SyncException;
+import participant.AvailabilitySlot;
+import participant.Participant;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that finds the time windows in which a group of participants are all free.
+ */
+public class FreeTimeCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(FreeTimeCommand.class.getName());
+
+    private final List<String> participantNames;
+    private final Duration duration;
+    private final boolean earliestOnly;
+
+    /**
+     * Constructs a FreeTimeCommand.
+     *
+     * @param participantNames the names of the participants who must all be free
+     * @param duration the minimum length of a window
+     * @param earliestOnly whether to show only the earliest window instead of all of them
+     */
+    public FreeTimeCommand(List<String> participantNames, Duration duration, boolean earliestOnly) {
+        this.participantNames = participantNames;
+        this.duration = duration;
+        this.earliestOnly = earliestOnly;
+    }
+
+    /**
+     * Executes the command, displaying the common free windows of the participants.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if no user is logged in or a participant does not exist
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        assert !participantNames.isEmpty() : "Participant list cannot be empty";
+        LOGGER.info("Finding common free time for " + participantNames.size() + " participants");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+
+        ArrayList<Participant> group = new ArrayList<>();
+        for (String name : participantNames) {
+            Participant participant = participantManager.getParticipant(name);
+            if (participant == null) {
+                throw new SyncException("Participant '" + name + "' does not exist.");
+            }
+            group.add(participant);
+        }
+
+        ArrayList<AvailabilitySlot> windows = participantManager.findCommonFreeTime(group, duration,
+                earliestOnly ? 1 : 0);
+        ui.showAvailabilityWindows(windows);
+    }
+
+    public List<String> getParticipantNames() {
+        return participantNames;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public boolean isEarliestOnly() {
+        return earliestOnly;
+    }
+}
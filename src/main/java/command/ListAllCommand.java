@@ -2,17 +2,19 @@ package command;
 
 import event.Event;
 import event.EventManager;
+import event.EventOrder;
+import event.EventPage;
+import event.PageRequest;
 import exception.SyncException;
+import metrics.SortEvent;
 import ui.UI;
 import participant.Participant;
 import participant.ParticipantManager;
-import label.Priority;
 import sort.Sort;
 import sort.SortByPriority;
 import sort.SortByStartTime;
 import sort.SortByEndTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.logging.Logger;
 
 /**
@@ -23,6 +25,8 @@ public class ListAllCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(ListAllCommand.class.getName());
     private final String sortType;
     private final UI ui;
+    private static final BiPredicate<Event, String> ALL_EVENTS = (event, priority) -> true;
+    private final PageRequest pageRequest;
 
     /**
      * Constructs a ListAllCommand with the specified sorting criterion.
@@ -31,8 +35,20 @@ public class ListAllCommand extends Command {
      * @param ui the UI instance used to display messages and interact with the user
      */
     public ListAllCommand(String sortType, UI ui) {
+        this(sortType, ui, null);
+    }
+
+    /**
+     * Constructs a ListAllCommand that shows a single page of the sorted events.
+     *
+     * @param sortType the type of sorting ('priority', 'start', or 'end'), or an empty string for none
+     * @param ui the UI instance used to display messages and interact with the user
+     * @param pageRequest the page to show, or null to show every event
+     */
+    public ListAllCommand(String sortType, UI ui, PageRequest pageRequest) {
         this.sortType = sortType.toLowerCase();
         this.ui = ui;
+        this.pageRequest = pageRequest;
     }
 
     /**
@@ -67,35 +83,64 @@ public class ListAllCommand extends Command {
             return;
         }
 
-        List<Event> eventList = new ArrayList<>(events.getEvents());
-
         if (events.size() == 0) {
             ui.showMessage("No events in the system.");
             return;
         }
 
-        Sort sequence;
+        QueryCache cache = QueryCache.getShared();
+        if (pageRequest != null) {
+            EventOrder order = EventOrder.fromSortType(sortType);
+            if (order == null && !sortType.isEmpty()) {
+                ui.showMessage("Unknown sort type. Showing unsorted list.");
+            }
+            EventOrder pageOrder = order == null ? EventOrder.NONE : order;
+            events.setPageQuery(ALL_EVENTS, pageOrder, pageRequest);
+            ui.showEventPage(cache.computeIfAbsent(QueryCache.key(currentUser, "listall", sortType, pageRequest),
+                    events, () -> events.getPage(ALL_EVENTS, pageOrder, pageRequest)));
+            return;
+        }
+
+        Sort sequence = chooseSortStrategy();
+        if (sequence == null) {
+            ui.showMessage("Unknown sort type. Showing unsorted list.");
+        }
+
+        // The events are sorted together with a copy of their priorities, leaving the stored order untouched
+        EventPage listing = cache.computeIfAbsent(QueryCache.key(currentUser, "listall", sortType), events, () -> {
+            EventPage all = events.getMatching(ALL_EVENTS);
+            if (sequence != null) {
+                SortEvent sortEvent = new SortEvent();
+                sortEvent.begin();
+                sequence.sort(all.getEvents(), all.getPriorities());
+                if (sortEvent.shouldCommit()) {
+                    sortEvent.order = sortType;
+                    sortEvent.size = all.getEvents().size();
+                    sortEvent.commit();
+                }
+            }
+            return all;
+        });
+
+        // Display events
+        ui.showEventsWithIndices(listing.getEvents(), listing.getPriorities());
+    }
+
+    /**
+     * Chooses the sorting strategy based on the specified sort type.
+     *
+     * @return the chosen sorting strategy, or null if the sort type is unknown
+     */
+    private Sort chooseSortStrategy() {
         switch (sortType) {
         case "priority":
-            sequence = new SortByPriority();
-            break;
+            return new SortByPriority();
         case "start":
-            sequence = new SortByStartTime();
-            break;
+            return new SortByStartTime();
         case "end":
-            sequence = new SortByEndTime();
-            break;
+            return new SortByEndTime();
         default:
-            sequence = null;
-            ui.showMessage("Unknown sort type. Showing unsorted list.");
-            break;
-        }
-
-        if (sequence != null) {
-            sequence.sort(eventList, Priority.getAllPriorities());
+            return null;
         }
-
-        // Display events
-        events.viewEvents(eventList);
     }
 }
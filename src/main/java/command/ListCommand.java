@@ -2,19 +2,20 @@ package command;
 
 import event.Event;
 import event.EventManager;
+import event.EventOrder;
+import event.EventPage;
+import event.PageRequest;
 import exception.SyncException;
+import metrics.SortEvent;
 import participant.Participant;
 import participant.ParticipantManager;
 import ui.UI;
-import label.Priority;
 import sort.Sort;
 import sort.SortByPriority;
 import sort.SortByStartTime;
 import sort.SortByEndTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Command to list events assigned to the current user, optionally sorted by a specified criterion.
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 public class ListCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(ListCommand.class.getName());
     private final String sortType;
+    private final PageRequest pageRequest;
 
     /**
      * Constructs a ListCommand with the specified sorting criterion.
@@ -29,7 +31,18 @@ public class ListCommand extends Command {
      * @param sortType the type of sorting ('priority', 'start', or 'end')
      */
     public ListCommand(String sortType) {
+        this(sortType, null);
+    }
+
+    /**
+     * Constructs a ListCommand that shows a single page of the user's sorted events.
+     *
+     * @param sortType the type of sorting ('priority', 'start', or 'end'), or an empty string for none
+     * @param pageRequest the page to show, or null to show every event
+     */
+    public ListCommand(String sortType, PageRequest pageRequest) {
         this.sortType = sortType.toLowerCase();
+        this.pageRequest = pageRequest;
     }
 
     /**
@@ -50,19 +63,45 @@ public class ListCommand extends Command {
             return;
         }
 
-        List<Event> userEvents = getUserEvents(events, currentUser);
-        if (userEvents.isEmpty()) {
-            ui.showMessage("No events assigned to you.");
+        QueryCache cache = QueryCache.getShared();
+        BiPredicate<Event, String> isAssigned = (event, priority) -> event.hasParticipant(currentUser);
+        if (pageRequest != null) {
+            EventOrder order = EventOrder.fromSortType(sortType);
+            if (order == null && !sortType.isEmpty()) {
+                ui.showMessage("Unknown sort type. Showing unsorted list.");
+            }
+            EventOrder pageOrder = order == null ? EventOrder.NONE : order;
+            events.setPageQuery(isAssigned, pageOrder, pageRequest);
+            ui.showEventPage(cache.computeIfAbsent(QueryCache.key(currentUser, "list", sortType, pageRequest),
+                    events, () -> events.getPage(isAssigned, pageOrder, pageRequest)));
             return;
         }
 
-        Sort sorter = chooseSortStrategy(ui);
-        if (sorter == null) {
-            events.viewEvents(userEvents);
+        Sort sorter = chooseSortStrategy();
+        // Sorting is quadratic, so the sorted listing is what gets cached
+        EventPage listing = cache.computeIfAbsent(QueryCache.key(currentUser, "list", sortType), events, () -> {
+            EventPage assigned = events.getMatching(isAssigned);
+            if (sorter != null) {
+                SortEvent sortEvent = new SortEvent();
+                sortEvent.begin();
+                sorter.sort(assigned.getEvents(), assigned.getPriorities());
+                if (sortEvent.shouldCommit()) {
+                    sortEvent.order = sortType;
+                    sortEvent.size = assigned.getEvents().size();
+                    sortEvent.commit();
+                }
+            }
+            return assigned;
+        });
+        if (listing.getEvents().isEmpty()) {
+            ui.showMessage("No events assigned to you.");
             return;
         }
 
-        displaySortedEvents(ui, userEvents, sorter);
+        if (sorter == null) {
+            ui.showMessage("Unknown sort type. Showing unsorted list.");
+        }
+        ui.showEventsWithIndices(listing.getEvents(), listing.getPriorities());
     }
 
     /**
@@ -89,26 +128,12 @@ public class ListCommand extends Command {
         return user;
     }
 
-    /**
-     * Retrieves the list of events assigned to the current user.
-     *
-     * @param events the EventManager instance that manages the events
-     * @param user the current participant
-     * @return a list of events assigned to the user
-     */
-    private List<Event> getUserEvents(EventManager events, Participant user) {
-        return events.getEvents().stream()
-                .filter(event -> event.hasParticipant(user))
-                .collect(Collectors.toList());
-    }
-
     /**
      * Chooses the sorting strategy based on the specified sort type.
      *
-     * @param ui the UI instance used to display messages to the user
      * @return the chosen sorting strategy, or null if the sort type is unknown
      */
-    private Sort chooseSortStrategy(UI ui) {
+    private Sort chooseSortStrategy() {
         switch (sortType) {
         case "priority":
             return new SortByPriority();
@@ -117,29 +142,7 @@ public class ListCommand extends Command {
         case "end":
             return new SortByEndTime();
         default:
-            ui.showMessage("Unknown sort type. Showing unsorted list.");
             return null;
         }
     }
-
-    /**
-     * Displays the sorted events to the user.
-     *
-     * @param ui the UI instance used to display messages to the user
-     * @param events the list of events to display
-     * @param sorter the sorting strategy used to sort the events
-     */
-    private void displaySortedEvents(UI ui, List<Event> events, Sort sorter) {
-        ArrayList<Event> sortedEvents = new ArrayList<>(events);
-        ArrayList<String> priorities = new ArrayList<>(Priority.getAllPriorities());
-        sorter.sort(sortedEvents, priorities);
-
-        if (sortedEvents.isEmpty()) {
-            ui.showMessage("No events to display.");
-        } else {
-            for (int i = 0; i < sortedEvents.size(); i++) {
-                ui.showEventWithIndex(sortedEvents.get(i), i + 1, priorities.get(i));
-            }
-        }
-    }
 }
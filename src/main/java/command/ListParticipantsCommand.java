@@ -37,6 +37,6 @@ public class ListParticipantsCommand extends Command {
         assert eventIndex >= 0 : "Event index must be non-negative";
         LOGGER.info("Listing participants for event at index: " + eventIndex);
         Event event = eventManager.getEvent(eventIndex);
-        event.listParticipants();
+        ui.showParticipants(event);
     }
 }
@@ -11,7 +11,7 @@ import exception.SyncException;
  * Command to handle the logout functionality for participants.
  */
 public class LogOutCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(LogOutCommand.class.getName());
 
     /**
      * Executes the logout command, which logs out the participant and displays a logout message.
@@ -26,6 +26,10 @@ public class LogOutCommand extends Command {
         assert participants != null : "ParticipantManager cannot be null";
         LOGGER.info("Attempting to log out user");
         participants.logout();
+        // The next user must not be able to page through the previous user's listing
+        if (events != null) {
+            events.clearPageQuery();
+        }
         ui.showLogOutMessage();
     }
 }
@@ -13,11 +13,25 @@ import ui.UI;
 public class LoginCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
 
+    private final String username;
+    private final String password;
+
     /**
-     * Constructs a LoginCommand.
+     * Constructs a LoginCommand that prompts for the credentials.
      */
     public LoginCommand() {
+        this(null, null);
+    }
 
+    /**
+     * Constructs a LoginCommand with credentials given on the command line.
+     *
+     * @param username the name of the participant
+     * @param password the participant's password
+     */
+    public LoginCommand(String username, String password) {
+        this.username = username;
+        this.password = password;
     }
 
     /**
@@ -32,6 +46,10 @@ public class LoginCommand extends Command {
     public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
         assert participantManager != null : "ParticipantManager cannot be null";
         LOGGER.info("Attempting to log in user");
-        participantManager.login();
+        if (username == null) {
+            participantManager.login();
+        } else {
+            participantManager.login(username, password);
+        }
     }
 }
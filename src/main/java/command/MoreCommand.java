@@ -0,0 +1,33 @@
+package command;
+
+import java.util.logging.Logger;
+
+import event.EventManager;
+import exception.SyncException;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that shows the next page of the last paged listing, such as
+ * {@code listall start --page 1}, keeping its filter, order and page size.
+ */
+public class MoreCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(MoreCommand.class.getName());
+
+    /**
+     * Executes the command, displaying the page after the one last shown.
+     *
+     * @param events the EventManager instance that remembers the last listing
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if no user is logged in or there is no next page
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        LOGGER.info("Showing the next page of the last listing");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+        ui.showEventPage(events.getNextPage());
+    }
+}
@@ -0,0 +1,215 @@
+package command;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import event.EventManager;
+import event.EventPage;
+import participant.Participant;
+
+/**
+ * Caches the results of read-only listing commands such as {@code list}, {@code find} and {@code filter},
+ * keyed by the user, the command and its arguments. Each result remembers the event manager it was
+ * computed from and that manager's modification count, so any change to the events makes it stale
+ * without the commands that change events having to know about the cache.
+ * The least recently used results are evicted once the cache holds too many entries or too much memory.
+ */
+public class QueryCache {
+    public static final int DEFAULT_MAX_ENTRIES = 128;
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(QueryCache.class.getName());
+
+    /** Rough size of an entry without its events: the map node, the entry and the page objects. */
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    /** Rough size of one event in a result: a reference in the event list and one in the priority list. */
+    private static final long BYTES_PER_EVENT = 16;
+
+    private static final QueryCache SHARED = new QueryCache(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+
+    private final LinkedHashMap<String, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxBytes;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxEntries the most results to keep.
+     * @param maxBytes   the most memory, estimated, the results may take up.
+     */
+    public QueryCache(int maxEntries, long maxBytes) {
+        assert maxEntries > 0 && maxBytes > 0 : "Cache bounds must be positive";
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cache shared by the listing commands.
+     *
+     * @return the shared cache.
+     */
+    public static QueryCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Builds the key of a query from the user who runs it, the command word and its arguments.
+     *
+     * @param user      the current user, whose access decides which events are visible.
+     * @param command   the command word.
+     * @param arguments the arguments that affect the result; null arguments are allowed.
+     * @return the key.
+     */
+    public static String key(Participant user, String command, Object... arguments) {
+        StringBuilder key = new StringBuilder(user.getName()).append('|').append(user.getAccessLevel())
+                .append('|').append(command);
+        for (Object argument : arguments) {
+            key.append('|').append(argument);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the cached result of a query if it was computed from the same events as they are now.
+     *
+     * @param key    the key of the query.
+     * @param events the event manager the query runs against.
+     * @return the cached result, or null if there is none or it is stale.
+     */
+    public synchronized EventPage get(String key, EventManager events) {
+        CachedResult cached = entries.get(key);
+        if (cached != null && cached.source == events && cached.version == events.getModificationCount()) {
+            hits++;
+            return cached.result;
+        }
+        if (cached != null) {
+            remove(key);
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Returns the cached result of a query, computing and storing it first if it is missing or stale.
+     *
+     * @param key     the key of the query.
+     * @param events  the event manager the query runs against.
+     * @param compute computes the result from the current events.
+     * @return the result.
+     */
+    public EventPage computeIfAbsent(String key, EventManager events, Supplier<EventPage> compute) {
+        EventPage result = get(key, events);
+        if (result == null) {
+            result = compute.get();
+            put(key, events, result);
+        }
+        return result;
+    }
+
+    /**
+     * Stores the result of a query, evicting the least recently used results if the cache is full.
+     * Results too large to fit are not stored.
+     *
+     * @param key    the key of the query.
+     * @param events the event manager the result was computed from.
+     * @param result the result.
+     */
+    public synchronized void put(String key, EventManager events, EventPage result) {
+        long size = estimateBytes(key, result);
+        if (size > maxBytes) {
+            LOGGER.fine("Not caching a result of about " + size + " bytes");
+            return;
+        }
+        remove(key);
+        entries.put(key, new CachedResult(events, events.getModificationCount(), result, size));
+        bytes += size;
+
+        Iterator<Map.Entry<String, CachedResult>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes every result and resets the counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns a one-line summary of the cache's counters.
+     *
+     * @return the summary.
+     */
+    @Override
+    public synchronized String toString() {
+        long lookups = hits + misses;
+        long hitRate = lookups == 0 ? 0 : Math.round(100.0 * hits / lookups);
+        return "Query cache: " + hits + " hits, " + misses + " misses (" + hitRate + "% hit rate), "
+                + entries.size() + "/" + maxEntries + " entries, about " + (bytes + 1023) / 1024 + " KB, "
+                + evictions + " evictions.";
+    }
+
+    private void remove(String key) {
+        CachedResult removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.bytes;
+        }
+    }
+
+    private static long estimateBytes(String key, EventPage result) {
+        return ENTRY_OVERHEAD_BYTES + 2L * key.length() + BYTES_PER_EVENT * result.getEvents().size();
+    }
+
+    /**
+     * A cached result together with the events it was computed from.
+     */
+    private static class CachedResult {
+        private final EventManager source;
+        private final long version;
+        private final EventPage result;
+        private final long bytes;
+
+        CachedResult(EventManager source, long version, EventPage result, long bytes) {
+            this.source = source;
+            this.version = version;
+            this.result = result;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that lists the events overlapping a time window.
+ * Admins see every event in the window, members only the events they participate in.
+ */
+public class RangeCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(RangeCommand.class.getName());
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Constructs a RangeCommand for the given window.
+     *
+     * @param from the start of the window
+     * @param to the end of the window
+     */
+    public RangeCommand(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Executes the command, displaying the events that overlap the window.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if no user is logged in
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        assert from != null && to != null : "Range bounds cannot be null";
+        LOGGER.info("Listing events between " + from + " and " + to);
+        Participant currentUser = participantManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+
+        ArrayList<Event> eventsInRange = events.getEventsInRange(from, to, currentUser);
+        ui.printMatchingEvents(eventsInRange);
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+}
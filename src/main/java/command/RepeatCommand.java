@@ -0,0 +1,53 @@
+package command;
+
+import java.util.logging.Logger;
+
+import event.EventManager;
+import event.Recurrence;
+import exception.SyncException;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that makes an existing event repeat daily or weekly.
+ */
+public class RepeatCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(RepeatCommand.class.getName());
+
+    private final int eventIndex;
+    private final Recurrence recurrence;
+
+    /**
+     * Constructs a RepeatCommand.
+     *
+     * @param eventIndex the zero-based index of the event
+     * @param recurrence the recurrence rule to apply
+     */
+    public RepeatCommand(int eventIndex, Recurrence recurrence) {
+        this.eventIndex = eventIndex;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Executes the command, applying the recurrence rule to the event.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if the event index is invalid or the series would collide
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        LOGGER.info("Setting recurrence " + recurrence.format() + " on event " + eventIndex);
+        events.setRecurrence(eventIndex, recurrence, participantManager);
+        ui.showMessage(events.getEvent(eventIndex).getName() + " now repeats " + recurrence + ".");
+    }
+
+    public int getEventIndex() {
+        return eventIndex;
+    }
+
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+}
@@ -0,0 +1,66 @@
+package command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import event.EventManager;
+import exception.SyncException;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that lists the known locations with no event during a time window.
+ */
+public class RoomsCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(RoomsCommand.class.getName());
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Constructs a RoomsCommand for the given window.
+     *
+     * @param start the start of the window
+     * @param end the end of the window
+     */
+    public RoomsCommand(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Executes the command, displaying the locations that are free for the whole window.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if no user is logged in
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        assert !end.isBefore(start) : "End time cannot be before start time";
+        LOGGER.info("Finding free rooms from " + start + " to " + end);
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+
+        ArrayList<String> rooms = events.getFreeLocations(start, end);
+        if (rooms.isEmpty()) {
+            ui.showMessage("No known location is free during that time.");
+            return;
+        }
+        ui.showMessage("Free locations:");
+        for (int i = 0; i < rooms.size(); i++) {
+            ui.showMessage((i + 1) + ". " + rooms.get(i));
+        }
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+}
@@ -0,0 +1,57 @@
+package command;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.logging.Logger;
+
+import event.EventManager;
+import event.PendingEvent;
+import event.ScheduleResult;
+import exception.SyncException;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that places many pending events at once, in priority order,
+ * and saves all placements together.
+ */
+public class ScheduleBatchCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(ScheduleBatchCommand.class.getName());
+
+    private final List<PendingEvent> pendingEvents;
+
+    /**
+     * Constructs a ScheduleBatchCommand.
+     *
+     * @param pendingEvents the events to place
+     */
+    public ScheduleBatchCommand(List<PendingEvent> pendingEvents) {
+        this.pendingEvents = pendingEvents;
+    }
+
+    /**
+     * Executes the command, placing every event it can from the next minute onwards and
+     * listing the events that could not be placed.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if the placements cannot be saved
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        LOGGER.info("Scheduling " + pendingEvents.size() + " pending events");
+        LocalDateTime notBefore = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        ScheduleResult result = events.scheduleBatch(pendingEvents, participantManager, notBefore);
+
+        ui.showMessage("Scheduled " + result.getScheduled().size() + " of " + pendingEvents.size() + " events.");
+        for (PendingEvent unscheduled : result.getUnscheduled()) {
+            ui.showMessage("  Could not schedule: " + unscheduled.getName());
+        }
+    }
+
+    public List<PendingEvent> getPendingEvents() {
+        return pendingEvents;
+    }
+}
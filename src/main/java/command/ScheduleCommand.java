@@ -0,0 +1,64 @@
+package command;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.logging.Logger;
+
+import event.EventManager;
+import event.PendingEvent;
+import event.ScheduleResult;
+import exception.SyncException;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that places a new event at the earliest time when all of its participants
+ * and one of its candidate locations are free, then assigns the participants to it.
+ */
+public class ScheduleCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(ScheduleCommand.class.getName());
+
+    private final PendingEvent pendingEvent;
+
+    /**
+     * Constructs a ScheduleCommand.
+     *
+     * @param pendingEvent the event to place
+     */
+    public ScheduleCommand(PendingEvent pendingEvent) {
+        this.pendingEvent = pendingEvent;
+    }
+
+    /**
+     * Executes the command, adding the event at the earliest free time from the next minute onwards.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if a participant does not exist or no suitable time exists
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        assert pendingEvent != null : "Pending event cannot be null";
+        LOGGER.info("Scheduling event " + pendingEvent.getName());
+
+        for (String participantName : pendingEvent.getParticipantNames()) {
+            if (participantManager.getParticipant(participantName) == null) {
+                throw new SyncException("Participant '" + participantName + "' does not exist.");
+            }
+        }
+
+        LocalDateTime notBefore = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        ScheduleResult result = events.scheduleBatch(List.of(pendingEvent), participantManager, notBefore);
+        if (result.getScheduled().isEmpty()) {
+            throw new SyncException("No time was found when all participants and "
+                    + String.join(" or ", pendingEvent.getCandidateLocations()) + " are free.");
+        }
+        ui.showAddedMessage(result.getScheduled().get(0));
+    }
+
+    public PendingEvent getPendingEvent() {
+        return pendingEvent;
+    }
+}
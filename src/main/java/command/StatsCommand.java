@@ -0,0 +1,35 @@
+package command;
+
+import java.util.logging.Logger;
+
+import event.EventManager;
+import exception.SyncException;
+import metrics.Metrics;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that shows where the application spends its time: how often each command ran
+ * and how long it took, how long loads and saves of the data files took and how many bytes they moved,
+ * and how well the query cache behind {@code list}, {@code listall}, {@code find} and {@code filter}
+ * is working.
+ */
+public class StatsCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(StatsCommand.class.getName());
+
+    /**
+     * Executes the command, displaying the command and storage metrics followed by the cache's hit,
+     * miss and eviction counts and its size.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException never thrown by this command
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        LOGGER.info("Showing metrics and query cache statistics");
+        ui.showMessage(Metrics.getShared().toString());
+        ui.showMessage(QueryCache.getShared().toString());
+    }
+}
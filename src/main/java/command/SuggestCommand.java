@@ -0,0 +1,66 @@
+package command;
+
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that lists the participants who could be added to an event,
+ * that is, those who are free for the whole event and are not already attending.
+ */
+public class SuggestCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(SuggestCommand.class.getName());
+
+    private final int eventIndex;
+
+    /**
+     * Constructs a SuggestCommand for the event at the given index.
+     *
+     * @param eventIndex the zero-based index of the event
+     */
+    public SuggestCommand(int eventIndex) {
+        this.eventIndex = eventIndex;
+    }
+
+    /**
+     * Executes the command, displaying the participants available for the event.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if the event index is invalid
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        LOGGER.info("Suggesting participants for event " + eventIndex);
+        Event event = events.getEvent(eventIndex);
+
+        ArrayList<Participant> suggestions = new ArrayList<>();
+        for (Participant participant
+                : participantManager.findAvailableParticipants(event.getStartTime(), event.getEndTime())) {
+            // The index answers for the first occurrence; a repeating event needs every occurrence free
+            if (!event.hasParticipant(participant) && event.allOccurrencesMatch(participant::isAvailableDuring)) {
+                suggestions.add(participant);
+            }
+        }
+
+        if (suggestions.isEmpty()) {
+            ui.showMessage("No other participants are free for " + event.getName() + ".");
+            return;
+        }
+        ui.showMessage("Participants free for " + event.getName() + ":");
+        for (int i = 0; i < suggestions.size(); i++) {
+            ui.showMessage((i + 1) + ". " + suggestions.get(i).getName());
+        }
+    }
+
+    public int getEventIndex() {
+        return eventIndex;
+    }
+}
@@ -0,0 +1,55 @@
+package command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import ui.UI;
+
+/**
+ * Represents a command that lists the next few events assigned to the current user.
+ */
+public class UpcomingCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(UpcomingCommand.class.getName());
+
+    private final int limit;
+
+    /**
+     * Constructs an UpcomingCommand that lists at most the given number of events.
+     *
+     * @param limit the maximum number of events to list
+     */
+    public UpcomingCommand(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Executes the command, displaying the current user's next events starting from now.
+     *
+     * @param events the EventManager instance that manages the events
+     * @param ui the UI instance used to display messages to the user
+     * @param participantManager the ParticipantManager instance that manages participants
+     * @throws SyncException if no user is logged in
+     */
+    @Override
+    public void execute(EventManager events, UI ui, ParticipantManager participantManager) throws SyncException {
+        assert limit > 0 : "Limit must be positive";
+        LOGGER.info("Listing next " + limit + " upcoming events");
+        Participant currentUser = participantManager.getCurrentUser();
+        if (currentUser == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+
+        ArrayList<Event> upcoming = events.getUpcomingEvents(currentUser, LocalDateTime.now(), limit);
+        ui.printMatchingEvents(upcoming);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -5,8 +5,8 @@ import java.util.logging.Logger;
 
 import command.AddEventCommand;
 import command.Command;
-import command.LoginCommand;
 import exception.SyncException;
+import label.Priority;
 import parser.CommandParser;
 import participant.ParticipantManager;
 import ui.UI;
@@ -15,12 +15,15 @@ import event.Event;
 /**
  * Factory class for creating AddEventCommand instances.
  * Ensures that the current user is logged in and is an admin before allowing event creation.
+ * The details may be given inline as {@code add <name> | <start> | <end> | <location> | <description> [| <priority>]};
+ * otherwise they are prompted for.
  */
 public class AddEventCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(AddEventCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
     private final UI ui;
+    private final String arguments;
 
     /**
      * Constructs an AddEventCommandFactory with the specified ParticipantManager and UI.
@@ -29,8 +32,20 @@ public class AddEventCommandFactory implements CommandFactory {
      * @param ui the UI instance used to interact with the user
      */
     public AddEventCommandFactory(ParticipantManager participantManager, UI ui) {
+        this(participantManager, ui, "");
+    }
+
+    /**
+     * Constructs an AddEventCommandFactory for event details typed on the command line.
+     *
+     * @param participantManager the ParticipantManager instance used to manage participants
+     * @param ui the UI instance used to interact with the user
+     * @param arguments the arguments following the command word, empty to prompt for them
+     */
+    public AddEventCommandFactory(ParticipantManager participantManager, UI ui, String arguments) {
         this.participantManager = participantManager;
         this.ui = ui;
+        this.arguments = arguments;
     }
 
     /**
@@ -48,7 +63,18 @@ public class AddEventCommandFactory implements CommandFactory {
         } else if (!participantManager.isCurrentUserAdmin()) {
             throw new SyncException("Only admin can create events!");
         } else {
-            String input = ui.readAddCommandInput();
+            String priority = null;
+            String input = arguments.isBlank() ? ui.readAddCommandInput() : arguments.trim();
+            if (!arguments.isBlank() && input.split("\\|").length == 6) {
+                // An inline priority follows the five event fields
+                int split = input.lastIndexOf('|');
+                priority = input.substring(split + 1).trim();
+                if (!Priority.isValid(priority)) {
+                    throw new SyncException("Invalid priority. Please enter LOW, MEDIUM, or HIGH.");
+                }
+                priority = Priority.normalize(priority);
+                input = input.substring(0, split);
+            }
             String[] parts = CommandParser.splitAddCommandInput(input);
             String name = parts[0].trim();
             LocalDateTime startTime = CommandParser.parseDateTime(parts[1]);
@@ -66,7 +92,7 @@ public class AddEventCommandFactory implements CommandFactory {
             assert !description.isEmpty() : "Event description should not be empty";
 
             Event newEvent = new Event(name, startTime, endTime, location, description);
-            return new AddEventCommand(newEvent);
+            return new AddEventCommand(newEvent, priority);
         }
     }
 }
@@ -1,7 +1,6 @@
 package commandfactory;
 
 import command.AddParticipantCommand;
-import command.LoginCommand;
 import event.Event;
 import event.EventManager;
 import participant.Participant;
@@ -15,13 +14,16 @@ import ui.UI;
 /**
  * Factory class for creating AddParticipantCommand instances.
  * Ensures that the current user is logged in, has admin privileges, and shows available events and participants.
+ * The event and participant may be given inline as {@code addparticipant <index> | <name>}, in which case nothing
+ * is listed and the participant must already exist.
  */
 public class AddParticipantCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(AddParticipantCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
     private final UI ui;
     private final EventManager eventManager;
+    private final String arguments;
 
     /**
      * Constructs an AddParticipantCommandFactory with the specified EventManager, ParticipantManager, and UI.
@@ -31,9 +33,23 @@ public class AddParticipantCommandFactory implements CommandFactory {
      * @param ui the UI instance used to interact with the user
      */
     public AddParticipantCommandFactory(EventManager eventManager, ParticipantManager participantManager, UI ui) {
+        this(eventManager, participantManager, ui, "");
+    }
+
+    /**
+     * Constructs an AddParticipantCommandFactory for an event and participant typed on the command line.
+     *
+     * @param eventManager the EventManager instance used to manage events
+     * @param participantManager the ParticipantManager instance used to manage participants
+     * @param ui the UI instance used to interact with the user
+     * @param arguments the arguments following the command word, empty to prompt for them
+     */
+    public AddParticipantCommandFactory(EventManager eventManager, ParticipantManager participantManager, UI ui,
+                                        String arguments) {
         this.participantManager = participantManager;
         this.ui = ui;
         this.eventManager = eventManager;
+        this.arguments = arguments;
     }
 
     /**
@@ -54,9 +70,18 @@ public class AddParticipantCommandFactory implements CommandFactory {
         }
 
         checkAdminPrivileges();
-        showAllEvents();
-        showAllParticipants();
-        String[] input = ui.splitAddParticipantCommandInput();
+        boolean isInline = !arguments.isBlank();
+        String[] input;
+        if (isInline) {
+            input = arguments.trim().split("\\|");
+            if (input.length != 2) {
+                throw new SyncException("Invalid format. Use: addparticipant <EventIndex> | <Participant Name>");
+            }
+        } else {
+            showAllEvents();
+            showAllParticipants();
+            input = ui.splitAddParticipantCommandInput();
+        }
 
         int eventIndex;
         try {
@@ -81,7 +106,8 @@ public class AddParticipantCommandFactory implements CommandFactory {
                 eventIndex,
                 input[1].trim(),
                 ui,
-                participantManager
+                participantManager,
+                isInline
         );
     }
 
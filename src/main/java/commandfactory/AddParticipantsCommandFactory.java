@@ -0,0 +1,75 @@
+package commandfactory;
+
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import command.AddParticipantsCommand;
+import command.Command;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating an AddParticipantsCommand from a one-based event index
+ * followed by a comma-separated list of participant names.
+ */
+public class AddParticipantsCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(AddParticipantsCommandFactory.class.getName());
+    private static final String USAGE = "Use: addparticipants <index> <name,name,...>";
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs an AddParticipantsCommandFactory with the raw command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word, with their original letter case
+     * @param participantManager The participant manager to verify the current user
+     */
+    public AddParticipantsCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates an AddParticipantsCommand from the arguments.
+     *
+     * @return An AddParticipantsCommand
+     * @throws SyncException If the user is not an admin or the arguments are invalid
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting AddParticipantsCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        } else if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admins can add participants to events.");
+        }
+
+        String[] parts = arguments.trim().split("\\s+", 2);
+        if (parts.length < 2) {
+            throw new SyncException("Please provide an event number and participant names. " + USAGE);
+        }
+
+        int eventIndex;
+        try {
+            eventIndex = Integer.parseInt(parts[0]) - 1;
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid event number. " + USAGE);
+        }
+        if (eventIndex < 0) {
+            throw new SyncException("Event index cannot be negative. Please enter a valid index.");
+        }
+
+        ArrayList<String> names = new ArrayList<>();
+        for (String name : parts[1].split(",")) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        if (names.isEmpty()) {
+            throw new SyncException("Participant names cannot be empty. " + USAGE);
+        }
+        return new AddParticipantsCommand(eventIndex, names);
+    }
+}
@@ -0,0 +1,64 @@
+package commandfactory;
+
+import java.time.LocalDateTime;
+import java.util.logging.Logger;
+
+import command.ArchiveCommand;
+import command.Command;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating an ArchiveCommand.
+ * This factory reads the optional number of days an event must have ended before to be archived,
+ * defaulting to the {@code eventsync.archive.days} system property or 30 days. Only admins may archive events.
+ */
+public class ArchiveCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(ArchiveCommandFactory.class.getName());
+    private static final int DEFAULT_DAYS = 30;
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs an ArchiveCommandFactory with the raw command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word, either empty or a number of days
+     * @param participantManager The participant manager to verify the current user
+     */
+    public ArchiveCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates an ArchiveCommand for events that ended more than the given number of days ago.
+     *
+     * @return An ArchiveCommand
+     * @throws SyncException If the user is not an admin or the number of days is not a non-negative integer
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting ArchiveCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+        if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admin can archive events!");
+        }
+
+        int days = Integer.getInteger("eventsync.archive.days", DEFAULT_DAYS);
+        if (arguments != null && !arguments.trim().isEmpty()) {
+            try {
+                days = Integer.parseInt(arguments.trim());
+            } catch (NumberFormatException e) {
+                throw new SyncException("Invalid number of days. Use: archive [days]");
+            }
+        }
+        if (days < 0) {
+            throw new SyncException("The number of days cannot be negative.");
+        }
+        return new ArchiveCommand(LocalDateTime.now().minusDays(days));
+    }
+}
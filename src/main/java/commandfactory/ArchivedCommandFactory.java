@@ -0,0 +1,45 @@
+package commandfactory;
+
+import java.util.logging.Logger;
+
+import command.ArchivedCommand;
+import command.Command;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating an ArchivedCommand from an optional keyword.
+ */
+public class ArchivedCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(ArchivedCommandFactory.class.getName());
+
+    private final String keyword;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs an ArchivedCommandFactory with the keyword and participant manager.
+     *
+     * @param keyword The keyword to search for, or an empty string to list the latest archived events
+     * @param participantManager The participant manager to verify the current user
+     */
+    public ArchivedCommandFactory(String keyword, ParticipantManager participantManager) {
+        this.keyword = keyword;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates an ArchivedCommand for the keyword.
+     *
+     * @return An ArchivedCommand
+     * @throws SyncException If the user is not logged in
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting ArchivedCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+        return new ArchivedCommand(keyword == null ? "" : keyword.trim());
+    }
+}
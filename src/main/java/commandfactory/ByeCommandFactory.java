@@ -4,7 +4,6 @@ import java.util.logging.Logger;
 
 import command.ByeCommand;
 import command.Command;
-import command.LoginCommand;
 import exception.SyncException;
 import participant.ParticipantManager;
 
@@ -13,7 +12,7 @@ import participant.ParticipantManager;
  * This class is responsible for creating a ByeCommand when invoked.
  */
 public class ByeCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(ByeCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
     private final ui.UI ui;
@@ -0,0 +1,56 @@
+package commandfactory;
+
+import java.util.logging.Logger;
+
+import command.Command;
+import command.ConflictsCommand;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a ConflictsCommand.
+ * This factory ensures the user is an admin and reads whether participant double-bookings should be included.
+ */
+public class ConflictsCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(ConflictsCommandFactory.class.getName());
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a ConflictsCommandFactory with the raw command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word, either empty or {@code participants}
+     * @param participantManager The participant manager to verify the current user
+     */
+    public ConflictsCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a ConflictsCommand.
+     *
+     * @return A ConflictsCommand
+     * @throws SyncException If the user is not logged in, is not an admin, or the argument is unknown
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting ConflictsCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Please enter 'login' to login.");
+        } else if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admin can view the conflict report!");
+        }
+
+        String option = arguments == null ? "" : arguments.trim().toLowerCase();
+        if (option.isEmpty()) {
+            return new ConflictsCommand(false);
+        } else if (option.equals("participants")) {
+            return new ConflictsCommand(true);
+        } else {
+            throw new SyncException("Unknown option: " + option + ". Use: conflicts [participants]");
+        }
+    }
+}
@@ -2,7 +2,6 @@ package commandfactory;
 
 import command.Command;
 import command.CreateUserCommand;
-import command.LoginCommand;
 import exception.SyncException;
 import participant.Participant;
 import participant.AvailabilitySlot;
@@ -17,12 +16,18 @@ import java.util.logging.Logger;
 /**
  * Factory class responsible for creating a CreateUserCommand.
  * This factory gathers all necessary information from the user to create a new participant.
+ * The details may be given inline as
+ * {@code create <name> | <password> | <ADMIN or MEMBER> | <start> | <end> [| <start> | <end> ...]},
+ * with one start and end for each of up to 10 availability slots; otherwise they are prompted for.
  */
 public class CreateUserCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(CreateUserCommandFactory.class.getName());
 
     private final UI ui;
+    private static final int MAX_SLOTS = 10;
+
     private final ParticipantManager participantManager;
+    private final String arguments;
 
     /**
      * Constructor to initialize the factory with the UI and participant manager.
@@ -31,8 +36,20 @@ public class CreateUserCommandFactory implements CommandFactory {
      * @param participantManager The participant manager to handle participant data
      */
     public CreateUserCommandFactory(UI ui, ParticipantManager participantManager) {
+        this(ui, participantManager, "");
+    }
+
+    /**
+     * Constructor for a create command whose details were typed on the command line.
+     *
+     * @param ui The UI used to interact with the user
+     * @param participantManager The participant manager to handle participant data
+     * @param arguments The arguments following the command word, empty to prompt for them
+     */
+    public CreateUserCommandFactory(UI ui, ParticipantManager participantManager, String arguments) {
         this.ui = ui;
         this.participantManager = participantManager;
+        this.arguments = arguments;
     }
 
     /**
@@ -47,6 +64,9 @@ public class CreateUserCommandFactory implements CommandFactory {
     public Command createCommand() throws SyncException {
         assert participantManager != null : "ParticipantManager cannot be null";
         LOGGER.info("Attempting CreateUserCommandFactory");
+        if (!arguments.isBlank()) {
+            return createInlineCommand();
+        }
         String participantName = askParticipantName();
         if (participantManager.getParticipant(participantName) != null) {
             throw new SyncException("Participant " + participantName + " already exists. Please enter 'create' " +
@@ -66,6 +86,51 @@ public class CreateUserCommandFactory implements CommandFactory {
         return new CreateUserCommand(participant);
     }
 
+    /**
+     * Creates a CreateUserCommand from the details typed on the command line.
+     *
+     * @return A new CreateUserCommand
+     * @throws SyncException If a detail is missing or invalid, or the participant already exists
+     */
+    private Command createInlineCommand() throws SyncException {
+        String[] parts = arguments.trim().split("\\|");
+        if (parts.length < 5 || parts.length % 2 == 0) {
+            throw new SyncException("Invalid create format. Use: create <name> | <password> | <ADMIN or MEMBER> | "
+                    + "<start> | <end> [| <start> | <end> ...]");
+        }
+        String participantName = parts[0].trim();
+        if (participantName.isEmpty()) {
+            throw new SyncException("Participant name cannot be empty.");
+        }
+        if (participantManager.getParticipant(participantName) != null) {
+            throw new SyncException("Participant " + participantName + " already exists.");
+        }
+
+        Participant.AccessLevel accessLevel;
+        try {
+            accessLevel = Participant.AccessLevel.valueOf(parts[2].trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new SyncException("Invalid access level. Please enter ADMIN or MEMBER.");
+        }
+
+        ArrayList<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+        for (int i = 3; i < parts.length; i += 2) {
+            LocalDateTime start = CommandParser.parseDateTime(parts[i]);
+            LocalDateTime end = CommandParser.parseDateTime(parts[i + 1]);
+            if (end.isBefore(start)) {
+                throw new SyncException("❌ End time must be after start time.");
+            }
+            availabilitySlots.add(new AvailabilitySlot(start, end));
+        }
+        if (availabilitySlots.size() > MAX_SLOTS) {
+            throw new SyncException("A participant can have at most " + MAX_SLOTS + " availability slots.");
+        }
+
+        Participant participant = new Participant(participantName, parts[1].trim(), accessLevel);
+        participant.setAvailableTimes(availabilitySlots);
+        return new CreateUserCommand(participant);
+    }
+
     /**
      * Prompts the user for the participant's name.
      *
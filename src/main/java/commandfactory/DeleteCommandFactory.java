@@ -1,12 +1,10 @@
 package commandfactory;
 
 import java.util.ArrayList;
-import java.util.Scanner;
 import java.util.logging.Logger;
 
 import command.Command;
 import command.DeleteCommand;
-import command.LoginCommand;
 import event.Event;
 import event.EventManager;
 import exception.SyncException;
@@ -17,13 +15,16 @@ import ui.UI;
  * Factory class responsible for creating a DeleteCommand.
  * This factory handles the process of finding and deleting an event,
  * ensuring that the user is logged in and has admin privileges.
+ * The name may be given inline as {@code delete <name>}, in which case it must match exactly one event
+ * and the deletion is not confirmed again.
  */
 public class DeleteCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(DeleteCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
     private final UI ui;
     private final EventManager eventManager;
+    private final String arguments;
 
     /**
      * Constructor to initialize the factory with participant manager, UI, and event manager.
@@ -33,9 +34,23 @@ public class DeleteCommandFactory implements CommandFactory {
      * @param eventManager The event manager to handle event data
      */
     public DeleteCommandFactory(ParticipantManager participantManager, UI ui, EventManager eventManager) {
+        this(participantManager, ui, eventManager, "");
+    }
+
+    /**
+     * Constructor for a delete command whose event name was typed on the command line.
+     *
+     * @param participantManager The participant manager to handle participant data
+     * @param ui The UI used to interact with the user
+     * @param eventManager The event manager to handle event data
+     * @param arguments The arguments following the command word, empty to prompt for the name
+     */
+    public DeleteCommandFactory(ParticipantManager participantManager, UI ui, EventManager eventManager,
+                                String arguments) {
         this.participantManager = participantManager;
         this.ui = ui;
         this.eventManager = eventManager;
+        this.arguments = arguments;
     }
 
     /**
@@ -55,12 +70,17 @@ public class DeleteCommandFactory implements CommandFactory {
         } else if (!participantManager.isCurrentUserAdmin()) {
             throw new SyncException("Only admin can delete events!");
         } else {
-            String name = ui.readDeleteName();
+            boolean isInline = !arguments.isBlank();
+            String name = isInline ? arguments.trim() : ui.readDeleteName();
             ArrayList<Event> matchingEvents = findMatchingEvents(name);
 
             if (matchingEvents.isEmpty()) {
                 throw new SyncException("No events found with the name: " + name);
             }
+            if (isInline && matchingEvents.size() > 1) {
+                throw new SyncException(matchingEvents.size() + " events match " + name
+                        + ". Please give a more specific name.");
+            }
 
             Event eventToDelete;
             if (matchingEvents.size() == 1) {
@@ -75,7 +95,7 @@ public class DeleteCommandFactory implements CommandFactory {
             if (actualIndex == -1) {
                 throw new SyncException("Event no longer exists.");
             } else {
-                return new DeleteCommand(actualIndex);
+                return new DeleteCommand(actualIndex, isInline);
             }
         }
     }
@@ -106,8 +126,7 @@ public class DeleteCommandFactory implements CommandFactory {
     private int readDeleteEventIndex(ArrayList<Event> matchingEvents) throws SyncException {
         ui.showMessage("Enter the index of the event you want to delete: ");
         try {
-            Scanner scanner = new Scanner(System.in);
-            int index = Integer.parseInt(scanner.nextLine()) - 1;
+            int index = Integer.parseInt(ui.readLine().trim()) - 1;
             if (index < 0 || index >= matchingEvents.size()) {
                 throw new SyncException("Invalid event index. Please enter a valid index.");
             }
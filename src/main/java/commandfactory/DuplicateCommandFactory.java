@@ -1,10 +1,13 @@
 package commandfactory;
 
+import java.time.Duration;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import command.Command;
 import command.DuplicateCommand;
-import command.LoginCommand;
+import command.DuplicateSeriesCommand;
 import event.Event;
 import event.EventManager;
 import exception.SyncException;
@@ -14,14 +17,18 @@ import ui.UI;
 /**
  * Factory class responsible for creating a DuplicateCommand.
  * This factory ensures that the user is logged in, has admin privileges,
- * and can duplicate an event by providing a valid event index and a new name.
+ * and can duplicate an event by providing a valid event index and a new name,
+ * or into a series of copies with {@code <index> every <n>d|<n>w x <count>}.
  */
 public class DuplicateCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(DuplicateCommandFactory.class.getName());
+    private static final Pattern SERIES_FORMAT =
+            Pattern.compile("(\\d+)\\s+every\\s+(\\d+)\\s*([dw])\\s+x\\s+(\\d+)", Pattern.CASE_INSENSITIVE);
 
     private final ParticipantManager participantManager;
     private final UI ui;
     private final EventManager eventManager;
+    private final String arguments;
 
     /**
      * Constructor to initialize the factory with participant manager, UI, and event manager.
@@ -31,9 +38,24 @@ public class DuplicateCommandFactory implements CommandFactory {
      * @param eventManager The event manager to handle event data
      */
     public DuplicateCommandFactory(ParticipantManager participantManager, UI ui, EventManager eventManager) {
+        this(participantManager, ui, eventManager, "");
+    }
+
+    /**
+     * Constructor for a duplicate command whose arguments were typed on the command line.
+     * The user is only prompted when the arguments are empty.
+     *
+     * @param participantManager The participant manager to handle participant data
+     * @param ui The UI used to interact with the user
+     * @param eventManager The event manager to handle event data
+     * @param arguments The arguments following the command word
+     */
+    public DuplicateCommandFactory(ParticipantManager participantManager, UI ui, EventManager eventManager,
+                                   String arguments) {
         this.participantManager = participantManager;
         this.ui = ui;
         this.eventManager = eventManager;
+        this.arguments = arguments;
     }
 
     /**
@@ -54,7 +76,11 @@ public class DuplicateCommandFactory implements CommandFactory {
         } else if (!participantManager.isCurrentUserAdmin()) {
             throw new SyncException("Only admin can duplicate events!");
         } else {
-            String input = ui.readDuplicateEventInput();
+            String input = arguments.isBlank() ? ui.readDuplicateEventInput() : arguments.trim();
+            Matcher series = SERIES_FORMAT.matcher(input);
+            if (series.matches()) {
+                return createSeriesCommand(series);
+            }
             String[] parts = input.split(" ", 2);
 
             if (parts.length < 2) {
@@ -75,4 +101,29 @@ public class DuplicateCommandFactory implements CommandFactory {
             }
         }
     }
+
+    /**
+     * Creates a DuplicateSeriesCommand from a matched {@code <index> every <n>d|<n>w x <count>} input.
+     *
+     * @param series The matched input
+     * @return A new DuplicateSeriesCommand
+     * @throws SyncException If the index, interval or count is out of range
+     */
+    private Command createSeriesCommand(Matcher series) throws SyncException {
+        try {
+            int index = Integer.parseInt(series.group(1)) - 1;
+            int interval = Integer.parseInt(series.group(2));
+            int count = Integer.parseInt(series.group(4));
+            if (index < 0 || index >= eventManager.getEvents().size()) {
+                throw new SyncException("Invalid event index.");
+            }
+            if (interval < 1 || count < 1) {
+                throw new SyncException("The interval and the number of copies must be at least 1.");
+            }
+            int days = series.group(3).equalsIgnoreCase("w") ? interval * 7 : interval;
+            return new DuplicateSeriesCommand(index, Duration.ofDays(days), count);
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid number. Use: duplicate index every <n>d|<n>w x <count>");
+        }
+    }
 }
@@ -1,12 +1,14 @@
 package commandfactory;
 
+import java.time.LocalDateTime;
 import java.util.logging.Logger;
 
 import command.Command;
 import command.EditEventCommand;
-import command.LoginCommand;
+import event.Event;
 import event.EventManager;
 import exception.SyncException;
+import parser.CommandParser;
 import participant.ParticipantManager;
 import ui.UI;
 
@@ -14,13 +16,16 @@ import ui.UI;
  * Factory class responsible for creating an EditEventCommand.
  * This factory ensures that the user is logged in, has admin privileges,
  * and can edit an event by providing a valid event index.
+ * The new details may be given inline as {@code edit <index> | <name> | <start> | <end> | <location> | <description>},
+ * in which case every field is replaced at once instead of through the edit menu.
  */
 public class EditCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(EditCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
     private final EventManager eventManager;
     private final UI ui;
+    private final String arguments;
 
     /**
      * Constructor to initialize the factory with participant manager, event manager, and UI.
@@ -30,9 +35,23 @@ public class EditCommandFactory implements CommandFactory {
      * @param ui The UI used to interact with the user
      */
     public EditCommandFactory(ParticipantManager participantManager, EventManager eventManager, UI ui) {
+        this(participantManager, eventManager, ui, "");
+    }
+
+    /**
+     * Constructor for an edit command whose new event details were typed on the command line.
+     *
+     * @param participantManager The participant manager to handle participant data
+     * @param eventManager The event manager to handle event data
+     * @param ui The UI used to interact with the user
+     * @param arguments The arguments following the command word, empty to use the edit menu
+     */
+    public EditCommandFactory(ParticipantManager participantManager, EventManager eventManager, UI ui,
+                              String arguments) {
         this.participantManager = participantManager;
         this.eventManager = eventManager;
         this.ui = ui;
+        this.arguments = arguments;
     }
 
     /**
@@ -55,6 +74,10 @@ public class EditCommandFactory implements CommandFactory {
             throw new SyncException("Only admin can edit events!");
         }
 
+        if (!arguments.isBlank()) {
+            return createInlineCommand();
+        }
+
         // Show event list before prompting for index
         ui.showMessage("\n📅 Here are the available events to edit:\n");
         eventManager.viewAllEvents();
@@ -79,9 +102,43 @@ public class EditCommandFactory implements CommandFactory {
 
         ui.checkForExit(input);
 
+        return parseEventIndex(input);
+    }
+
+    /**
+     * Creates an EditEventCommand that replaces every detail of an event with those typed on the command line.
+     *
+     * @return A new EditEventCommand carrying the new details
+     * @throws SyncException If the index or any of the details is missing or invalid
+     */
+    private Command createInlineCommand() throws SyncException {
+        String[] parts = arguments.trim().split("\\|", 2);
+        if (parts.length < 2) {
+            throw new SyncException("Invalid edit format. Use: edit <index> | <name> | <start> | <end> | "
+                    + "<location> | <description>");
+        }
+        int index = parseEventIndex(parts[0].trim());
+        if (index < 0 || index >= eventManager.getEvents().size()) {
+            throw new SyncException(SyncException.invalidEventIndexErrorMessage());
+        }
+
+        String[] details = CommandParser.splitAddCommandInput(parts[1]);
+        LocalDateTime startTime = CommandParser.parseDateTime(details[1]);
+        LocalDateTime endTime = CommandParser.parseDateTime(details[2]);
+        Event edits = new Event(details[0].trim(), startTime, endTime, details[3].trim(), details[4].trim());
+        return new EditEventCommand(index, this.participantManager, edits);
+    }
+
+    /**
+     * Converts a one-based event number typed by the user into an index.
+     *
+     * @param input The event number
+     * @return The zero-based index
+     * @throws SyncException If the input is not a number
+     */
+    private int parseEventIndex(String input) throws SyncException {
         try {
-            int index = Integer.parseInt(input) - 1;
-            return index;
+            return Integer.parseInt(input) - 1;
         } catch (NumberFormatException e) {
             throw new SyncException(SyncException.invalidEventIndexErrorMessage());
         }
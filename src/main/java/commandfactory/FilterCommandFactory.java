@@ -4,9 +4,10 @@ import java.util.logging.Logger;
 
 import command.Command;
 import command.FilterCommand;
-import command.LoginCommand;
+import event.PageRequest;
 import exception.SyncException;
 import label.Priority;
+import parser.CommandParser;
 import participant.Participant;
 import ui.UI;
 import participant.ParticipantManager;
@@ -17,10 +18,11 @@ import participant.ParticipantManager;
  * based on priority levels.
  */
 public class FilterCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(FilterCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
     private final UI ui;
+    private final String arguments;
 
     /**
      * Constructor to initialize the factory with participant manager and UI.
@@ -29,8 +31,21 @@ public class FilterCommandFactory implements CommandFactory {
      * @param ui The UI used to interact with the user
      */
     public FilterCommandFactory(ParticipantManager participantManager, UI ui) {
+        this(participantManager, ui, "");
+    }
+
+    /**
+     * Constructor for a factory that takes the priority levels and page options typed after the command,
+     * in the form {@code LOW [HIGH] [--page N] [--size M]}. The levels are prompted for if none are given.
+     *
+     * @param participantManager The participant manager to handle participant data
+     * @param ui The UI used to interact with the user
+     * @param arguments The text typed after the command word
+     */
+    public FilterCommandFactory(ParticipantManager participantManager, UI ui, String arguments) {
         this.participantManager = participantManager;
         this.ui = ui;
+        this.arguments = arguments;
     }
 
     /**
@@ -51,7 +66,14 @@ public class FilterCommandFactory implements CommandFactory {
         }
 
         // Read and validate the input for filter criteria
-        String input = ui.readFilterInput();
+        PageRequest pageRequest = null;
+        String input;
+        if (arguments.trim().isEmpty()) {
+            input = ui.readFilterInput();
+        } else {
+            pageRequest = CommandParser.parsePageRequest(arguments);
+            input = CommandParser.stripPageOptions(arguments);
+        }
 
         if (input == null) {
             throw new SyncException("Input string should not be null");
@@ -91,7 +113,7 @@ public class FilterCommandFactory implements CommandFactory {
             if (lower > upper) {
                 throw new SyncException(SyncException.invalidBoundErrorMessage());
             }
-            return new FilterCommand(lower, upper);
+            return new FilterCommand(lower, upper, pageRequest);
         } catch (SyncException e) {
             throw e;
         } catch (Exception e) {
@@ -4,20 +4,22 @@ import java.util.logging.Logger;
 
 import command.Command;
 import command.FindCommand;
-import command.LoginCommand;
+import event.PageRequest;
 import exception.SyncException;
+import parser.CommandParser;
 
 /**
  * Factory class responsible for creating a FindCommand.
  * This factory creates a command that performs a search based on the provided keyword.
  */
 public class FindCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(FindCommandFactory.class.getName());
 
     private final String keyword;
 
     /**
      * Constructor to initialize the factory with the keyword used for searching.
+     * The keyword may be followed by {@code --page N} and {@code --size M} to show a single page.
      *
      * @param keyword The keyword to search for
      */
@@ -29,13 +31,18 @@ public class FindCommandFactory implements CommandFactory {
      * Creates a FindCommand based on the provided keyword.
      *
      * @return A new FindCommand that performs a search with the specified keyword
-     * @throws SyncException If the keyword is null or empty
+     * @throws SyncException If the keyword is empty or the page options are invalid
      */
     public Command createCommand() throws SyncException {
         assert keyword != null : "Keyword should not be null";
         assert !keyword.isEmpty() : "Keyword should not be empty";
         LOGGER.info("Attempting FindCommandFactory");
 
-        return new FindCommand(keyword);
+        PageRequest pageRequest = CommandParser.parsePageRequest(keyword);
+        String searchKeyword = CommandParser.stripPageOptions(keyword);
+        if (searchKeyword.isEmpty()) {
+            throw new SyncException("Please provide a keyword");
+        }
+        return new FindCommand(searchKeyword, pageRequest);
     }
 }
@@ -0,0 +1,83 @@
+package commandfactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import command.Command;
+import command.FreeTimeCommand;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a FreeTimeCommand.
+ * The arguments are a comma-separated list of participant names, a duration in minutes,
+ * and optionally the word {@code first} to show only the earliest window.
+ */
+public class FreeTimeCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(FreeTimeCommandFactory.class.getName());
+    private static final String USAGE = "Use: freetime <name,name,...> <minutes> [first]";
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a FreeTimeCommandFactory with the raw command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word, with their original letter case
+     * @param participantManager The participant manager to verify the current user
+     */
+    public FreeTimeCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a FreeTimeCommand from the arguments.
+     *
+     * @return A FreeTimeCommand
+     * @throws SyncException If the user is not logged in or the arguments are invalid
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting FreeTimeCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+
+        String remaining = arguments == null ? "" : arguments.trim();
+        boolean earliestOnly = false;
+        if (remaining.toLowerCase().endsWith(" first")) {
+            earliestOnly = true;
+            remaining = remaining.substring(0, remaining.length() - " first".length()).trim();
+        }
+
+        int lastSpace = remaining.lastIndexOf(' ');
+        if (lastSpace < 0) {
+            throw new SyncException("Please provide participants and a duration. " + USAGE);
+        }
+
+        long minutes;
+        try {
+            minutes = Long.parseLong(remaining.substring(lastSpace + 1));
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid duration. " + USAGE);
+        }
+        if (minutes <= 0) {
+            throw new SyncException("The duration must be at least 1 minute.");
+        }
+
+        ArrayList<String> names = new ArrayList<>();
+        for (String name : remaining.substring(0, lastSpace).split(",")) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        if (names.isEmpty()) {
+            throw new SyncException("Please provide at least one participant. " + USAGE);
+        }
+
+        return new FreeTimeCommand(names, Duration.ofMinutes(minutes), earliestOnly);
+    }
+}
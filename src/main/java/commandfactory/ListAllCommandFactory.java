@@ -4,8 +4,9 @@ import java.util.logging.Logger;
 
 import command.Command;
 import command.ListAllCommand;
-import command.LoginCommand;
+import event.PageRequest;
 import exception.SyncException;
+import parser.CommandParser;
 import ui.UI;
 import participant.ParticipantManager;
 
@@ -14,10 +15,11 @@ import participant.ParticipantManager;
  * This factory creates a command that lists all events with optional sorting.
  */
 public class ListAllCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(ListAllCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
     private final UI ui;
+    private final String arguments;
 
     /**
      * Constructs a ListAllCommandFactory with the given participant manager and UI.
@@ -26,8 +28,21 @@ public class ListAllCommandFactory implements CommandFactory {
      * @param ui The UI to interact with the user and get the sorting input
      */
     public ListAllCommandFactory(ParticipantManager participantManager, UI ui) {
+        this(participantManager, ui, "");
+    }
+
+    /**
+     * Constructs a ListAllCommandFactory with the sort type and page options typed after the command,
+     * in the form {@code [sort] [--page N] [--size M]}. The sort type is prompted for if none are given.
+     *
+     * @param participantManager The participant manager to check the current user's role
+     * @param ui The UI to interact with the user and get the sorting input
+     * @param arguments The text typed after the command word
+     */
+    public ListAllCommandFactory(ParticipantManager participantManager, UI ui, String arguments) {
         this.participantManager = participantManager;
         this.ui = ui;
+        this.arguments = arguments;
     }
 
     /**
@@ -44,6 +59,9 @@ public class ListAllCommandFactory implements CommandFactory {
             throw new SyncException("You are not logged in. Please enter 'login' to login.");
         } else if (!participantManager.isCurrentUserAdmin()) {
             throw new SyncException("Sorry, you need to be an ADMIN to access all events.");
+        } else if (!arguments.trim().isEmpty()) {
+            PageRequest pageRequest = CommandParser.parsePageRequest(arguments);
+            return new ListAllCommand(CommandParser.stripPageOptions(arguments), ui, pageRequest);
         } else {
             String sort = ui.readListCommandInput();
 
@@ -4,8 +4,9 @@ import java.util.logging.Logger;
 
 import command.Command;
 import command.ListCommand;
-import command.LoginCommand;
+import event.PageRequest;
 import exception.SyncException;
+import parser.CommandParser;
 import participant.ParticipantManager;
 
 /**
@@ -13,10 +14,11 @@ import participant.ParticipantManager;
  * The ListCommand is used to list events or participants with a specific sorting order.
  */
 public class ListCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(ListCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
     private final ui.UI ui;
+    private final String arguments;
 
     /**
      * Constructs a ListCommandFactory with the provided ParticipantManager and UI.
@@ -25,8 +27,21 @@ public class ListCommandFactory implements CommandFactory {
      * @param ui the user interface used to interact with the user.
      */
     public ListCommandFactory(ParticipantManager participantManager, ui.UI ui) {
+        this(participantManager, ui, "");
+    }
+
+    /**
+     * Constructs a ListCommandFactory with the sort type and page options typed after the command,
+     * in the form {@code [sort] [--page N] [--size M]}. The sort type is prompted for if none are given.
+     *
+     * @param participantManager the participant manager used to manage participants.
+     * @param ui the user interface used to interact with the user.
+     * @param arguments the text typed after the command word.
+     */
+    public ListCommandFactory(ParticipantManager participantManager, ui.UI ui, String arguments) {
         this.participantManager = participantManager;
         this.ui = ui;
+        this.arguments = arguments;
     }
 
     /**
@@ -40,6 +55,10 @@ public class ListCommandFactory implements CommandFactory {
     public Command createCommand() throws SyncException {
         assert participantManager != null : "ParticipantManager cannot be null";
         LOGGER.info("Attempting ListCommandFactory");
+        if (!arguments.trim().isEmpty()) {
+            PageRequest pageRequest = CommandParser.parsePageRequest(arguments);
+            return new ListCommand(CommandParser.stripPageOptions(arguments), pageRequest);
+        }
         String sortType = ui.readListCommandInput();
         if (sortType.equals("")) {
             throw new SyncException("List sort type is empty. Please enter 'list' and try again.");
@@ -5,7 +5,6 @@ import java.util.logging.Logger;
 
 import command.Command;
 import command.ListParticipantsCommand;
-import command.LoginCommand;
 import event.Event;
 import event.EventManager;
 import exception.SyncException;
@@ -16,13 +15,15 @@ import ui.UI;
 /**
  * Factory class responsible for creating a ListParticipantsCommand.
  * This factory generates a command that lists participants of a specific event.
+ * The event may be given inline as {@code listparticipants <index>}, in which case the events are not listed first.
  */
 public class ListParticipantsCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(ListParticipantsCommandFactory.class.getName());
 
     private final UI ui;
     private final EventManager eventManager;
     private final ParticipantManager participantManager;
+    private final String arguments;
 
     /**
      * Constructs a ListParticipantsCommandFactory with the given UI, event manager, and participant manager.
@@ -32,9 +33,23 @@ public class ListParticipantsCommandFactory implements CommandFactory {
      * @param participantManager The participant manager to verify the current user
      */
     public ListParticipantsCommandFactory(UI ui, EventManager eventManager, ParticipantManager participantManager) {
+        this(ui, eventManager, participantManager, "");
+    }
+
+    /**
+     * Constructs a ListParticipantsCommandFactory for an event number typed on the command line.
+     *
+     * @param ui The UI for interacting with the user
+     * @param eventManager The event manager to fetch events
+     * @param participantManager The participant manager to verify the current user
+     * @param arguments The arguments following the command word, empty to prompt for the event
+     */
+    public ListParticipantsCommandFactory(UI ui, EventManager eventManager, ParticipantManager participantManager,
+                                          String arguments) {
         this.ui = ui;
         this.eventManager = eventManager;
         this.participantManager = participantManager;
+        this.arguments = arguments;
     }
 
     /**
@@ -57,6 +72,18 @@ public class ListParticipantsCommandFactory implements CommandFactory {
             throw new SyncException("No events available.");
         }
 
+        if (!arguments.isBlank()) {
+            try {
+                int eventIndex = Integer.parseInt(arguments.trim()) - 1;
+                if (eventIndex < 0 || eventIndex >= events.size()) {
+                    throw new SyncException(SyncException.invalidEventIndexErrorMessage());
+                }
+                return new ListParticipantsCommand(eventIndex);
+            } catch (NumberFormatException e) {
+                throw new SyncException(SyncException.invalidEventIndexErrorMessage());
+            }
+        }
+
         showAllEvents(events);
         ui.showMessage("Enter event index to list participants (or type 'exit' to cancel):");
         String input = ui.readLine().trim();
@@ -10,11 +10,13 @@ import participant.ParticipantManager;
 /**
  * Factory class responsible for creating a LoginCommand.
  * This factory generates a command to log in a user if they are not already logged in.
+ * The credentials may be given inline as {@code login <name> <password>}; otherwise they are prompted for.
  */
 public class LoginCommandFactory implements CommandFactory {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(LoginCommandFactory.class.getName());
 
     private final ParticipantManager participantManager;
+    private final String arguments;
 
     /**
      * Constructs a LoginCommandFactory with the given participant manager.
@@ -22,7 +24,18 @@ public class LoginCommandFactory implements CommandFactory {
      * @param participantManager The participant manager for managing user sessions
      */
     public LoginCommandFactory(ParticipantManager participantManager) {
+        this(participantManager, "");
+    }
+
+    /**
+     * Constructs a LoginCommandFactory with credentials typed on the command line.
+     *
+     * @param participantManager The participant manager for managing user sessions
+     * @param arguments The arguments following the command word, empty to prompt for them
+     */
+    public LoginCommandFactory(ParticipantManager participantManager, String arguments) {
         this.participantManager = participantManager;
+        this.arguments = arguments;
     }
 
     /**
@@ -35,7 +48,16 @@ public class LoginCommandFactory implements CommandFactory {
         assert participantManager != null : "ParticipantManager cannot be null";
         LOGGER.info("Attempting LoginCommandFactory");
         if (participantManager.getCurrentUser() == null) {
-            return new LoginCommand();
+            if (arguments.isBlank()) {
+                return new LoginCommand();
+            }
+            // The password is the last word, so user names may contain spaces
+            int split = arguments.trim().lastIndexOf(' ');
+            if (split < 0) {
+                throw new SyncException("Invalid login format. Use: login <name> <password>");
+            }
+            return new LoginCommand(arguments.trim().substring(0, split).trim(),
+                    arguments.trim().substring(split + 1));
         } else {
             throw new SyncException("You are already logged in. Please enter 'logout' to log out first.");
         }
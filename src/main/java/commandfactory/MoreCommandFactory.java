@@ -0,0 +1,40 @@
+package commandfactory;
+
+import java.util.logging.Logger;
+
+import command.Command;
+import command.MoreCommand;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a MoreCommand, which continues the last paged listing.
+ */
+public class MoreCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(MoreCommandFactory.class.getName());
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a MoreCommandFactory with the given participant manager.
+     *
+     * @param participantManager The participant manager that provides the current user
+     */
+    public MoreCommandFactory(ParticipantManager participantManager) {
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a MoreCommand if a user is logged in.
+     *
+     * @return A MoreCommand that shows the next page
+     * @throws SyncException If no user is logged in
+     */
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting to create MoreCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+        return new MoreCommand();
+    }
+}
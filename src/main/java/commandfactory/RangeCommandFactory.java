@@ -0,0 +1,61 @@
+package commandfactory;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.logging.Logger;
+
+import command.Command;
+import command.RangeCommand;
+import exception.SyncException;
+import parser.CommandParser;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a RangeCommand.
+ * This factory parses a pair of dates and creates a command listing the events between them.
+ */
+public class RangeCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(RangeCommandFactory.class.getName());
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a RangeCommandFactory with the raw command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word, in the format {@code <from> <to>}
+     * @param participantManager The participant manager to verify the current user
+     */
+    public RangeCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a RangeCommand covering every day from the first date to the second date, inclusive.
+     *
+     * @return A RangeCommand for the given dates
+     * @throws SyncException If the user is not logged in or the dates are missing or invalid
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting RangeCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+
+        String[] dates = arguments == null ? new String[0] : arguments.trim().split("\\s+");
+        if (dates.length != 2) {
+            throw new SyncException("Please provide two dates. Use: range yyyy-MM-dd yyyy-MM-dd");
+        }
+
+        LocalDate fromDate = CommandParser.parseDate(dates[0]);
+        LocalDate toDate = CommandParser.parseDate(dates[1]);
+        if (toDate.isBefore(fromDate)) {
+            throw new SyncException("The end date cannot be before the start date.");
+        }
+
+        return new RangeCommand(fromDate.atStartOfDay(), toDate.atTime(LocalTime.MAX));
+    }
+}
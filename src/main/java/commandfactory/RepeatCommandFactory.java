@@ -0,0 +1,81 @@
+package commandfactory;
+
+import java.util.logging.Logger;
+
+import command.Command;
+import command.RepeatCommand;
+import event.Recurrence;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a RepeatCommand from an event index, a frequency,
+ * a number of occurrences and an optional interval.
+ */
+public class RepeatCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(RepeatCommandFactory.class.getName());
+    private static final String USAGE = "Use: repeat <index> <daily|weekly> <count> [interval]";
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a RepeatCommandFactory with the command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word
+     * @param participantManager The participant manager to verify the current user
+     */
+    public RepeatCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a RepeatCommand from the arguments.
+     *
+     * @return A RepeatCommand
+     * @throws SyncException If the user is not an admin or the arguments are invalid
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting RepeatCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        } else if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admins can make events repeat.");
+        }
+
+        String[] tokens = arguments.trim().split("\\s+");
+        if (tokens.length != 3 && tokens.length != 4) {
+            throw new SyncException("Invalid repeat format. " + USAGE);
+        }
+
+        Recurrence.Frequency frequency;
+        if (tokens[1].equalsIgnoreCase("daily")) {
+            frequency = Recurrence.Frequency.DAILY;
+        } else if (tokens[1].equalsIgnoreCase("weekly")) {
+            frequency = Recurrence.Frequency.WEEKLY;
+        } else {
+            throw new SyncException("The frequency must be daily or weekly. " + USAGE);
+        }
+
+        int eventIndex;
+        int count;
+        int interval;
+        try {
+            eventIndex = Integer.parseInt(tokens[0]) - 1;
+            count = Integer.parseInt(tokens[2]);
+            interval = tokens.length == 4 ? Integer.parseInt(tokens[3]) : 1;
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid number. " + USAGE);
+        }
+        if (eventIndex < 0) {
+            throw new SyncException("Event index cannot be negative. Please enter a valid index.");
+        }
+        if (count < 2 || interval < 1) {
+            throw new SyncException("An event must repeat at least twice, at an interval of at least 1.");
+        }
+        return new RepeatCommand(eventIndex, new Recurrence(frequency, interval, count));
+    }
+}
@@ -0,0 +1,58 @@
+package commandfactory;
+
+import java.time.LocalDateTime;
+import java.util.logging.Logger;
+
+import command.Command;
+import command.RoomsCommand;
+import exception.SyncException;
+import parser.CommandParser;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a RoomsCommand from a start and end date-time.
+ */
+public class RoomsCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(RoomsCommandFactory.class.getName());
+    private static final String USAGE = "Use: rooms yyyy-MM-dd HH:mm yyyy-MM-dd HH:mm";
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a RoomsCommandFactory with the command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word
+     * @param participantManager The participant manager to verify the current user
+     */
+    public RoomsCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a RoomsCommand from the arguments.
+     *
+     * @return A RoomsCommand
+     * @throws SyncException If the user is not logged in or the times are invalid
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting RoomsCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+
+        String[] tokens = arguments.trim().split("\\s+");
+        if (tokens.length != 4) {
+            throw new SyncException("Please provide a start and end time. " + USAGE);
+        }
+        LocalDateTime start = CommandParser.parseDateTime(tokens[0] + " " + tokens[1]);
+        LocalDateTime end = CommandParser.parseDateTime(tokens[2] + " " + tokens[3]);
+        if (start.isAfter(end)) {
+            throw new SyncException(SyncException.startTimeAfterEndTimeMessage());
+        }
+        return new RoomsCommand(start, end);
+    }
+}
@@ -0,0 +1,78 @@
+package commandfactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import command.Command;
+import command.ScheduleBatchCommand;
+import event.PendingEvent;
+import exception.SyncException;
+import parser.CommandParser;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a ScheduleBatchCommand from a file of pending events.
+ * Each non-blank line of the file uses the same format as the schedule command;
+ * lines starting with '#' are ignored.
+ */
+public class ScheduleBatchCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(ScheduleBatchCommandFactory.class.getName());
+
+    private final String filePath;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a ScheduleBatchCommandFactory with the file path and participant manager.
+     *
+     * @param filePath The path of the file listing the pending events, with its original letter case
+     * @param participantManager The participant manager to verify the current user
+     */
+    public ScheduleBatchCommandFactory(String filePath, ParticipantManager participantManager) {
+        this.filePath = filePath;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a ScheduleBatchCommand from the lines of the file.
+     *
+     * @return A ScheduleBatchCommand
+     * @throws SyncException If the user is not an admin, the file cannot be read or a line is invalid
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting ScheduleBatchCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Please enter 'login' to login.");
+        } else if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admin can create events!");
+        } else if (filePath == null || filePath.trim().isEmpty()) {
+            throw new SyncException("Please provide a file of events. Use: schedulebatch <file>");
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(filePath.trim()));
+        } catch (IOException e) {
+            throw new SyncException("Could not read " + filePath.trim() + ": " + e.getMessage());
+        }
+
+        ArrayList<PendingEvent> pendingEvents = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                pendingEvents.add(CommandParser.parsePendingEvent(line));
+            } catch (SyncException e) {
+                throw new SyncException("Line " + (i + 1) + ": " + e.getMessage());
+            }
+        }
+        return new ScheduleBatchCommand(pendingEvents);
+    }
+}
@@ -0,0 +1,50 @@
+package commandfactory;
+
+import java.util.logging.Logger;
+
+import command.Command;
+import command.ScheduleCommand;
+import exception.SyncException;
+import parser.CommandParser;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a ScheduleCommand.
+ * The arguments are separated by '|': name, duration in minutes, one or more locations separated by '/',
+ * description, comma-separated participant names and an optional priority.
+ */
+public class ScheduleCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(ScheduleCommandFactory.class.getName());
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a ScheduleCommandFactory with the raw command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word, with their original letter case
+     * @param participantManager The participant manager to verify the current user
+     */
+    public ScheduleCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a ScheduleCommand from the arguments.
+     *
+     * @return A ScheduleCommand
+     * @throws SyncException If the user is not an admin or the arguments are invalid
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting ScheduleCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Please enter 'login' to login.");
+        } else if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admin can create events!");
+        }
+        return new ScheduleCommand(CommandParser.parsePendingEvent(arguments == null ? "" : arguments));
+    }
+}
@@ -0,0 +1,45 @@
+package commandfactory;
+
+import java.util.logging.Logger;
+
+import command.Command;
+import command.StatsCommand;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a StatsCommand.
+ * Only admins may view the statistics.
+ */
+public class StatsCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(StatsCommandFactory.class.getName());
+
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a StatsCommandFactory.
+     *
+     * @param participantManager The participant manager that provides the current user
+     */
+    public StatsCommandFactory(ParticipantManager participantManager) {
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a StatsCommand if the current user is an admin.
+     *
+     * @return A StatsCommand that shows the command, storage and query cache statistics
+     * @throws SyncException If no user is logged in or the user is not an admin
+     */
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting to create StatsCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Please enter 'login' to login.");
+        }
+        if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admin can view statistics!");
+        }
+        return new StatsCommand();
+    }
+}
@@ -0,0 +1,57 @@
+package commandfactory;
+
+import java.util.logging.Logger;
+
+import command.Command;
+import command.SuggestCommand;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating a SuggestCommand from a one-based event index.
+ */
+public class SuggestCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(SuggestCommandFactory.class.getName());
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs a SuggestCommandFactory with the command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word
+     * @param participantManager The participant manager to verify the current user
+     */
+    public SuggestCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates a SuggestCommand from the arguments.
+     *
+     * @return A SuggestCommand
+     * @throws SyncException If the user is not an admin or the index is invalid
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting SuggestCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        } else if (!participantManager.isCurrentUserAdmin()) {
+            throw new SyncException("Only admins can suggest participants for events.");
+        }
+
+        int eventIndex;
+        try {
+            eventIndex = Integer.parseInt(arguments.trim()) - 1;
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid event number. Use: suggest <index>");
+        }
+        if (eventIndex < 0) {
+            throw new SyncException("Event index cannot be negative. Please enter a valid index.");
+        }
+        return new SuggestCommand(eventIndex);
+    }
+}
@@ -0,0 +1,60 @@
+package commandfactory;
+
+import java.util.logging.Logger;
+
+import command.Command;
+import command.UpcomingCommand;
+import exception.SyncException;
+import participant.ParticipantManager;
+
+/**
+ * Factory class responsible for creating an UpcomingCommand.
+ * This factory reads the optional number of events to list, defaulting to five.
+ */
+public class UpcomingCommandFactory implements CommandFactory {
+    private static final Logger LOGGER = Logger.getLogger(UpcomingCommandFactory.class.getName());
+    private static final int DEFAULT_LIMIT = 5;
+
+    private final String arguments;
+    private final ParticipantManager participantManager;
+
+    /**
+     * Constructs an UpcomingCommandFactory with the raw command arguments and participant manager.
+     *
+     * @param arguments The arguments following the command word, either empty or a number
+     * @param participantManager The participant manager to verify the current user
+     */
+    public UpcomingCommandFactory(String arguments, ParticipantManager participantManager) {
+        this.arguments = arguments;
+        this.participantManager = participantManager;
+    }
+
+    /**
+     * Creates an UpcomingCommand for the requested number of events.
+     *
+     * @return An UpcomingCommand
+     * @throws SyncException If the user is not logged in or the number is not a positive integer
+     */
+    @Override
+    public Command createCommand() throws SyncException {
+        assert participantManager != null : "ParticipantManager cannot be null";
+        LOGGER.info("Attempting UpcomingCommandFactory");
+        if (participantManager.getCurrentUser() == null) {
+            throw new SyncException("You are not logged in. Enter 'login' to log in first.");
+        }
+
+        if (arguments == null || arguments.trim().isEmpty()) {
+            return new UpcomingCommand(DEFAULT_LIMIT);
+        }
+
+        try {
+            int limit = Integer.parseInt(arguments.trim());
+            if (limit <= 0) {
+                throw new SyncException("The number of events must be at least 1.");
+            }
+            return new UpcomingCommand(limit);
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid number of events. Use: upcoming [n]");
+        }
+    }
+}
@@ -0,0 +1,519 @@
+package event;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import participant.Participant;
+
+/**
+ * Indexes events by the calendar days they cover so that date-range queries only visit
+ * the days inside the requested window instead of scanning every event.
+ * Each day bucket keeps its events ordered by start time.
+ * Recurring events are kept apart and only the occurrences inside a query window are created.
+ */
+public class CalendarIndex {
+    private final TreeMap<LocalDate, ArrayList<Event>> buckets = new TreeMap<>();
+
+    /**
+     * The first and last day each event was filed under, so an event can still be removed
+     * after its times have been changed in place.
+     */
+    private final IdentityHashMap<Event, LocalDate[]> indexedDays = new IdentityHashMap<>();
+
+    private final ArrayList<Event> series = new ArrayList<>();
+
+    /**
+     * The one-off events of each participant by start time, and the recurring events of each participant,
+     * keyed by lower-case name. They are built on the first query for one participant and kept up to date
+     * from then on, so loading the index does not pay for them.
+     */
+    private HashMap<String, TreeMap<LocalDateTime, ArrayList<Event>>> eventsByParticipant;
+    private HashMap<String, List<Event>> seriesByParticipant;
+
+    /**
+     * The names and start time each event was filed under by participant, so an event can still be removed
+     * after its participants or times have been changed in place.
+     */
+    private IdentityHashMap<Event, ParticipantEntry> indexedParticipants;
+
+    /**
+     * Adds an event to every day bucket between its start and end date.
+     *
+     * @param event the event to index.
+     */
+    public void add(Event event) {
+        assert event != null : "Event cannot be null";
+        if (indexedDays.containsKey(event) || containsSeries(event)) {
+            return;
+        }
+        if (event.isRecurring()) {
+            series.add(event);
+        } else {
+            LocalDate[] days = daysOf(event);
+            for (LocalDate day = days[0]; !day.isAfter(days[1]); day = day.plusDays(1)) {
+                insertSorted(buckets.computeIfAbsent(day, d -> new ArrayList<>()), event);
+            }
+            indexedDays.put(event, days);
+        }
+        if (indexedParticipants != null) {
+            addByParticipant(event);
+        }
+    }
+
+    /**
+     * Files an event under each of its participants.
+     *
+     * @param event the event to file.
+     */
+    private void addByParticipant(Event event) {
+        ParticipantEntry entry = new ParticipantEntry(event);
+        for (String name : entry.names) {
+            if (event.isRecurring()) {
+                seriesByParticipant.computeIfAbsent(name, n -> new ArrayList<>()).add(event);
+            } else {
+                eventsByParticipant.computeIfAbsent(name, n -> new TreeMap<>())
+                        .computeIfAbsent(entry.start, t -> new ArrayList<>()).add(event);
+            }
+        }
+        indexedParticipants.put(event, entry);
+    }
+
+    /**
+     * Removes an event from under every participant it was filed under.
+     *
+     * @param event the event to remove.
+     */
+    private void removeByParticipant(Event event) {
+        ParticipantEntry entry = indexedParticipants.remove(event);
+        if (entry == null) {
+            return;
+        }
+        for (String name : entry.names) {
+            if (entry.recurring) {
+                List<Event> own = seriesByParticipant.get(name);
+                own.removeIf(indexed -> indexed == event);
+                if (own.isEmpty()) {
+                    seriesByParticipant.remove(name);
+                }
+                continue;
+            }
+            TreeMap<LocalDateTime, ArrayList<Event>> own = eventsByParticipant.get(name);
+            ArrayList<Event> sameStart = own.get(entry.start);
+            sameStart.removeIf(indexed -> indexed == event);
+            if (sameStart.isEmpty()) {
+                own.remove(entry.start);
+            }
+            if (own.isEmpty()) {
+                eventsByParticipant.remove(name);
+            }
+        }
+    }
+
+    /**
+     * Files every indexed event under its participants.
+     */
+    private void indexParticipants() {
+        eventsByParticipant = new HashMap<>();
+        seriesByParticipant = new HashMap<>();
+        indexedParticipants = new IdentityHashMap<>();
+        for (Event event : indexedDays.keySet()) {
+            addByParticipant(event);
+        }
+        for (Event recurring : series) {
+            addByParticipant(recurring);
+        }
+    }
+
+    /**
+     * Drops the index by participant, to be built again by the next query for one participant.
+     */
+    private void clearParticipants() {
+        eventsByParticipant = null;
+        seriesByParticipant = null;
+        indexedParticipants = null;
+    }
+
+    /**
+     * Returns the first and last day an event is filed under.
+     *
+     * @param event a one-off event.
+     * @return the first and last day, which are the same if the event ends before it starts.
+     */
+    private static LocalDate[] daysOf(Event event) {
+        LocalDate firstDay = event.getStartTime().toLocalDate();
+        LocalDate lastDay = event.getEndTime().toLocalDate();
+        if (lastDay.isBefore(firstDay)) {
+            lastDay = firstDay;
+        }
+        return new LocalDate[]{firstDay, lastDay};
+    }
+
+    /**
+     * Removes an event from every day bucket it was filed under.
+     *
+     * @param event the event to remove.
+     */
+    public void remove(Event event) {
+        if (indexedParticipants != null) {
+            removeByParticipant(event);
+        }
+        LocalDate[] days = indexedDays.remove(event);
+        if (days == null) {
+            series.removeIf(indexed -> indexed == event);
+            return;
+        }
+
+        for (LocalDate day = days[0]; !day.isAfter(days[1]); day = day.plusDays(1)) {
+            ArrayList<Event> bucket = buckets.get(day);
+            if (bucket == null) {
+                continue;
+            }
+            for (int i = 0; i < bucket.size(); i++) {
+                if (bucket.get(i) == event) {
+                    bucket.remove(i);
+                    break;
+                }
+            }
+            if (bucket.isEmpty()) {
+                buckets.remove(day);
+            }
+        }
+    }
+
+    /**
+     * Clears the index and re-adds every event in the given list.
+     *
+     * @param events the events to index.
+     */
+    public void rebuild(List<Event> events) {
+        buckets.clear();
+        indexedDays.clear();
+        series.clear();
+        clearParticipants();
+        for (Event event : events) {
+            add(event);
+        }
+    }
+
+    /**
+     * Writes the index to an index file as the positions of its events in the event file.
+     *
+     * @param out       the index file.
+     * @param positions the position of every event in the event file.
+     * @throws IOException if the index cannot be written.
+     */
+    void write(DataOutputStream out, IdentityHashMap<Event, Integer> positions) throws IOException {
+        out.writeInt(buckets.size());
+        for (Map.Entry<LocalDate, ArrayList<Event>> entry : buckets.entrySet()) {
+            out.writeLong(entry.getKey().toEpochDay());
+            IndexSidecar.writePositions(out, entry.getValue(), positions);
+        }
+        IndexSidecar.writePositions(out, series, positions);
+    }
+
+    /**
+     * Replaces the index with one read from an index file written by {@link #write}. The day buckets are
+     * read in order, so nothing is sorted.
+     *
+     * @param in     the index file, positioned after its header.
+     * @param events the events in the event file, in order.
+     * @return true if every event was indexed; false if the file does not match the events, such as when an
+     *         event is missing, is filed twice or under the wrong days, in which case the index must be rebuilt.
+     */
+    boolean read(ByteBuffer in, List<Event> events) {
+        buckets.clear();
+        indexedDays.clear();
+        series.clear();
+        clearParticipants();
+        // The number of buckets each one-off event was read from so far, which must be every day it covers
+        IdentityHashMap<Event, Integer> filedDays = new IdentityHashMap<>();
+        int dayCount = in.getInt();
+        for (int i = 0; i < dayCount; i++) {
+            LocalDate day = LocalDate.ofEpochDay(in.getLong());
+            ArrayList<Event> bucket = IndexSidecar.readPositions(in, events);
+            for (Event event : bucket) {
+                LocalDate[] days = daysOf(event);
+                int filed = filedDays.getOrDefault(event, 0);
+                if (event.isRecurring() || !day.equals(days[0].plusDays(filed))) {
+                    return false;
+                }
+                filedDays.put(event, filed + 1);
+                indexedDays.put(event, days);
+            }
+            buckets.put(day, bucket);
+        }
+        Set<Event> readSeries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Event event : IndexSidecar.readPositions(in, events)) {
+            if (!event.isRecurring() || !readSeries.add(event)) {
+                return false;
+            }
+            series.add(event);
+        }
+        for (Map.Entry<Event, LocalDate[]> entry : indexedDays.entrySet()) {
+            LocalDate[] days = entry.getValue();
+            if (filedDays.get(entry.getKey()) != ChronoUnit.DAYS.between(days[0], days[1]) + 1) {
+                return false;
+            }
+        }
+        return size() == events.size();
+    }
+
+    /**
+     * Returns the number of distinct events in the index.
+     *
+     * @return the number of indexed events.
+     */
+    public int size() {
+        return indexedDays.size() + series.size();
+    }
+
+    /**
+     * Returns the events overlapping the window from {@code from} to {@code to}, inclusive,
+     * in order of start time. Only the day buckets inside the window are visited.
+     *
+     * @param from   the start of the window.
+     * @param to     the end of the window.
+     * @param filter a condition an event must satisfy to be returned.
+     * @return the matching events.
+     */
+    public ArrayList<Event> findOverlapping(LocalDateTime from, LocalDateTime to, Predicate<Event> filter) {
+        assert from != null && to != null : "Range bounds cannot be null";
+        ArrayList<Event> result = new ArrayList<>();
+        LocalDate firstDay = from.toLocalDate();
+
+        for (Map.Entry<LocalDate, ArrayList<Event>> entry
+                : buckets.subMap(firstDay, true, to.toLocalDate(), true).entrySet()) {
+            LocalDate day = entry.getKey();
+            for (Event event : entry.getValue()) {
+                // A multi-day event sits in several buckets; report it only from the first one in the window
+                LocalDate reportDay = event.getStartTime().toLocalDate().isBefore(firstDay)
+                        ? firstDay
+                        : event.getStartTime().toLocalDate();
+                if (!reportDay.equals(day)) {
+                    continue;
+                }
+                boolean overlaps = !event.getEndTime().isBefore(from) && !event.getStartTime().isAfter(to);
+                if (overlaps && filter.test(event)) {
+                    result.add(event);
+                }
+            }
+        }
+
+        if (!series.isEmpty()) {
+            for (Event recurring : series) {
+                if (filter.test(recurring)) {
+                    result.addAll(recurring.getOccurrencesOverlapping(from, to));
+                }
+            }
+            result.sort(Comparator.comparing(Event::getStartTime));
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} events starting at or after {@code after}, in order of start time.
+     * Day buckets are walked forward from the day of {@code after} and the walk stops as soon as
+     * enough events have been found, so the cost depends on the limit rather than the calendar size.
+     *
+     * @param after  the earliest start time to include.
+     * @param limit  the maximum number of events to return.
+     * @param filter a condition an event must satisfy to be returned.
+     * @return the next matching events.
+     */
+    public ArrayList<Event> findUpcoming(LocalDateTime after, int limit, Predicate<Event> filter) {
+        assert after != null : "Start time cannot be null";
+        ArrayList<Event> result = new ArrayList<>();
+        if (limit <= 0) {
+            return result;
+        }
+
+        for (Map.Entry<LocalDate, ArrayList<Event>> entry : buckets.tailMap(after.toLocalDate(), true).entrySet()) {
+            LocalDate day = entry.getKey();
+            for (Event event : entry.getValue()) {
+                // Only the bucket of the start day is authoritative for a multi-day event
+                boolean startsToday = event.getStartTime().toLocalDate().equals(day);
+                if (startsToday && !event.getStartTime().isBefore(after) && filter.test(event)) {
+                    result.add(event);
+                    if (result.size() == limit) {
+                        return mergeUpcomingSeries(result, series, after, limit, filter);
+                    }
+                }
+            }
+        }
+        return mergeUpcomingSeries(result, series, after, limit, filter);
+    }
+
+    /**
+     * Returns up to {@code limit} events of one participant starting at or after {@code after}, in order of
+     * start time. Only the participant's own events are visited, so the cost depends on the limit and not on
+     * the events of anyone else.
+     *
+     * @param participant the participant whose events are returned.
+     * @param after       the earliest start time to include.
+     * @param limit       the maximum number of events to return.
+     * @return the participant's next events.
+     */
+    public ArrayList<Event> findUpcoming(Participant participant, LocalDateTime after, int limit) {
+        assert participant != null && after != null : "Participant and start time cannot be null";
+        ArrayList<Event> result = new ArrayList<>();
+        if (limit <= 0) {
+            return result;
+        }
+        if (indexedParticipants == null) {
+            indexParticipants();
+        }
+
+        String name = participant.getName().toLowerCase();
+        TreeMap<LocalDateTime, ArrayList<Event>> own = eventsByParticipant.get(name);
+        if (own != null) {
+            for (ArrayList<Event> sameStart : own.tailMap(after, true).values()) {
+                result.addAll(sameStart);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        List<Event> ownSeries = seriesByParticipant.getOrDefault(name, Collections.emptyList());
+        return mergeUpcomingSeries(result, ownSeries, after, limit, event -> true);
+    }
+
+    /**
+     * Returns the lower-case name of every participant of an indexed event.
+     *
+     * @return the names, in no particular order.
+     */
+    public Set<String> getParticipantNames() {
+        if (indexedParticipants == null) {
+            indexParticipants();
+        }
+        Set<String> names = new HashSet<>(eventsByParticipant.keySet());
+        names.addAll(seriesByParticipant.keySet());
+        return names;
+    }
+
+    /**
+     * Returns a participant's one-off events in order of start time, read straight from the index.
+     *
+     * @param name the lower-case name of the participant.
+     * @return the participant's one-off events.
+     */
+    public Iterator<Event> iterateEventsOf(String name) {
+        if (indexedParticipants == null) {
+            indexParticipants();
+        }
+        TreeMap<LocalDateTime, ArrayList<Event>> own = eventsByParticipant.get(name);
+        if (own == null) {
+            return Collections.emptyIterator();
+        }
+        return own.values().stream().flatMap(List::stream).iterator();
+    }
+
+    /**
+     * Returns a participant's recurring events.
+     *
+     * @param name the lower-case name of the participant.
+     * @return a read-only view of the participant's recurring events.
+     */
+    public List<Event> getSeriesOf(String name) {
+        if (indexedParticipants == null) {
+            indexParticipants();
+        }
+        return Collections.unmodifiableList(seriesByParticipant.getOrDefault(name, Collections.emptyList()));
+    }
+
+    /**
+     * Adds the next occurrences of every recurring event to the upcoming one-off events and keeps
+     * the earliest {@code limit}. At most {@code limit} occurrences are created per series.
+     *
+     * @param upcoming the upcoming one-off events in order of start time.
+     * @param series   the recurring events to take occurrences from.
+     * @param after    the earliest start time to include.
+     * @param limit    the maximum number of events to return.
+     * @param filter   a condition an event must satisfy to be returned.
+     * @return the earliest upcoming events and occurrences.
+     */
+    private static ArrayList<Event> mergeUpcomingSeries(ArrayList<Event> upcoming, List<Event> series,
+                                                        LocalDateTime after, int limit, Predicate<Event> filter) {
+        if (series.isEmpty() && upcoming.size() <= limit) {
+            return upcoming;
+        }
+        for (Event recurring : series) {
+            if (!filter.test(recurring)) {
+                continue;
+            }
+            // Any window of limit steps holds at least limit starts, so begin it where the series can first start
+            LocalDateTime from = after.isAfter(recurring.getStartTime()) ? after : recurring.getStartTime();
+            LocalDateTime horizon = from.plus(recurring.getRecurrence().getStep().multipliedBy(limit));
+            for (Event occurrence : recurring.getOccurrencesOverlapping(from, horizon)) {
+                if (!occurrence.getStartTime().isBefore(after)) {
+                    upcoming.add(occurrence);
+                }
+            }
+        }
+        upcoming.sort(Comparator.comparing(Event::getStartTime));
+        return new ArrayList<>(upcoming.subList(0, Math.min(limit, upcoming.size())));
+    }
+
+    private boolean containsSeries(Event event) {
+        for (Event recurring : series) {
+            if (recurring == event) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inserts an event into a bucket, keeping the bucket ordered by start time.
+     *
+     * @param bucket the bucket to insert into.
+     * @param event  the event to insert.
+     */
+    private void insertSorted(ArrayList<Event> bucket, Event event) {
+        int low = 0;
+        int high = bucket.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bucket.get(mid).getStartTime().isAfter(event.getStartTime())) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        bucket.add(low, event);
+    }
+
+    /**
+     * The lower-case participant names and the start time an event was filed under.
+     */
+    private static final class ParticipantEntry {
+        private final String[] names;
+        private final LocalDateTime start;
+        private final boolean recurring;
+
+        private ParticipantEntry(Event event) {
+            this.names = event.getParticipants().stream()
+                    .map(participant -> participant.getName().toLowerCase())
+                    .distinct()
+                    .toArray(String[]::new);
+            this.start = event.getStartTime();
+            this.recurring = event.isRecurring();
+        }
+    }
+}
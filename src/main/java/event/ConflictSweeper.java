@@ -0,0 +1,222 @@
+package event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+import metrics.CollisionCheckEvent;
+
+/**
+ * Finds every pair of overlapping events within groups of events (for example, all events at the
+ * same location) using a sweep line. Each group is sorted by start time once and swept with a heap
+ * of the events still in progress, so the cost is O(n log n + k) for n events and k overlapping pairs.
+ * Pairs are handed to a listener as soon as they are found instead of being collected.
+ */
+public class ConflictSweeper {
+
+    /**
+     * Receives overlapping pairs as the sweep finds them.
+     */
+    public interface ConflictListener {
+        /**
+         * Called once for every overlapping pair.
+         *
+         * @param key    the group the two events share, such as the location or participant name.
+         * @param first  the event that starts first.
+         * @param second the event that starts later or at the same time.
+         */
+        void onConflict(String key, Event first, Event second);
+    }
+
+    /**
+     * Sweeps every group and reports the overlapping pairs inside each one.
+     * Two events overlap when neither ends before the other starts, matching
+     * {@link EventManager#checkCollision}.
+     *
+     * @param groups   the events to check, grouped by the key they must share to conflict.
+     * @param listener the listener notified of each overlapping pair.
+     * @return the number of overlapping pairs found.
+     */
+    public long sweep(Map<String, ? extends List<Event>> groups, ConflictListener listener) {
+        return sweep(groups.keySet(), key -> {
+            List<Event> byStart = new ArrayList<>(groups.get(key));
+            byStart.sort(Comparator.comparing(Event::getStartTime));
+            return byStart.iterator();
+        }, listener);
+    }
+
+    /**
+     * Sweeps every group and reports the overlapping pairs inside each one, taking each group's events
+     * already in order of start time. A group's events are only read as the sweep reaches them, so
+     * beyond the events still in progress nothing is held in memory.
+     *
+     * @param keys     the keys of the groups to check.
+     * @param byStart  the events of the group with a key, in order of start time.
+     * @param listener the listener notified of each overlapping pair.
+     * @return the number of overlapping pairs found.
+     */
+    public long sweep(Collection<String> keys, Function<String, Iterator<Event>> byStart,
+                      ConflictListener listener) {
+        CollisionCheckEvent checkEvent = new CollisionCheckEvent();
+        checkEvent.begin();
+        long conflicts = 0;
+        long swept = 0;
+        for (String key : keys) {
+            long[] counts = sweepGroup(key, byStart.apply(key), listener);
+            conflicts += counts[0];
+            swept += counts[1];
+        }
+        if (checkEvent.shouldCommit()) {
+            checkEvent.kind = "sweep";
+            checkEvent.events = swept;
+            checkEvent.candidates = swept;
+            checkEvent.collisions = conflicts;
+            checkEvent.commit();
+        }
+        return conflicts;
+    }
+
+    /**
+     * Sweeps a single group of events.
+     *
+     * @param key      the key shared by the events in the group.
+     * @param byStart  the events in the group, in order of start time.
+     * @param listener the listener notified of each overlapping pair.
+     * @return the number of overlapping pairs found in the group and the number of events swept.
+     */
+    private long[] sweepGroup(String key, Iterator<Event> byStart, ConflictListener listener) {
+        PriorityQueue<Event> active = new PriorityQueue<>(Comparator.comparing(Event::getEndTime));
+        long conflicts = 0;
+        long swept = 0;
+
+        while (byStart.hasNext()) {
+            Event event = byStart.next();
+            swept++;
+            while (!active.isEmpty() && active.peek().getEndTime().isBefore(event.getStartTime())) {
+                active.poll();
+            }
+            // Everything left started no later than this event and has not ended before it starts
+            for (Event ongoing : active) {
+                listener.onConflict(key, ongoing, event);
+                conflicts++;
+            }
+            active.add(event);
+        }
+        return new long[]{conflicts, swept};
+    }
+
+    /**
+     * Returns one-off events and every occurrence of some recurring events, together in order of start time.
+     * Occurrences are created only when they are reached, so a series is never listed in full.
+     *
+     * @param oneOffs the one-off events, in order of start time.
+     * @param series  the recurring events.
+     * @return the events and occurrences in order of start time.
+     */
+    static Iterator<Event> inStartOrder(Iterator<Event> oneOffs, List<Event> series) {
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(
+                Comparator.comparing((Cursor cursor) -> cursor.current.getStartTime()));
+        Cursor first = new Cursor(oneOffs, null);
+        if (first.advance()) {
+            cursors.add(first);
+        }
+        for (Event recurring : series) {
+            Cursor cursor = new Cursor(null, recurring);
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !cursors.isEmpty();
+            }
+
+            @Override
+            public Event next() {
+                Cursor cursor = cursors.poll();
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+                Event event = cursor.current;
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+                return event;
+            }
+        };
+    }
+
+    /**
+     * The position reached in the one-off events or in the occurrences of one recurring event.
+     */
+    private static final class Cursor {
+        private final Iterator<Event> oneOffs;
+        private final Event recurring;
+        private int next;
+        private Event current;
+
+        private Cursor(Iterator<Event> oneOffs, Event recurring) {
+            this.oneOffs = oneOffs;
+            this.recurring = recurring;
+        }
+
+        private boolean advance() {
+            if (recurring == null) {
+                current = oneOffs.hasNext() ? oneOffs.next() : null;
+            } else {
+                current = next < recurring.getOccurrenceCount() ? recurring.getOccurrence(next++) : null;
+            }
+            return current != null;
+        }
+    }
+
+    /**
+     * Finds the bookings each candidate event overlaps, in one merged pass over two lists that are both
+     * ordered by start time. Bookings enter a heap ordered by end time once they start no later than the
+     * current candidate ends, and leave it once they end before the candidate starts; since candidates
+     * start in order, a booking that has left can never overlap a later candidate. The cost is
+     * O((n + m) log n + k) for n bookings, m candidates and k overlapping pairs.
+     *
+     * @param bookings   the existing events, in order of start time.
+     * @param candidates the new events to check, in order of start time.
+     * @return each candidate that overlaps at least one booking, mapped to the bookings it overlaps,
+     *         in candidate order.
+     */
+    public LinkedHashMap<Event, ArrayList<Event>> findCollisions(List<Event> bookings, List<Event> candidates) {
+        CollisionCheckEvent checkEvent = new CollisionCheckEvent();
+        checkEvent.begin();
+        LinkedHashMap<Event, ArrayList<Event>> collisions = new LinkedHashMap<>();
+        PriorityQueue<Event> active = new PriorityQueue<>(Comparator.comparing(Event::getEndTime));
+        int next = 0;
+
+        for (Event candidate : candidates) {
+            while (next < bookings.size() && !bookings.get(next).getStartTime().isAfter(candidate.getEndTime())) {
+                active.add(bookings.get(next++));
+            }
+            while (!active.isEmpty() && active.peek().getEndTime().isBefore(candidate.getStartTime())) {
+                active.poll();
+            }
+            if (!active.isEmpty()) {
+                ArrayList<Event> overlapping = new ArrayList<>(active);
+                overlapping.sort(Comparator.comparing(Event::getStartTime));
+                collisions.put(candidate, overlapping);
+            }
+        }
+        if (checkEvent.shouldCommit()) {
+            checkEvent.kind = "merge";
+            checkEvent.events = bookings.size();
+            checkEvent.candidates = candidates.size();
+            checkEvent.collisions = collisions.size();
+            checkEvent.commit();
+        }
+        return collisions;
+    }
+}
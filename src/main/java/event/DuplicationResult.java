@@ -0,0 +1,43 @@
+package event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import participant.Participant;
+
+/**
+ * Holds the outcome of duplicating an event as a series of copies: the copies that were added,
+ * in time order, the copies that overlap existing events at the same location, and the copies that
+ * some of the original's participants are not available for.
+ */
+public class DuplicationResult {
+    private final ArrayList<Event> copies;
+    private final LinkedHashMap<Event, ArrayList<Event>> conflicts;
+    private final LinkedHashMap<Event, ArrayList<Participant>> unavailable;
+
+    /**
+     * Constructs a DuplicationResult.
+     *
+     * @param copies    the copies that were added.
+     * @param conflicts   each conflicting copy mapped to the events it overlaps.
+     * @param unavailable each copy mapped to the participants left out of it because they are not available.
+     */
+    public DuplicationResult(ArrayList<Event> copies, LinkedHashMap<Event, ArrayList<Event>> conflicts,
+                             LinkedHashMap<Event, ArrayList<Participant>> unavailable) {
+        this.copies = copies;
+        this.conflicts = conflicts;
+        this.unavailable = unavailable;
+    }
+
+    public ArrayList<Event> getCopies() {
+        return copies;
+    }
+
+    public LinkedHashMap<Event, ArrayList<Event>> getConflicts() {
+        return conflicts;
+    }
+
+    public LinkedHashMap<Event, ArrayList<Participant>> getUnavailable() {
+        return unavailable;
+    }
+}
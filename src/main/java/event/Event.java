@@ -1,12 +1,17 @@
 package event;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-import command.LoginCommand;
 import exception.SyncException;
 import participant.Participant;
 import java.util.ArrayList;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.logging.Logger;
 
 /**
@@ -14,8 +19,9 @@ import java.util.logging.Logger;
  * Provides functionality to add/remove participants, list participants, and duplicate the event with a new name.
  */
 public class Event {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final Logger LOGGER = Logger.getLogger(Event.class.getName());
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String BORDER = "+----------------------+--------------------------------+";
     private String name;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
@@ -23,6 +29,13 @@ public class Event {
     private String description;
     private ArrayList<Participant> participants;
     private String priority;
+    private Recurrence recurrence;
+
+    /**
+     * The set this event adds itself to whenever its times, location, recurrence or participants change,
+     * held by the EventManager whose indexes file it, or null if no indexes file it.
+     */
+    private Set<Event> changedEvents;
 
     /**
      * Constructs an Event with the specified details.
@@ -123,6 +136,7 @@ public class Event {
      */
     public void setStartTime(LocalDateTime startTime) {
         this.startTime = startTime;
+        changed();
     }
 
     /**
@@ -132,6 +146,7 @@ public class Event {
      */
     public void setEndTime(LocalDateTime endTime) {
         this.endTime = endTime;
+        changed();
     }
 
     /**
@@ -141,6 +156,7 @@ public class Event {
      */
     public void setLocation(String location) {
         this.location = location;
+        changed();
     }
 
     /**
@@ -153,13 +169,151 @@ public class Event {
     }
 
     /**
-     * Creates a duplicate of the event with a new name.
+     * Creates a duplicate of the event with a new name. The duplicate has its own list of the same
+     * participants, so adding a participant to one does not add them to the other.
      *
      * @param newName The new name for the duplicate event.
      * @return A new Event object that is a duplicate of the current event with the new name.
      */
     public Event duplicate(String newName) {
-        return new Event(newName, this.startTime, this.endTime, this.location, this.description, this.participants);
+        Event copy = new Event(newName, this.startTime, this.endTime, this.location, this.description,
+                new ArrayList<>(this.participants));
+        copy.recurrence = this.recurrence;
+        return copy;
+    }
+
+    /**
+     * Gets the recurrence rule of the event.
+     *
+     * @return The recurrence rule, or null if the event happens once.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Sets the recurrence rule of the event. The start and end times become those of the first occurrence.
+     *
+     * @param recurrence The recurrence rule, or null to make the event happen once.
+     */
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        changed();
+    }
+
+    /**
+     * Checks if the event repeats.
+     *
+     * @return true if the event has a recurrence rule.
+     */
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Gets the number of times the event happens.
+     *
+     * @return The number of occurrences, 1 for an event that does not repeat.
+     */
+    public int getOccurrenceCount() {
+        return recurrence == null ? 1 : recurrence.getCount();
+    }
+
+    /**
+     * Creates a single occurrence of the event. The occurrence shares this event's participants
+     * and does not repeat itself.
+     *
+     * @param occurrence The zero-based occurrence number.
+     * @return The occurrence, or this event if it does not repeat.
+     */
+    public Event getOccurrence(int occurrence) {
+        if (recurrence == null) {
+            return this;
+        }
+        LocalDateTime start = recurrence.getOccurrenceStart(startTime, occurrence);
+        Event copy = new Event(name, start, start.plus(Duration.between(startTime, endTime)), location, description,
+                participants);
+        copy.priority = this.priority;
+        return copy;
+    }
+
+    /**
+     * Gets the end time of the last occurrence.
+     *
+     * @return The time the event or series finishes.
+     */
+    public LocalDateTime getSeriesEndTime() {
+        if (recurrence == null) {
+            return endTime;
+        }
+        return endTime.plus(recurrence.getStep().multipliedBy(recurrence.getCount() - 1L));
+    }
+
+    /**
+     * Creates the occurrences that overlap the window from {@code from} to {@code to}, inclusive.
+     * Only the overlapping occurrences are created.
+     *
+     * @param from The start of the window.
+     * @param to   The end of the window.
+     * @return The overlapping occurrences in order of start time.
+     */
+    public ArrayList<Event> getOccurrencesOverlapping(LocalDateTime from, LocalDateTime to) {
+        ArrayList<Event> occurrences = new ArrayList<>();
+        int[] range = findOverlappingOccurrences(from, to);
+        if (range != null) {
+            for (int i = range[0]; i <= range[1]; i++) {
+                occurrences.add(getOccurrence(i));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Checks if any occurrence overlaps the window from {@code from} to {@code to}, inclusive,
+     * without creating the occurrences.
+     *
+     * @param from The start of the window.
+     * @param to   The end of the window.
+     * @return true if an occurrence overlaps the window.
+     */
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return findOverlappingOccurrences(from, to) != null;
+    }
+
+    /**
+     * Passes the start and end time of every occurrence to the given action, in order.
+     *
+     * @param action The action to perform for each occurrence.
+     */
+    public void forEachOccurrence(BiConsumer<LocalDateTime, LocalDateTime> action) {
+        Duration step = recurrence == null ? Duration.ZERO : recurrence.getStep();
+        for (int i = 0; i < getOccurrenceCount(); i++) {
+            action.accept(startTime.plus(step.multipliedBy(i)), endTime.plus(step.multipliedBy(i)));
+        }
+    }
+
+    /**
+     * Checks if the given condition holds for the start and end time of every occurrence.
+     *
+     * @param condition The condition to test.
+     * @return true if every occurrence satisfies the condition.
+     */
+    public boolean allOccurrencesMatch(BiPredicate<LocalDateTime, LocalDateTime> condition) {
+        Duration step = recurrence == null ? Duration.ZERO : recurrence.getStep();
+        for (int i = 0; i < getOccurrenceCount(); i++) {
+            if (!condition.test(startTime.plus(step.multipliedBy(i)), endTime.plus(step.multipliedBy(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] findOverlappingOccurrences(LocalDateTime from, LocalDateTime to) {
+        if (recurrence == null) {
+            boolean overlaps = !endTime.isBefore(from) && !startTime.isAfter(to);
+            return overlaps ? new int[]{0, 0} : null;
+        }
+        return recurrence.findOverlapping(startTime, endTime, from, to);
     }
 
     /**
@@ -179,9 +333,10 @@ public class Event {
      */
     public void addParticipant(Participant participant) throws SyncException {
         assert participant != null : "Participant cannot be null";
-        LOGGER.info("Attempting adding participant ");
+        LOGGER.finest("Attempting adding participant");
         if (!participants.contains(participant)) {
             participants.add(participant);
+            changed();
         } else {
             throw new SyncException("Participant is already in this event");
         }
@@ -194,7 +349,11 @@ public class Event {
      * @return true if the participant was removed successfully, false otherwise.
      */
     public boolean removeParticipant(String participantName) {
-        return participants.removeIf(p -> p.getName().equalsIgnoreCase(participantName));
+        boolean removed = participants.removeIf(p -> p.getName().equalsIgnoreCase(participantName));
+        if (removed) {
+            changed();
+        }
+        return removed;
     }
 
     /**
@@ -217,21 +376,6 @@ public class Event {
         return participants.stream().anyMatch(p -> p.getName().equalsIgnoreCase(participant.getName()));
     }
 
-    /**
-     * Lists all participants in the event.
-     * Prints the list to the console.
-     */
-    public void listParticipants() {
-        if (participants.isEmpty()) {
-            System.out.println("No participants assigned to this event.");
-        } else {
-            System.out.println("Participants for event \"" + name + "\":");
-            for (Participant p : participants) {
-                System.out.println("- " + p);
-            }
-        }
-    }
-
     public void setPriority(String priority) {
         this.priority = priority;
     }
@@ -248,22 +392,42 @@ public class Event {
      */
     @Override
     public String toString() {
-        return String.format(
-                "+----------------------+--------------------------------+\n" +
-                        "| Name                 | %s\n" +
-                        "| Start Time           | %s\n" +
-                        "| End Time             | %s\n" +
-                        "| Location             | %s\n" +
-                        "| Description          | %s\n" +
-                        "| Participants         | %s\n" +
-                        "+----------------------+--------------------------------+",
-                name,
-                startTime.format(formatter),
-                endTime.format(formatter),
-                location,
-                description,
-                participants
-        );
+        StringBuilder sb = new StringBuilder(320);
+        try {
+            appendTo(sb);
+        } catch (IOException e) {
+            // Appending to a StringBuilder never fails
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the same table as {@link #toString()} into the given destination, without building
+     * intermediate strings, so that long listings can be rendered straight into an output buffer.
+     *
+     * @param out The destination to write to.
+     * @throws IOException If the destination cannot be written to.
+     */
+    public void appendTo(Appendable out) throws IOException {
+        out.append(BORDER).append('\n');
+        out.append("| Name                 | ").append(name).append('\n');
+        out.append("| Start Time           | ");
+        FORMATTER.formatTo(startTime, out);
+        out.append('\n').append("| End Time             | ");
+        FORMATTER.formatTo(endTime, out);
+        out.append('\n');
+        out.append("| Location             | ").append(location).append('\n');
+        out.append("| Description          | ").append(description).append('\n');
+        out.append("| Participants         | [");
+        for (int i = 0; i < participants.size(); i++) {
+            out.append(i == 0 ? "" : ", ").append(participants.get(i).toString());
+        }
+        out.append("]\n");
+        if (recurrence != null) {
+            out.append("| Repeats              | ").append(recurrence.toString()).append('\n');
+        }
+        out.append(BORDER);
     }
 
     /**
@@ -273,5 +437,22 @@ public class Event {
      */
     public void setParticipants(ArrayList<Participant> participants) {
         this.participants = participants;
+        changed();
+    }
+
+    /**
+     * Sets the set this event adds itself to whenever a change could move it in an index, so that the
+     * indexes only have to refile the events in it.
+     *
+     * @param changedEvents the set to add to, or null to stop adding to one.
+     */
+    void watchChanges(Set<Event> changedEvents) {
+        this.changedEvents = changedEvents;
+    }
+
+    private void changed() {
+        if (changedEvents != null) {
+            changedEvents.add(this);
+        }
     }
 }
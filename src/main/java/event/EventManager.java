@@ -1,33 +1,63 @@
 package event;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 
-import command.LoginCommand;
+import participant.AvailabilitySlot;
+import participant.BulkAssignResult;
+import participant.CommonAvailability;
 import participant.Participant;
 import participant.ParticipantManager;
 import storage.UserStorage;
 import ui.UI;
 import exception.SyncException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import storage.Archive;
 import storage.Storage;
 import label.Priority;
+import metrics.CollisionCheckEvent;
+import metrics.SortEvent;
 
 /**
  * Manages events, including creation, deletion, updating, and participant assignments.
  * It also handles event collision checks, stores events in persistent storage, and interacts with the UI.
  */
 public class EventManager {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(EventManager.class.getName());
 
     private ArrayList<Event> events;
+    private final CalendarIndex calendarIndex = new CalendarIndex();
+    private final LocationIndex locationIndex = new LocationIndex();
     private final UI ui;
     private final Storage storage;
     private final UserStorage userStorage;
+    private final IndexSidecar sidecar;
+    private Archive archive;
+    private BiPredicate<Event, String> lastPageFilter;
+    private EventOrder lastPageOrder;
+    private PageRequest lastPageRequest;
+
+    /** Increases with every change to the events, so results computed from them can tell they are stale. */
+    private long modificationCount;
+
+    /** The events changed in place through their setters since the indexes last filed them. */
+    private final Set<Event> changedEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** The modification count when the index files were last read or written, or -1 if they were not. */
+    private long savedIndexesAt = -1;
 
     /**
      * Constructs an EventManager with the specified event list, UI, storage, and user storage.
@@ -38,10 +68,35 @@ public class EventManager {
      * @param userStorage the user storage system.
      */
     public EventManager(ArrayList<Event> events, UI ui, Storage storage, UserStorage userStorage) {
+        this(events, ui, storage, userStorage, null);
+    }
+
+    /**
+     * Constructs an EventManager over the events loaded from the event file, reading the indexes from their
+     * sidecar files when those are up to date instead of rebuilding them.
+     *
+     * @param events      the events loaded from the event file, in file order.
+     * @param ui          the UI used for displaying information.
+     * @param storage     the storage system for saving events.
+     * @param userStorage the user storage system.
+     * @param sidecar     the index files of the event file, or null to always rebuild the indexes.
+     */
+    public EventManager(ArrayList<Event> events, UI ui, Storage storage, UserStorage userStorage,
+                        IndexSidecar sidecar) {
         this.events = events;
         this.ui = ui;
         this.storage = storage;
         this.userStorage = userStorage;
+        this.sidecar = sidecar;
+        if (sidecar != null && sidecar.load(events, calendarIndex, locationIndex)) {
+            LOGGER.info("Loaded indexes from index files");
+            for (Event event : events) {
+                event.watchChanges(changedEvents);
+            }
+            savedIndexesAt = modificationCount;
+            return;
+        }
+        rebuildIndexes();
     }
 
     /**
@@ -56,6 +111,26 @@ public class EventManager {
         this.events = new ArrayList<>();
         this.ui = new UI();
         this.storage = new Storage(filePath, userStorage);
+        this.sidecar = null;
+    }
+
+    /**
+     * Writes the indexes to their sidecar files, so the next start can read them. Nothing is written if
+     * there are no sidecar files, the files already match the events, or the event file does not hold the
+     * current events, such as after a failed or deferred save.
+     *
+     * @return true if the index files were written.
+     * @throws SyncException if the index files cannot be written.
+     */
+    public boolean saveIndexes() throws SyncException {
+        syncIndexes();
+        if (sidecar == null || storage == null || storage.hasUnsavedChanges()
+                || savedIndexesAt == modificationCount) {
+            return false;
+        }
+        sidecar.save(events, calendarIndex, locationIndex);
+        savedIndexesAt = modificationCount;
+        return true;
     }
 
     /**
@@ -67,6 +142,22 @@ public class EventManager {
         return events;
     }
 
+    /**
+     * Returns a number that changes whenever the events, their priorities or their participants may have
+     * changed, so that a result computed from the events can be reused while the number stays the same.
+     * Events changed in place are counted once the indexes have been brought up to date with them.
+     *
+     * @return the modification count.
+     */
+    public long getModificationCount() {
+        syncIndexes();
+        return modificationCount;
+    }
+
+    private void markModified() {
+        modificationCount++;
+    }
+
     /**
      * Returns a specific event by its index.
      *
@@ -99,8 +190,28 @@ public class EventManager {
      * @throws SyncException if there is a collision or other error.
      */
     public void addEvent(Event event) throws SyncException {
+        String priority;
+        try {
+            priority = Priority.priorityInput();
+        } catch (NoSuchElementException e) {
+            priority = "NULL";
+        }
+        addEvent(event, priority);
+    }
+
+    /**
+     * Adds a new event with the given priority after checking for any collisions, without prompting
+     * the user. If collisions are found, a warning is displayed.
+     *
+     * @param event    the event to be added.
+     * @param priority the priority of the event.
+     * @throws SyncException if there is an error saving the events.
+     */
+    public void addEvent(Event event, String priority) throws SyncException {
+        markModified();
         assert event != null : "Event cannot be null";
-        LOGGER.info("Attempting adding event");
+        assert priority != null : "Priority cannot be null";
+        LOGGER.fine("Attempting adding event");
 
         // Set the exclude index to -1 to avoid excluding any element
         ArrayList<Event> collisions = checkCollision(
@@ -112,12 +223,7 @@ public class EventManager {
         );
 
         events.add(event);
-        String priority;
-        try {
-            priority = Priority.priorityInput();
-        } catch (NoSuchElementException e) {
-            priority = "NULL";
-        }
+        addToIndexes(event);
         Priority.addPriority(priority);
 
         ui.showAddedMessage(event);
@@ -138,6 +244,19 @@ public class EventManager {
      * @throws SyncException if there are any issues with participant availability or event collision.
      */
     public void addEvent(Event event, ParticipantManager participantManager) throws SyncException {
+        addEvent(event, participantManager, null);
+    }
+
+    /**
+     * Adds a new event with the given priority and assigns the current user to the event.
+     *
+     * @param event              the event to be added.
+     * @param participantManager the participant manager that provides the current user.
+     * @param priority           the priority of the event, or null to ask the user once the event is accepted.
+     * @throws SyncException if there are any issues with participant availability or event collision.
+     */
+    public void addEvent(Event event, ParticipantManager participantManager, String priority) throws SyncException {
+        markModified();
         assert event != null : "Event cannot be null";
         Participant participant = participantManager.getCurrentUser();
 
@@ -168,12 +287,14 @@ public class EventManager {
 
         event.addParticipant(participant);
         events.add(event);
+        addToIndexes(event);
 
-        String priority;
-        try {
-            priority = Priority.priorityInput();
-        } catch (NoSuchElementException e) {
-            priority = "NULL";
+        if (priority == null) {
+            try {
+                priority = Priority.priorityInput();
+            } catch (NoSuchElementException e) {
+                priority = "NULL";
+            }
         }
         Priority.addPriority(priority);
 
@@ -188,11 +309,12 @@ public class EventManager {
         assert events != null : "Events list should not be null";
 
         if (!events.isEmpty()) {
+            ArrayList<String> priorities = new ArrayList<>(events.size());
             for (int i = 0; i < events.size(); i++) {
-                Event event = events.get(i);
-                assert event != null : "Event at index " + i + " should not be null";
-                ui.showEventWithIndex(event, i + 1, Priority.getPriority(i));
+                assert events.get(i) != null : "Event at index " + i + " should not be null";
+                priorities.add(Priority.getPriority(i));
             }
+            ui.showEventsWithIndices(events, priorities);
         } else {
             ui.showEmptyListMessage();
         }
@@ -208,12 +330,12 @@ public class EventManager {
         assert events != null : "Events list should not be null";
 
         if (!events.isEmpty()) {
+            ArrayList<String> priorities = new ArrayList<>(events.size());
             for (int i = 0; i < events.size(); i++) {
-                Event event = events.get(i);
-                assert event != null : "Event at index " + i + " should not be null";
-                String priority = Priority.getPriority(i);
-                ui.showEventWithIndex(event, i + 1, priority);
+                assert events.get(i) != null : "Event at index " + i + " should not be null";
+                priorities.add(Priority.getPriority(i));
             }
+            ui.showEventsWithIndices(events, priorities);
         } else {
             ui.showEmptyListMessage();
         }
@@ -226,10 +348,12 @@ public class EventManager {
      * @throws SyncException if the index is invalid.
      */
     public void deleteEvent(int index) throws SyncException {
+        markModified();
         if (index < 0 || index >= events.size()) {
             throw new SyncException(SyncException.invalidEventIndexErrorMessage());
         }
         Event deletedEvent = events.remove(index);
+        removeFromIndexes(deletedEvent);
 
         Priority.removePriority(index);
         ui.showDeletedMessage(deletedEvent);
@@ -237,12 +361,15 @@ public class EventManager {
     }
     /**
      * Updates an existing event with new details.
+     * An edited repeating event is rejected if any of its occurrences collides with another event at its location.
      *
      * @param index        the index of the event to update.
      * @param updatedEvent the new event details.
-     * @throws SyncException if there are any issues with the update (e.g., invalid times, participant availability).
+     * @throws SyncException if there are any issues with the update (e.g., invalid times, participant availability,
+     *                       or a collision of a repeating event).
      */
     public void updateEvent(int index, Event updatedEvent) throws SyncException {
+        markModified();
         if (index < 0 || index >= events.size()) {
             throw new SyncException(SyncException.invalidEventIndexErrorMessage());
         }
@@ -262,13 +389,13 @@ public class EventManager {
         }
 
         for (Participant p : originalEvent.getParticipants()) {
-            p.unassignEventTime(originalEvent.getStartTime(), originalEvent.getEndTime());
+            originalEvent.forEachOccurrence(p::unassignEventTime);
         }
 
         for (Participant p : originalEvent.getParticipants()) {
-            if (!p.isAvailableDuring(updatedEvent.getStartTime(), updatedEvent.getEndTime())) {
+            if (!updatedEvent.allOccurrencesMatch(p::isAvailableDuring)) {
                 for (Participant recover : originalEvent.getParticipants()) {
-                    recover.assignEventTime(originalEvent.getStartTime(), originalEvent.getEndTime());
+                    originalEvent.forEachOccurrence(recover::assignEventTime);
                 }
                 throw new SyncException(SyncException.participantUnavailableDuringEditError(
                         p.getName(), updatedEvent.getStartTime(), updatedEvent.getEndTime()));
@@ -276,19 +403,37 @@ public class EventManager {
         }
 
         events.set(index, updatedEvent);
-        for (Participant p : updatedEvent.getParticipants()) {
-            p.assignEventTime(updatedEvent.getStartTime(), updatedEvent.getEndTime());
-        }
+        removeFromIndexes(originalEvent);
+        addToIndexes(updatedEvent);
 
-        events.set(index, updatedEvent);
+        ArrayList<Event> collisions;
+        if (updatedEvent.isRecurring()) {
+            // Every occurrence of the edited series must be free, not just the first
+            collisions = checkSeriesCollision(updatedEvent);
+            if (!collisions.isEmpty()) {
+                events.set(index, originalEvent);
+                removeFromIndexes(updatedEvent);
+                addToIndexes(originalEvent);
+                for (Participant recover : originalEvent.getParticipants()) {
+                    originalEvent.forEachOccurrence(recover::assignEventTime);
+                }
+                ui.showCollisionWarning(updatedEvent, collisions);
+                throw new SyncException("The repeating event would collide with other events at "
+                        + updatedEvent.getLocation());
+            }
+        } else {
+            collisions = checkCollision(
+                    updatedEvent.getStartTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
+                    updatedEvent.getEndTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
+                    updatedEvent.getLocation(),
+                    events,
+                    index
+            );
+        }
 
-        ArrayList<Event> collisions = checkCollision(
-                updatedEvent.getStartTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                updatedEvent.getEndTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                updatedEvent.getLocation(),
-                events,
-                index
-        );
+        for (Participant p : updatedEvent.getParticipants()) {
+            updatedEvent.forEachOccurrence(p::assignEventTime);
+        }
 
         if (!collisions.isEmpty()) {
             ui.showCollisionWarning(updatedEvent, collisions);
@@ -307,8 +452,10 @@ public class EventManager {
      * @throws SyncException if there is an error during the duplication process.
      */
     public void duplicateEvent(Event eventToDuplicate, String newName) throws SyncException {
+        markModified();
         Event duplicatedEvent = eventToDuplicate.duplicate(newName);
         events.add(duplicatedEvent);
+        addToIndexes(duplicatedEvent);
 
         int originalIndex = events.indexOf(eventToDuplicate);
         String originalPriority = Priority.getPriority(originalIndex);
@@ -317,6 +464,81 @@ public class EventManager {
         storage.saveEvents(events, Priority.getAllPriorities());
     }
 
+    /**
+     * Adds {@code count} copies of the event at the given index, each one {@code step} after the previous,
+     * keeping the original's name, location, participants and priority. The copies are checked against
+     * the bookings at their location in one sorted sweep rather than one collision scan per copy, are all
+     * added even when some of them conflict, and are saved with a single write of the event file. Each
+     * participant is assigned to every copy they are available for and left out of the others.
+     *
+     * @param index              the index of the event to copy.
+     * @param step               the time between consecutive copies.
+     * @param count              the number of copies to add.
+     * @param participantManager the participant manager used to save participants' availability.
+     * @return the added copies and, for each conflicting copy, the events it overlaps and the participants
+     *         left out of it.
+     * @throws SyncException if the index is invalid, the event already repeats, the copies would overlap
+     *                       each other, or the events cannot be saved.
+     */
+    public DuplicationResult duplicateEventSeries(int index, Duration step, int count,
+                                                  ParticipantManager participantManager) throws SyncException {
+        markModified();
+        Event original = getEvent(index);
+        assert step != null && count > 0 : "Step and count must be positive";
+        if (original.isRecurring()) {
+            throw new SyncException("This event already repeats. Duplicate a one-off event instead.");
+        }
+        if (!original.getEndTime().isBefore(original.getStartTime().plus(step))) {
+            throw new SyncException("The event is longer than the interval, so its copies would overlap.");
+        }
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("Duplicating event " + index + " " + count + " times");
+        }
+        syncIndexes();
+
+        ArrayList<Event> copies = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Event copy = original.duplicate(original.getName());
+            copy.setStartTime(original.getStartTime().plus(step.multipliedBy(i)));
+            copy.setEndTime(original.getEndTime().plus(step.multipliedBy(i)));
+            copies.add(copy);
+        }
+
+        LinkedHashMap<Event, ArrayList<Event>> conflicts = new ConflictSweeper()
+                .findCollisions(locationIndex.getBookings(original.getLocation()), copies);
+        for (Event recurring : locationIndex.getSeries(original.getLocation())) {
+            for (Event copy : copies) {
+                if (recurring.overlaps(copy.getStartTime(), copy.getEndTime())) {
+                    conflicts.computeIfAbsent(copy, c -> new ArrayList<>()).add(recurring);
+                }
+            }
+        }
+
+        LinkedHashMap<Event, ArrayList<Participant>> unavailable = new LinkedHashMap<>();
+        for (Event copy : copies) {
+            for (Participant participant : original.getParticipants()) {
+                if (participant.isAvailableDuring(copy.getStartTime(), copy.getEndTime())) {
+                    participant.assignEventTime(copy.getStartTime(), copy.getEndTime());
+                } else {
+                    copy.removeParticipant(participant.getName());
+                    unavailable.computeIfAbsent(copy, c -> new ArrayList<>()).add(participant);
+                }
+            }
+        }
+
+        String priority = Priority.getPriority(index);
+        for (Event copy : copies) {
+            events.add(copy);
+            addToIndexes(copy);
+            Priority.addPriority(priority);
+        }
+        storage.saveEvents(events, Priority.getAllPriorities());
+        if (!original.getParticipants().isEmpty()) {
+            participantManager.save();
+        }
+        return new DuplicationResult(copies, conflicts, unavailable);
+    }
+
     /**
      * Checks for collisions between the specified event and the existing events.
      * A collision occurs when an event overlaps in time and location with another event.
@@ -344,19 +566,29 @@ public class EventManager {
         LocalDateTime startTime = LocalDateTime.parse(start, formatter);
         LocalDateTime endTime = LocalDateTime.parse(end, formatter);
         ArrayList<Event> collisions = new ArrayList<>();
+        CollisionCheckEvent checkEvent = new CollisionCheckEvent();
+        checkEvent.begin();
 
         for (int i = 0; i < events.size(); i++) {
             if (i == excludeIndex) {
                 continue;
             }
             Event event = events.get(i);
-            boolean timeOverlap = !(event.getEndTime().isBefore(startTime) || event.getStartTime().isAfter(endTime));
+            // For a recurring event this tests every occurrence arithmetically
+            boolean timeOverlap = event.overlaps(startTime, endTime);
             boolean sameLocation = event.getLocation().equals(location);
 
             if (timeOverlap && sameLocation) {
                 collisions.add(event);
             }
         }
+        if (checkEvent.shouldCommit()) {
+            checkEvent.kind = "scan";
+            checkEvent.events = events.size();
+            checkEvent.candidates = 1;
+            checkEvent.collisions = collisions.size();
+            checkEvent.commit();
+        }
         return collisions;
     }
 
@@ -397,7 +629,657 @@ public class EventManager {
      * @param events the list of events to set.
      */
     public void setEvents(ArrayList<Event> events) {
+        markModified();
         this.events = events;
+        rebuildIndexes();
+    }
+
+    /**
+     * Refreshes the indexes for an event whose times, location or participants were changed in place,
+     * for example through the edit command. Events changed through their setters are also refreshed by
+     * the next query, but calling this files the event again straight away.
+     *
+     * @param event the event that was modified.
+     */
+    public void reindexEvent(Event event) {
+        markModified();
+        changedEvents.remove(event);
+        calendarIndex.remove(event);
+        calendarIndex.add(event);
+        locationIndex.remove(event);
+        locationIndex.add(event);
+    }
+
+    /**
+     * Files an event that joined the event list in both indexes and starts following its changes.
+     *
+     * @param event the event that was added.
+     */
+    private void addToIndexes(Event event) {
+        calendarIndex.add(event);
+        locationIndex.add(event);
+        event.watchChanges(changedEvents);
+    }
+
+    /**
+     * Takes an event that left the event list out of both indexes and stops following its changes.
+     *
+     * @param event the event that was removed.
+     */
+    private void removeFromIndexes(Event event) {
+        calendarIndex.remove(event);
+        locationIndex.remove(event);
+        event.watchChanges(null);
+        changedEvents.remove(event);
+    }
+
+    /**
+     * Builds both indexes again from the event list and follows the changes of every event in it.
+     */
+    private void rebuildIndexes() {
+        calendarIndex.rebuild(events);
+        locationIndex.rebuild(events);
+        changedEvents.clear();
+        for (Event event : events) {
+            event.watchChanges(changedEvents);
+        }
+    }
+
+    /**
+     * Returns the events overlapping the given window, ordered by start time.
+     *
+     * @param from the start of the window.
+     * @param to   the end of the window.
+     * @return the events overlapping the window.
+     */
+    public ArrayList<Event> getEventsInRange(LocalDateTime from, LocalDateTime to) {
+        syncIndexes();
+        return calendarIndex.findOverlapping(from, to, event -> true);
+    }
+
+    /**
+     * Returns the events overlapping the given window that the viewer is allowed to see,
+     * ordered by start time. Admins see every event, members only those they participate in.
+     *
+     * @param from   the start of the window.
+     * @param to     the end of the window.
+     * @param viewer the participant requesting the events.
+     * @return the visible events overlapping the window.
+     */
+    public ArrayList<Event> getEventsInRange(LocalDateTime from, LocalDateTime to, Participant viewer) {
+        assert viewer != null : "Viewer cannot be null";
+        syncIndexes();
+        if (viewer.isAdmin()) {
+            return calendarIndex.findOverlapping(from, to, event -> true);
+        }
+        return calendarIndex.findOverlapping(from, to, event -> event.hasParticipant(viewer));
+    }
+
+    /**
+     * Returns the next events the participant is assigned to, starting at or after the given time.
+     *
+     * @param participant the participant whose events are returned.
+     * @param after       the earliest start time to include.
+     * @param limit       the maximum number of events to return.
+     * @return up to {@code limit} events ordered by start time.
+     */
+    public ArrayList<Event> getUpcomingEvents(Participant participant, LocalDateTime after, int limit) {
+        assert participant != null : "Participant cannot be null";
+        syncIndexes();
+        return calendarIndex.findUpcoming(participant, after, limit);
+    }
+
+    /**
+     * Returns one page of the events that match a filter, in the given order, and remembers the query
+     * so that {@link #getNextPage()} can continue it.
+     *
+     * @param filter  a condition on an event and its priority that the event must satisfy to be listed.
+     * @param order   the order to list the events in.
+     * @param request the page to return.
+     * @return the requested page.
+     */
+    public EventPage getPage(BiPredicate<Event, String> filter, EventOrder order, PageRequest request) {
+        setPageQuery(filter, order, request);
+        return collectPage(filter, order, request);
+    }
+
+    /**
+     * Returns every event that matches a filter, in the order the events were added, as a single page.
+     * Unlike {@link #getPage}, the query is not remembered.
+     *
+     * @param filter a condition on an event and its priority that the event must satisfy to be listed.
+     * @return the matching events with their priorities.
+     */
+    public EventPage getMatching(BiPredicate<Event, String> filter) {
+        return collectPage(filter, EventOrder.NONE, new PageRequest(1, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Remembers a page query as the one {@link #getNextPage()} continues, for callers that already
+     * have the page, for example from a cache.
+     *
+     * @param filter  the filter of the listing.
+     * @param order   the order of the listing.
+     * @param request the page that was shown.
+     */
+    public void setPageQuery(BiPredicate<Event, String> filter, EventOrder order, PageRequest request) {
+        assert filter != null && order != null && request != null : "Page query cannot be null";
+        lastPageFilter = filter;
+        lastPageOrder = order;
+        lastPageRequest = request;
+    }
+
+    /**
+     * Collects one page of the events that match a filter. Only the events up to the end of the requested
+     * page are kept while scanning: unordered pages keep just the page itself, and ordered pages keep the
+     * best {@code offset + size} events in a bounded heap, so no copy of the whole list is sorted.
+     * Ties keep the order the events were added in.
+     *
+     * @param filter  a condition on an event and its priority that the event must satisfy to be listed.
+     * @param order   the order to list the events in.
+     * @param request the page to collect.
+     * @return the page.
+     */
+    private EventPage collectPage(BiPredicate<Event, String> filter, EventOrder order, PageRequest request) {
+        long offset = request.getOffset();
+        long limit = offset + request.getSize();
+        Comparator<Integer> comparator = pageComparator(order);
+        SortEvent sortEvent = new SortEvent();
+        sortEvent.begin();
+        // The heap keeps the worst of the retained positions at its head so it can be evicted
+        PriorityQueue<Integer> best = comparator == null ? null : new PriorityQueue<>(comparator.reversed());
+        ArrayList<Integer> visible = new ArrayList<>();
+        int total = 0;
+
+        for (int i = 0; i < events.size(); i++) {
+            if (!filter.test(events.get(i), Priority.getPriority(i))) {
+                continue;
+            }
+            if (comparator == null) {
+                if (total >= offset && total < limit) {
+                    visible.add(i);
+                }
+            } else if (best.size() < limit) {
+                best.add(i);
+            } else if (comparator.compare(i, best.peek()) < 0) {
+                best.poll();
+                best.add(i);
+            }
+            total++;
+        }
+
+        if (comparator != null) {
+            // The heap holds the best events up to the end of the page; the page is the worst of them
+            long onPage = Math.max(0, Math.min(request.getSize(), total - offset));
+            for (long k = 0; k < onPage; k++) {
+                visible.add(best.poll());
+            }
+            visible.sort(comparator);
+            if (sortEvent.shouldCommit()) {
+                sortEvent.order = order.name().toLowerCase();
+                sortEvent.size = total;
+                sortEvent.commit();
+            }
+        }
+
+        ArrayList<Event> pageEvents = new ArrayList<>();
+        ArrayList<String> pagePriorities = new ArrayList<>();
+        for (int i : visible) {
+            pageEvents.add(events.get(i));
+            pagePriorities.add(Priority.getPriority(i));
+        }
+        return new EventPage(pageEvents, pagePriorities, request, total);
+    }
+
+    /**
+     * Returns the page after the one last returned by {@link #getPage}, with the same filter and order.
+     *
+     * @return the next page.
+     * @throws SyncException if nothing has been listed yet or the last page has been reached.
+     */
+    public EventPage getNextPage() throws SyncException {
+        if (lastPageRequest == null) {
+            throw new SyncException("There is no listing to continue. List events with '--page' first.");
+        }
+        EventPage page = getPage(lastPageFilter, lastPageOrder, lastPageRequest.next());
+        if (page.getEvents().isEmpty()) {
+            lastPageRequest = null;
+            throw new SyncException("There are no more events to show.");
+        }
+        return page;
+    }
+
+    /**
+     * Forgets the last page query, so that {@link #getNextPage()} has nothing to continue.
+     */
+    public void clearPageQuery() {
+        lastPageFilter = null;
+        lastPageOrder = null;
+        lastPageRequest = null;
+    }
+
+    /**
+     * Returns a comparator over event positions for the given order.
+     *
+     * @param order the listing order.
+     * @return the comparator, or null if events are listed in the order they were added.
+     */
+    private Comparator<Integer> pageComparator(EventOrder order) {
+        Comparator<Integer> byPosition = Comparator.naturalOrder();
+        switch (order) {
+        case PRIORITY:
+            return Comparator.comparing((Integer i) -> -Priority.getValue(Priority.getPriority(i)))
+                    .thenComparing(i -> events.get(i).getEndTime())
+                    .thenComparing(byPosition);
+        case START:
+            return Comparator.comparing((Integer i) -> events.get(i).getStartTime()).thenComparing(byPosition);
+        case END:
+            return Comparator.comparing((Integer i) -> events.get(i).getEndTime()).thenComparing(byPosition);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Reports every pair of events that overlap at the same location, including bookings loaded
+     * from disk that never went through {@link #checkCollision}. Each location's bookings are swept in the
+     * order the location index keeps them, merged with the occurrences of its series as they are reached.
+     *
+     * @param listener the listener notified of each overlapping pair, keyed by location.
+     * @return the number of overlapping pairs found.
+     */
+    public long reportLocationConflicts(ConflictSweeper.ConflictListener listener) {
+        syncIndexes();
+        return new ConflictSweeper().sweep(locationIndex.getLocations(),
+                location -> ConflictSweeper.inStartOrder(locationIndex.getBookings(location).iterator(),
+                        locationIndex.getSeries(location)), listener);
+    }
+
+    /**
+     * Reports every pair of overlapping events that share a participant, i.e. participants who are
+     * booked into two events at once. Each participant's events are swept in the order the calendar index
+     * keeps them by participant, merged with the occurrences of their series as they are reached.
+     *
+     * @param listener the listener notified of each overlapping pair, keyed by participant name.
+     * @return the number of overlapping pairs found.
+     */
+    public long reportParticipantConflicts(ConflictSweeper.ConflictListener listener) {
+        syncIndexes();
+        return new ConflictSweeper().sweep(calendarIndex.getParticipantNames(),
+                name -> ConflictSweeper.inStartOrder(calendarIndex.iterateEventsOf(name),
+                        calendarIndex.getSeriesOf(name)), listener);
+    }
+
+    /**
+     * Finds the earliest time from {@code notBefore} at which every participant in the group is available
+     * for the whole duration and the location is free under {@link #checkCollision} semantics.
+     * The group's common availability and the location's bookings are combined in one sweep
+     * instead of testing candidate times one at a time.
+     *
+     * @param group     the participants who must attend.
+     * @param location  the location the event is held at.
+     * @param duration  the length of the event.
+     * @param notBefore the earliest acceptable start time.
+     * @return the earliest start time, or null if there is no such time.
+     */
+    public LocalDateTime findEarliestSlot(List<Participant> group, String location, Duration duration,
+                                          LocalDateTime notBefore) {
+        assert group != null && !group.isEmpty() : "Participant group cannot be empty";
+        assert location != null : "Location cannot be null";
+        syncIndexes();
+        List<Event> bookings = locationIndex.getBookings(location);
+        List<Event> locationSeries = locationIndex.getSeries(location);
+        if (!locationSeries.isEmpty()) {
+            // The sweep needs concrete bookings, so list the remaining occurrences of this location's series
+            ArrayList<Event> merged = new ArrayList<>(bookings);
+            for (Event recurring : locationSeries) {
+                merged.addAll(recurring.getOccurrencesOverlapping(notBefore, recurring.getSeriesEndTime()));
+            }
+            merged.sort(Comparator.comparing(Event::getStartTime));
+            bookings = merged;
+        }
+        return new SlotFinder().findEarliestStart(new CommonAvailability(group), bookings, duration, notBefore);
+    }
+
+    /**
+     * Makes the event at the given index repeat. The first occurrence keeps the event's current times.
+     * The rule is rejected if any occurrence collides with another event at the same location or if a
+     * participant is not available for every occurrence; otherwise each participant's availability is
+     * consumed for the new occurrences and both files are saved.
+     *
+     * @param index              the index of the event.
+     * @param recurrence         the recurrence rule.
+     * @param participantManager the participant manager used to save participants' availability.
+     * @throws SyncException if the event already repeats, the rule causes a collision or a participant is busy.
+     */
+    public void setRecurrence(int index, Recurrence recurrence, ParticipantManager participantManager)
+            throws SyncException {
+        markModified();
+        Event event = getEvent(index);
+        if (event.isRecurring()) {
+            throw new SyncException("This event already repeats.");
+        }
+
+        event.setRecurrence(recurrence);
+        ArrayList<Event> collisions = checkSeriesCollision(event);
+        if (!collisions.isEmpty()) {
+            event.setRecurrence(null);
+            ui.showCollisionWarning(event, collisions);
+            throw new SyncException("The repeating event would collide with other events at " + event.getLocation());
+        }
+
+        for (Participant participant : event.getParticipants()) {
+            for (int i = 1; i < recurrence.getCount(); i++) {
+                Event occurrence = event.getOccurrence(i);
+                if (!participant.isAvailableDuring(occurrence.getStartTime(), occurrence.getEndTime())) {
+                    event.setRecurrence(null);
+                    throw new SyncException(SyncException.participantUnavailableDuringEditError(
+                            participant.getName(), occurrence.getStartTime(), occurrence.getEndTime()));
+                }
+            }
+        }
+        for (Participant participant : event.getParticipants()) {
+            for (int i = 1; i < recurrence.getCount(); i++) {
+                Event occurrence = event.getOccurrence(i);
+                participant.assignEventTime(occurrence.getStartTime(), occurrence.getEndTime());
+            }
+        }
+
+        reindexEvent(event);
+        storage.saveEvents(events, Priority.getAllPriorities());
+        participantManager.save();
+    }
+
+    /**
+     * Returns the events at the same location that collide with any occurrence of the given event.
+     * One-off bookings are tested against the rule arithmetically, so the event's occurrences are never
+     * listed; only another recurring event at the same location is compared occurrence by occurrence.
+     *
+     * @param event the event to check, which may repeat.
+     * @return the colliding events, excluding the event itself.
+     */
+    public ArrayList<Event> checkSeriesCollision(Event event) {
+        syncIndexes();
+        ArrayList<Event> collisions = new ArrayList<>();
+        for (Event booking : locationIndex.getBookings(event.getLocation())) {
+            if (booking != event && event.overlaps(booking.getStartTime(), booking.getEndTime())) {
+                collisions.add(booking);
+            }
+        }
+        for (Event other : locationIndex.getSeries(event.getLocation())) {
+            if (other == event) {
+                continue;
+            }
+            // Walk the shorter series and test each occurrence against the other rule
+            Event shorter = other.getOccurrenceCount() <= event.getOccurrenceCount() ? other : event;
+            Event longer = shorter == other ? event : other;
+            if (!shorter.allOccurrencesMatch((start, end) -> !longer.overlaps(start, end))) {
+                collisions.add(other);
+            }
+        }
+        return collisions;
+    }
+
+    /**
+     * Adds many participants to the event at the given index, writing the user file and the event file
+     * once each instead of once per participant.
+     *
+     * @param index              the index of the event.
+     * @param names              the names of the participants to add.
+     * @param participantManager the participant manager that resolves and assigns the participants.
+     * @return the participants who were added and the names that were rejected, with reasons.
+     * @throws SyncException if the index is invalid or the files cannot be saved.
+     */
+    public BulkAssignResult addParticipants(int index, List<String> names, ParticipantManager participantManager)
+            throws SyncException {
+        markModified();
+        Event event = getEvent(index);
+        BulkAssignResult result = participantManager.assignParticipants(event, names);
+        if (!result.getAssigned().isEmpty()) {
+            reindexEvent(event);
+            storage.saveEvents(events, Priority.getAllPriorities());
+        }
+        return result;
+    }
+
+    /**
+     * Returns every known location with no event overlapping the given window.
+     * A location is known while at least one event is held there.
+     *
+     * @param start the start of the window.
+     * @param end   the end of the window.
+     * @return the free locations in alphabetical order.
+     */
+    public ArrayList<String> getFreeLocations(LocalDateTime start, LocalDateTime end) {
+        syncIndexes();
+        return locationIndex.findFreeLocations(start, end);
+    }
+
+    /**
+     * Schedules a batch of pending events in priority order, highest first, keeping the given order among
+     * events of equal priority. Each event takes the earliest time at which its participants and one of its
+     * candidate locations are free, after the events placed before it. Events that cannot be placed are
+     * skipped and reported in the result.
+     * All placements are saved together with one write of the event file and one of the user file.
+     * If saving fails, every placement is undone and the exception is rethrown.
+     *
+     * @param pendingEvents      the events to place.
+     * @param participantManager the participant manager used to look up participants and save their availability.
+     * @param notBefore          the earliest acceptable start time.
+     * @return the placed events and the pending events that could not be placed.
+     * @throws SyncException if the placements cannot be saved.
+     */
+    public ScheduleResult scheduleBatch(List<PendingEvent> pendingEvents, ParticipantManager participantManager,
+                                        LocalDateTime notBefore) throws SyncException {
+        markModified();
+        assert pendingEvents != null : "Pending events cannot be null";
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("Scheduling a batch of " + pendingEvents.size() + " events");
+        }
+        syncIndexes();
+
+        ArrayList<PendingEvent> ordered = new ArrayList<>(pendingEvents);
+        ordered.sort(Comparator.comparingInt((PendingEvent pending) -> Priority.getValue(pending.getPriority()))
+                .reversed());
+
+        ScheduleResult result = new ScheduleResult();
+        IdentityHashMap<Participant, List<AvailabilitySlot>> originalAvailability = new IdentityHashMap<>();
+        int firstAdded = events.size();
+
+        for (PendingEvent pending : ordered) {
+            ArrayList<Participant> group = resolveParticipants(pending, participantManager);
+            Event event = group == null ? null : placeEvent(pending, group, notBefore);
+            if (event == null) {
+                result.addUnscheduled(pending);
+                continue;
+            }
+
+            for (Participant participant : group) {
+                originalAvailability.putIfAbsent(participant, participant.getAvailableTimes());
+                participant.assignEventTime(event.getStartTime(), event.getEndTime());
+                event.addParticipant(participant);
+            }
+            events.add(event);
+            addToIndexes(event);
+            Priority.addPriority(pending.getPriority());
+            result.addScheduled(event);
+        }
+
+        if (result.getScheduled().isEmpty()) {
+            return result;
+        }
+
+        try {
+            storage.saveEvents(events, Priority.getAllPriorities());
+            participantManager.save();
+        } catch (SyncException e) {
+            for (int i = events.size() - 1; i >= firstAdded; i--) {
+                Event added = events.remove(i);
+                removeFromIndexes(added);
+                Priority.removePriority(i);
+            }
+            originalAvailability.forEach(Participant::setAvailableTimes);
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Looks up the participants of a pending event, ignoring repeated names.
+     *
+     * @param pending            the pending event.
+     * @param participantManager the participant manager used to look up participants.
+     * @return the participants, or null if any of them does not exist.
+     * @throws SyncException if the participants cannot be read.
+     */
+    private ArrayList<Participant> resolveParticipants(PendingEvent pending, ParticipantManager participantManager)
+            throws SyncException {
+        ArrayList<Participant> group = new ArrayList<>();
+        for (String name : pending.getParticipantNames()) {
+            Participant participant = participantManager.getParticipant(name);
+            if (participant == null) {
+                return null;
+            }
+            if (!group.contains(participant)) {
+                group.add(participant);
+            }
+        }
+        return group.isEmpty() ? null : group;
+    }
+
+    /**
+     * Creates an event for a pending event at the earliest time any of its candidate locations allows.
+     * Earlier locations in the candidate list win ties.
+     *
+     * @param pending   the pending event.
+     * @param group     the participants who must attend.
+     * @param notBefore the earliest acceptable start time.
+     * @return the new event, not yet added, or null if no location has a suitable time.
+     */
+    private Event placeEvent(PendingEvent pending, List<Participant> group, LocalDateTime notBefore) {
+        LocalDateTime bestStart = null;
+        String bestLocation = null;
+        for (String location : pending.getCandidateLocations()) {
+            LocalDateTime start = findEarliestSlot(group, location, pending.getDuration(), notBefore);
+            if (start != null && (bestStart == null || start.isBefore(bestStart))) {
+                bestStart = start;
+                bestLocation = location;
+            }
+        }
+        if (bestStart == null) {
+            return null;
+        }
+
+        LocalDateTime bestEnd = bestStart.plus(pending.getDuration());
+        for (Participant participant : group) {
+            if (!participant.isAvailableDuring(bestStart, bestEnd)) {
+                return null;
+            }
+        }
+        return new Event(pending.getName(), bestStart, bestEnd, bestLocation, pending.getDescription());
+    }
+
+    /**
+     * Brings the indexes up to date with changes made without going through this manager. The indexes are
+     * rebuilt if events were added to or removed from the list directly; otherwise only the events whose
+     * times, location, recurrence or participants were changed through their setters are filed again.
+     */
+    private void syncIndexes() {
+        if (calendarIndex.size() != events.size() || locationIndex.size() != events.size()) {
+            markModified();
+            rebuildIndexes();
+            return;
+        }
+        if (changedEvents.isEmpty()) {
+            return;
+        }
+        markModified();
+        for (Event event : changedEvents) {
+            // An event taken out of the list directly may still report changes until the next rebuild
+            if (locationIndex.contains(event)) {
+                calendarIndex.remove(event);
+                calendarIndex.add(event);
+                locationIndex.remove(event);
+                locationIndex.add(event);
+            }
+        }
+        changedEvents.clear();
+    }
+
+    /**
+     * Sets the archive that events which have ended are moved to.
+     *
+     * @param archive the archive of the event file, or null if events cannot be archived.
+     */
+    public void setArchive(Archive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Returns the archive that events which have ended are moved to.
+     *
+     * @return the archive, or null if events cannot be archived.
+     */
+    public Archive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Moves every event whose last occurrence ended before the horizon to the archive, together with its
+     * priority, and saves the remaining events. The participants' availability is left as it is, since
+     * archived events did take place. The ended events are appended to the archive before the event file is
+     * saved, so a crash between the two writes leaves them in both files, never in neither. The run stays
+     * pending in the archive until the event file is written, and archiving again while it is pending skips
+     * the events it already wrote.
+     *
+     * @param horizon the time before which events must have ended to be archived.
+     * @return the number of events archived.
+     * @throws SyncException if there is no archive, or the archive or the event file cannot be written.
+     */
+    public int archiveEndedBefore(LocalDateTime horizon) throws SyncException {
+        assert horizon != null : "Horizon cannot be null";
+        if (archive == null) {
+            throw new SyncException("Archiving is not available.");
+        }
+        ArrayList<String> priorities = Priority.getAllPriorities();
+        ArrayList<Event> kept = new ArrayList<>();
+        ArrayList<String> keptPriorities = new ArrayList<>();
+        ArrayList<Event> ended = new ArrayList<>();
+        ArrayList<String> endedPriorities = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            String priority = i < priorities.size() ? priorities.get(i) : Priority.LOW;
+            if (event.getSeriesEndTime().isBefore(horizon)) {
+                ended.add(event);
+                endedPriorities.add(priority);
+            } else {
+                kept.add(event);
+                keptPriorities.add(priority);
+            }
+        }
+        if (ended.isEmpty()) {
+            return 0;
+        }
+
+        archive.append(ended, endedPriorities);
+        markModified();
+        // The list is kept so that anyone holding it sees the remaining events
+        for (Event event : ended) {
+            event.watchChanges(null);
+        }
+        events.clear();
+        events.addAll(kept);
+        Priority.loadFromStorage(keptPriorities);
+        rebuildIndexes();
+        clearPageQuery();
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("Archived " + ended.size() + " events ending before " + horizon);
+        }
+        storage.saveEvents(events, Priority.getAllPriorities());
+        if (!storage.hasUnsavedChanges()) {
+            archive.complete();
+        }
+        return ended.size();
     }
 
     /**
@@ -406,6 +1288,7 @@ public class EventManager {
      * @throws SyncException if there is an error saving the events.
      */
     public void save() throws SyncException {
+        markModified();
         storage.saveEvents(events, Priority.getAllPriorities());
     }
 }
@@ -0,0 +1,35 @@
+package event;
+
+/**
+ * The orders in which a page of events can be listed, matching the sort types accepted by
+ * {@code list} and {@code listall}.
+ */
+public enum EventOrder {
+    /** The order the events were added in. */
+    NONE,
+    /** Highest priority first, then earliest end time, as in {@link sort.SortByPriority}. */
+    PRIORITY,
+    /** Earliest start time first. */
+    START,
+    /** Earliest end time first. */
+    END;
+
+    /**
+     * Returns the order named by a sort type.
+     *
+     * @param sortType the sort type, such as "priority", "start" or "end".
+     * @return the matching order, or null if the sort type is not recognised.
+     */
+    public static EventOrder fromSortType(String sortType) {
+        switch (sortType.trim().toLowerCase()) {
+        case "priority":
+            return PRIORITY;
+        case "start":
+            return START;
+        case "end":
+            return END;
+        default:
+            return null;
+        }
+    }
+}
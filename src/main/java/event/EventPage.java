@@ -0,0 +1,84 @@
+package event;
+
+import java.util.ArrayList;
+
+/**
+ * One page of a listing: the events shown on it together with their priorities, and how many
+ * events matched the listing in total.
+ */
+public class EventPage {
+    private final ArrayList<Event> events;
+    private final ArrayList<String> priorities;
+    private final PageRequest request;
+    private final int total;
+
+    /**
+     * Constructs a page.
+     *
+     * @param events     the events on the page, in display order.
+     * @param priorities the priority of each event on the page.
+     * @param request    the page that was requested.
+     * @param total      the number of events that matched the listing.
+     */
+    public EventPage(ArrayList<Event> events, ArrayList<String> priorities, PageRequest request, int total) {
+        assert events.size() == priorities.size() : "Every event on a page needs a priority";
+        this.events = events;
+        this.priorities = priorities;
+        this.request = request;
+        this.total = total;
+    }
+
+    /**
+     * Returns a listing shown in full, as a single page.
+     *
+     * @param events     the events in display order.
+     * @param priorities the priority of each event.
+     * @return a page holding every event.
+     */
+    public static EventPage of(ArrayList<Event> events, ArrayList<String> priorities) {
+        return new EventPage(events, priorities, new PageRequest(1, Math.max(1, events.size())), events.size());
+    }
+
+    public ArrayList<Event> getEvents() {
+        return events;
+    }
+
+    public ArrayList<String> getPriorities() {
+        return priorities;
+    }
+
+    public int getPage() {
+        return request.getPage();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of the first event on the page within the whole listing.
+     *
+     * @return the listing number of the first event, starting from 1.
+     */
+    public long getFirstNumber() {
+        return request.getOffset() + 1;
+    }
+
+    /**
+     * Returns the number of pages the listing spans.
+     *
+     * @return the page count, at least 1.
+     */
+    public int getPageCount() {
+        return (int) Math.max(1, (total + (long) request.getSize() - 1) / request.getSize());
+    }
+
+    /**
+     * Returns whether events remain after this page.
+     *
+     * @return true if a later page has events on it.
+     */
+    public boolean hasMore() {
+        return request.getOffset() + events.size() < total;
+    }
+}
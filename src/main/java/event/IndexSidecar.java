@@ -0,0 +1,210 @@
+package event;
+
+import exception.SyncException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the calendar and location indexes in sidecar files next to the event file, so that a start with
+ * an unchanged event file can read them instead of rebuilding them. Each file records the size and
+ * modification time of the event file and a fingerprint of the events it indexes: their order, times,
+ * locations and recurrence. An index file is only used if all of them still match and it files every event
+ * exactly where it belongs; otherwise the indexes are rebuilt as usual. Events are stored as their positions
+ * in the event file, and the files are memory-mapped when read.
+ */
+public class IndexSidecar {
+    private static final Logger LOGGER = Logger.getLogger(IndexSidecar.class.getName());
+    private static final int MAGIC = 0x45534958;
+    private static final int VERSION = 1;
+    private static final int CALENDAR = 1;
+    private static final int LOCATION = 2;
+
+    private final Path source;
+    private final Path calendarFile;
+    private final Path locationFile;
+
+    /**
+     * Constructs an IndexSidecar for an event file. The index files are named after it, such as
+     * {@code seedu.EventSync.txt.calendar.idx}.
+     *
+     * @param eventFilePath the path of the event file.
+     */
+    public IndexSidecar(String eventFilePath) {
+        this.source = Paths.get(eventFilePath);
+        this.calendarFile = Paths.get(eventFilePath + ".calendar.idx");
+        this.locationFile = Paths.get(eventFilePath + ".location.idx");
+    }
+
+    public Path getCalendarFile() {
+        return calendarFile;
+    }
+
+    public Path getLocationFile() {
+        return locationFile;
+    }
+
+    /**
+     * Fills both indexes from the index files if they are up to date with the event file.
+     *
+     * @param events        the events loaded from the event file, in file order.
+     * @param calendarIndex the calendar index to fill.
+     * @param locationIndex the location index to fill.
+     * @return true if both indexes were read; false if either file is missing, stale or damaged,
+     *         in which case the indexes must be rebuilt.
+     */
+    boolean load(List<Event> events, CalendarIndex calendarIndex, LocationIndex locationIndex) {
+        if (!Files.exists(calendarFile) || !Files.exists(locationFile) || !Files.exists(source)) {
+            return false;
+        }
+        try {
+            long sourceSize = Files.size(source);
+            long sourceModified = Files.getLastModifiedTime(source).toMillis();
+            long fingerprint = fingerprint(events);
+            ByteBuffer calendar = map(calendarFile);
+            if (!hasHeader(calendar, CALENDAR, sourceSize, sourceModified, fingerprint, events.size())
+                    || !calendarIndex.read(calendar, events)) {
+                return false;
+            }
+            ByteBuffer location = map(locationFile);
+            return hasHeader(location, LOCATION, sourceSize, sourceModified, fingerprint, events.size())
+                    && locationIndex.read(location, events);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            LOGGER.warning("Ignoring damaged index files: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes both indexes to the index files, replacing them. The event file must already hold
+     * exactly the given events, in order.
+     *
+     * @param events        the events as saved in the event file.
+     * @param calendarIndex the calendar index built over the events.
+     * @param locationIndex the location index built over the events.
+     * @throws SyncException if either file cannot be written.
+     */
+    void save(List<Event> events, CalendarIndex calendarIndex, LocationIndex locationIndex) throws SyncException {
+        IdentityHashMap<Event, Integer> positions = new IdentityHashMap<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            positions.put(events.get(i), i);
+        }
+        try {
+            long sourceSize = Files.size(source);
+            long sourceModified = Files.getLastModifiedTime(source).toMillis();
+            long fingerprint = fingerprint(events);
+            writeFile(calendarFile, CALENDAR, sourceSize, sourceModified, fingerprint, events.size(),
+                    out -> calendarIndex.write(out, positions));
+            writeFile(locationFile, LOCATION, sourceSize, sourceModified, fingerprint, events.size(),
+                    out -> locationIndex.write(out, positions));
+        } catch (IOException e) {
+            throw new SyncException("Cannot write index files: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the body of one index file.
+     */
+    interface IndexWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static void writeFile(Path file, int kind, long sourceSize, long sourceModified, long fingerprint,
+                                  int eventCount, IndexWriter body) throws IOException {
+        // Written beside the old file and moved over it, so a crash never leaves half an index behind
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(kind);
+            out.writeLong(sourceSize);
+            out.writeLong(sourceModified);
+            out.writeLong(fingerprint);
+            out.writeInt(eventCount);
+            body.write(out);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static boolean hasHeader(ByteBuffer in, int kind, long sourceSize, long sourceModified,
+                                     long fingerprint, int eventCount) {
+        return in.getInt() == MAGIC && in.getInt() == VERSION && in.getInt() == kind
+                && in.getLong() == sourceSize && in.getLong() == sourceModified
+                && in.getLong() == fingerprint && in.getInt() == eventCount;
+    }
+
+    /**
+     * Returns a number that changes whenever the order, times, locations or recurrence of the events change.
+     *
+     * @param events the events in file order.
+     * @return the fingerprint of the events.
+     */
+    static long fingerprint(List<Event> events) {
+        long hash = events.size();
+        for (Event event : events) {
+            hash = hash * 31 + event.getStartTime().hashCode();
+            hash = hash * 31 + event.getEndTime().hashCode();
+            hash = hash * 31 + event.getLocation().hashCode();
+            hash = hash * 31 + (event.isRecurring() ? event.getRecurrence().format().hashCode() : 0);
+        }
+        return hash;
+    }
+
+    /**
+     * Writes a list of events as a count followed by their positions.
+     *
+     * @throws IOException if the list cannot be written or holds an event without a position.
+     */
+    static void writePositions(DataOutputStream out, List<Event> list, IdentityHashMap<Event, Integer> positions)
+            throws IOException {
+        out.writeInt(list.size());
+        for (Event event : list) {
+            Integer position = positions.get(event);
+            if (position == null) {
+                throw new IOException("The index holds an event that is not in the event file");
+            }
+            out.writeInt(position);
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #writePositions}, resolving each position in the event list.
+     *
+     * @throws IllegalArgumentException if a position is outside the event list.
+     */
+    static ArrayList<Event> readPositions(ByteBuffer in, List<Event> events) {
+        int count = in.getInt();
+        if (count < 0 || count > events.size()) {
+            throw new IllegalArgumentException("Invalid count " + count);
+        }
+        ArrayList<Event> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int position = in.getInt();
+            if (position < 0 || position >= events.size()) {
+                throw new IllegalArgumentException("Invalid position " + position);
+            }
+            list.add(events.get(position));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,318 @@
+package event;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes events by location so that room-based lookups only visit the events held at that location.
+ * Each location keeps its one-off bookings ordered by start time, and its recurring events separately
+ * so that they can be checked against a window by arithmetic instead of by listing every occurrence.
+ * The set of known locations is exactly the set of locations that currently have at least one event.
+ */
+public class LocationIndex {
+    private final HashMap<String, ArrayList<Event>> bookings = new HashMap<>();
+    private final HashMap<String, ArrayList<Event>> series = new HashMap<>();
+
+    /**
+     * The location each event was filed under, so an event can still be removed
+     * after its location has been changed in place.
+     */
+    private final IdentityHashMap<Event, String> indexedLocations = new IdentityHashMap<>();
+
+    /**
+     * For each location, the latest end time among its first i + 1 bookings. Computed on first use
+     * and dropped whenever the location's bookings change.
+     */
+    private final HashMap<String, LocalDateTime[]> latestEnds = new HashMap<>();
+
+    /**
+     * Adds an event to the bookings of its location.
+     *
+     * @param event the event to index.
+     */
+    public void add(Event event) {
+        assert event != null : "Event cannot be null";
+        if (indexedLocations.containsKey(event)) {
+            return;
+        }
+        if (event.isRecurring()) {
+            series.computeIfAbsent(event.getLocation(), l -> new ArrayList<>()).add(event);
+            indexedLocations.put(event, event.getLocation());
+            return;
+        }
+
+        ArrayList<Event> locationBookings = bookings.computeIfAbsent(event.getLocation(), l -> new ArrayList<>());
+        int low = 0;
+        int high = locationBookings.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (locationBookings.get(mid).getStartTime().isAfter(event.getStartTime())) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        locationBookings.add(low, event);
+        indexedLocations.put(event, event.getLocation());
+        latestEnds.remove(event.getLocation());
+    }
+
+    /**
+     * Removes an event from the bookings of the location it was filed under.
+     *
+     * @param event the event to remove.
+     */
+    public void remove(Event event) {
+        String location = indexedLocations.remove(event);
+        if (location == null) {
+            return;
+        }
+
+        removeIdentical(series, location, event);
+        if (removeIdentical(bookings, location, event)) {
+            latestEnds.remove(location);
+        }
+    }
+
+    /**
+     * Removes an event from one location's list in the given map, dropping the list once it is empty.
+     *
+     * @param lists    the map holding the list.
+     * @param location the location of the list.
+     * @param event    the event to remove.
+     * @return true if the event was found and removed.
+     */
+    private static boolean removeIdentical(HashMap<String, ArrayList<Event>> lists, String location, Event event) {
+        ArrayList<Event> list = lists.get(location);
+        if (list == null) {
+            return false;
+        }
+        boolean removed = list.removeIf(indexed -> indexed == event);
+        if (list.isEmpty()) {
+            lists.remove(location);
+        }
+        return removed;
+    }
+
+    /**
+     * Clears the index and re-adds every event in the given list.
+     *
+     * @param events the events to index.
+     */
+    public void rebuild(List<Event> events) {
+        bookings.clear();
+        series.clear();
+        indexedLocations.clear();
+        latestEnds.clear();
+        for (Event event : events) {
+            add(event);
+        }
+    }
+
+    /**
+     * Writes the index to an index file as the positions of its events in the event file.
+     *
+     * @param out       the index file.
+     * @param positions the position of every event in the event file.
+     * @throws IOException if the index cannot be written.
+     */
+    void write(DataOutputStream out, IdentityHashMap<Event, Integer> positions) throws IOException {
+        writeLists(out, bookings, positions);
+        writeLists(out, series, positions);
+    }
+
+    private static void writeLists(DataOutputStream out, HashMap<String, ArrayList<Event>> lists,
+                                   IdentityHashMap<Event, Integer> positions) throws IOException {
+        out.writeInt(lists.size());
+        for (Map.Entry<String, ArrayList<Event>> entry : lists.entrySet()) {
+            byte[] location = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(location.length);
+            out.write(location);
+            IndexSidecar.writePositions(out, entry.getValue(), positions);
+        }
+    }
+
+    /**
+     * Replaces the index with one read from an index file written by {@link #write}. Each location's
+     * bookings are read in order, so nothing is sorted.
+     *
+     * @param in     the index file, positioned after its header.
+     * @param events the events in the event file, in order.
+     * @return true if every event was indexed; false if the file does not match the events, such as when an
+     *         event is missing, is filed twice or under another location, in which case the index must be rebuilt.
+     */
+    boolean read(ByteBuffer in, List<Event> events) {
+        bookings.clear();
+        series.clear();
+        indexedLocations.clear();
+        latestEnds.clear();
+        return readLists(in, events, bookings, false)
+                && readLists(in, events, series, true)
+                && size() == events.size();
+    }
+
+    private boolean readLists(ByteBuffer in, List<Event> events, HashMap<String, ArrayList<Event>> lists,
+                              boolean isSeries) {
+        int locationCount = in.getInt();
+        for (int i = 0; i < locationCount; i++) {
+            int length = in.getInt();
+            if (length < 0 || length > in.remaining()) {
+                throw new IllegalArgumentException("Invalid location length " + length);
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            String location = new String(bytes, StandardCharsets.UTF_8);
+            ArrayList<Event> list = IndexSidecar.readPositions(in, events);
+            for (Event event : list) {
+                if (event.isRecurring() != isSeries || !location.equals(event.getLocation())
+                        || indexedLocations.put(event, location) != null) {
+                    return false;
+                }
+            }
+            lists.put(location, list);
+        }
+        return true;
+    }
+
+    /**
+     * Returns every location with at least one event.
+     *
+     * @return the locations, in no particular order.
+     */
+    public Set<String> getLocations() {
+        Set<String> locations = new HashSet<>(bookings.keySet());
+        locations.addAll(series.keySet());
+        return locations;
+    }
+
+    /**
+     * Returns the number of distinct events in the index.
+     *
+     * @return the number of indexed events.
+     */
+    public int size() {
+        return indexedLocations.size();
+    }
+
+    /**
+     * Returns whether the event is in the index.
+     *
+     * @param event the event to look for.
+     * @return true if the event is indexed.
+     */
+    public boolean contains(Event event) {
+        return indexedLocations.containsKey(event);
+    }
+
+    /**
+     * Returns the one-off events held at a location in order of start time.
+     * Recurring events are returned by {@link #getSeries(String)}.
+     *
+     * @param location the location to look up, matched exactly as in {@link EventManager#checkCollision}.
+     * @return a read-only view of the bookings, empty if the location has none.
+     */
+    public List<Event> getBookings(String location) {
+        ArrayList<Event> locationBookings = bookings.get(location);
+        if (locationBookings == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(locationBookings);
+    }
+
+    /**
+     * Returns the recurring events held at a location.
+     *
+     * @param location the location to look up.
+     * @return a read-only view of the recurring events, empty if the location has none.
+     */
+    public List<Event> getSeries(String location) {
+        ArrayList<Event> locationSeries = series.get(location);
+        if (locationSeries == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(locationSeries);
+    }
+
+    /**
+     * Returns every location that has no booking overlapping the window from {@code start} to {@code end},
+     * inclusive, matching {@link EventManager#checkCollision}. Each location is checked with one binary search.
+     *
+     * @param start the start of the window.
+     * @param end   the end of the window.
+     * @return the free locations in alphabetical order.
+     */
+    public ArrayList<String> findFreeLocations(LocalDateTime start, LocalDateTime end) {
+        assert start != null && end != null : "Window bounds cannot be null";
+        ArrayList<String> free = new ArrayList<>();
+        for (Map.Entry<String, ArrayList<Event>> entry : bookings.entrySet()) {
+            if (isFree(entry.getKey(), entry.getValue(), start, end) && isSeriesFree(entry.getKey(), start, end)) {
+                free.add(entry.getKey());
+            }
+        }
+        for (String location : series.keySet()) {
+            if (!bookings.containsKey(location) && isSeriesFree(location, start, end)) {
+                free.add(location);
+            }
+        }
+        Collections.sort(free);
+        return free;
+    }
+
+    /**
+     * Returns whether none of a location's bookings overlaps the window. Only bookings starting no later
+     * than {@code end} can overlap, and among those only the latest end matters.
+     *
+     * @param location         the location.
+     * @param locationBookings the location's bookings in order of start time.
+     * @param start            the start of the window.
+     * @param end              the end of the window.
+     * @return true if the location is free for the whole window.
+     */
+    private boolean isFree(String location, ArrayList<Event> locationBookings, LocalDateTime start,
+                           LocalDateTime end) {
+        int low = 0;
+        int high = locationBookings.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (locationBookings.get(mid).getStartTime().isAfter(end)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        if (low == 0) {
+            return true;
+        }
+        LocalDateTime[] ends = latestEnds.computeIfAbsent(location, l -> computeLatestEnds(locationBookings));
+        return ends[low - 1].isBefore(start);
+    }
+
+    private boolean isSeriesFree(String location, LocalDateTime start, LocalDateTime end) {
+        for (Event recurring : getSeries(location)) {
+            if (recurring.overlaps(start, end)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDateTime[] computeLatestEnds(ArrayList<Event> locationBookings) {
+        LocalDateTime[] ends = new LocalDateTime[locationBookings.size()];
+        for (int i = 0; i < ends.length; i++) {
+            LocalDateTime end = locationBookings.get(i).getEndTime();
+            ends[i] = i > 0 && ends[i - 1].isAfter(end) ? ends[i - 1] : end;
+        }
+        return ends;
+    }
+}
@@ -0,0 +1,54 @@
+package event;
+
+/**
+ * Identifies one page of a listing by its page number and the number of events per page.
+ */
+public class PageRequest {
+    public static final int DEFAULT_SIZE = 20;
+
+    private final int page;
+    private final int size;
+
+    /**
+     * Constructs a request for the given page.
+     *
+     * @param page the page number, starting from 1.
+     * @param size the number of events per page.
+     */
+    public PageRequest(int page, int size) {
+        assert page >= 1 && size >= 1 : "Page and size must be positive";
+        this.page = page;
+        this.size = size;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of matching events that come before this page.
+     *
+     * @return the position of the first event on the page, starting from 0.
+     */
+    public long getOffset() {
+        return (long) (page - 1) * size;
+    }
+
+    /**
+     * Returns the request for the page after this one.
+     *
+     * @return the next page with the same size.
+     */
+    public PageRequest next() {
+        return new PageRequest(page + 1, size);
+    }
+
+    @Override
+    public String toString() {
+        return "page " + page + " size " + size;
+    }
+}
@@ -0,0 +1,62 @@
+package event;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Represents an event that still needs a time and a location. The scheduler picks the earliest time
+ * at which all participants and one of the candidate locations are free.
+ */
+public class PendingEvent {
+    private final String name;
+    private final Duration duration;
+    private final List<String> candidateLocations;
+    private final String description;
+    private final List<String> participantNames;
+    private final String priority;
+
+    /**
+     * Constructs a PendingEvent.
+     *
+     * @param name               the name of the event.
+     * @param duration           the length of the event.
+     * @param candidateLocations the locations the event may be held at, in order of preference.
+     * @param description        the description of the event.
+     * @param participantNames   the names of the participants who must attend.
+     * @param priority           the priority of the event.
+     */
+    public PendingEvent(String name, Duration duration, List<String> candidateLocations, String description,
+                        List<String> participantNames, String priority) {
+        assert !candidateLocations.isEmpty() : "At least one location is required";
+        this.name = name;
+        this.duration = duration;
+        this.candidateLocations = candidateLocations;
+        this.description = description;
+        this.participantNames = participantNames;
+        this.priority = priority;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public List<String> getCandidateLocations() {
+        return candidateLocations;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<String> getParticipantNames() {
+        return participantNames;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+}
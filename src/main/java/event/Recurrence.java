@@ -0,0 +1,143 @@
+package event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import exception.SyncException;
+
+/**
+ * Describes how an event repeats: every {@code interval} days or weeks, for {@code count} occurrences
+ * including the first one. Occurrence times are computed arithmetically from the first occurrence,
+ * so a series is stored as one event and only the occurrences a query needs are ever created.
+ */
+public class Recurrence {
+
+    /**
+     * The unit an event repeats in.
+     */
+    public enum Frequency { DAILY, WEEKLY }
+
+    private final Frequency frequency;
+    private final int interval;
+    private final int count;
+
+    /**
+     * Constructs a Recurrence.
+     *
+     * @param frequency whether the event repeats daily or weekly.
+     * @param interval  the number of days or weeks between occurrences.
+     * @param count     the total number of occurrences, including the first.
+     */
+    public Recurrence(Frequency frequency, int interval, int count) {
+        assert frequency != null : "Frequency cannot be null";
+        assert interval > 0 && count > 0 : "Interval and count must be positive";
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the time between the starts of consecutive occurrences.
+     *
+     * @return the step between occurrences.
+     */
+    public Duration getStep() {
+        return Duration.ofDays((long) interval * (frequency == Frequency.WEEKLY ? 7 : 1));
+    }
+
+    /**
+     * Returns the start of the given occurrence.
+     *
+     * @param firstStart the start of the first occurrence.
+     * @param occurrence the zero-based occurrence number.
+     * @return the start of that occurrence.
+     */
+    public LocalDateTime getOccurrenceStart(LocalDateTime firstStart, int occurrence) {
+        assert occurrence >= 0 && occurrence < count : "Occurrence out of range";
+        return firstStart.plus(getStep().multipliedBy(occurrence));
+    }
+
+    /**
+     * Returns the range of occurrences of a series that overlap the window from {@code from} to {@code to},
+     * inclusive at both ends like {@link EventManager#checkCollision}. The range is worked out directly from
+     * the step, so the cost does not depend on the number of occurrences.
+     *
+     * @param firstStart the start of the first occurrence.
+     * @param firstEnd   the end of the first occurrence.
+     * @param from       the start of the window.
+     * @param to         the end of the window.
+     * @return the first and last overlapping occurrence numbers, or null if none overlaps.
+     */
+    public int[] findOverlapping(LocalDateTime firstStart, LocalDateTime firstEnd, LocalDateTime from,
+                                 LocalDateTime to) {
+        long step = getStep().toMinutes();
+        long length = ChronoUnit.MINUTES.between(firstStart, firstEnd);
+        // Occurrence k overlaps when firstStart + k * step <= to and firstStart + k * step + length >= from
+        long earliest = ceilDiv(ChronoUnit.MINUTES.between(firstStart, from) - length, step);
+        long latest = Math.floorDiv(ChronoUnit.MINUTES.between(firstStart, to), step);
+        earliest = Math.max(earliest, 0);
+        latest = Math.min(latest, count - 1);
+        if (earliest > latest) {
+            return null;
+        }
+        return new int[]{(int) earliest, (int) latest};
+    }
+
+    /**
+     * Returns the compact form used in the storage file, for example {@code WEEKLY:1:10}.
+     *
+     * @return the stored form of this rule.
+     */
+    public String format() {
+        return frequency + ":" + interval + ":" + count;
+    }
+
+    /**
+     * Parses the stored form produced by {@link #format()}.
+     *
+     * @param text the stored form.
+     * @return the parsed rule.
+     * @throws SyncException if the text is not a valid rule.
+     */
+    public static Recurrence parse(String text) throws SyncException {
+        String[] fields = text.trim().split(":");
+        try {
+            if (fields.length != 3) {
+                throw new IllegalArgumentException(text);
+            }
+            Frequency frequency = Frequency.valueOf(fields[0].trim().toUpperCase());
+            int interval = Integer.parseInt(fields[1].trim());
+            int count = Integer.parseInt(fields[2].trim());
+            if (interval <= 0 || count <= 0) {
+                throw new IllegalArgumentException(text);
+            }
+            return new Recurrence(frequency, interval, count);
+        } catch (IllegalArgumentException e) {
+            throw new SyncException("Invalid recurrence: " + text);
+        }
+    }
+
+    @Override
+    public String toString() {
+        String unit = frequency == Frequency.WEEKLY ? "week" : "day";
+        String every = interval == 1 ? "every " + unit : "every " + interval + " " + unit + "s";
+        return every + ", " + count + " times";
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
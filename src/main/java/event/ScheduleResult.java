@@ -0,0 +1,38 @@
+package event;
+
+import java.util.ArrayList;
+
+/**
+ * Holds the outcome of scheduling a batch of pending events: the events that were placed,
+ * in the order they were placed, and the pending events that could not be placed.
+ */
+public class ScheduleResult {
+    private final ArrayList<Event> scheduled = new ArrayList<>();
+    private final ArrayList<PendingEvent> unscheduled = new ArrayList<>();
+
+    /**
+     * Records an event that was placed.
+     *
+     * @param event the placed event.
+     */
+    public void addScheduled(Event event) {
+        scheduled.add(event);
+    }
+
+    /**
+     * Records a pending event that could not be placed.
+     *
+     * @param pendingEvent the pending event.
+     */
+    public void addUnscheduled(PendingEvent pendingEvent) {
+        unscheduled.add(pendingEvent);
+    }
+
+    public ArrayList<Event> getScheduled() {
+        return scheduled;
+    }
+
+    public ArrayList<PendingEvent> getUnscheduled() {
+        return unscheduled;
+    }
+}
@@ -0,0 +1,61 @@
+package event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+import participant.AvailabilitySlot;
+
+/**
+ * Finds the earliest start time for a new event given the windows in which its participants are free
+ * and the existing bookings of its location. Both inputs are already ordered by time, so they are
+ * walked together in a single merged sweep: a candidate start only ever moves forward, either to the
+ * next free window or to just after the booking that blocks it.
+ */
+public class SlotFinder {
+
+    /**
+     * Returns the earliest start time at which an event of the given length fits inside one of the
+     * windows and does not overlap any booking. Overlap is inclusive of both endpoints, matching
+     * {@link EventManager#checkCollision}, so a placed event starts one minute after a blocking booking ends.
+     *
+     * @param windows   the free windows in order of start time, such as those from
+     *                  {@link participant.CommonAvailability}.
+     * @param bookings  the existing events at the location in order of start time.
+     * @param duration  the length of the event to place.
+     * @param notBefore the earliest acceptable start time.
+     * @return the earliest valid start time, or null if no window can hold the event.
+     */
+    public LocalDateTime findEarliestStart(Iterator<AvailabilitySlot> windows, List<Event> bookings,
+                                           Duration duration, LocalDateTime notBefore) {
+        assert duration != null && notBefore != null : "Duration and lower bound cannot be null";
+        int nextBooking = 0;
+        LocalDateTime blockedUntil = null;
+
+        while (windows.hasNext()) {
+            AvailabilitySlot window = windows.next();
+            LocalDateTime windowEnd = window.getEndTime();
+            LocalDateTime candidate = window.getStartTime().isBefore(notBefore) ? notBefore : window.getStartTime();
+
+            while (!candidate.plus(duration).isAfter(windowEnd)) {
+                LocalDateTime candidateEnd = candidate.plus(duration);
+                // Fold in every booking that starts before the candidate ends; only the latest end matters
+                while (nextBooking < bookings.size()
+                        && !bookings.get(nextBooking).getStartTime().isAfter(candidateEnd)) {
+                    LocalDateTime end = bookings.get(nextBooking).getEndTime();
+                    if (blockedUntil == null || end.isAfter(blockedUntil)) {
+                        blockedUntil = end;
+                    }
+                    nextBooking++;
+                }
+
+                if (blockedUntil == null || blockedUntil.isBefore(candidate)) {
+                    return candidate;
+                }
+                candidate = blockedUntil.plusMinutes(1);
+            }
+        }
+        return null;
+    }
+}
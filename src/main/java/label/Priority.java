@@ -5,7 +5,6 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.logging.Logger;
 
-import command.LoginCommand;
 import ui.UI;
 
 /**
@@ -40,7 +39,7 @@ public class Priority {
      */
     private static final UI ui = new UI();
 
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(Priority.class.getName());
 
 
     /**
@@ -113,7 +112,7 @@ public class Priority {
      */
     public static void addPriority(String priority) {
         assert priority != null : "Priority cannot be null";
-        LOGGER.info("Attempting adding priority");
+        LOGGER.finest("Attempting adding priority");
         priorityList.add(priority);
     }
 
@@ -0,0 +1,158 @@
+package logger;
+
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler that hands log records to a background thread instead of writing them itself.
+ * Records are kept in a fixed-size ring, so logging never waits on the disk and never grows memory:
+ * when the ring is full the new record is dropped and counted, and the writer reports the number
+ * dropped once it catches up. The records are written by the target handler, in the order they arrived.
+ */
+public class AsyncLogHandler extends Handler {
+    private final Handler target;
+    private final LogRecord[] ring;
+    private final Object lock = new Object();
+    private final Thread writer;
+    private int head;
+    private int size;
+    private long dropped;
+    private boolean isWriting;
+    private boolean isClosed;
+
+    /**
+     * Constructs an AsyncLogHandler and starts its writer thread.
+     *
+     * @param target   the handler that writes the records.
+     * @param capacity the most records that can wait to be written.
+     */
+    public AsyncLogHandler(Handler target, int capacity) {
+        assert target != null : "Target handler cannot be null";
+        assert capacity > 0 : "Capacity must be positive";
+        this.target = target;
+        this.ring = new LogRecord[capacity];
+        this.writer = new Thread(this::drain, "eventsync-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a record for the writer thread, or drops it if the ring is full.
+     * The logger name stands in for the source class, so the caller is never looked up with a stack walk,
+     * which would find the writer thread rather than the caller once the record is written.
+     *
+     * @param record the record to write.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || !isLoggable(record)) {
+            return;
+        }
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+        synchronized (lock) {
+            if (isClosed) {
+                return;
+            }
+            if (size == ring.length) {
+                dropped++;
+                return;
+            }
+            ring[(head + size) % ring.length] = record;
+            size++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every queued record has been written, then flushes the target.
+     */
+    @Override
+    public void flush() {
+        synchronized (lock) {
+            while ((size > 0 || isWriting) && writer.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        target.flush();
+    }
+
+    /**
+     * Writes the queued records, stops the writer thread and closes the target.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        target.close();
+    }
+
+    /**
+     * Returns the number of records dropped because the ring was full.
+     *
+     * @return the number of dropped records.
+     */
+    public long getDropped() {
+        synchronized (lock) {
+            return dropped;
+        }
+    }
+
+    private void drain() {
+        long reported = 0;
+        while (true) {
+            LogRecord record;
+            long missed;
+            synchronized (lock) {
+                while (size == 0 && !isClosed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        // Only close() stops the writer, so that no queued record is lost
+                    }
+                }
+                if (size == 0) {
+                    lock.notifyAll();
+                    return;
+                }
+                record = ring[head];
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                missed = dropped - reported;
+                reported = dropped;
+                isWriting = true;
+            }
+            try {
+                if (missed > 0) {
+                    target.publish(new LogRecord(Level.WARNING, "Dropped " + missed + " log records"));
+                }
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to write a log record", e, ErrorManager.WRITE_FAILURE);
+            } finally {
+                synchronized (lock) {
+                    isWriting = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package logger;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -10,10 +14,24 @@ import java.util.logging.SimpleFormatter;
 
 /**
  * This class sets up and provides a logger for event synchronization operations.
- * The logger writes log messages to both the console and a log file.
- * It supports various logging levels, with different output for console and file handlers.
+ * Log messages go to a size-capped, rotating log file through an {@link AsyncLogHandler}, so the
+ * command loop never waits on the disk, and warnings are also shown on the console.
+ * Every class logs through a logger named after itself, so the level can be set per category, which is
+ * the package of the class, such as {@code storage} or {@code sort}.
+ *
+ * <p>The setup is read from system properties:
+ * {@code eventsync.log.level} (default {@code INFO}),
+ * {@code eventsync.log.levels} (per category, such as {@code storage=FINE,sort=OFF}),
+ * {@code eventsync.log.file} (default {@code app.log}),
+ * {@code eventsync.log.limit} (bytes per file, default 1 MiB),
+ * {@code eventsync.log.count} (files kept, default 3) and
+ * {@code eventsync.log.buffer} (records waiting to be written, default 8192).
  */
 public class EventSyncLogger {
+    public static final String DEFAULT_FILE = "app.log";
+    public static final int DEFAULT_LIMIT = 1024 * 1024;
+    public static final int DEFAULT_COUNT = 3;
+    public static final int DEFAULT_BUFFER = 8192;
 
     /**
      * The logger instance used for logging event synchronization activities.
@@ -21,33 +39,105 @@ public class EventSyncLogger {
     private static final Logger LOGGER = Logger.getLogger(EventSyncLogger.class.getName());
 
     /**
-     * Sets up the logger configuration by initializing the console and file handlers.
-     * The console handler logs messages at the INFO level, and the file handler logs all levels.
-     * The log messages are formatted using a simple formatter.
+     * The loggers whose level was set, kept so that the log manager does not forget them.
      */
-    public static void setupLogger() {
+    private static final HashMap<String, Logger> CATEGORIES = new HashMap<>();
+
+    private static AsyncLogHandler fileHandler;
+
+    /**
+     * Sets up the logger configuration from the system properties described above.
+     * Any earlier setup is replaced. If the log file cannot be opened, messages only go to the console.
+     */
+    public static synchronized void setupLogger() {
         LogManager.getLogManager().reset();
+        CATEGORIES.clear();
+        fileHandler = null;
 
-        LOGGER.setLevel(Level.ALL);
+        Logger root = Logger.getLogger("");
+        root.setLevel(parseLevel(System.getProperty("eventsync.log.level"), Level.INFO));
 
         // Console handler configuration
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(Level.INFO);
-        LOGGER.addHandler(consoleHandler);
+        consoleHandler.setLevel(Level.WARNING);
+        root.addHandler(consoleHandler);
 
         try {
             // File handler configuration
-            FileHandler fileHandler = new FileHandler("app.log");
-            fileHandler.setFormatter(new SimpleFormatter());
-            fileHandler.setLevel(Level.ALL);
-            LOGGER.addHandler(fileHandler);
-        } catch (IOException e) {
+            String file = System.getProperty("eventsync.log.file", DEFAULT_FILE);
+            File parent = new File(file).getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                throw new IOException("Cannot create " + parent);
+            }
+            FileHandler rotatingHandler = new FileHandler(file,
+                    Integer.getInteger("eventsync.log.limit", DEFAULT_LIMIT),
+                    Integer.getInteger("eventsync.log.count", DEFAULT_COUNT), true);
+            rotatingHandler.setFormatter(new SimpleFormatter());
+            rotatingHandler.setLevel(Level.ALL);
+            fileHandler = new AsyncLogHandler(rotatingHandler,
+                    Integer.getInteger("eventsync.log.buffer", DEFAULT_BUFFER));
+            root.addHandler(fileHandler);
+        } catch (IOException | IllegalArgumentException e) {
             LOGGER.log(Level.SEVERE, "Error initializing file handler", e);
         }
 
+        String levels = System.getProperty("eventsync.log.levels", "");
+        for (String entry : levels.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length == 2 && !parts[0].isBlank()) {
+                setCategoryLevel(parts[0].trim(), parseLevel(parts[1], null));
+            } else if (!entry.isBlank()) {
+                LOGGER.warning("Ignoring log level setting: " + entry);
+            }
+        }
+
         LOGGER.info("Logger initialized successfully");
     }
 
+    /**
+     * Sets the level of a category of loggers, such as a package name or a full class name.
+     *
+     * @param category the logger name the level applies to, together with every logger below it.
+     * @param level    the lowest level logged, or null to use the level of the parent category.
+     */
+    public static synchronized void setCategoryLevel(String category, Level level) {
+        Logger logger = CATEGORIES.computeIfAbsent(category, Logger::getLogger);
+        logger.setLevel(level);
+    }
+
+    /**
+     * Waits until every message logged so far has been written to the log file.
+     */
+    public static synchronized void flush() {
+        if (fileHandler != null) {
+            fileHandler.flush();
+        }
+    }
+
+    /**
+     * Writes the remaining messages and closes the log file.
+     */
+    public static synchronized void close() {
+        if (fileHandler != null) {
+            Handler handler = fileHandler;
+            fileHandler = null;
+            Logger.getLogger("").removeHandler(handler);
+            handler.close();
+        }
+    }
+
+    private static Level parseLevel(String name, Level fallback) {
+        if (name == null || name.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Level.parse(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Unknown log level: " + name);
+            return fallback;
+        }
+    }
+
     /**
      * Returns the logger instance for use in other parts of the application.
      *
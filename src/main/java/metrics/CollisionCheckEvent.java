@@ -0,0 +1,29 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event covering one search for overlapping events.
+ */
+@Name("eventsync.CollisionCheck")
+@Label("Collision Check")
+@Category({"EventSync", "Index"})
+@Description("A search for events that overlap in time and place")
+public class CollisionCheckEvent extends Event {
+    @Label("Kind")
+    @Description("scan for a single booking, merge for many candidates, or sweep for every pair")
+    public String kind;
+
+    @Label("Events Checked")
+    public long events;
+
+    @Label("Candidates")
+    public long candidates;
+
+    @Label("Collisions")
+    public long collisions;
+}
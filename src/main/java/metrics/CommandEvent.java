@@ -0,0 +1,24 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event covering one command, from parsing it to flushing its output.
+ * Like the other EventSync events it costs almost nothing unless a recording is running,
+ * for example one started with {@code -XX:StartFlightRecording}.
+ */
+@Name("eventsync.Command")
+@Label("Command")
+@Category({"EventSync", "Commands"})
+@Description("One command run by EventSync, from parsing it to flushing its output")
+public class CommandEvent extends Event {
+    @Label("Command Type")
+    public String command;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,109 @@
+package metrics;
+
+/**
+ * Counts latencies in a fixed number of log-linear buckets, in the style of an HDR histogram.
+ * Values below 64 ns get a bucket each; above that every power of two is split into 32 buckets, so any
+ * recorded value is reported to within about 3% no matter how large it is. The memory used never grows:
+ * values beyond {@link #MAX_TRACKABLE_NANOS} (about 18 minutes) are counted in the last bucket.
+ * The exact minimum, maximum and total are kept alongside the buckets.
+ */
+public class LatencyHistogram {
+    public static final long MAX_TRACKABLE_NANOS = (1L << 40) - 1;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(Math.min(value, MAX_TRACKABLE_NANOS))]++;
+        count++;
+        total += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Returns the latency below which the given share of recorded values fall. The answer is the upper
+     * edge of the bucket holding that value, capped at the largest value recorded.
+     *
+     * @param percentile the percentile, from 0 to 100.
+     * @return the latency in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile must be between 0 and 100";
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the bucket a value falls into.
+     *
+     * @param value a value between 0 and {@link #MAX_TRACKABLE_NANOS}.
+     * @return the index of its bucket.
+     */
+    private static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        // The top SUB_BUCKET_BITS + 1 bits pick the bucket within the value's power of two
+        return (int) (SUB_BUCKETS * shift + (value >>> shift));
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     *
+     * @param index the index of the bucket.
+     * @return the upper edge of the bucket.
+     */
+    private static long highestValueIn(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = index - (long) SUB_BUCKETS * shift;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,277 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects where the application spends its time: a count, failure count and latency histogram for
+ * every command type, and the same for every load and save of the data files together with the
+ * bytes and records read or written. Memory is fixed by the number of command types, since each
+ * histogram has a fixed size. One shared instance is fed by {@code EventSync} and the storage classes.
+ */
+public class Metrics {
+    /**
+     * The operations on the data files that are timed.
+     */
+    public enum Io { EVENT_LOAD, EVENT_SAVE, USER_LOAD, USER_SAVE }
+
+    /**
+     * The phases of starting up. {@code READY} is the wall-clock time from loading the data files to the
+     * welcome prompt; the others add up the time spent in each phase by every loading thread.
+     * {@code SNAPSHOT_LOAD} stands in for reading and parsing the data files when the model is read from a snapshot.
+     */
+    public enum Phase { SNAPSHOT_LOAD, FILE_OPEN, PARSE, PARTICIPANT_RESOLUTION, INDEX_BUILD, READY }
+
+    /**
+     * The counters kept for one command type or one kind of file operation.
+     */
+    public static class Timing {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long failures;
+        private long bytes;
+        private long records;
+
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        public long getCount() {
+            return latencies.getCount();
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+    }
+
+    private static final Metrics SHARED = new Metrics();
+
+    private final TreeMap<String, Timing> commands = new TreeMap<>();
+    private final TreeMap<Io, Timing> io = new TreeMap<>();
+    private final TreeMap<Phase, Long> phases = new TreeMap<>();
+
+    /**
+     * Returns the instance shared by the whole application.
+     *
+     * @return the shared metrics.
+     */
+    public static Metrics getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Records one run of a command.
+     *
+     * @param type   the kind of command, such as {@code AddEventCommand}.
+     * @param nanos  how long the command took.
+     * @param failed whether the command ended with an error.
+     */
+    public synchronized void recordCommand(String type, long nanos, boolean failed) {
+        Timing timing = commands.computeIfAbsent(type, t -> new Timing());
+        timing.latencies.record(nanos);
+        if (failed) {
+            timing.failures++;
+        }
+    }
+
+    /**
+     * Records one load or save of a data file.
+     *
+     * @param operation the file and direction of the operation.
+     * @param nanos     how long the operation took.
+     * @param bytes     the size of the file read or written.
+     * @param records   the number of lines read or written.
+     */
+    public synchronized void recordIo(Io operation, long nanos, long bytes, long records) {
+        Timing timing = io.computeIfAbsent(operation, o -> new Timing());
+        timing.latencies.record(nanos);
+        timing.bytes += bytes;
+        timing.records += records;
+    }
+
+    /**
+     * Records time spent in a phase of starting up, adding it to any time already recorded for the phase.
+     *
+     * @param phase the phase of starting up.
+     * @param nanos how long the phase took.
+     */
+    public synchronized void recordPhase(Phase phase, long nanos) {
+        phases.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Returns the time spent in a phase of starting up.
+     *
+     * @param phase the phase of starting up.
+     * @return the time in nanoseconds, or 0 if the phase has not happened.
+     */
+    public synchronized long getPhase(Phase phase) {
+        return phases.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * Returns the counters of a command type.
+     *
+     * @param type the kind of command.
+     * @return the command's counters, or null if it has not run.
+     */
+    public synchronized Timing getCommand(String type) {
+        return commands.get(type);
+    }
+
+    /**
+     * Returns the counters of a kind of file operation.
+     *
+     * @param operation the file and direction of the operation.
+     * @return the operation's counters, or null if it has not happened.
+     */
+    public synchronized Timing getIo(Io operation) {
+        return io.get(operation);
+    }
+
+    public synchronized long getBytesRead() {
+        return bytesOf(Io.EVENT_LOAD) + bytesOf(Io.USER_LOAD);
+    }
+
+    public synchronized long getBytesWritten() {
+        return bytesOf(Io.EVENT_SAVE) + bytesOf(Io.USER_SAVE);
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public synchronized void clear() {
+        commands.clear();
+        io.clear();
+        phases.clear();
+    }
+
+    private long bytesOf(Io operation) {
+        Timing timing = io.get(operation);
+        return timing == null ? 0 : timing.bytes;
+    }
+
+    /**
+     * Writes the metrics as JSON to a file, replacing it.
+     *
+     * @param file the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeJson(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the metrics as a JSON object with a {@code commands} object keyed by command type,
+     * an {@code io} object keyed by operation, a {@code startup} object keyed by phase if the application
+     * has started, and the total bytes read and written. Latencies and phases are in nanoseconds.
+     *
+     * @return the metrics as JSON.
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"commands\": {");
+        appendTimings(json, commands, false);
+        json.append("},\n  \"io\": {");
+        TreeMap<String, Timing> byName = new TreeMap<>();
+        for (Map.Entry<Io, Timing> entry : io.entrySet()) {
+            byName.put(entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue());
+        }
+        appendTimings(json, byName, true);
+        json.append('}');
+        if (!phases.isEmpty()) {
+            json.append(",\n  \"startup\": {");
+            String separator = "";
+            for (Map.Entry<Phase, Long> entry : phases.entrySet()) {
+                json.append(separator).append('"').append(entry.getKey().name().toLowerCase(Locale.ROOT))
+                        .append("\": ").append(entry.getValue());
+                separator = ", ";
+            }
+            json.append('}');
+        }
+        json.append(",\n  \"bytesRead\": ").append(getBytesRead())
+                .append(",\n  \"bytesWritten\": ").append(getBytesWritten()).append("\n}\n");
+        return json.toString();
+    }
+
+    private static void appendTimings(StringBuilder json, Map<String, Timing> timings, boolean isIo) {
+        String separator = "\n";
+        for (Map.Entry<String, Timing> entry : timings.entrySet()) {
+            Timing timing = entry.getValue();
+            LatencyHistogram latencies = timing.latencies;
+            json.append(separator).append("    \"").append(escape(entry.getKey())).append("\": {")
+                    .append("\"count\": ").append(latencies.getCount());
+            if (isIo) {
+                json.append(", \"bytes\": ").append(timing.bytes).append(", \"records\": ").append(timing.records);
+            } else {
+                json.append(", \"failures\": ").append(timing.failures);
+            }
+            json.append(", \"totalNanos\": ").append(latencies.getTotal())
+                    .append(", \"minNanos\": ").append(latencies.getMin())
+                    .append(", \"p50Nanos\": ").append(latencies.getPercentile(50))
+                    .append(", \"p90Nanos\": ").append(latencies.getPercentile(90))
+                    .append(", \"p99Nanos\": ").append(latencies.getPercentile(99))
+                    .append(", \"maxNanos\": ").append(latencies.getMax()).append('}');
+            separator = ",\n";
+        }
+        if (!timings.isEmpty()) {
+            json.append("\n  ");
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Returns a table of every command type and file operation with its count and latencies in
+     * milliseconds, followed by the time spent in each phase of starting up and the bytes read and written.
+     *
+     * @return the metrics as text.
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder text = new StringBuilder(String.format("%-24s %7s %6s %9s %9s %9s %9s%n",
+                "Command", "Count", "Failed", "p50 ms", "p90 ms", "p99 ms", "Max ms"));
+        for (Map.Entry<String, Timing> entry : commands.entrySet()) {
+            appendRow(text, entry.getKey(), entry.getValue(), String.valueOf(entry.getValue().failures));
+        }
+        text.append(String.format("%n%-24s %7s %6s %9s %9s %9s %9s%n",
+                "Storage", "Count", "", "p50 ms", "p90 ms", "p99 ms", "Max ms"));
+        for (Map.Entry<Io, Timing> entry : io.entrySet()) {
+            appendRow(text, entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue(), "");
+        }
+        if (!phases.isEmpty()) {
+            text.append(String.format("%n%-24s %9s%n", "Startup", "ms"));
+            for (Map.Entry<Phase, Long> entry : phases.entrySet()) {
+                text.append(String.format("%-24s %9.3f%n", entry.getKey().name().toLowerCase(Locale.ROOT),
+                        entry.getValue() / 1e6));
+            }
+        }
+        text.append(String.format("%nBytes read: %d, bytes written: %d.", getBytesRead(), getBytesWritten()));
+        return text.toString();
+    }
+
+    private static void appendRow(StringBuilder text, String name, Timing timing, String failures) {
+        LatencyHistogram latencies = timing.latencies;
+        text.append(String.format("%-24s %7d %6s %9.3f %9.3f %9.3f %9.3f%n", name, latencies.getCount(), failures,
+                latencies.getPercentile(50) / 1e6, latencies.getPercentile(90) / 1e6,
+                latencies.getPercentile(99) / 1e6, latencies.getMax() / 1e6));
+    }
+}
@@ -0,0 +1,22 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event covering one sort of an event listing.
+ */
+@Name("eventsync.Sort")
+@Label("Sort")
+@Category({"EventSync", "Index"})
+@Description("A sort of events for a listing")
+public class SortEvent extends Event {
+    @Label("Order")
+    public String order;
+
+    @Label("Size")
+    public long size;
+}
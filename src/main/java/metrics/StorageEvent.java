@@ -0,0 +1,31 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event covering one load or save of the event or user file.
+ */
+@Name("eventsync.Storage")
+@Label("Storage I/O")
+@Category({"EventSync", "Storage"})
+@Description("A load or save of an EventSync data file")
+public class StorageEvent extends Event {
+    @Label("Operation")
+    @Description("The file and direction, such as event_save")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Records")
+    public long records;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -1,12 +1,17 @@
 package parser;
 
 import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.logging.Logger;
 
-import command.LoginCommand;
+import event.PageRequest;
+import event.PendingEvent;
 import exception.SyncException;
+import label.Priority;
 
 import participant.Participant;
 import ui.UI;
@@ -17,7 +22,7 @@ import ui.UI;
  * It also throws custom exceptions in case of invalid input.
  */
 public final class CommandParser {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(CommandParser.class.getName());
 
 
     /**
@@ -26,6 +31,11 @@ public final class CommandParser {
     private static UI ui = new UI();
     private static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter DAY_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final String PAGE_USAGE = "Use: --page <number> --size <number>";
+    private static final String SCHEDULE_USAGE =
+            "Use: <name> | <minutes> | <location>[/<location>...] | <description> | <name,name,...> [| <priority>]";
 
     /**
      * Sets the UI instance used for user interactions.
@@ -46,7 +56,7 @@ public final class CommandParser {
 
     public static LocalDateTime parseDateTime(String dateStr) throws SyncException {
         assert dateStr != null : "dateStr cannot be null";
-        LOGGER.info("Attempting parsing date time");
+        LOGGER.finest("Attempting parsing date time");
         try {
             return LocalDateTime.parse(dateStr.trim(), DATE_FORMATTER);
         } catch (DateTimeException e) {
@@ -55,6 +65,23 @@ public final class CommandParser {
         }
     }
 
+    /**
+     * Parses a date string and converts it into a LocalDate object.
+     *
+     * @param dateStr The date string to be parsed.
+     * @return The corresponding LocalDate object.
+     * @throws SyncException If the input date format is invalid.
+     */
+    public static LocalDate parseDate(String dateStr) throws SyncException {
+        assert dateStr != null : "dateStr cannot be null";
+        try {
+            return LocalDate.parse(dateStr.trim(), DAY_FORMATTER);
+        } catch (DateTimeException e) {
+            throw new SyncException("Invalid date format. Use yyyy-MM-dd. " +
+                    "Enter any command word to continue.");
+        }
+    }
+
     /**
      * Splits the user input for adding an event into its components.
      *
@@ -70,6 +97,136 @@ public final class CommandParser {
         return parts;
     }
 
+    /**
+     * Parses an event to be scheduled automatically, in the form
+     * {@code <name> | <minutes> | <location>[/<location>...] | <description> | <name,name,...> [| <priority>]}.
+     * The priority defaults to LOW.
+     *
+     * @param input The input string to be parsed.
+     * @return The pending event described by the input.
+     * @throws SyncException If a field is missing or invalid.
+     */
+    public static PendingEvent parsePendingEvent(String input) throws SyncException {
+        assert input != null : "input cannot be null";
+        String[] parts = input.split("\\|");
+        if (parts.length != 5 && parts.length != 6) {
+            throw new SyncException("Invalid schedule format. " + SCHEDULE_USAGE);
+        }
+        for (String part : parts) {
+            if (part.trim().isEmpty()) {
+                throw new SyncException("Schedule details cannot be empty. " + SCHEDULE_USAGE);
+            }
+        }
+
+        long minutes;
+        try {
+            minutes = Long.parseLong(parts[1].trim());
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid duration. " + SCHEDULE_USAGE);
+        }
+        if (minutes <= 0) {
+            throw new SyncException("The duration must be at least 1 minute.");
+        }
+
+        ArrayList<String> locations = splitList(parts[2], "/");
+        ArrayList<String> names = splitList(parts[4], ",");
+        if (locations.isEmpty() || names.isEmpty()) {
+            throw new SyncException("Please provide at least one location and participant. " + SCHEDULE_USAGE);
+        }
+
+        String priority = Priority.LOW;
+        if (parts.length == 6) {
+            if (!Priority.isValid(parts[5])) {
+                throw new SyncException("Invalid priority. Please enter LOW, MEDIUM, or HIGH.");
+            }
+            priority = Priority.normalize(parts[5]);
+        }
+
+        return new PendingEvent(parts[0].trim(), Duration.ofMinutes(minutes), locations, parts[3].trim(), names,
+                priority);
+    }
+
+    /**
+     * Splits a list of values on the given separator, dropping blank entries.
+     *
+     * @param input The text to split.
+     * @param separator The separator between values.
+     * @return The trimmed, non-blank values.
+     */
+    private static ArrayList<String> splitList(String input, String separator) {
+        ArrayList<String> values = new ArrayList<>();
+        for (String value : input.split(separator)) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads the {@code --page N} and {@code --size M} options from a command's arguments.
+     * A missing page defaults to the first page and a missing size to {@link PageRequest#DEFAULT_SIZE}.
+     *
+     * @param arguments The arguments typed after the command word.
+     * @return The requested page, or null if neither option was given.
+     * @throws SyncException If an option has no value or its value is not a positive number.
+     */
+    public static PageRequest parsePageRequest(String arguments) throws SyncException {
+        assert arguments != null : "arguments cannot be null";
+        String[] words = arguments.trim().split("\\s+");
+        int page = 1;
+        int size = PageRequest.DEFAULT_SIZE;
+        boolean isPaged = false;
+        for (int i = 0; i < words.length; i++) {
+            if (!words[i].equalsIgnoreCase("--page") && !words[i].equalsIgnoreCase("--size")) {
+                continue;
+            }
+            if (i + 1 >= words.length) {
+                throw new SyncException("Missing value for " + words[i] + ". " + PAGE_USAGE);
+            }
+            int value = parsePositive(words[i + 1]);
+            if (words[i].equalsIgnoreCase("--page")) {
+                page = value;
+            } else {
+                size = value;
+            }
+            isPaged = true;
+            i++;
+        }
+        return isPaged ? new PageRequest(page, size) : null;
+    }
+
+    /**
+     * Removes the {@code --page} and {@code --size} options and their values from a command's arguments.
+     *
+     * @param arguments The arguments typed after the command word.
+     * @return The remaining arguments, separated by single spaces.
+     */
+    public static String stripPageOptions(String arguments) {
+        StringBuilder remaining = new StringBuilder();
+        String[] words = arguments.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            if (words[i].equalsIgnoreCase("--page") || words[i].equalsIgnoreCase("--size")) {
+                i++;
+            } else if (!words[i].isEmpty()) {
+                remaining.append(remaining.length() == 0 ? "" : " ").append(words[i]);
+            }
+        }
+        return remaining.toString();
+    }
+
+    private static int parsePositive(String value) throws SyncException {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= 1) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with non-positive numbers
+        }
+        throw new SyncException("'" + value + "' is not a positive number. " + PAGE_USAGE);
+    }
+
     /**
      * Prompts the user to input the access level for a participant.
      *
@@ -1,25 +1,39 @@
 package parser;
 
 import java.util.Scanner;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import command.LoginCommand;
 import commandfactory.AddEventCommandFactory;
 import commandfactory.AddParticipantCommandFactory;
+import commandfactory.AddParticipantsCommandFactory;
+import commandfactory.ArchiveCommandFactory;
+import commandfactory.ArchivedCommandFactory;
 import commandfactory.ByeCommandFactory;
 import commandfactory.CommandFactory;
+import commandfactory.ConflictsCommandFactory;
 import commandfactory.CreateUserCommandFactory;
 import commandfactory.DeleteCommandFactory;
 import commandfactory.DuplicateCommandFactory;
 import commandfactory.EditCommandFactory;
 import commandfactory.FilterCommandFactory;
 import commandfactory.FindCommandFactory;
+import commandfactory.FreeTimeCommandFactory;
 import commandfactory.HelpCommandFactory;
 import commandfactory.ListAllCommandFactory;
 import commandfactory.ListCommandFactory;
 import commandfactory.ListParticipantsCommandFactory;
 import commandfactory.LogOutCommandFactory;
 import commandfactory.LoginCommandFactory;
+import commandfactory.MoreCommandFactory;
+import commandfactory.RangeCommandFactory;
+import commandfactory.RepeatCommandFactory;
+import commandfactory.RoomsCommandFactory;
+import commandfactory.ScheduleBatchCommandFactory;
+import commandfactory.ScheduleCommandFactory;
+import commandfactory.StatsCommandFactory;
+import commandfactory.SuggestCommandFactory;
+import commandfactory.UpcomingCommandFactory;
 import logger.EventSyncLogger;
 import event.EventManager;
 import participant.ParticipantManager;
@@ -33,7 +47,7 @@ import exception.SyncException;
  * CommandFactory object that creates a command to be executed.
  */
 public class Parser {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(Parser.class.getName());
 
 
     /**
@@ -102,9 +116,12 @@ public class Parser {
      */
     public CommandFactory parse(String input) throws SyncException {
         assert input != null;
-        logger.info("Parsing command: " + input);
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info("Parsing command: " + input);
+        }
 
         String[] parts = input.trim().toLowerCase().split(" ", 2); // Split input
+        String[] rawParts = input.trim().split(" ", 2); // Keeps the case of names in the arguments
 
         if (parts.length > 0) {
             String commandWord = parts[0];
@@ -114,48 +131,101 @@ public class Parser {
                 return new ByeCommandFactory(this.participantManager, this.ui);
             case "listall":
                 logger.info("List all command received.");
-                return new ListAllCommandFactory(this.participantManager, this.ui);
+                return new ListAllCommandFactory(this.participantManager, this.ui, parts.length > 1 ? parts[1] : "");
             case "list":
                 logger.info("List command received.");
-                return new ListCommandFactory(this.participantManager, this.ui);
+                return new ListCommandFactory(this.participantManager, this.ui, parts.length > 1 ? parts[1] : "");
             case "add":
                 logger.info("Add command received.");
-                return new AddEventCommandFactory(this.participantManager, this.ui);
+                return new AddEventCommandFactory(this.participantManager, this.ui,
+                        rawParts.length > 1 ? rawParts[1] : "");
             case "delete":
                 logger.info("Delete command received.");
-                return new DeleteCommandFactory(this.participantManager, this.ui, this.eventManager);
+                return new DeleteCommandFactory(this.participantManager, this.ui, this.eventManager,
+                        rawParts.length > 1 ? rawParts[1] : "");
             case "duplicate":
                 logger.info("Duplicate command received.");
-                return new DuplicateCommandFactory(this.participantManager, this.ui, this.eventManager);
+                return new DuplicateCommandFactory(this.participantManager, this.ui, this.eventManager,
+                        rawParts.length > 1 ? rawParts[1] : "");
             case "edit":
                 logger.info("Edit command received.");
-                return new EditCommandFactory(this.participantManager,this.eventManager, this.ui);
+                return new EditCommandFactory(this.participantManager, this.eventManager, this.ui,
+                        rawParts.length > 1 ? rawParts[1] : "");
             case "find":
                 if (parts.length > 1) {
-                    logger.info("Find command received with keyword: " + parts[1]);
+                    if (logger.isLoggable(Level.INFO)) {
+                        logger.info("Find command received with keyword: " + parts[1]);
+                    }
                     return new FindCommandFactory(parts[1]);
                 } else {
                     logger.warning("Find command received without keyword.");
                     throw new SyncException("Please provide a keyword");
                 }
+            case "more":
+                logger.info("More command received.");
+                return new MoreCommandFactory(this.participantManager);
+            case "range":
+                logger.info("Range command received.");
+                return new RangeCommandFactory(parts.length > 1 ? parts[1] : "", this.participantManager);
+            case "upcoming":
+                logger.info("Upcoming command received.");
+                return new UpcomingCommandFactory(parts.length > 1 ? parts[1] : "", this.participantManager);
+            case "conflicts":
+                logger.info("Conflicts command received.");
+                return new ConflictsCommandFactory(parts.length > 1 ? parts[1] : "", this.participantManager);
+            case "freetime":
+                logger.info("Freetime command received.");
+                return new FreeTimeCommandFactory(rawParts.length > 1 ? rawParts[1] : "", this.participantManager);
+            case "schedule":
+                logger.info("Schedule command received.");
+                return new ScheduleCommandFactory(rawParts.length > 1 ? rawParts[1] : "", this.participantManager);
+            case "schedulebatch":
+                logger.info("Schedule batch command received.");
+                return new ScheduleBatchCommandFactory(rawParts.length > 1 ? rawParts[1] : "",
+                        this.participantManager);
+            case "suggest":
+                logger.info("Suggest command received.");
+                return new SuggestCommandFactory(parts.length > 1 ? parts[1] : "", this.participantManager);
+            case "rooms":
+                logger.info("Rooms command received.");
+                return new RoomsCommandFactory(parts.length > 1 ? parts[1] : "", this.participantManager);
+            case "addparticipants":
+                logger.info("Add participants command received.");
+                return new AddParticipantsCommandFactory(rawParts.length > 1 ? rawParts[1] : "",
+                        this.participantManager);
+            case "repeat":
+                logger.info("Repeat command received.");
+                return new RepeatCommandFactory(parts.length > 1 ? parts[1] : "", this.participantManager);
+            case "archive":
+                logger.info("Archive command received.");
+                return new ArchiveCommandFactory(parts.length > 1 ? parts[1] : "", this.participantManager);
+            case "archived":
+                logger.info("Archived command received.");
+                return new ArchivedCommandFactory(parts.length > 1 ? parts[1] : "", this.participantManager);
             case "addparticipant":
                 logger.info("AddParticipant command received.");
-                return new AddParticipantCommandFactory(this.eventManager, this.participantManager, this.ui);
+                return new AddParticipantCommandFactory(this.eventManager, this.participantManager, this.ui,
+                        rawParts.length > 1 ? rawParts[1] : "");
             case "listparticipants":
                 logger.info("ListParticipants command received.");
-                return new ListParticipantsCommandFactory(this.ui, this.eventManager, this.participantManager);
+                return new ListParticipantsCommandFactory(this.ui, this.eventManager, this.participantManager,
+                        parts.length > 1 ? parts[1] : "");
             case "filter":
                 logger.info("Filter command received.");
-                return new FilterCommandFactory(this.participantManager, this.ui);
+                return new FilterCommandFactory(this.participantManager, this.ui, parts.length > 1 ? parts[1] : "");
             case "login":
                 logger.info("Login command received.");
-                return new LoginCommandFactory(this.participantManager);
+                return new LoginCommandFactory(this.participantManager, rawParts.length > 1 ? rawParts[1] : "");
             case "logout":
                 logger.info("Logout command received.");
                 return new LogOutCommandFactory(this.participantManager);
             case "create":
                 logger.info("Create command received.");
-                return new CreateUserCommandFactory(this.ui, this.participantManager);
+                return new CreateUserCommandFactory(this.ui, this.participantManager,
+                        rawParts.length > 1 ? rawParts[1] : "");
+            case "stats":
+                logger.info("Stats command received.");
+                return new StatsCommandFactory(this.participantManager);
             case "help":
                 logger.info("Help command received.");
                 return new HelpCommandFactory();
@@ -0,0 +1,243 @@
+package participant;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the availability slots of every participant so that "who is free for the whole of
+ * [start, end]" can be answered without scanning each participant's slots.
+ * Slots are sorted by start time and a segment tree stores the latest slot end in each range.
+ * A query binary-searches the slots starting no later than {@code start} and only descends into
+ * ranges whose latest end reaches {@code end}, so it costs O(log n + k log n) for k matching slots.
+ *
+ * <p>When a participant's availability changes, {@link #update} takes their old slots out of the tree in
+ * place and keeps their new slots in a short list that queries scan directly, so one change costs
+ * O(m log n) for the participant's m slots instead of a rebuild. Once that list grows past a fraction of
+ * the index, {@link #needsRebuild()} asks for the index to be built again.
+ */
+public class AvailabilityIndex {
+    private final LocalDateTime[] starts;
+    private final LocalDateTime[] ends;
+    private final Participant[] owners;
+    private final LocalDateTime[] maxEnd;
+
+    /**
+     * The positions of each participant's slots in the tree, and the availability version they were taken at.
+     */
+    private final IdentityHashMap<Participant, int[]> positions = new IdentityHashMap<>();
+    private final IdentityHashMap<Participant, Long> versions = new IdentityHashMap<>();
+
+    /**
+     * The current slots of participants whose availability changed after the tree was built.
+     */
+    private final IdentityHashMap<Participant, List<AvailabilitySlot>> updatedSlots = new IdentityHashMap<>();
+    private int updatedSlotCount;
+    private int removedSlotCount;
+
+    /**
+     * Builds an index over the current availability of the given participants.
+     *
+     * @param participants the participants to index.
+     */
+    public AvailabilityIndex(List<Participant> participants) {
+        ArrayList<LocalDateTime> slotStarts = new ArrayList<>();
+        ArrayList<LocalDateTime> slotEnds = new ArrayList<>();
+        ArrayList<Participant> slotOwners = new ArrayList<>();
+        for (Participant participant : participants) {
+            versions.put(participant, participant.getAvailabilityVersion());
+            for (AvailabilitySlot slot : participant.getAvailableTimes()) {
+                slotStarts.add(slot.getStartTime());
+                slotEnds.add(slot.getEndTime());
+                slotOwners.add(participant);
+            }
+        }
+
+        int size = slotStarts.size();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(slotStarts::get));
+
+        starts = new LocalDateTime[size];
+        ends = new LocalDateTime[size];
+        owners = new Participant[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = slotStarts.get(order[i]);
+            ends[i] = slotEnds.get(order[i]);
+            owners[i] = slotOwners.get(order[i]);
+        }
+        IdentityHashMap<Participant, ArrayList<Integer>> slotsOf = new IdentityHashMap<>();
+        for (int i = 0; i < size; i++) {
+            slotsOf.computeIfAbsent(owners[i], owner -> new ArrayList<>()).add(i);
+        }
+        slotsOf.forEach((owner, slots) -> positions.put(owner, slots.stream().mapToInt(Integer::intValue).toArray()));
+
+        maxEnd = new LocalDateTime[Math.max(1, 4 * size)];
+        if (size > 0) {
+            build(1, 0, size - 1);
+        }
+    }
+
+    /**
+     * Returns the participants who have a single slot covering the whole of [start, end],
+     * matching {@link Participant#isAvailableDuring}.
+     *
+     * @param start the start of the period.
+     * @param end   the end of the period.
+     * @return the available participants, each listed once, ordered by name.
+     */
+    public ArrayList<Participant> findAvailable(LocalDateTime start, LocalDateTime end) {
+        assert start != null && end != null : "Period bounds cannot be null";
+        Set<Participant> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        int candidates = countStartingBy(start);
+        if (candidates > 0) {
+            collect(1, 0, starts.length - 1, candidates - 1, end, found);
+        }
+        for (Map.Entry<Participant, List<AvailabilitySlot>> entry : updatedSlots.entrySet()) {
+            for (AvailabilitySlot slot : entry.getValue()) {
+                if (!slot.getStartTime().isAfter(start) && !slot.getEndTime().isBefore(end)) {
+                    found.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+
+        ArrayList<Participant> result = new ArrayList<>(found);
+        result.sort(Comparator.comparing(Participant::getName));
+        return result;
+    }
+
+    /**
+     * Returns whether a participant's availability changed since the index last took it.
+     *
+     * @param participant an indexed participant.
+     * @return true if {@link #update} must be called for the participant.
+     */
+    public boolean isStale(Participant participant) {
+        Long version = versions.get(participant);
+        return version == null || version != participant.getAvailabilityVersion();
+    }
+
+    /**
+     * Brings the index up to date with a participant's current availability. Their slots in the tree are
+     * taken out in place and their current slots are kept apart until the next rebuild.
+     *
+     * @param participant the participant whose availability changed.
+     */
+    public void update(Participant participant) {
+        int[] stale = positions.remove(participant);
+        if (stale != null) {
+            for (int position : stale) {
+                remove(1, 0, starts.length - 1, position);
+            }
+            removedSlotCount += stale.length;
+        }
+        List<AvailabilitySlot> previous = updatedSlots.remove(participant);
+        if (previous != null) {
+            updatedSlotCount -= previous.size();
+        }
+        List<AvailabilitySlot> current = participant.getAvailableTimes();
+        updatedSlots.put(participant, current);
+        updatedSlotCount += current.size();
+        versions.put(participant, participant.getAvailabilityVersion());
+    }
+
+    /**
+     * Returns whether enough slots are kept apart from the tree that queries would be faster after a rebuild.
+     *
+     * @return true if the index should be built again.
+     */
+    public boolean needsRebuild() {
+        return updatedSlotCount > Math.max(64, starts.length / 8);
+    }
+
+    /**
+     * Returns the number of indexed slots.
+     *
+     * @return the number of slots.
+     */
+    public int size() {
+        return starts.length - removedSlotCount + updatedSlotCount;
+    }
+
+    private void build(int node, int low, int high) {
+        if (low == high) {
+            maxEnd[node] = ends[low];
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        build(2 * node, low, mid);
+        build(2 * node + 1, mid + 1, high);
+        maxEnd[node] = maxEnd[2 * node].isAfter(maxEnd[2 * node + 1]) ? maxEnd[2 * node] : maxEnd[2 * node + 1];
+    }
+
+    /**
+     * Takes the slot at a position out of the tree by giving it an end no query can reach.
+     *
+     * @param node     the current tree node.
+     * @param low      the first slot position covered by the node.
+     * @param high     the last slot position covered by the node.
+     * @param position the position of the slot to take out.
+     */
+    private void remove(int node, int low, int high, int position) {
+        if (low == high) {
+            maxEnd[node] = LocalDateTime.MIN;
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (position <= mid) {
+            remove(2 * node, low, mid, position);
+        } else {
+            remove(2 * node + 1, mid + 1, high, position);
+        }
+        maxEnd[node] = maxEnd[2 * node].isAfter(maxEnd[2 * node + 1]) ? maxEnd[2 * node] : maxEnd[2 * node + 1];
+    }
+
+    /**
+     * Returns how many slots start at or before the given time.
+     *
+     * @param time the time to compare against.
+     * @return the length of the prefix of slots starting no later than {@code time}.
+     */
+    private int countStartingBy(LocalDateTime time) {
+        int index = Arrays.binarySearch(starts, time);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index < starts.length && !starts[index].isAfter(time)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Collects the owners of slots in positions up to {@code lastIndex} that end at or after {@code end}.
+     *
+     * @param node      the current tree node.
+     * @param low       the first slot position covered by the node.
+     * @param high      the last slot position covered by the node.
+     * @param lastIndex the last slot position that starts early enough.
+     * @param end       the time the slot must reach.
+     * @param found     the participants found so far.
+     */
+    private void collect(int node, int low, int high, int lastIndex, LocalDateTime end, Set<Participant> found) {
+        if (low > lastIndex || maxEnd[node].isBefore(end)) {
+            return;
+        }
+        if (low == high) {
+            found.add(owners[low]);
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        collect(2 * node, low, mid, lastIndex, end, found);
+        collect(2 * node + 1, mid + 1, high, lastIndex, end, found);
+    }
+}
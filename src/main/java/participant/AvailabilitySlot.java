@@ -3,14 +3,13 @@ package participant;
 import java.time.LocalDateTime;
 import java.util.logging.Logger;
 
-import command.LoginCommand;
 
 /**
  * Represents an availability slot with a start time and an end time.
  * This class is used to define a period during which a participant is available.
  */
 public class AvailabilitySlot {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(AvailabilitySlot.class.getName());
 
 
     /**
@@ -41,7 +40,7 @@ public class AvailabilitySlot {
      */
     public LocalDateTime getStartTime() {
         assert this != null;
-        LOGGER.info("Attempting getting start time");
+        LOGGER.finest("Attempting getting start time");
         return startTime;
     }
 
@@ -0,0 +1,40 @@
+package participant;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+/**
+ * Holds the outcome of adding many participants to one event: the participants who were added,
+ * and the names that were rejected together with the reason.
+ */
+public class BulkAssignResult {
+    private final ArrayList<Participant> assigned = new ArrayList<>();
+    private final LinkedHashMap<String, String> rejected = new LinkedHashMap<>();
+
+    /**
+     * Records a participant who was added to the event.
+     *
+     * @param participant the added participant.
+     */
+    public void addAssigned(Participant participant) {
+        assigned.add(participant);
+    }
+
+    /**
+     * Records a name that could not be added to the event.
+     *
+     * @param name   the rejected name.
+     * @param reason why the name was rejected.
+     */
+    public void addRejected(String name, String reason) {
+        rejected.put(name, reason);
+    }
+
+    public ArrayList<Participant> getAssigned() {
+        return assigned;
+    }
+
+    public LinkedHashMap<String, String> getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,153 @@
+package participant;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterates over the windows in which every participant in a group is available, in time order.
+ * The participants' sorted availability lists are intersected with a k-way merge: a heap keyed by
+ * the end of each participant's current slot always advances the slot that finishes first, so each
+ * window costs O(log k) and the whole walk costs O(total slots x log k) for k participants.
+ * Windows are produced lazily, so callers that only need the earliest one stop early.
+ */
+public class CommonAvailability implements Iterator<AvailabilitySlot> {
+    private final List<List<AvailabilitySlot>> slotLists = new ArrayList<>();
+    private final int[] positions;
+    private final PriorityQueue<Integer> byEnd;
+    private LocalDateTime latestStart;
+    private AvailabilitySlot nextWindow;
+    private boolean exhausted;
+
+    /**
+     * Constructs an iterator over the common availability of the given participants.
+     *
+     * @param participants the participants who must all be available.
+     */
+    public CommonAvailability(List<Participant> participants) {
+        for (Participant participant : participants) {
+            slotLists.add(normalize(participant.getAvailableTimes()));
+        }
+        positions = new int[slotLists.size()];
+        byEnd = new PriorityQueue<>(Math.max(1, slotLists.size()),
+                Comparator.comparing((Integer i) -> currentSlot(i).getEndTime()));
+
+        exhausted = slotLists.isEmpty();
+        for (int i = 0; i < slotLists.size() && !exhausted; i++) {
+            if (slotLists.get(i).isEmpty()) {
+                exhausted = true;
+            } else {
+                byEnd.add(i);
+                latestStart = max(latestStart, currentSlot(i).getStartTime());
+            }
+        }
+    }
+
+    /**
+     * Returns whether another common window exists.
+     *
+     * @return true if {@link #next()} will return a window.
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextWindow == null) {
+            nextWindow = advance();
+        }
+        return nextWindow != null;
+    }
+
+    /**
+     * Returns the next common window.
+     *
+     * @return the next window in which every participant is available.
+     */
+    @Override
+    public AvailabilitySlot next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        AvailabilitySlot window = nextWindow;
+        nextWindow = null;
+        return window;
+    }
+
+    /**
+     * Moves the merge forward until the next non-empty intersection is found.
+     *
+     * @return the next window, or null once any participant has no slots left.
+     */
+    private AvailabilitySlot advance() {
+        while (!exhausted) {
+            int earliestEnding = byEnd.poll();
+            LocalDateTime earliestEnd = currentSlot(earliestEnding).getEndTime();
+            AvailabilitySlot window = null;
+            if (!latestStart.isAfter(earliestEnd)) {
+                window = new AvailabilitySlot(latestStart, earliestEnd);
+            }
+
+            positions[earliestEnding]++;
+            if (positions[earliestEnding] >= slotLists.get(earliestEnding).size()) {
+                exhausted = true;
+            } else {
+                latestStart = max(latestStart, currentSlot(earliestEnding).getStartTime());
+                byEnd.add(earliestEnding);
+            }
+
+            if (window != null) {
+                return window;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the slot the given participant's cursor currently points at.
+     *
+     * @param participantIndex the position of the participant in the group.
+     * @return the participant's current slot.
+     */
+    private AvailabilitySlot currentSlot(int participantIndex) {
+        return slotLists.get(participantIndex).get(positions[participantIndex]);
+    }
+
+    /**
+     * Sorts slots by start time and merges overlapping ones, since slots set directly through
+     * {@link Participant#setAvailableTimes} are not guaranteed to be ordered or disjoint.
+     *
+     * @param slots the participant's slots.
+     * @return the slots sorted by start time with no overlaps.
+     */
+    private static List<AvailabilitySlot> normalize(List<AvailabilitySlot> slots) {
+        boolean ordered = true;
+        for (int i = 1; i < slots.size() && ordered; i++) {
+            ordered = slots.get(i).getStartTime().isAfter(slots.get(i - 1).getEndTime());
+        }
+        if (ordered) {
+            return slots;
+        }
+
+        slots.sort(Comparator.comparing(AvailabilitySlot::getStartTime));
+        List<AvailabilitySlot> merged = new ArrayList<>();
+        for (AvailabilitySlot slot : slots) {
+            AvailabilitySlot last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && !slot.getStartTime().isAfter(last.getEndTime())) {
+                merged.set(merged.size() - 1, new AvailabilitySlot(last.getStartTime(),
+                        max(last.getEndTime(), slot.getEndTime())));
+            } else {
+                merged.add(slot);
+            }
+        }
+        return merged;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b.isAfter(a) ? b : a;
+    }
+}
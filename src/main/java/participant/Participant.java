@@ -3,22 +3,34 @@ package participant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
-import command.LoginCommand;
 
 /**
  * Represents a participant with a name, password, access level, and available time slots.
  * Provides methods to manage participant availability and access control.
  */
 public class Participant {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(Participant.class.getName());
 
     private final String name;
     private final String password;
     private AccessLevel accessLevel;
     private List<AvailabilitySlot> availableTimes;
 
+    /**
+     * Incremented whenever this participant's availability changes, so indexes built over
+     * availability can tell which participants they hold stale slots for.
+     */
+    private long availabilityVersion = 0;
+
+    /**
+     * The set this participant adds itself to whenever its availability changes, held by the
+     * ParticipantManager whose availability index covers it, or null if no index covers it.
+     */
+    private Set<Participant> changedAvailability;
+
     /**
      * Enum representing the access levels for a participant.
      */
@@ -63,7 +75,7 @@ public class Participant {
      */
     public boolean assignEventTime(LocalDateTime eventStart, LocalDateTime eventEnd) {
         assert eventEnd != null;
-        LOGGER.info("Attempting assigning event time to participant ");
+        LOGGER.finest("Attempting assigning event time to participant");
         if (eventStart.isAfter(eventEnd)) {
             throw new IllegalArgumentException("Event end time must be after start time.");
         }
@@ -89,6 +101,7 @@ public class Participant {
 
         if (assigned) {
             availableTimes = newSlots;
+            availabilityChanged();
             return true;
         }
         return false;
@@ -179,6 +192,33 @@ public class Participant {
      */
     public void setAvailableTimes(List<AvailabilitySlot> availableTimes) {
         this.availableTimes = new ArrayList<>(availableTimes);
+        availabilityChanged();
+    }
+
+    /**
+     * Returns a counter that changes whenever the availability of this participant changes.
+     *
+     * @return The current availability version.
+     */
+    public long getAvailabilityVersion() {
+        return availabilityVersion;
+    }
+
+    /**
+     * Sets the set this participant adds itself to whenever its availability changes, so that an index over
+     * availability only has to look at the participants in it.
+     *
+     * @param changedAvailability the set to add to, or null to stop adding to one.
+     */
+    void watchAvailability(Set<Participant> changedAvailability) {
+        this.changedAvailability = changedAvailability;
+    }
+
+    private void availabilityChanged() {
+        availabilityVersion++;
+        if (changedAvailability != null) {
+            changedAvailability.add(this);
+        }
     }
 
     /**
@@ -238,6 +278,7 @@ public class Participant {
 
         availableTimes.add(newSlot);
         availableTimes.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+        availabilityChanged();
     }
 
     /**
@@ -277,5 +318,6 @@ public class Participant {
 
         mergedSlots.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
         availableTimes = mergedSlots;
+        availabilityChanged();
     }
 }
@@ -1,12 +1,19 @@
 package participant;
 
-import command.LoginCommand;
 import event.Event;
 import exception.SyncException;
 import ui.UI;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import storage.UserStorage;
 
@@ -16,12 +23,19 @@ import storage.UserStorage;
  * The ParticipantManager handles user login, logout, adding new users, and checking availability for events.
  */
 public class ParticipantManager {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(ParticipantManager.class.getName());
 
     private ArrayList<Participant> participants;
     private Participant currentUser;
     private final UI ui;
     private final UserStorage storage;
+    private AvailabilityIndex availabilityIndex;
+
+    /**
+     * The indexed participants whose availability changed since the index last took them, filled by the
+     * participants themselves.
+     */
+    private final Set<Participant> changedAvailability = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * Constructs a ParticipantManager with a list of participants,
@@ -64,11 +78,12 @@ public class ParticipantManager {
      */
     public void addNewUser(Participant participant) throws SyncException {
         assert participant != null : "Participant cannot be null";
-        LOGGER.info("Attempting adding user ");
+        LOGGER.fine("Attempting adding user");
         if (participants.stream().anyMatch(p -> p.getName().equals(participant.getName()))) {
             throw new SyncException("User already exists.");
         }
         participants.add(participant);
+        availabilityIndex = null;
         storage.saveUsers(participants);
     }
 
@@ -80,6 +95,8 @@ public class ParticipantManager {
      */
     public void deleteUser(Participant participant) throws SyncException {
         participants.remove(participant);
+        participant.watchAvailability(null);
+        availabilityIndex = null;
         storage.saveUsers(participants);
     }
 
@@ -139,6 +156,25 @@ public class ParticipantManager {
         }
     }
 
+    /**
+     * Logs in a participant with credentials given up front, without prompting.
+     *
+     * @param username The name of the participant.
+     * @param password The participant's password.
+     * @throws SyncException If the participant does not exist or the password is wrong.
+     */
+    public void login(String username, String password) throws SyncException {
+        Participant participant = this.getParticipant(username);
+        if (participant == null) {
+            throw new SyncException("User not found. Please enter 'create' to create user first!");
+        }
+        if (!participant.checkPassword(password)) {
+            throw new SyncException("Wrong password for " + username + ".");
+        }
+        this.currentUser = participant;
+        ui.showSuccessLoginMessage();
+    }
+
     /**
      * Logs out the current participant, if any.
      */
@@ -186,12 +222,133 @@ public class ParticipantManager {
         if (event.getParticipants().contains(participant)) {
             throw new SyncException("User has already been assigned to this event. Try another user/event.");
         } else {
-            boolean assigned = participant.assignEventTime(event.getStartTime(), event.getEndTime());
+            boolean assigned = true;
+            for (int i = 0; i < event.getOccurrenceCount(); i++) {
+                Event occurrence = event.getOccurrence(i);
+                assigned &= participant.assignEventTime(occurrence.getStartTime(), occurrence.getEndTime());
+            }
             storage.saveUsers(participants);
             return assigned;
         }
     }
 
+    /**
+     * Adds many participants to an event at once. Names are resolved and their availability is checked
+     * in parallel, since those steps only read; the eligible participants are then assigned one by one
+     * and the user file is written once at the end. The event itself is not saved.
+     * Repeated names are only considered once.
+     *
+     * @param event The event to add the participants to.
+     * @param names The names of the participants to add.
+     * @return The participants who were added and the names that were rejected, with reasons.
+     * @throws SyncException If the user file cannot be saved.
+     */
+    public BulkAssignResult assignParticipants(Event event, List<String> names) throws SyncException {
+        assert event != null : "Event cannot be null";
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("Attempting assigning " + names.size() + " participants");
+        }
+        HashMap<String, Participant> byName = new HashMap<>();
+        for (Participant participant : participants) {
+            byName.putIfAbsent(participant.getName(), participant);
+        }
+
+        List<String> uniqueNames = names.stream().distinct().collect(Collectors.toList());
+        List<String> reasons = uniqueNames.parallelStream()
+                .map(name -> checkAssignable(event, byName.get(name)))
+                .collect(Collectors.toList());
+
+        BulkAssignResult result = new BulkAssignResult();
+        for (int i = 0; i < uniqueNames.size(); i++) {
+            if (reasons.get(i) != null) {
+                result.addRejected(uniqueNames.get(i), reasons.get(i));
+                continue;
+            }
+            Participant participant = byName.get(uniqueNames.get(i));
+            event.forEachOccurrence(participant::assignEventTime);
+            event.addParticipant(participant);
+            result.addAssigned(participant);
+        }
+
+        if (!result.getAssigned().isEmpty()) {
+            storage.saveUsers(participants);
+        }
+        return result;
+    }
+
+    /**
+     * Returns why a participant cannot be added to an event, or null if they can.
+     *
+     * @param event The event.
+     * @param participant The participant, or null if the name did not match anyone.
+     * @return The reason for rejecting the participant, or null.
+     */
+    private String checkAssignable(Event event, Participant participant) {
+        if (participant == null) {
+            return "does not exist";
+        } else if (event.hasParticipant(participant)) {
+            return "is already in this event";
+        } else if (!event.allOccurrencesMatch(participant::isAvailableDuring)) {
+            return "is not available at this time";
+        }
+        return null;
+    }
+
+    /**
+     * Finds the windows in which every given participant is available for at least the given duration.
+     *
+     * @param group       the participants who must all be available.
+     * @param minDuration the minimum length of a window.
+     * @param maxResults  the maximum number of windows to return, or 0 to return every window.
+     * @return the common windows in time order.
+     */
+    public ArrayList<AvailabilitySlot> findCommonFreeTime(List<Participant> group, Duration minDuration,
+                                                          int maxResults) {
+        assert group != null : "Participant group cannot be null";
+        assert minDuration != null : "Duration cannot be null";
+        ArrayList<AvailabilitySlot> windows = new ArrayList<>();
+        CommonAvailability commonAvailability = new CommonAvailability(group);
+        while (commonAvailability.hasNext()) {
+            AvailabilitySlot window = commonAvailability.next();
+            if (!window.getStartTime().plus(minDuration).isAfter(window.getEndTime())) {
+                windows.add(window);
+                if (windows.size() == maxResults) {
+                    break;
+                }
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * Returns the participants who are available for the whole of the given period.
+     * Answers come from an index over every participant's slots. Participants report their own availability
+     * changes, so only those who changed are updated in the index, one by one; it is only rebuilt after the
+     * participant list has changed or when many participants have changed.
+     *
+     * @param start the start of the period.
+     * @param end   the end of the period.
+     * @return the available participants, ordered by name.
+     */
+    public ArrayList<Participant> findAvailableParticipants(LocalDateTime start, LocalDateTime end) {
+        if (availabilityIndex != null) {
+            for (Participant participant : changedAvailability) {
+                if (availabilityIndex.isStale(participant)) {
+                    availabilityIndex.update(participant);
+                }
+            }
+        }
+        changedAvailability.clear();
+        if (availabilityIndex == null || availabilityIndex.needsRebuild()) {
+            LOGGER.info("Rebuilding availability index");
+            availabilityIndex = new AvailabilityIndex(participants);
+            for (Participant participant : participants) {
+                participant.watchAvailability(changedAvailability);
+            }
+        }
+        return availabilityIndex.findAvailable(start, end);
+    }
+
     /**
      * Sets the current logged-in participant.
      *
@@ -223,12 +380,14 @@ public class ParticipantManager {
     public void updateParticipant(Participant updated) throws SyncException {
         for (int i = 0; i < participants.size(); i++) {
             if (participants.get(i).getName().equalsIgnoreCase(updated.getName())) {
-                participants.set(i, updated);
+                participants.set(i, updated).watchAvailability(null);
+                availabilityIndex = null;
                 storage.saveUsers(participants);
                 return;
             }
         }
         participants.add(updated);
+        availabilityIndex = null;
         storage.saveUsers(participants);
     }
 
@@ -241,7 +400,8 @@ public class ParticipantManager {
 
         for (int i = 0; i < participants.size(); i++) {
             if (participants.get(i).getName().equals(participant.getName())) {
-                participants.set(i, participant);
+                participants.set(i, participant).watchAvailability(null);
+                availabilityIndex = null;
                 found = true;
                 break;
             }
@@ -249,6 +409,7 @@ public class ParticipantManager {
 
         if (!found) {
             participants.add(participant);
+            availabilityIndex = null;
         }
 
         storage.saveUsers(participants);
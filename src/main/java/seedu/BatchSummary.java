@@ -0,0 +1,58 @@
+package seedu;
+
+/**
+ * Holds the outcome of running a batch script: how many commands ran, how many failed,
+ * how many times the data files were written, and how long the run took.
+ */
+public class BatchSummary {
+    private final int commands;
+    private final int failures;
+    private final int commits;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a BatchSummary.
+     *
+     * @param commands     the number of commands read from the script.
+     * @param failures     the number of commands that failed.
+     * @param commits      the number of times pending changes were written to the data files.
+     * @param elapsedNanos the wall-clock time of the run in nanoseconds.
+     */
+    public BatchSummary(int commands, int failures, int commits, long elapsedNanos) {
+        this.commands = commands;
+        this.failures = failures;
+        this.commits = commits;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getCommands() {
+        return commands;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public int getCommits() {
+        return commits;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of commands run per second.
+     *
+     * @return the throughput of the run.
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commands * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Batch finished: %d commands (%d failed) in %.3f s, %.0f commands/s, %d commit(s).",
+                commands, failures, elapsedNanos / 1_000_000_000.0, getCommandsPerSecond(), commits);
+    }
+}
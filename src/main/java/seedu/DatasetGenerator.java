@@ -0,0 +1,268 @@
+package seedu;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import exception.SyncException;
+import label.Priority;
+
+/**
+ * Writes synthetic event and user files for scale testing, in exactly the format {@code Storage} and
+ * {@code UserStorage} read. The output depends only on the seed and the counts, so the same arguments
+ * always produce the same files. Records are written as they are generated, so datasets with millions
+ * of events never have to fit in memory.
+ *
+ * <p>Events are spread over the locations in back-to-back time slots, so no two events at a location
+ * overlap, except that each event overlaps the previous event at its location with probability
+ * {@code collisionDensity}. Participants are assigned round-robin from a random starting user, so the
+ * participants of an event are always distinct.
+ */
+public class DatasetGenerator {
+    public static final String EVENT_FILE_NAME = "seedu.EventSync.txt";
+    public static final String USER_FILE_NAME = "seedu.UserSync.txt";
+
+    private static final String USAGE = "Usage: [--out DIR] [--seed N] [--users N] [--events N] [--locations N]"
+            + " [--participants-per-event N] [--slots-per-user N] [--collision-density 0..1]";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final LocalDateTime FIRST_SLOT = LocalDateTime.of(2025, 1, 1, 8, 0);
+    private static final long SLOT_MINUTES = 90;
+    private static final long MAX_EVENT_MINUTES = 60;
+    private static final String[] PRIORITIES = {Priority.LOW, Priority.MEDIUM, Priority.HIGH};
+
+    private final long seed;
+    private final int users;
+    private final int events;
+    private final int locations;
+    private final int participantsPerEvent;
+    private final int slotsPerUser;
+    private final double collisionDensity;
+
+    /**
+     * Constructs a generator for a dataset of the given shape.
+     *
+     * @param seed                 the seed every random choice is derived from.
+     * @param users                the number of users; the first is an admin.
+     * @param events               the number of events.
+     * @param locations            the number of distinct locations.
+     * @param participantsPerEvent the number of participants on each event, at most {@code users}.
+     * @param slotsPerUser         the number of availability slots each user has.
+     * @param collisionDensity     the probability, from 0 to 1, that an event overlaps the previous one
+     *                             at its location.
+     * @throws SyncException if a count is out of range.
+     */
+    public DatasetGenerator(long seed, int users, int events, int locations, int participantsPerEvent,
+                            int slotsPerUser, double collisionDensity) throws SyncException {
+        if (users < 1 || events < 0 || locations < 1 || slotsPerUser < 0) {
+            throw new SyncException("Need at least one user and one location, and no negative counts.");
+        }
+        if (participantsPerEvent < 0 || participantsPerEvent > users) {
+            throw new SyncException("Participants per event must be between 0 and the number of users.");
+        }
+        if (collisionDensity < 0 || collisionDensity > 1) {
+            throw new SyncException("Collision density must be between 0 and 1.");
+        }
+        this.seed = seed;
+        this.users = users;
+        this.events = events;
+        this.locations = locations;
+        this.participantsPerEvent = participantsPerEvent;
+        this.slotsPerUser = slotsPerUser;
+        this.collisionDensity = collisionDensity;
+    }
+
+    /**
+     * Writes the user and event files into a directory, creating it if needed.
+     *
+     * @param directory the directory to write {@link #USER_FILE_NAME} and {@link #EVENT_FILE_NAME} into.
+     * @throws SyncException if a file cannot be written.
+     */
+    public void generate(Path directory) throws SyncException {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new SyncException("Cannot create directory: " + directory);
+        }
+        writeUsers(directory.resolve(USER_FILE_NAME));
+        writeEvents(directory.resolve(EVENT_FILE_NAME));
+    }
+
+    /**
+     * Writes the user file. User {@code i} is named {@code user<i>} with password {@code pw<i>}, and its
+     * availability slots split the period covered by the events into equal windows.
+     *
+     * @param file the file to write.
+     * @throws SyncException if the file cannot be written.
+     */
+    public void writeUsers(Path file) throws SyncException {
+        long windowMinutes = Math.max(1, Duration.between(FIRST_SLOT, getPeriodEnd()).toMinutes()
+                / Math.max(1, slotsPerUser));
+        StringBuilder line = new StringBuilder();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < users; i++) {
+                line.setLength(0);
+                line.append("user").append(i).append(" | ").append(i == 0 ? "ADMIN" : "MEMBER")
+                        .append(" | pw").append(i).append(" | ");
+                for (int s = 0; s < slotsPerUser; s++) {
+                    LocalDateTime start = FIRST_SLOT.plusMinutes(windowMinutes * s);
+                    // Slots stop a minute short of the next one so they stay separate when loaded
+                    LocalDateTime end = start.plusMinutes(Math.max(1, windowMinutes - 1));
+                    line.append(s == 0 ? "" : ";");
+                    FORMATTER.formatTo(start, line);
+                    line.append(',');
+                    FORMATTER.formatTo(end, line);
+                }
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new SyncException("Error writing users: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the event file.
+     *
+     * @param file the file to write.
+     * @throws SyncException if the file cannot be written.
+     */
+    public void writeEvents(Path file) throws SyncException {
+        // Users are drawn from a stream of their own so the event layout does not depend on the user count
+        Random layout = new Random(seed);
+        Random people = new Random(seed * 31 + 7);
+        LocalDateTime[] previousStart = new LocalDateTime[locations];
+        long[] nextSlot = new long[locations];
+        StringBuilder line = new StringBuilder();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < events; i++) {
+                int location = layout.nextInt(locations);
+                boolean collides = previousStart[location] != null && layout.nextDouble() < collisionDensity;
+                LocalDateTime start;
+                if (collides) {
+                    start = previousStart[location].plusMinutes(15);
+                } else {
+                    start = FIRST_SLOT.plusMinutes(SLOT_MINUTES * nextSlot[location]++);
+                    previousStart[location] = start;
+                }
+                LocalDateTime end = start.plusMinutes(15 + 15 * layout.nextInt((int) (MAX_EVENT_MINUTES / 15)));
+
+                line.setLength(0);
+                line.append("Event ").append(i).append(" | ");
+                FORMATTER.formatTo(start, line);
+                line.append(" | ");
+                FORMATTER.formatTo(end, line);
+                line.append(" | Room ").append(location)
+                        .append(" | ").append(i % 10 == 0 ? "Weekly sync " : "Review ").append(i)
+                        .append(" | ").append(PRIORITIES[layout.nextInt(PRIORITIES.length)]).append(" | ");
+                int first = people.nextInt(users);
+                for (int p = 0; p < participantsPerEvent; p++) {
+                    int user = (first + p) % users;
+                    line.append(p == 0 ? "" : ",").append("user").append(user)
+                            .append(user == 0 ? ":ADMIN" : ":MEMBER");
+                }
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new SyncException("Error writing events: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the start of the first event slot, where the users' availability begins.
+     *
+     * @return the start of the period the dataset covers.
+     */
+    public LocalDateTime getPeriodStart() {
+        return FIRST_SLOT;
+    }
+
+    /**
+     * Returns the end of the last back-to-back slot at a location, where the users' availability ends.
+     *
+     * @return the end of the period the dataset covers.
+     */
+    public LocalDateTime getPeriodEnd() {
+        return FIRST_SLOT.plusMinutes(SLOT_MINUTES * Math.max(1, slotsPerLocation()));
+    }
+
+    /**
+     * Returns roughly how many back-to-back slots each location needs, which bounds the period the
+     * events cover.
+     *
+     * @return the expected number of slots per location.
+     */
+    private long slotsPerLocation() {
+        return (events + locations - 1L) / locations;
+    }
+
+    /**
+     * Writes a dataset into a directory, by default {@code ./data/generated}.
+     *
+     * @param args the options described by the usage message.
+     * @throws SyncException if an option is invalid or a file cannot be written.
+     */
+    public static void main(String[] args) throws SyncException {
+        Path out = Paths.get("./data/generated");
+        long seed = 2113;
+        int users = 1000;
+        int events = 100_000;
+        int locations = 50;
+        int participantsPerEvent = 2;
+        int slotsPerUser = 4;
+        double collisionDensity = 0.05;
+
+        if (args.length % 2 != 0) {
+            throw new SyncException(USAGE);
+        }
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                case "--out":
+                    out = Paths.get(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--users":
+                    users = Integer.parseInt(value);
+                    break;
+                case "--events":
+                    events = Integer.parseInt(value);
+                    break;
+                case "--locations":
+                    locations = Integer.parseInt(value);
+                    break;
+                case "--participants-per-event":
+                    participantsPerEvent = Integer.parseInt(value);
+                    break;
+                case "--slots-per-user":
+                    slotsPerUser = Integer.parseInt(value);
+                    break;
+                case "--collision-density":
+                    collisionDensity = Double.parseDouble(value);
+                    break;
+                default:
+                    throw new SyncException("Unknown option " + args[i] + ". " + USAGE);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid number: " + e.getMessage() + ". " + USAGE);
+        }
+
+        long startNanos = System.nanoTime();
+        new DatasetGenerator(seed, users, events, locations, participantsPerEvent, slotsPerUser, collisionDensity)
+                .generate(out);
+        System.out.printf("Wrote %d users and %d events to %s in %.2f s%n", users, events,
+                out.toAbsolutePath().normalize(), (System.nanoTime() - startNanos) / 1e9);
+    }
+}
@@ -1,17 +1,39 @@
 package seedu;
 
 import commandfactory.CommandFactory;
+import event.Event;
 import event.EventManager;
+import event.IndexSidecar;
 import parser.Parser;
+import participant.Participant;
 import participant.ParticipantManager;
+import storage.Archive;
+import storage.Snapshot;
 import storage.Storage;
 import storage.UserStorage;
 import ui.UI;
 import exception.SyncException;
 import command.Command;
+import label.Priority;
+import logger.EventSyncLogger;
+import metrics.CommandEvent;
+import metrics.Metrics;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
 
 /**
  * The EventSync class is the main entry point for the event synchronization system.
@@ -19,6 +41,12 @@ import java.util.Scanner;
  * This class processes user input and manages the synchronization of events and participants through commands.
  */
 public class EventSync {
+    private static final String EVENT_FILE = "./data/seedu.EventSync.txt";
+    private static final String USER_FILE = "./data/seedu.UserSync.txt";
+    private static final String USAGE = "Usage: [--batch <file> [--commit-every <n>]] [--metrics <file>]";
+    private static final String UNKNOWN_COMMAND = "UnknownCommand";
+    private static final Logger LOGGER = Logger.getLogger(EventSync.class.getName());
+
     private final UI ui;
     private final EventManager eventManager;
     private final ParticipantManager participantManager;
@@ -27,6 +55,28 @@ public class EventSync {
     private final Storage storage;
     private final UserStorage userStorage;
 
+    /**
+     * The snapshot of the model read at startup and written when a session ends, or null if the
+     * {@code eventsync.snapshot} system property is not {@code true}.
+     */
+    private final Snapshot snapshot;
+
+    /**
+     * Receives the time each command in {@link #run()} took, from reading it to flushing its output.
+     */
+    private LongConsumer commandTimer = elapsedNanos -> { };
+
+    /**
+     * The file the metrics are written to as JSON when a session ends, or null to not write them.
+     */
+    private Path metricsFile;
+
+    /**
+     * When loading the data files started, and whether the time until the welcome prompt has been recorded.
+     */
+    private final long startupStart;
+    private boolean isReady;
+
     /**
      * Constructs an EventSync instance with specified file paths for event and user data.
      * Initializes the user interface, event manager, participant manager, parser, and storage components.
@@ -36,13 +86,7 @@ public class EventSync {
      * @throws SyncException If an error occurs during initialization.
      */
     public EventSync(String filePathEvent, String filePathUser) throws SyncException {
-        scanner = new Scanner(System.in);
-        ui = new UI();
-        userStorage = new UserStorage(filePathUser);
-        storage = new Storage(filePathEvent, userStorage);
-        participantManager = new ParticipantManager(userStorage.loadUsers(), ui, userStorage);
-        eventManager = new EventManager(storage.loadEvents(), ui, storage, userStorage);
-        parser = new Parser(eventManager, participantManager, ui, scanner);
+        this(new Scanner(System.in), filePathEvent, filePathUser);
     }
 
     /**
@@ -57,47 +101,383 @@ public class EventSync {
      */
     public EventSync(InputStream inputStream,
                      String filePathEvent, String filePathUser) throws SyncException {
-        userStorage = new UserStorage(filePathUser);
+        this(new Scanner(inputStream), filePathEvent, filePathUser);
+    }
+
+    /**
+     * Loads the users and events and builds the managers. If the {@code eventsync.snapshot} system property
+     * is {@code true} and a snapshot of both data files is up to date, the model is read from it. Otherwise,
+     * unless the {@code eventsync.startup} system property is {@code serial}, the users are loaded on another
+     * thread while the event file is read and parsed, and the events' participants are resolved once both are
+     * done. The indexes are read from their sidecar files if those are up to date. If the
+     * {@code eventsync.archive.days} system property is set, events that ended more than that many days ago
+     * are then moved to the archive. The time spent in each phase is recorded in the shared {@link Metrics}.
+     */
+    private EventSync(Scanner scanner, String filePathEvent, String filePathUser) throws SyncException {
+        startupStart = System.nanoTime();
+        this.scanner = scanner;
         ui = new UI();
+        userStorage = new UserStorage(filePathUser);
         storage = new Storage(filePathEvent, userStorage);
-        eventManager = new EventManager(storage.loadEvents(), ui, storage, userStorage);
-        participantManager = new ParticipantManager(userStorage.loadUsers(), ui, userStorage);
-        scanner = new Scanner(inputStream);
+        snapshot = Boolean.getBoolean("eventsync.snapshot") ? new Snapshot(filePathEvent, filePathUser) : null;
+
+        ArrayList<Participant> participants = new ArrayList<>();
+        ArrayList<Event> events = new ArrayList<>();
+        if (snapshot != null && snapshot.load(participants, events)) {
+            Metrics.getShared().recordPhase(Metrics.Phase.SNAPSHOT_LOAD, System.nanoTime() - startupStart);
+            LOGGER.info("Loaded the model from " + snapshot.getFile());
+        } else if ("serial".equals(System.getProperty("eventsync.startup"))) {
+            participants = userStorage.loadUsers();
+            events = storage.loadEvents();
+        } else {
+            FutureTask<ArrayList<Participant>> userLoad = new FutureTask<>(userStorage::loadUsers);
+            Thread loader = new Thread(userLoad, "eventsync-user-loader");
+            loader.setDaemon(true);
+            loader.start();
+            // Events keep their own copies of the participants, as when the user file is loaded twice
+            events = storage.loadEvents(() -> copyParticipants(awaitUsers(userLoad)));
+            participants = awaitUsers(userLoad);
+        }
+        participantManager = new ParticipantManager(participants, ui, userStorage);
+
+        long indexStart = System.nanoTime();
+        eventManager = new EventManager(events, ui, storage, userStorage, new IndexSidecar(filePathEvent));
+        Metrics.getShared().recordPhase(Metrics.Phase.INDEX_BUILD, System.nanoTime() - indexStart);
+        eventManager.setArchive(new Archive(filePathEvent, storage));
+        Integer archiveDays = Integer.getInteger("eventsync.archive.days");
+        if (archiveDays != null && archiveDays >= 0) {
+            eventManager.archiveEndedBefore(LocalDateTime.now().minusDays(archiveDays));
+        }
         parser = new Parser(eventManager, participantManager, ui, this.scanner);
     }
 
+    private static ArrayList<Participant> awaitUsers(FutureTask<ArrayList<Participant>> userLoad)
+            throws SyncException {
+        try {
+            return userLoad.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SyncException) {
+                throw (SyncException) e.getCause();
+            }
+            throw new SyncException("Error reading file: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SyncException("Interrupted while loading users.");
+        }
+    }
+
+    private static ArrayList<Participant> copyParticipants(List<Participant> participants) {
+        ArrayList<Participant> copies = new ArrayList<>(participants.size());
+        for (Participant participant : participants) {
+            copies.add(new Participant(participant.getName(), participant.getPassword(),
+                    participant.getAccessLevel(), participant.getAvailableTimes()));
+        }
+        return copies;
+    }
+
+    /**
+     * Records the time from starting to load the data files until now, the first time it is called.
+     */
+    private void recordReady() {
+        if (!isReady) {
+            isReady = true;
+            long elapsed = System.nanoTime() - startupStart;
+            Metrics.getShared().recordPhase(Metrics.Phase.READY, elapsed);
+            LOGGER.info(() -> String.format("Ready in %.1f ms", elapsed / 1e6));
+        }
+    }
+
     /**
      * Starts the event synchronization application.
      * It continuously reads user input, processes commands, and executes them.
      * The loop will exit when an exit command is executed.
      */
     public void run() {
+        // Prompts read from the same input as commands, so a scripted session can answer them too
+        Scanner promptScanner = UI.scanner;
+        ui.setScanner(scanner);
+        recordReady();
         ui.showWelcomeMessage();
+        // Each command's output is written to the console in one go once the command finishes
+        ui.setOutputHeld(true);
         boolean isExit = false;
         while (!isExit && scanner.hasNextLine()) {
             String input = scanner.nextLine();
+            long start = System.nanoTime();
+            CommandEvent commandEvent = new CommandEvent();
+            commandEvent.begin();
+            String type = UNKNOWN_COMMAND;
+            boolean failed = false;
             try {
                 CommandFactory factory = parser.parse(input);
+                type = commandType(factory);
                 Command c = factory.createCommand();
                 c.execute(eventManager, ui, participantManager);
                 isExit = c.isExit();
             } catch (SyncException e) {
+                failed = true;
                 ui.showMessage(e.getMessage());
+            } finally {
+                ui.flush();
             }
+            long elapsed = System.nanoTime() - start;
+            Metrics.getShared().recordCommand(type, elapsed, failed);
+            commitCommandEvent(commandEvent, type, failed);
+            commandTimer.accept(elapsed);
             if (!isExit) {
                 System.out.print("\nEnter your command: ");
             }
         }
+        ui.setOutputHeld(false);
+        ui.setScanner(promptScanner);
         scanner.close();
+        saveIndexes();
+        saveSnapshot();
+        writeMetrics();
+    }
+
+    /**
+     * Returns the name metrics are recorded under for the command a factory creates, such as
+     * {@code AddEventCommand}, so commands that fail before they are created are still counted.
+     *
+     * @param factory the factory of the command.
+     * @return the name of the command type.
+     */
+    private static String commandType(CommandFactory factory) {
+        String name = factory.getClass().getSimpleName();
+        return name.endsWith("Factory") ? name.substring(0, name.length() - "Factory".length()) : name;
+    }
+
+    /**
+     * Fills in and commits a flight recorder event for a command, if a recording wants it.
+     *
+     * @param commandEvent the event begun when the command was read.
+     * @param type         the name of the command type.
+     * @param failed       whether the command ended with an error.
+     */
+    private static void commitCommandEvent(CommandEvent commandEvent, String type, boolean failed) {
+        if (commandEvent.shouldCommit()) {
+            commandEvent.command = type;
+            commandEvent.failed = failed;
+            commandEvent.commit();
+        }
+    }
+
+    /**
+     * Sets the file the metrics are written to as JSON when {@link #run()} or {@link #runBatch} ends.
+     *
+     * @param metricsFile the file to write, or null to not write the metrics.
+     */
+    public void setMetricsFile(Path metricsFile) {
+        this.metricsFile = metricsFile;
+    }
+
+    /**
+     * Writes the event indexes to their sidecar files for the next start. The index files only save
+     * time, so a failure is logged rather than reported.
+     */
+    private void saveIndexes() {
+        try {
+            eventManager.saveIndexes();
+        } catch (SyncException e) {
+            LOGGER.warning(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the model to the snapshot for the next start, if snapshots are on and the data files hold the
+     * current model. The snapshot only saves time, so a failure is logged rather than reported.
+     */
+    private void saveSnapshot() {
+        if (snapshot == null || storage.hasUnsavedChanges() || userStorage.hasUnsavedChanges()
+                || snapshot.isCurrent()) {
+            return;
+        }
+        try {
+            snapshot.save(participantManager.getParticipants(), eventManager.getEvents(),
+                    Priority.getAllPriorities());
+        } catch (SyncException e) {
+            LOGGER.warning(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the metrics to the metrics file, if one is set.
+     */
+    private void writeMetrics() {
+        if (metricsFile == null) {
+            return;
+        }
+        try {
+            Metrics.getShared().writeJson(metricsFile);
+        } catch (IOException e) {
+            ui.showMessage("Cannot write metrics to " + metricsFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sets the listener told how long each command in {@link #run()} took, including any prompts it
+     * answered, in nanoseconds.
+     *
+     * @param commandTimer the listener to call after every command.
+     */
+    public void setCommandTimer(LongConsumer commandTimer) {
+        assert commandTimer != null : "Command timer cannot be null";
+        this.commandTimer = commandTimer;
+    }
+
+    /**
+     * Returns the number of bytes written to the event and user files since this instance was created.
+     *
+     * @return the total size of every write of the data files.
+     */
+    public long getBytesWritten() {
+        return storage.getBytesWritten() + userStorage.getBytesWritten();
+    }
+
+    /**
+     * Runs every command in a script file without any prompts and returns a summary of the run.
+     * Commands take their arguments inline; a command that would need to prompt fails instead of waiting
+     * for input. Blank lines and lines starting with {@code #} are skipped, and a failing command is
+     * reported with its line number without stopping the run.
+     * Saves are held back and the data files are written once at the end, or after every
+     * {@code commitEvery} commands when it is positive, instead of after every command.
+     *
+     * @param script      the script file to run.
+     * @param commitEvery the number of commands between writes of the data files, or 0 to write once at the end.
+     * @return the number of commands, failures and commits, and the elapsed time.
+     * @throws SyncException If the script cannot be read or the data files cannot be written.
+     */
+    public BatchSummary runBatch(Path script, int commitEvery) throws SyncException {
+        recordReady();
+        // Any leftover prompt reads from an empty scanner and fails instead of blocking
+        Scanner promptScanner = UI.scanner;
+        ui.setScanner(new Scanner(""));
+        ui.setOutputHeld(true);
+        storage.setDeferred(true);
+        userStorage.setDeferred(true);
+
+        long start = System.nanoTime();
+        int commands = 0;
+        int failures = 0;
+        int commits = 0;
+        try (BufferedReader reader = Files.newBufferedReader(script)) {
+            int lineNumber = 0;
+            boolean isExit = false;
+            String line;
+            while (!isExit && (line = reader.readLine()) != null) {
+                lineNumber++;
+                String input = line.trim();
+                if (input.isEmpty() || input.startsWith("#")) {
+                    continue;
+                }
+                commands++;
+                long commandStart = System.nanoTime();
+                CommandEvent commandEvent = new CommandEvent();
+                commandEvent.begin();
+                String type = UNKNOWN_COMMAND;
+                int failuresBefore = failures;
+                try {
+                    CommandFactory factory = parser.parse(input);
+                    type = commandType(factory);
+                    Command c = factory.createCommand();
+                    c.execute(eventManager, ui, participantManager);
+                    isExit = c.isExit();
+                } catch (SyncException e) {
+                    failures++;
+                    ui.showMessage("Line " + lineNumber + ": " + e.getMessage());
+                } catch (NoSuchElementException e) {
+                    failures++;
+                    ui.showMessage("Line " + lineNumber + ": this command needs its arguments inline in batch mode.");
+                }
+                ui.flush();
+                Metrics.getShared().recordCommand(type, System.nanoTime() - commandStart, failures > failuresBefore);
+                commitCommandEvent(commandEvent, type, failures > failuresBefore);
+                if (commitEvery > 0 && commands % commitEvery == 0) {
+                    commits += commit();
+                }
+            }
+        } catch (IOException e) {
+            throw new SyncException("Cannot read batch file: " + script);
+        } finally {
+            ui.setScanner(promptScanner);
+            ui.setOutputHeld(false);
+            commits += commit();
+            storage.setDeferred(false);
+            userStorage.setDeferred(false);
+            saveIndexes();
+            saveSnapshot();
+            writeMetrics();
+        }
+
+        BatchSummary summary = new BatchSummary(commands, failures, commits, System.nanoTime() - start);
+        ui.showMessage(summary.toString());
+        return summary;
+    }
+
+    /**
+     * Writes any changes held back by deferred saving.
+     *
+     * @return 1 if either data file was written, otherwise 0.
+     * @throws SyncException If the data files cannot be written.
+     */
+    private int commit() throws SyncException {
+        boolean wroteEvents = storage.flush();
+        if (wroteEvents && eventManager.getArchive() != null) {
+            // The event file no longer holds any events archived while saves were deferred
+            eventManager.getArchive().complete();
+        }
+        boolean wroteUsers = userStorage.flush();
+        return wroteEvents || wroteUsers ? 1 : 0;
     }
 
     /**
      * Main method to run the EventSync application with default file paths for event and user data.
+     * With {@code --batch <file> [--commit-every <n>]} the commands in the file are run without prompts
+     * instead of reading commands interactively. With {@code --metrics <file>} the command and storage
+     * metrics are written to the file as JSON when the session ends. Logging is set up by
+     * {@link EventSyncLogger#setupLogger()}.
      *
-     * @param args Command-line arguments (not used in this implementation).
+     * @param args Command-line arguments.
      * @throws SyncException If an error occurs during initialization or execution.
      */
     public static void main(String[] args) throws SyncException {
-        new EventSync("./data/seedu.EventSync.txt", "./data/seedu.UserSync.txt" ).run();
+        Path batchFile = null;
+        Path metricsFile = null;
+        Integer commitEvery = null;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new SyncException(USAGE);
+            }
+            switch (args[i]) {
+            case "--batch":
+                batchFile = Paths.get(args[i + 1]);
+                break;
+            case "--commit-every":
+                try {
+                    commitEvery = Integer.parseInt(args[i + 1]);
+                } catch (NumberFormatException e) {
+                    throw new SyncException("--commit-every needs a number.");
+                }
+                break;
+            case "--metrics":
+                metricsFile = Paths.get(args[i + 1]);
+                break;
+            default:
+                throw new SyncException(USAGE);
+            }
+        }
+        if (commitEvery != null && batchFile == null) {
+            throw new SyncException(USAGE);
+        }
+
+        EventSyncLogger.setupLogger();
+        EventSync app = new EventSync(EVENT_FILE, USER_FILE);
+        app.setMetricsFile(metricsFile);
+        if (batchFile == null) {
+            app.run();
+        } else {
+            app.runBatch(batchFile, commitEvery == null ? 0 : commitEvery);
+        }
     }
 }
@@ -0,0 +1,368 @@
+package seedu;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import exception.SyncException;
+import logger.EventSyncLogger;
+
+/**
+ * Runs a scripted session end to end through {@link EventSync#run()} against a generated dataset and
+ * measures commands per second, per-command latency and bytes written to the data files.
+ * The dataset and the script both come from the seed, so two runs of the same profile on different
+ * commits do exactly the same work and their reports can be compared directly.
+ *
+ * <p>The script is made of sessions: an admin or a member logs in, runs a mix of commands chosen by the
+ * profile's weights and logs out. The first session is always the admin's. Admins add, list, find, edit
+ * and delete; members only list and find. Only events added by the script are deleted, so the dataset's
+ * events keep their positions and every edit index stays valid.
+ */
+public class LoadHarness {
+    public static final String SCRIPT_FILE_NAME = "load-script.txt";
+
+    private static final String USAGE = "Usage: [--profile read-heavy|mixed|write-heavy] [--seed N]"
+            + " [--events N] [--commands N] [--out DIR] [--log]";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int LOCATIONS = 50;
+    private static final int PARTICIPANTS_PER_EVENT = 2;
+    private static final double COLLISION_DENSITY = 0.05;
+    private static final int SESSION_LENGTH = 50;
+    private static final double ADMIN_SESSION_SHARE = 0.7;
+    private static final long ADDED_EVENT_SLOT_MINUTES = 15;
+    private static final String[] SORT_TYPES = {"priority", "start", "end"};
+
+    /**
+     * The commands a session can run, apart from logging in and out.
+     */
+    private enum Operation { ADD, LIST, FIND, EDIT, DELETE }
+
+    /**
+     * Workloads with a fixed dataset size, session length and command mix.
+     */
+    public enum Profile {
+        READ_HEAVY(1_000, 10_000, 5_000, 5, 45, 40, 5, 5),
+        MIXED(1_000, 10_000, 3_000, 15, 30, 30, 10, 15),
+        WRITE_HEAVY(1_000, 10_000, 2_000, 35, 10, 10, 15, 30);
+
+        private final int users;
+        private final int events;
+        private final int commands;
+        private final int[] weights;
+
+        Profile(int users, int events, int commands, int add, int list, int find, int edit, int delete) {
+            this.users = users;
+            this.events = events;
+            this.commands = commands;
+            this.weights = new int[]{add, list, find, edit, delete};
+        }
+
+        public int getEvents() {
+            return events;
+        }
+
+        public int getCommands() {
+            return commands;
+        }
+
+        /**
+         * Returns the profile with the given name, such as {@code read-heavy}.
+         *
+         * @param name the name of the profile, in any case, with dashes or underscores.
+         * @return the matching profile.
+         * @throws SyncException if no profile has that name.
+         */
+        public static Profile fromName(String name) throws SyncException {
+            try {
+                return valueOf(name.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new SyncException("Unknown profile " + name + ". " + USAGE);
+            }
+        }
+    }
+
+    /**
+     * A generated script and the number of commands in it, not counting the answers to prompts.
+     */
+    private static class Script {
+        private final StringBuilder text = new StringBuilder();
+        private int commands;
+
+        private void command(String line) {
+            text.append(line).append('\n');
+            commands++;
+        }
+
+        private void answer(String line) {
+            text.append(line).append('\n');
+        }
+    }
+
+    private final Profile profile;
+    private final long seed;
+    private final int events;
+    private final int commands;
+    private final DatasetGenerator dataset;
+
+    /**
+     * Constructs a harness for a profile with its own dataset size and command count.
+     *
+     * @param profile the workload mix to run.
+     * @param seed    the seed the dataset and the script are generated from.
+     * @throws SyncException if the profile's dataset shape is invalid.
+     */
+    public LoadHarness(Profile profile, long seed) throws SyncException {
+        this(profile, seed, profile.getEvents(), profile.getCommands());
+    }
+
+    /**
+     * Constructs a harness for a profile's command mix with a different dataset size or command count.
+     *
+     * @param profile  the workload mix to run.
+     * @param seed     the seed the dataset and the script are generated from.
+     * @param events   the number of events in the dataset.
+     * @param commands the number of commands to run, including logins and logouts.
+     * @throws SyncException if the dataset shape is invalid.
+     */
+    public LoadHarness(Profile profile, long seed, int events, int commands) throws SyncException {
+        if (commands < 1) {
+            throw new SyncException("A load run needs at least one command.");
+        }
+        this.profile = profile;
+        this.seed = seed;
+        this.events = events;
+        this.commands = commands;
+        // A single slot per user keeps the admin free for the whole period, so scripted adds are accepted
+        this.dataset = new DatasetGenerator(seed, profile.users, events, LOCATIONS, PARTICIPANTS_PER_EVENT,
+                1, COLLISION_DENSITY);
+    }
+
+    /**
+     * Generates the dataset and the script into a directory, runs the script and reports the results.
+     * Console output is discarded while the script runs.
+     *
+     * @param directory the directory for the data files and the script; existing files are replaced.
+     * @return the throughput, latencies and bytes written of the run.
+     * @throws SyncException if the files cannot be written or loaded.
+     */
+    public LoadReport run(Path directory) throws SyncException {
+        dataset.generate(directory);
+        Script script = buildScript();
+        try {
+            Files.writeString(directory.resolve(SCRIPT_FILE_NAME), script.text, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SyncException("Cannot write load script: " + e.getMessage());
+        }
+
+        byte[] input = script.text.toString().getBytes(StandardCharsets.UTF_8);
+        EventSync app = new EventSync(new ByteArrayInputStream(input),
+                directory.resolve(DatasetGenerator.EVENT_FILE_NAME).toString(),
+                directory.resolve(DatasetGenerator.USER_FILE_NAME).toString());
+        long[] latencies = new long[script.commands];
+        int[] recorded = {0};
+        app.setCommandTimer(elapsedNanos -> {
+            if (recorded[0] < latencies.length) {
+                latencies[recorded[0]++] = elapsedNanos;
+            }
+        });
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        try {
+            app.run();
+        } finally {
+            System.setOut(console);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] ran = new long[recorded[0]];
+        System.arraycopy(latencies, 0, ran, 0, ran.length);
+        return new LoadReport(profile.name().toLowerCase().replace('_', '-'), ran, elapsed, app.getBytesWritten());
+    }
+
+    /**
+     * Returns the script this harness runs, which depends only on the profile, seed and counts.
+     *
+     * @return the script, one line per command or prompt answer.
+     */
+    public String getScript() {
+        return buildScript().text.toString();
+    }
+
+    private Script buildScript() {
+        Random random = new Random(seed);
+        Script script = new Script();
+        // Each live added event holds its number and its time slot; slots of deleted events are reused
+        ArrayList<long[]> liveAdds = new ArrayList<>();
+        ArrayDeque<Long> freeSlots = new ArrayDeque<>();
+        int added = 0;
+        long nextSlot = 0;
+        long addSlots = Math.max(1, (Duration.between(dataset.getPeriodStart(), dataset.getPeriodEnd()).toMinutes()
+                - 1) / ADDED_EVENT_SLOT_MINUTES);
+
+        // Leave room for the logout and bye that close the script
+        while (script.commands < commands - 2) {
+            // The admin always goes first, so even a short run writes to the data files
+            boolean isAdmin = script.commands == 0 || profile.users == 1
+                    || random.nextDouble() < ADMIN_SESSION_SHARE;
+            int user = isAdmin ? 0 : 1 + random.nextInt(profile.users - 1);
+            script.command("login user" + user + " pw" + user);
+
+            for (int i = 0; i < SESSION_LENGTH && script.commands < commands - 2; i++) {
+                Operation operation = pickOperation(random, isAdmin);
+                if (operation == Operation.DELETE && liveAdds.isEmpty()) {
+                    operation = Operation.ADD;
+                }
+                if (operation == Operation.ADD && freeSlots.isEmpty() && nextSlot == addSlots) {
+                    operation = Operation.DELETE;
+                }
+                if (operation == Operation.EDIT && events == 0) {
+                    operation = Operation.LIST;
+                }
+
+                switch (operation) {
+                case ADD:
+                    // Live added events never share a slot, so neither the room nor the admin is double-booked
+                    long slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.poll();
+                    LocalDateTime startTime = dataset.getPeriodStart().plusMinutes(ADDED_EVENT_SLOT_MINUTES * slot);
+                    script.command("add Load#" + added + "# | " + FORMATTER.format(startTime) + " | "
+                            + FORMATTER.format(startTime.plusMinutes(ADDED_EVENT_SLOT_MINUTES - 5))
+                            + " | Load room | Added by load run | MEDIUM");
+                    liveAdds.add(new long[]{added++, slot});
+                    break;
+                case LIST:
+                    script.command("list " + SORT_TYPES[random.nextInt(SORT_TYPES.length)]);
+                    break;
+                case FIND:
+                    script.command("find event " + random.nextInt(Math.max(1, events)));
+                    break;
+                case EDIT:
+                    script.command("edit");
+                    script.answer(String.valueOf(1 + random.nextInt(events)));
+                    script.answer("5");
+                    script.answer("Edited by load run " + script.commands);
+                    script.answer("6");
+                    break;
+                case DELETE:
+                    int victim = random.nextInt(liveAdds.size());
+                    script.command("delete Load#" + liveAdds.get(victim)[0] + "#");
+                    freeSlots.add(liveAdds.get(victim)[1]);
+                    liveAdds.set(victim, liveAdds.get(liveAdds.size() - 1));
+                    liveAdds.remove(liveAdds.size() - 1);
+                    break;
+                default:
+                    throw new AssertionError(operation);
+                }
+            }
+            script.command("logout");
+        }
+        script.command("bye");
+        return script;
+    }
+
+    /**
+     * Picks the next command by the profile's weights. Members only list and find.
+     *
+     * @param random  the source of the script's choices.
+     * @param isAdmin whether the session's user is an admin.
+     * @return the operation to run.
+     */
+    private Operation pickOperation(Random random, boolean isAdmin) {
+        int[] weights = profile.weights.clone();
+        if (!isAdmin) {
+            weights[Operation.ADD.ordinal()] = 0;
+            weights[Operation.EDIT.ordinal()] = 0;
+            weights[Operation.DELETE.ordinal()] = 0;
+        }
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        if (total == 0) {
+            return Operation.LIST;
+        }
+        int roll = random.nextInt(total);
+        for (Operation operation : Operation.values()) {
+            roll -= weights[operation.ordinal()];
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return Operation.LIST;
+    }
+
+    /**
+     * Runs a profile and prints its report, by default {@code mixed} into {@code ./data/load}.
+     * Logging is turned off unless {@code --log} is given, so the report measures the application itself;
+     * with it, logging is set up as in a normal session.
+     *
+     * @param args the options described by the usage message.
+     * @throws SyncException if an option is invalid or the run fails.
+     */
+    public static void main(String[] args) throws SyncException {
+        Profile profile = Profile.MIXED;
+        long seed = 2113;
+        Integer events = null;
+        Integer commands = null;
+        Path out = Paths.get("./data/load");
+        boolean isLogging = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--log")) {
+                    isLogging = true;
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    throw new SyncException(USAGE);
+                }
+                String value = args[++i];
+                switch (args[i - 1]) {
+                case "--profile":
+                    profile = Profile.fromName(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--events":
+                    events = Integer.parseInt(value);
+                    break;
+                case "--commands":
+                    commands = Integer.parseInt(value);
+                    break;
+                case "--out":
+                    out = Paths.get(value);
+                    break;
+                default:
+                    throw new SyncException("Unknown option " + args[i - 1] + ". " + USAGE);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new SyncException("Invalid number: " + e.getMessage() + ". " + USAGE);
+        }
+
+        if (isLogging) {
+            EventSyncLogger.setupLogger();
+        } else {
+            Logger.getLogger("").setLevel(Level.OFF);
+        }
+        LoadReport report = new LoadHarness(profile, seed,
+                events == null ? profile.getEvents() : events,
+                commands == null ? profile.getCommands() : commands).run(out);
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu;
+
+import java.util.Arrays;
+
+/**
+ * Holds the outcome of a load run: how many commands ran, how long each took, how long the whole
+ * session took and how many bytes were written to the data files.
+ */
+public class LoadReport {
+    private final String profile;
+    private final long[] latencies;
+    private final long elapsedNanos;
+    private final long bytesWritten;
+
+    /**
+     * Constructs a LoadReport.
+     *
+     * @param profile      the name of the workload that was run.
+     * @param latencies    the time each command took in nanoseconds, in any order.
+     * @param elapsedNanos the wall-clock time of the whole session in nanoseconds.
+     * @param bytesWritten the number of bytes written to the event and user files.
+     */
+    public LoadReport(String profile, long[] latencies, long elapsedNanos, long bytesWritten) {
+        this.profile = profile;
+        this.latencies = latencies.clone();
+        Arrays.sort(this.latencies);
+        this.elapsedNanos = elapsedNanos;
+        this.bytesWritten = bytesWritten;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public int getCommands() {
+        return latencies.length;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the number of commands run per second.
+     *
+     * @return the throughput of the run.
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : latencies.length * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns the latency below which the given share of commands finished, using the nearest rank.
+     *
+     * @param percentile the percentile, from 0 to 100.
+     * @return the latency in nanoseconds, or 0 if no commands ran.
+     */
+    public long getPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile must be between 0 and 100";
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+        return latencies[Math.max(0, rank - 1)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Load %s: %d commands in %.3f s, %.0f commands/s, p50 %.3f ms, p99 %.3f ms,"
+                        + " max %.3f ms, %d bytes written.",
+                profile, latencies.length, elapsedNanos / 1_000_000_000.0, getCommandsPerSecond(),
+                getPercentile(50) / 1_000_000.0, getPercentile(99) / 1_000_000.0,
+                getPercentile(100) / 1_000_000.0, bytesWritten);
+    }
+}
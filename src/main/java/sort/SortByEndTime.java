@@ -1,6 +1,5 @@
 package sort;
 
-import command.LoginCommand;
 import event.Event;
 import label.Priority;
 import java.util.List;
@@ -13,7 +12,7 @@ import java.util.logging.Logger;
  * with higher priority events appearing first.
  */
 public class SortByEndTime extends Sort {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(SortByEndTime.class.getName());
 
 
     /**
@@ -28,7 +27,7 @@ public class SortByEndTime extends Sort {
     @Override
     public void sort(List<Event> events, List<String> priorities) {
         assert events != null;
-        LOGGER.info("Attempting sorting by end time ");
+        LOGGER.fine("Attempting sorting by end time");
         int n = events.size();
         for (int i = 0; i < n - 1; i++) {
             int bestIdx = i;
@@ -0,0 +1,316 @@
+package storage;
+
+import event.Event;
+import exception.SyncException;
+import label.Priority;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * Keeps events that have ended out of the loaded events, in an archive file next to the event file.
+ * Archived events are only ever appended, one line each in the event file format, so archiving never
+ * rewrites what is already there. An index file holds a fixed-width entry per archived event with the
+ * position of its line and its start and end times, so the archive is searched from the newest event back
+ * and only the lines that are needed are read; a search by time only reads the lines of events in its window.
+ *
+ * <p>The archive file is written before the index file, so an interrupted write at worst leaves lines that
+ * no index entry points to, and a partly written index entry is ignored and overwritten by the next append.
+ * Before appending, a marker file records where the run's index entries start, and it is removed by
+ * {@link #complete()} once the event file no longer holds the archived events. While the marker is there, an
+ * append skips events already written since it, so a run whose event file was never saved does not archive
+ * the same events twice; older entries are never read for this.
+ */
+public class Archive {
+    private static final Logger LOGGER = Logger.getLogger(Archive.class.getName());
+
+    /**
+     * The size of an index entry: the position and length of the line, then its start and end in minutes.
+     */
+    private static final int ENTRY_SIZE = Long.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    private final Path archiveFile;
+    private final Path indexFile;
+    private final Path pendingFile;
+    private final Storage storage;
+
+    /**
+     * Constructs an Archive for an event file. The archive, its index and its marker are named after it, such
+     * as {@code seedu.EventSync.txt.archive}, {@code seedu.EventSync.txt.archive.idx} and
+     * {@code seedu.EventSync.txt.archive.pending}.
+     *
+     * @param eventFilePath the path of the event file.
+     * @param storage       the storage of the event file, which formats and parses the archived lines.
+     */
+    public Archive(String eventFilePath, Storage storage) {
+        this.archiveFile = Paths.get(eventFilePath + ".archive");
+        this.indexFile = Paths.get(eventFilePath + ".archive.idx");
+        this.pendingFile = Paths.get(eventFilePath + ".archive.pending");
+        this.storage = storage;
+    }
+
+    public Path getFile() {
+        return archiveFile;
+    }
+
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    public Path getPendingFile() {
+        return pendingFile;
+    }
+
+    /**
+     * Returns the number of archived events.
+     *
+     * @return the number of complete entries in the index.
+     * @throws SyncException if the index file cannot be read.
+     */
+    public int size() throws SyncException {
+        try {
+            return Files.exists(indexFile) ? (int) (Files.size(indexFile) / ENTRY_SIZE) : 0;
+        } catch (IOException e) {
+            throw new SyncException("Error reading archive: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends events to the archive, after any already archived, and leaves the run pending until
+     * {@link #complete()}. If an earlier run is still pending, an event whose line, with the same details,
+     * participants and priority, was written since that run started is skipped; each of those lines stands for
+     * one event, so identical events are only skipped as many times as they were written.
+     *
+     * @param events     the events to archive.
+     * @param priorities the priorities of the events, by position; missing ones are {@code LOW}.
+     * @return the number of events appended.
+     * @throws SyncException if the archive cannot be read or written.
+     */
+    public int append(List<Event> events, List<String> priorities) throws SyncException {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        List<String> lines = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            lines.add(storage.formatEvent(events.get(i), i < priorities.size() ? priorities.get(i) : Priority.LOW));
+        }
+        int appended = 0;
+        try {
+            boolean[] isArchived = findPending(events, lines);
+            long offset = Files.exists(archiveFile) ? Files.size(archiveFile) : 0;
+            ByteBuffer entries = ByteBuffer.allocate(events.size() * ENTRY_SIZE);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(archiveFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                for (int i = 0; i < events.size(); i++) {
+                    if (isArchived[i]) {
+                        continue;
+                    }
+                    Event event = events.get(i);
+                    byte[] line = lines.get(i).getBytes(StandardCharsets.UTF_8);
+                    out.write(line);
+                    out.write('\n');
+                    entries.putLong(offset).putInt(line.length)
+                            .putLong(toMinutes(event.getStartTime()))
+                            .putLong(toMinutes(event.getSeriesEndTime()));
+                    offset += line.length + 1;
+                    appended++;
+                }
+            }
+            entries.flip();
+            try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                long complete = index.size() / ENTRY_SIZE * ENTRY_SIZE;
+                if (!Files.exists(pendingFile)) {
+                    Files.write(pendingFile, ByteBuffer.allocate(Long.BYTES).putLong(complete).array());
+                }
+                index.truncate(complete);
+                index.position(complete);
+                while (entries.hasRemaining()) {
+                    index.write(entries);
+                }
+            }
+        } catch (IOException e) {
+            throw new SyncException("Error writing archive: " + e.getMessage());
+        }
+        int count = appended;
+        LOGGER.fine(() -> String.format("Archived %d of %d events in %.1f ms", count, events.size(),
+                (System.nanoTime() - start) / 1e6));
+        return appended;
+    }
+
+    /**
+     * Marks the last run as complete, once the event file no longer holds the events it archived, so later
+     * appends do not compare against them.
+     *
+     * @throws SyncException if the marker cannot be removed.
+     */
+    public void complete() throws SyncException {
+        try {
+            Files.deleteIfExists(pendingFile);
+        } catch (IOException e) {
+            throw new SyncException("Error writing archive: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finds which of the given events were already written by a pending run. Only the index entries after the
+     * marker are checked, and only the lines of those with the same start and end as one of the events are read.
+     *
+     * @param events the events about to be archived.
+     * @param lines  the lines of the events.
+     * @return whether each event is already archived, by position.
+     * @throws IOException if the archive cannot be read.
+     * @throws SyncException if the index does not match the archive.
+     */
+    private boolean[] findPending(List<Event> events, List<String> lines) throws IOException, SyncException {
+        boolean[] isArchived = new boolean[events.size()];
+        if (!Files.exists(pendingFile) || !Files.exists(indexFile) || !Files.exists(archiveFile)) {
+            return isArchived;
+        }
+        byte[] marker = Files.readAllBytes(pendingFile);
+        HashMap<List<Long>, ArrayDeque<Integer>> waiting = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            waiting.computeIfAbsent(List.of(toMinutes(event.getStartTime()), toMinutes(event.getSeriesEndTime())),
+                    key -> new ArrayDeque<>()).add(i);
+        }
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.READ);
+             FileChannel archived = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+            long complete = index.size() / ENTRY_SIZE * ENTRY_SIZE;
+            // The marker is written before its run's index entries, so one cut short means the run wrote none
+            long from = marker.length == Long.BYTES ? ByteBuffer.wrap(marker).getLong() : complete;
+            if (from < 0 || from > complete || from % ENTRY_SIZE != 0) {
+                from = complete;
+            }
+            ByteBuffer entries = index.map(FileChannel.MapMode.READ_ONLY, from, complete - from);
+            long archiveSize = archived.size();
+            for (int position = 0; position < entries.limit(); position += ENTRY_SIZE) {
+                long offset = entries.getLong(position);
+                int length = entries.getInt(position + Long.BYTES);
+                long entryStart = entries.getLong(position + Long.BYTES + Integer.BYTES);
+                long entryEnd = entries.getLong(position + Long.BYTES + Integer.BYTES + Long.BYTES);
+                ArrayDeque<Integer> candidates = waiting.get(List.of(entryStart, entryEnd));
+                if (candidates == null || candidates.isEmpty()) {
+                    continue;
+                }
+                if (offset < 0 || length < 0 || offset + length > archiveSize) {
+                    throw new SyncException("Error reading archive: the index does not match the archive");
+                }
+                String line = readLine(archived, offset, length);
+                for (Iterator<Integer> it = candidates.iterator(); it.hasNext(); ) {
+                    int candidate = it.next();
+                    if (lines.get(candidate).equals(line)) {
+                        isArchived[candidate] = true;
+                        it.remove();
+                        break;
+                    }
+                }
+            }
+        }
+        return isArchived;
+    }
+
+    /**
+     * Returns up to {@code limit} archived events that satisfy a condition, the most recently archived first.
+     * Lines are read one at a time and the search stops once enough events are found.
+     *
+     * @param filter a condition an event must satisfy to be returned.
+     * @param limit  the maximum number of events to return.
+     * @return the matching events.
+     * @throws SyncException if the archive cannot be read or holds a corrupted line.
+     */
+    public ArrayList<Event> find(Predicate<Event> filter, int limit) throws SyncException {
+        return find(null, null, filter, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} archived events that overlap the window from {@code from} to {@code to},
+     * inclusive, and satisfy a condition, the most recently archived first. The window is checked against
+     * the index, so only the lines of events inside it are read.
+     *
+     * @param from   the start of the window.
+     * @param to     the end of the window.
+     * @param filter a condition an event must satisfy to be returned.
+     * @param limit  the maximum number of events to return.
+     * @return the matching events.
+     * @throws SyncException if the archive cannot be read or holds a corrupted line.
+     */
+    public ArrayList<Event> findOverlapping(LocalDateTime from, LocalDateTime to, Predicate<Event> filter,
+                                            int limit) throws SyncException {
+        assert from != null && to != null : "Range bounds cannot be null";
+        return find(from, to, filter, limit);
+    }
+
+    private ArrayList<Event> find(LocalDateTime from, LocalDateTime to, Predicate<Event> filter, int limit)
+            throws SyncException {
+        ArrayList<Event> found = new ArrayList<>();
+        if (limit <= 0 || !Files.exists(indexFile) || !Files.exists(archiveFile)) {
+            return found;
+        }
+        // The index holds whole minutes, which can only let too many lines through; each line is checked below
+        long fromMinute = from == null ? Long.MIN_VALUE : toMinutes(from);
+        long toMinute = to == null ? Long.MAX_VALUE : toMinutes(to);
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.READ);
+             FileChannel lines = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+            ByteBuffer entries = index.map(FileChannel.MapMode.READ_ONLY, 0,
+                    index.size() / ENTRY_SIZE * ENTRY_SIZE);
+            long archiveSize = lines.size();
+            for (int position = entries.limit() - ENTRY_SIZE; position >= 0; position -= ENTRY_SIZE) {
+                long offset = entries.getLong(position);
+                int length = entries.getInt(position + Long.BYTES);
+                long start = entries.getLong(position + Long.BYTES + Integer.BYTES);
+                long end = entries.getLong(position + Long.BYTES + Integer.BYTES + Long.BYTES);
+                if (end < fromMinute || start > toMinute) {
+                    continue;
+                }
+                if (offset < 0 || length < 0 || offset + length > archiveSize) {
+                    throw new SyncException("Error reading archive: the index does not match the archive");
+                }
+                Event event = storage.parseDetachedEvent(readLine(lines, offset, length));
+                boolean overlaps = from == null
+                        || !event.getSeriesEndTime().isBefore(from) && !event.getStartTime().isAfter(to);
+                if (overlaps && filter.test(event)) {
+                    found.add(event);
+                    if (found.size() == limit) {
+                        break;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new SyncException("Error reading archive: " + e.getMessage());
+        }
+        return found;
+    }
+
+    private static String readLine(FileChannel lines, long offset, int length) throws IOException {
+        ByteBuffer line = ByteBuffer.allocate(length);
+        while (line.hasRemaining()) {
+            if (lines.read(line, offset + line.position()) < 0) {
+                throw new IOException("Unexpected end of archive");
+            }
+        }
+        return new String(line.array(), StandardCharsets.UTF_8);
+    }
+
+    private static long toMinutes(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+}
@@ -0,0 +1,360 @@
+package storage;
+
+import event.Event;
+import event.Recurrence;
+import exception.SyncException;
+import label.Priority;
+import participant.AvailabilitySlot;
+import participant.Participant;
+import participant.Participant.AccessLevel;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the whole loaded model, that is the participants with their availability and the events with their
+ * participants, recurrence and priorities, in one binary file next to the event file. A start with unchanged
+ * data files can read it in one go instead of reading and parsing the text files.
+ *
+ * <p>The snapshot records the size and modification time of both data files, and is only used if they still
+ * match, so a data file edited or saved after the snapshot was written always wins. Every string is stored
+ * once in a table at the start and referred to by its position, and times are stored as minutes, which is
+ * all the data files keep of them.
+ */
+public class Snapshot {
+    private static final Logger LOGGER = Logger.getLogger(Snapshot.class.getName());
+    private static final int MAGIC = 0x45535353;
+    private static final int VERSION = 1;
+
+    private final Path eventFile;
+    private final Path userFile;
+    private final Path snapshotFile;
+
+    /**
+     * Constructs a Snapshot for a pair of data files. The snapshot is named after the event file, such as
+     * {@code seedu.EventSync.txt.snapshot}.
+     *
+     * @param eventFilePath the path of the event file.
+     * @param userFilePath  the path of the user file.
+     */
+    public Snapshot(String eventFilePath, String userFilePath) {
+        this.eventFile = Paths.get(eventFilePath);
+        this.userFile = Paths.get(userFilePath);
+        this.snapshotFile = Paths.get(eventFilePath + ".snapshot");
+    }
+
+    public Path getFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Returns whether the snapshot was written from the data files as they are now.
+     *
+     * @return true if the snapshot exists and both data files are unchanged since it was written.
+     */
+    public boolean isCurrent() {
+        if (!Files.exists(snapshotFile)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(40);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            return hasHeader(header);
+        } catch (IOException | BufferUnderflowException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the participants and events from the snapshot if it is up to date with both data files, and
+     * loads the priorities of the events. Events get their own copies of the participants, as when they are
+     * loaded by {@link Storage#loadEvents()}.
+     *
+     * @param participants the list to add the participants to.
+     * @param events       the list to add the events to.
+     * @return true if the model was read; false if the snapshot is missing, stale or damaged, in which case
+     *         both lists are left empty and the data files must be loaded instead.
+     */
+    public boolean load(List<Participant> participants, List<Event> events) {
+        if (!Files.exists(snapshotFile)) {
+            return false;
+        }
+        try {
+            ByteBuffer in = map(snapshotFile);
+            if (!hasHeader(in)) {
+                LOGGER.info("Snapshot is older than the data files");
+                return false;
+            }
+            String[] strings = readStrings(in);
+            List<Participant> loadedParticipants = readParticipants(in, strings);
+            List<String> priorities = new ArrayList<>();
+            List<Event> loadedEvents = readEvents(in, strings, loadedParticipants, priorities);
+            participants.addAll(loadedParticipants);
+            events.addAll(loadedEvents);
+            Priority.loadFromStorage(priorities);
+            return true;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException
+                 | IndexOutOfBoundsException e) {
+            LOGGER.warning("Ignoring damaged snapshot: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes the model to the snapshot, replacing it. Both data files must already hold exactly this model.
+     *
+     * @param participants the participants as saved in the user file.
+     * @param events       the events as saved in the event file, in order.
+     * @param priorities   the priorities of the events, by position.
+     * @throws SyncException if the snapshot cannot be written, or an event has a participant who is not
+     *                       in the user file, in which case the old snapshot is kept.
+     */
+    public void save(List<Participant> participants, List<Event> events, List<String> priorities)
+            throws SyncException {
+        HashMap<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < participants.size(); i++) {
+            positions.putIfAbsent(participants.get(i).getName().toLowerCase(), i);
+        }
+        StringTable strings = new StringTable();
+        for (Participant participant : participants) {
+            strings.add(participant.getName());
+            strings.add(participant.getPassword());
+        }
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            strings.add(event.getName());
+            strings.add(event.getLocation());
+            strings.add(event.getDescription());
+            strings.add(priorityOf(priorities, i));
+            for (Participant participant : event.getParticipants()) {
+                if (!positions.containsKey(participant.getName().toLowerCase())) {
+                    throw new SyncException("Participant not found: " + participant.getName());
+                }
+            }
+        }
+
+        // Written beside the old file and moved over it, so a crash never leaves half a snapshot behind
+        Path temporary = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(Files.size(eventFile));
+                out.writeLong(Files.getLastModifiedTime(eventFile).toMillis());
+                out.writeLong(Files.size(userFile));
+                out.writeLong(Files.getLastModifiedTime(userFile).toMillis());
+                strings.write(out);
+                writeParticipants(out, participants, strings);
+                writeEvents(out, events, priorities, strings, positions);
+            }
+            Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+                // The next save replaces it anyway
+            }
+            throw new SyncException("Cannot write snapshot: " + e.getMessage());
+        }
+    }
+
+    private boolean hasHeader(ByteBuffer in) throws IOException {
+        return in.getInt() == MAGIC && in.getInt() == VERSION
+                && in.getLong() == Files.size(eventFile)
+                && in.getLong() == Files.getLastModifiedTime(eventFile).toMillis()
+                && in.getLong() == Files.size(userFile)
+                && in.getLong() == Files.getLastModifiedTime(userFile).toMillis();
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static String priorityOf(List<String> priorities, int index) {
+        return index < priorities.size() ? priorities.get(index) : Priority.LOW;
+    }
+
+    private static long toMinutes(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromMinutes(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+
+    private static void writeParticipants(DataOutputStream out, List<Participant> participants,
+                                          StringTable strings) throws IOException {
+        out.writeInt(participants.size());
+        for (Participant participant : participants) {
+            out.writeInt(strings.indexOf(participant.getName()));
+            out.writeInt(strings.indexOf(participant.getPassword()));
+            out.writeByte(participant.getAccessLevel().ordinal());
+            List<AvailabilitySlot> slots = participant.getAvailableTimes();
+            out.writeInt(slots.size());
+            for (AvailabilitySlot slot : slots) {
+                out.writeLong(toMinutes(slot.getStartTime()));
+                out.writeLong(toMinutes(slot.getEndTime()));
+            }
+        }
+    }
+
+    private static List<Participant> readParticipants(ByteBuffer in, String[] strings) {
+        int count = readCount(in);
+        AccessLevel[] levels = AccessLevel.values();
+        ArrayList<Participant> participants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = strings[in.getInt()];
+            String password = strings[in.getInt()];
+            AccessLevel level = levels[in.get()];
+            int slotCount = readCount(in);
+            ArrayList<AvailabilitySlot> slots = new ArrayList<>(slotCount);
+            for (int j = 0; j < slotCount; j++) {
+                slots.add(new AvailabilitySlot(fromMinutes(in.getLong()), fromMinutes(in.getLong())));
+            }
+            participants.add(new Participant(name, password, level, slots));
+        }
+        return participants;
+    }
+
+    private static void writeEvents(DataOutputStream out, List<Event> events, List<String> priorities,
+                                    StringTable strings, HashMap<String, Integer> positions)
+            throws IOException {
+        out.writeInt(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            out.writeInt(strings.indexOf(event.getName()));
+            out.writeLong(toMinutes(event.getStartTime()));
+            out.writeLong(toMinutes(event.getEndTime()));
+            out.writeInt(strings.indexOf(event.getLocation()));
+            out.writeInt(strings.indexOf(event.getDescription()));
+            out.writeInt(strings.indexOf(priorityOf(priorities, i)));
+            Recurrence recurrence = event.getRecurrence();
+            if (recurrence == null) {
+                out.writeByte(0);
+            } else {
+                out.writeByte(recurrence.getFrequency().ordinal() + 1);
+                out.writeInt(recurrence.getInterval());
+                out.writeInt(recurrence.getCount());
+            }
+            ArrayList<Participant> eventParticipants = event.getParticipants();
+            out.writeInt(eventParticipants.size());
+            for (Participant participant : eventParticipants) {
+                out.writeInt(positions.get(participant.getName().toLowerCase()));
+            }
+        }
+    }
+
+    private static List<Event> readEvents(ByteBuffer in, String[] strings, List<Participant> participants,
+                                          List<String> priorities) {
+        // One copy of each participant is shared by all of their events, as after loading the event file
+        Participant[] copies = new Participant[participants.size()];
+        Recurrence.Frequency[] frequencies = Recurrence.Frequency.values();
+        int count = readCount(in);
+        ArrayList<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = strings[in.getInt()];
+            LocalDateTime start = fromMinutes(in.getLong());
+            LocalDateTime end = fromMinutes(in.getLong());
+            String location = strings[in.getInt()];
+            String description = strings[in.getInt()];
+            priorities.add(strings[in.getInt()]);
+            Event event = new Event(name, start, end, location, description);
+            int frequency = in.get();
+            if (frequency != 0) {
+                int interval = in.getInt();
+                int occurrences = in.getInt();
+                if (interval <= 0 || occurrences <= 0) {
+                    throw new IllegalArgumentException("Invalid recurrence");
+                }
+                event.setRecurrence(new Recurrence(frequencies[frequency - 1], interval, occurrences));
+            }
+            int participantCount = readCount(in);
+            for (int j = 0; j < participantCount; j++) {
+                int position = in.getInt();
+                if (copies[position] == null) {
+                    Participant participant = participants.get(position);
+                    copies[position] = new Participant(participant.getName(), participant.getPassword(),
+                            participant.getAccessLevel(), participant.getAvailableTimes());
+                }
+                event.getParticipants().add(copies[position]);
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static String[] readStrings(ByteBuffer in) {
+        int count = readCount(in);
+        String[] strings = new String[count];
+        byte[] buffer = new byte[256];
+        for (int i = 0; i < count; i++) {
+            int length = readCount(in);
+            if (length > buffer.length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            in.get(buffer, 0, length);
+            strings[i] = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    /**
+     * The distinct strings of the model, each written once and referred to by its position.
+     */
+    private static class StringTable {
+        private final HashMap<String, Integer> positions = new HashMap<>();
+        private final ArrayList<String> strings = new ArrayList<>();
+
+        void add(String value) {
+            // The data files write a missing field as "null", so the snapshot does too
+            String key = String.valueOf(value);
+            if (!positions.containsKey(key)) {
+                positions.put(key, strings.size());
+                strings.add(key);
+            }
+        }
+
+        int indexOf(String value) {
+            return positions.get(String.valueOf(value));
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
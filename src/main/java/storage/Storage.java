@@ -1,14 +1,15 @@
 package storage;
 
-import command.LoginCommand;
 import event.Event;
+import event.Recurrence;
 import label.Priority;
+import metrics.Metrics;
+import metrics.StorageEvent;
 import participant.Participant;
 import participant.Participant.AccessLevel;
 import exception.SyncException;
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -17,9 +18,14 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * The Storage class handles reading and writing event data to a file, ensuring that events
@@ -27,12 +33,37 @@ import java.util.stream.Collectors;
  * storing and retrieving data in a specific format.
  */
 public class Storage {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(Storage.class.getName());
+    private static final Pattern ENTRY_SEPARATOR = Pattern.compile("\\s*,\\s*");
+    private static final Pattern NAME_SEPARATOR = Pattern.compile("\\s*:\\s*");
+
+    /**
+     * The number of lines each thread parses at a time when loading in parallel.
+     */
+    private static final int PARSE_CHUNK = 8192;
 
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private final String filePath;
     private final UserStorage userStorage;
 
+    /**
+     * While saves are deferred, the latest events and priorities passed to {@link #saveEvents},
+     * waiting to be written by {@link #flush()}.
+     */
+    private boolean deferred;
+    private List<Event> pendingEvents;
+    private ArrayList<String> pendingPriorities;
+
+    /**
+     * The total size of every write of the file, for measuring how much a workload writes.
+     */
+    private long bytesWritten;
+
+    /**
+     * Whether the last write of the file failed, so the file may not hold the latest events.
+     */
+    private boolean isWriteFailed;
+
     /**
      * Constructs a Storage object with the specified file path and user storage.
      * Ensures that the storage file exists by creating it if necessary.
@@ -75,7 +106,73 @@ public class Storage {
      */
     public void saveEvents(List<Event> events, ArrayList<String> allPriorities) throws SyncException {
         assert events != null;
+        if (deferred) {
+            pendingEvents = events;
+            pendingPriorities = allPriorities;
+            return;
+        }
+        writeEvents(events, allPriorities);
+    }
+
+    /**
+     * Turns deferred saving on or off. While it is on, {@link #saveEvents} only remembers the latest
+     * state and the file is written by {@link #flush()}, so a run of many commands costs one write
+     * instead of one per command. Turning it off writes any pending state.
+     *
+     * @param deferred whether saves should be deferred.
+     * @throws SyncException If pending events cannot be written.
+     */
+    public void setDeferred(boolean deferred) throws SyncException {
+        this.deferred = deferred;
+        if (!deferred) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the events held back by deferred saving, if any.
+     *
+     * @return true if the file was written.
+     * @throws SyncException If an error occurs during the saving process.
+     */
+    public boolean flush() throws SyncException {
+        if (pendingEvents == null) {
+            return false;
+        }
+        List<Event> events = pendingEvents;
+        ArrayList<String> allPriorities = pendingPriorities;
+        pendingEvents = null;
+        pendingPriorities = null;
+        writeEvents(events, allPriorities);
+        return true;
+    }
+
+    /**
+     * Returns whether the file may not hold the latest events passed to {@link #saveEvents}, because
+     * they are waiting for {@link #flush()} or the last write failed.
+     *
+     * @return true if the file may be out of date.
+     */
+    public boolean hasUnsavedChanges() {
+        return pendingEvents != null || isWriteFailed;
+    }
+
+    /**
+     * Returns the number of bytes written to the file since this storage was created,
+     * counting the whole file on every save.
+     *
+     * @return the total size of every write.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void writeEvents(List<Event> events, ArrayList<String> allPriorities) throws SyncException {
         LOGGER.info("Attempting saving events ");
+        long start = System.nanoTime();
+        StorageEvent ioEvent = new StorageEvent();
+        ioEvent.begin();
+        isWriteFailed = true;
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
             for (int i = 0; i < events.size(); i++) {
                 Event event = events.get(i);
@@ -86,6 +183,17 @@ public class Storage {
         } catch (IOException e) {
             throw new SyncException("Error saving events: " + e.getMessage());
         }
+        isWriteFailed = false;
+        long size = new File(filePath).length();
+        bytesWritten += size;
+        Metrics.getShared().recordIo(Metrics.Io.EVENT_SAVE, System.nanoTime() - start, size, events.size());
+        if (ioEvent.shouldCommit()) {
+            ioEvent.operation = "event_save";
+            ioEvent.path = filePath;
+            ioEvent.records = events.size();
+            ioEvent.bytes = size;
+            ioEvent.commit();
+        }
     }
 
     /**
@@ -95,27 +203,122 @@ public class Storage {
      * @throws SyncException If an error occurs during the loading or parsing process.
      */
     public ArrayList<Event> loadEvents() throws SyncException {
-        ArrayList<Event> events = new ArrayList<>();
-        ArrayList<String> loadedPriorities = new ArrayList<>();
         List<Participant> allParticipants = userStorage.loadUsers();
+        return loadEvents(() -> allParticipants, false);
+    }
+
+    /**
+     * Loads events from the storage file, asking for the participants they refer to only once every line
+     * has been read and parsed, so the participants can be loaded on another thread in the meantime.
+     * Large files are parsed in chunks on several threads.
+     *
+     * @param participantSource Returns every participant, waiting for them to be loaded if need be.
+     * @return A list of Event objects loaded from the file.
+     * @throws SyncException If an error occurs during the loading or parsing process,
+     *                       or the participants cannot be loaded.
+     */
+    public ArrayList<Event> loadEvents(Callable<? extends List<Participant>> participantSource)
+            throws SyncException {
+        return loadEvents(participantSource, true);
+    }
+
+    /**
+     * Reads and parses every line, then resolves the events' participants by name, ignoring case;
+     * if two participants share a name, the first is used.
+     *
+     * @param participantSource Returns every participant, waiting for them to be loaded if need be.
+     * @param isParallel Whether to parse the lines in chunks on several threads.
+     * @return A list of Event objects loaded from the file.
+     * @throws SyncException If an error occurs during the loading or parsing process.
+     */
+    private ArrayList<Event> loadEvents(Callable<? extends List<Participant>> participantSource, boolean isParallel)
+            throws SyncException {
+        long start = System.nanoTime();
+        StorageEvent ioEvent = new StorageEvent();
+        ioEvent.begin();
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
+        List<String> lines = UserStorage.readLines(filePath);
+        long parseStart = System.nanoTime();
+        Metrics.getShared().recordPhase(Metrics.Phase.FILE_OPEN, parseStart - start);
+        int lineCount = lines.size();
+        Event[] parsedEvents = new Event[lineCount];
+        String[] loadedPriorities = new String[lineCount];
+        String[][] participantNames = new String[lineCount][];
+        int chunks = isParallel ? (lineCount + PARSE_CHUNK - 1) / PARSE_CHUNK : Math.min(1, lineCount);
+        int chunkSize = isParallel ? PARSE_CHUNK : lineCount;
+        SyncException[] errors = new SyncException[chunks];
+        IntStream chunkIndexes = IntStream.range(0, chunks);
+        (isParallel ? chunkIndexes.parallel() : chunkIndexes).forEach(chunk -> {
+            int end = Math.min(lineCount, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                String line = lines.get(i);
                 try {
                     String[] parts = parseEventLine(line.trim());
-                    Event event = parseEvent(parts, allParticipants);
-                    String priority = parts[5];
-                    loadedPriorities.add(priority);
-                    events.add(event);
+                    try {
+                        parsedEvents[i] = parseEvent(parts);
+                        participantNames[i] = parseParticipantNames(parts[6]);
+                    } catch (Exception e) {
+                        throw new SyncException("Failed to parse event: " + e.getMessage());
+                    }
+                    loadedPriorities[i] = parts[5];
                 } catch (Exception e) {
-                    throw new SyncException("Skipping corrupted line: " + line + " | Error: " + e.getMessage());
+                    errors[chunk] = new SyncException("Error reading file: Skipping corrupted line: " + line
+                            + " | Error: " + e.getMessage());
+                    return;
                 }
             }
-            Priority.loadFromStorage(loadedPriorities);
-        } catch (IOException | SyncException e) {
+        });
+        // Chunks are checked in file order, so the first corrupted line is reported whichever thread fails first
+        for (SyncException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        ArrayList<Event> events = new ArrayList<>(Arrays.asList(parsedEvents));
+        long waitStart = System.nanoTime();
+        Metrics.getShared().recordPhase(Metrics.Phase.PARSE, waitStart - parseStart);
+
+        List<Participant> allParticipants;
+        try {
+            allParticipants = participantSource.call();
+        } catch (SyncException e) {
+            throw e;
+        } catch (Exception e) {
             throw new SyncException("Error reading file: " + e.getMessage());
         }
+        long resolveStart = System.nanoTime();
+        HashMap<String, Participant> byName = new HashMap<>();
+        for (Participant participant : allParticipants) {
+            byName.putIfAbsent(participant.getName().toLowerCase(), participant);
+        }
+        for (int i = 0; i < lineCount; i++) {
+            for (String name : participantNames[i]) {
+                try {
+                    Participant participant = byName.get(name.toLowerCase());
+                    if (participant == null) {
+                        throw new SyncException("Participant not found: " + name);
+                    }
+                    events.get(i).addParticipant(participant);
+                } catch (SyncException e) {
+                    throw new SyncException("Error reading file: Skipping corrupted line: " + lines.get(i)
+                            + " | Error: Failed to parse event: " + e.getMessage());
+                }
+            }
+        }
+        Priority.loadFromStorage(Arrays.asList(loadedPriorities));
+        long end = System.nanoTime();
+        Metrics.getShared().recordPhase(Metrics.Phase.PARTICIPANT_RESOLUTION, end - resolveStart);
+
+        long size = new File(filePath).length();
+        long elapsed = (waitStart - start) + (end - resolveStart);
+        Metrics.getShared().recordIo(Metrics.Io.EVENT_LOAD, elapsed, size, events.size());
+        if (ioEvent.shouldCommit()) {
+            ioEvent.operation = "event_load";
+            ioEvent.path = filePath;
+            ioEvent.records = events.size();
+            ioEvent.bytes = size;
+            ioEvent.commit();
+        }
         return events;
     }
 
@@ -126,12 +329,12 @@ public class Storage {
      * @param priority The priority of the event.
      * @return A formatted string representing the event.
      */
-    private String formatEvent(Event event, String priority) {
+    String formatEvent(Event event, String priority) {
         String participantsStr = event.getParticipants().stream()
                 .map(p -> p.getName() + ":" + p.getAccessLevel())
                 .collect(Collectors.joining(","));
 
-        return String.join(" | ",
+        String line = String.join(" | ",
                 event.getName(),
                 event.getStartTime().format(formatter),
                 event.getEndTime().format(formatter),
@@ -139,6 +342,52 @@ public class Storage {
                 event.getDescription(),
                 priority,
                 participantsStr);
+
+        // A series is stored as its first occurrence plus the rule; one-off events keep the old format
+        if (event.isRecurring()) {
+            line += " | " + event.getRecurrence().format();
+        }
+        return line;
+    }
+
+    /**
+     * Splits a line of a data file into its fields, giving the same result as splitting it on the regular
+     * expression {@code \s*\|\s*} with no limit, but without running a regular expression over every
+     * character of the line.
+     *
+     * @param line The line to split.
+     * @return The fields of the line, with the whitespace around each separator removed.
+     */
+    static String[] splitFields(String line) {
+        ArrayList<String> fields = new ArrayList<>(8);
+        int start = 0;
+        while (true) {
+            int separator = line.indexOf('|', start);
+            int from = start;
+            int to = separator < 0 ? line.length() : separator;
+            if (start > 0) {
+                while (from < to && isRegexSpace(line.charAt(from))) {
+                    from++;
+                }
+            }
+            if (separator >= 0) {
+                while (to > from && isRegexSpace(line.charAt(to - 1))) {
+                    to--;
+                }
+            }
+            fields.add(line.substring(from, to));
+            if (separator < 0) {
+                return fields.toArray(new String[0]);
+            }
+            start = separator + 1;
+        }
+    }
+
+    /**
+     * Returns whether a character is matched by {@code \s} in a regular expression.
+     */
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -149,69 +398,111 @@ public class Storage {
      * @throws SyncException If the line is invalid or incomplete.
      */
     private String[] parseEventLine(String line) throws SyncException {
-        String[] parts = line.split("\\s*\\|\\s*", -1);
+        String[] parts = splitFields(line);
 
         if (parts.length < 5) {
             throw new SyncException("Missing required fields");
         }
 
-        String[] normalized = new String[7];
+        String[] normalized = new String[8];
         System.arraycopy(parts, 0, normalized, 0, Math.min(parts.length, 5));
 
         normalized[5] = (parts.length > 5 && !parts[5].isEmpty()) ? parts[5] : "LOW";
         normalized[6] = (parts.length > 6) ? parts[6] : "";
+        normalized[7] = (parts.length > 7) ? parts[7] : "";
 
         return normalized;
     }
 
     /**
      * Parses an event's data from an array of strings and converts it into an Event object.
+     * Its participants are added separately, once every participant has been loaded.
      *
      * @param parts An array of strings containing the event data.
-     * @param allParticipants A list of all available participants.
-     * @return The parsed Event object.
+     * @return The parsed Event object, without participants.
      * @throws SyncException If the event data is invalid.
      */
-    private Event parseEvent(String[] parts, List<Participant> allParticipants) throws SyncException {
-        try {
-            if (parts[0] == null || parts[1] == null || parts[2] == null) {
-                throw new SyncException("Missing required fields");
-            }
+    private Event parseEvent(String[] parts) throws SyncException {
+        if (parts[0] == null || parts[1] == null || parts[2] == null) {
+            throw new SyncException("Missing required fields");
+        }
+
+        Event event = new Event(
+                parts[0],
+                LocalDateTime.parse(parts[1], formatter),
+                LocalDateTime.parse(parts[2], formatter),
+                parts[3],
+                parts[4]
+        );
+
+        if (!parts[7].isEmpty()) {
+            event.setRecurrence(Recurrence.parse(parts[7]));
+        }
+        return event;
+    }
+
+    /**
+     * Parses the participants field of an event line into the names of the participants.
+     *
+     * @param field The participants field, with entries of the form {@code name:ACCESS} separated by commas.
+     * @return The names of the participants, in order.
+     * @throws SyncException If an entry is not a name and a valid access level.
+     */
+    private String[] parseParticipantNames(String field) throws SyncException {
+        if (field.isEmpty()) {
+            return new String[0];
+        }
+        String[] participantEntries = ENTRY_SEPARATOR.split(field);
+        String[] names = new String[participantEntries.length];
+        for (int i = 0; i < participantEntries.length; i++) {
+            names[i] = splitParticipantEntry(participantEntries[i])[0];
+        }
+        return names;
+    }
 
-            Event event = new Event(
-                    parts[0],
-                    LocalDateTime.parse(parts[1], formatter),
-                    LocalDateTime.parse(parts[2], formatter),
-                    parts[3],
-                    parts[4]
-            );
+    /**
+     * Splits a participant entry of an event line into the name and access level of the participant.
+     *
+     * @param entry An entry of the form {@code name:ACCESS}.
+     * @return The name and the access level, as written.
+     * @throws SyncException If the entry is not a name and a valid access level.
+     */
+    private static String[] splitParticipantEntry(String entry) throws SyncException {
+        String[] participantData = NAME_SEPARATOR.split(entry);
+        if (participantData.length != 2) {
+            throw new SyncException("Invalid participant format: " + entry);
+        }
+        try {
+            AccessLevel.valueOf(participantData[1].toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new SyncException("Invalid participant data: " + entry);
+        }
+        return participantData;
+    }
 
+    /**
+     * Parses a line in the event file format that is kept apart from the loaded events, such as in the
+     * {@link Archive}. Its participants are not looked up in the user file, which may no longer hold them;
+     * each one only has the name and access level written in the line.
+     *
+     * @param line The line to parse.
+     * @return The event described by the line.
+     * @throws SyncException If the line is corrupted.
+     */
+    Event parseDetachedEvent(String line) throws SyncException {
+        try {
+            String[] parts = parseEventLine(line.trim());
+            Event event = parseEvent(parts);
             if (!parts[6].isEmpty()) {
-                String[] participantEntries = parts[6].split("\\s*,\\s*");
-                for (String entry : participantEntries) {
-                    try {
-                        String[] participantData = entry.split("\\s*:\\s*");
-                        if (participantData.length != 2) {
-                            throw new SyncException("Invalid participant format: " + entry);
-                        }
-
-                        String name = participantData[0];
-                        AccessLevel accessLevel = AccessLevel.valueOf(participantData[1].toUpperCase());
-
-                        Participant participant = allParticipants.stream()
-                                .filter(p -> p.getName().equalsIgnoreCase(name))
-                                .findFirst()
-                                .orElseThrow(() -> new SyncException("Participant not found: " + name));
-
-                        event.addParticipant(participant);
-                    } catch (IllegalArgumentException e) {
-                        throw new SyncException("Invalid participant data: " + entry);
-                    }
+                for (String entry : ENTRY_SEPARATOR.split(parts[6])) {
+                    String[] participantData = splitParticipantEntry(entry);
+                    event.getParticipants().add(new Participant(participantData[0], "",
+                            AccessLevel.valueOf(participantData[1].toUpperCase())));
                 }
             }
             return event;
-        } catch (Exception e) {
-            throw new SyncException("Failed to parse event: " + e.getMessage());
+        } catch (SyncException | RuntimeException e) {
+            throw new SyncException("Skipping corrupted line: " + line + " | Error: " + e.getMessage());
         }
     }
 }
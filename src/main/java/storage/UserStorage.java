@@ -1,12 +1,14 @@
 package storage;
 
-import command.LoginCommand;
+import metrics.Metrics;
+import metrics.StorageEvent;
 import participant.Participant;
 import participant.Participant.AccessLevel;
 import participant.AvailabilitySlot;
 import exception.SyncException;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -25,12 +27,29 @@ import java.util.logging.Logger;
  * It also includes functionality for managing the format of the participant data, including their availability slots.
  */
 public class UserStorage {
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(UserStorage.class.getName());
 
 
     private final String filePath;
     private final DateTimeFormatter slotFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    /**
+     * While saves are deferred, the latest participants passed to {@link #saveUsers},
+     * waiting to be written by {@link #flush()}.
+     */
+    private boolean deferred;
+    private List<Participant> pendingParticipants;
+
+    /**
+     * The total size of every write of the file, for measuring how much a workload writes.
+     */
+    private long bytesWritten;
+
+    /**
+     * Whether the last write of the file failed, so the file may not hold the latest participants.
+     */
+    private boolean isWriteFailed;
+
     /**
      * Constructor that initializes the file path and ensures the storage file exists.
      *
@@ -68,7 +87,69 @@ public class UserStorage {
      */
     public void saveUsers(List<Participant> participants) throws SyncException {
         assert participants != null;
+        if (deferred) {
+            pendingParticipants = participants;
+            return;
+        }
+        writeUsers(participants);
+    }
+
+    /**
+     * Turns deferred saving on or off. While it is on, {@link #saveUsers} only remembers the latest
+     * participants and the file is written by {@link #flush()}. Turning it off writes any pending state.
+     *
+     * @param deferred whether saves should be deferred
+     * @throws SyncException if pending participants cannot be written
+     */
+    public void setDeferred(boolean deferred) throws SyncException {
+        this.deferred = deferred;
+        if (!deferred) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the participants held back by deferred saving, if any.
+     *
+     * @return true if the file was written
+     * @throws SyncException if there is an error while saving the data
+     */
+    public boolean flush() throws SyncException {
+        if (pendingParticipants == null) {
+            return false;
+        }
+        List<Participant> participants = pendingParticipants;
+        pendingParticipants = null;
+        writeUsers(participants);
+        return true;
+    }
+
+    /**
+     * Returns whether the file may not hold the latest participants passed to {@link #saveUsers}, because
+     * they are waiting for {@link #flush()} or the last write failed.
+     *
+     * @return true if the file may be out of date
+     */
+    public boolean hasUnsavedChanges() {
+        return pendingParticipants != null || isWriteFailed;
+    }
+
+    /**
+     * Returns the number of bytes written to the file since this storage was created,
+     * counting the whole file on every save.
+     *
+     * @return the total size of every write.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void writeUsers(List<Participant> participants) throws SyncException {
         LOGGER.info("Attempting save users");
+        long start = System.nanoTime();
+        StorageEvent ioEvent = new StorageEvent();
+        ioEvent.begin();
+        isWriteFailed = true;
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
             for (Participant participant : participants) {
                 writer.write(formatParticipant(participant));
@@ -77,6 +158,17 @@ public class UserStorage {
         } catch (IOException e) {
             throw new SyncException("Error saving users: " + e.getMessage());
         }
+        isWriteFailed = false;
+        long size = new File(filePath).length();
+        bytesWritten += size;
+        Metrics.getShared().recordIo(Metrics.Io.USER_SAVE, System.nanoTime() - start, size, participants.size());
+        if (ioEvent.shouldCommit()) {
+            ioEvent.operation = "user_save";
+            ioEvent.path = filePath;
+            ioEvent.records = participants.size();
+            ioEvent.bytes = size;
+            ioEvent.commit();
+        }
     }
 
     /**
@@ -87,22 +179,54 @@ public class UserStorage {
      */
     public ArrayList<Participant> loadUsers() throws SyncException {
         ArrayList<Participant> participants = new ArrayList<>();
+        long start = System.nanoTime();
+        StorageEvent ioEvent = new StorageEvent();
+        ioEvent.begin();
+
+        List<String> lines = readLines(filePath);
+        long parseStart = System.nanoTime();
+        Metrics.getShared().recordPhase(Metrics.Phase.FILE_OPEN, parseStart - start);
+        for (String line : lines) {
+            try {
+                Participant participant = parseParticipant(line);
+                participants.add(participant);
+            } catch (Exception e) {
+                throw new SyncException("Error reading file: Skipping corrupted line: " + line);
+            }
+        }
+        Metrics.getShared().recordPhase(Metrics.Phase.PARSE, System.nanoTime() - parseStart);
+        long size = new File(filePath).length();
+        Metrics.getShared().recordIo(Metrics.Io.USER_LOAD, System.nanoTime() - start, size, participants.size());
+        if (ioEvent.shouldCommit()) {
+            ioEvent.operation = "user_load";
+            ioEvent.path = filePath;
+            ioEvent.records = participants.size();
+            ioEvent.bytes = size;
+            ioEvent.commit();
+        }
+
+        return participants;
+    }
 
+    /**
+     * Reads every line of a data file. Opening and reading the file is kept apart from parsing it
+     * so that the two can be timed separately.
+     *
+     * @param filePath the file to read.
+     * @return the lines of the file.
+     * @throws SyncException if the file cannot be read.
+     */
+    static List<String> readLines(String filePath) throws SyncException {
+        ArrayList<String> lines = new ArrayList<>();
         try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
             String line;
             while ((line = reader.readLine()) != null) {
-                try {
-                    Participant participant = parseParticipant(line);
-                    participants.add(participant);
-                } catch (Exception e) {
-                    throw new SyncException("Skipping corrupted line: " + line);
-                }
+                lines.add(line);
             }
-        } catch (IOException | SyncException e) {
+        } catch (IOException e) {
             throw new SyncException("Error reading file: " + e.getMessage());
         }
-
-        return participants;
+        return lines;
     }
 
     /**
@@ -143,7 +267,7 @@ public class UserStorage {
      * @throws SyncException if there is an error in the data format
      */
     private Participant parseParticipant(String line) throws SyncException {
-        String[] parts = line.split("\\s*\\|\\s*", -1); // handles spaces around `|`
+        String[] parts = Storage.splitFields(line); // handles spaces around `|`
         if (parts.length < 3) {
             throw new IllegalArgumentException("Missing required fields");
         }
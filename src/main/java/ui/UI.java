@@ -1,22 +1,36 @@
 package ui;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 import java.util.logging.Logger;
 
-import command.LoginCommand;
 import event.Event;
 import event.EventManager;
+import event.EventPage;
 import exception.SyncException;
+import participant.AvailabilitySlot;
 import participant.Participant;
 
 /**
  * The UI class provides methods for handling user interface operations related to event management.
  * It supports displaying menus, messages, event details, and input prompts to the user.
+ * Output is rendered into a reusable buffer. By default the buffer is written after every line; while output
+ * is held it is written once by {@link #flush()}, or before the next read, so a command that lists many
+ * events costs one console write instead of one per line.
  */
 public class UI {
     public static Scanner scanner = new Scanner(System.in);
-    private static final Logger LOGGER = Logger.getLogger(LoginCommand.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(UI.class.getName());
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String NEW_LINE = System.lineSeparator();
+
+    // Shared by every UI instance, like the scanner, so output from different instances stays in order
+    private static final StringBuilder buffer = new StringBuilder();
+    private static boolean isOutputHeld;
 
 
     /**
@@ -28,45 +42,126 @@ public class UI {
         UI.scanner = newScanner;
     }
 
+    /**
+     * Sets whether output is held in the buffer until {@link #flush()} is called.
+     * Turning holding off writes anything still buffered.
+     *
+     * @param isOutputHeld Whether output should be held.
+     */
+    public void setOutputHeld(boolean isOutputHeld) {
+        UI.isOutputHeld = isOutputHeld;
+        if (!isOutputHeld) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes everything in the buffer to the console in a single write.
+     */
+    public void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        System.out.print(buffer);
+        System.out.flush();
+        buffer.setLength(0);
+    }
+
+    private void print(Object text) {
+        buffer.append(text);
+        if (!isOutputHeld) {
+            flush();
+        }
+    }
+
+    private void println(Object text) {
+        buffer.append(text).append(NEW_LINE);
+        if (!isOutputHeld) {
+            flush();
+        }
+    }
+
+    private void println() {
+        println("");
+    }
+
+    /**
+     * Reads the next line of input, first writing any buffered output so that prompts are visible.
+     *
+     * @return The line read.
+     */
+    private String nextLine() {
+        flush();
+        return scanner.nextLine();
+    }
+
+    /**
+     * Renders an event straight into the buffer.
+     *
+     * @param event The event to render.
+     */
+    private void appendEvent(Event event) {
+        try {
+            event.appendTo(buffer);
+        } catch (IOException e) {
+            // Appending to a StringBuilder never fails
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Displays a message to the user.
      *
      * @param message The message to be displayed.
      */
     public void showMessage(String message) {
-        System.out.println(message);
+        println(message);
     }
 
     /**
      * Displays the main menu for the EventSync application.
      */
     public void showMenu() {
-        System.out.println("╔═════════════════════════════════════════╗");
-        System.out.println("║          EVENT SYNC COMMAND MENU        ║");
-        System.out.println("╠═════════════════════════════════════════╣");
-        System.out.println("║  === Event Management Commands ===      ║");
-        System.out.println("║  add            - Add new event         ║");
-        System.out.println("║  listall        - List all events       ║");
-        System.out.println("║  delete         - Delete an event       ║");
-        System.out.println("║  edit           - Edit an event         ║");
-        System.out.println("║  duplicate [ID] - Duplicate an event    ║");
-        System.out.println("║  addparticipant - Add to event          ║");
-        System.out.println("║                                         ║");
-        System.out.println("║  === Participant Commands ===           ║");
-        System.out.println("║  list           - List your events      ║");
-        System.out.println("║  find [KEYWORD] - Search events         ║");
-        System.out.println("║  filter         - Filter events         ║");
-        System.out.println("║  listparticipants- List participants    ║");
-        System.out.println("║                                         ║");
-        System.out.println("║  === Session Commands ===               ║");
-        System.out.println("║  create         - Create new user       ║");
-        System.out.println("║  login          - Login to system       ║");
-        System.out.println("║  logout         - Logout                ║");
-        System.out.println("║                                         ║");
-        System.out.println("║  === System Commands ===                ║");
-        System.out.println("║  bye            - Exit program          ║");
-        System.out.println("║  help           - Show help menu        ║");
-        System.out.println("╚═════════════════════════════════════════╝");
+        println("╔═════════════════════════════════════════╗");
+        println("║          EVENT SYNC COMMAND MENU        ║");
+        println("╠═════════════════════════════════════════╣");
+        println("║  === Event Management Commands ===      ║");
+        println("║  add            - Add new event         ║");
+        println("║  listall        - List all events       ║");
+        println("║  delete         - Delete an event       ║");
+        println("║  edit           - Edit an event         ║");
+        println("║  duplicate [ID] - Duplicate an event    ║");
+        println("║  repeat [INDEX] [daily|weekly] [COUNT]  ║");
+        println("║  addparticipant - Add to event          ║");
+        println("║  addparticipants [INDEX] [NAMES]        ║");
+        println("║  conflicts      - Report all overlaps   ║");
+        println("║  rooms [START] [END] - Free locations   ║");
+        println("║  archive [DAYS] - Archive past events   ║");
+        println("║                                         ║");
+        println("║  === Participant Commands ===           ║");
+        println("║  list           - List your events      ║");
+        println("║  find [KEYWORD] - Search events         ║");
+        println("║  filter         - Filter events         ║");
+        println("║  more           - Next page of a list   ║");
+        println("║  range [FROM] [TO] - Events in dates    ║");
+        println("║  upcoming [N]   - Your next events      ║");
+        println("║  archived [KEYWORD] - Search archive    ║");
+        println("║  listparticipants- List participants    ║");
+        println("║  suggest [INDEX] - Free participants    ║");
+        println("║  freetime [NAMES] [MIN] - Common slots  ║");
+        println("║  schedule - Auto-place an event         ║");
+        println("║  schedulebatch [FILE] - Place many      ║");
+        println("║                                         ║");
+        println("║  === Session Commands ===               ║");
+        println("║  create         - Create new user       ║");
+        println("║  login          - Login to system       ║");
+        println("║  logout         - Logout                ║");
+        println("║                                         ║");
+        println("║  === System Commands ===                ║");
+        println("║  bye            - Exit program          ║");
+        println("║  help           - Show help menu        ║");
+        println("║  stats          - Timings (admin only)  ║");
+        println("╚═════════════════════════════════════════╝");
     }
 
     /**
@@ -77,17 +172,66 @@ public class UI {
      * @param priority The priority of the event.
      */
     public void showEventWithIndex(Event event, int index, String priority) {
-        System.out.println("The event " + index + " is: ");
-        System.out.println(event.toString());
-        System.out.println("Priority: " + priority);
-        System.out.println();
+        appendEventWithIndex(event, index, priority);
+        if (!isOutputHeld) {
+            flush();
+        }
+    }
+
+    /**
+     * Displays a numbered list of events with their priorities, rendered in one pass.
+     *
+     * @param events     The events to be displayed.
+     * @param priorities The priority of each event, by position.
+     */
+    public void showEventsWithIndices(List<Event> events, List<String> priorities) {
+        for (int i = 0; i < events.size(); i++) {
+            appendEventWithIndex(events.get(i), i + 1, priorities.get(i));
+        }
+        if (!isOutputHeld) {
+            flush();
+        }
+    }
+
+    /**
+     * Displays one page of a listing, numbering the events by their position in the whole listing
+     * and pointing to the {@code more} command if later pages remain.
+     *
+     * @param page The page to display.
+     */
+    public void showEventPage(EventPage page) {
+        if (page.getEvents().isEmpty()) {
+            println(page.getTotal() == 0 ? "No matching events found."
+                    : "Page " + page.getPage() + " is empty. There are only " + page.getPageCount() + " pages.");
+            return;
+        }
+        long first = page.getFirstNumber();
+        long last = first + page.getEvents().size() - 1;
+        buffer.append("Showing events ").append(first).append('-').append(last).append(" of ")
+                .append(page.getTotal()).append(" (page ").append(page.getPage()).append(" of ")
+                .append(page.getPageCount()).append("):").append(NEW_LINE);
+        for (int i = 0; i < page.getEvents().size(); i++) {
+            appendEventWithIndex(page.getEvents().get(i), first + i, page.getPriorities().get(i));
+        }
+        if (page.hasMore()) {
+            buffer.append("Enter 'more' to see the next page.").append(NEW_LINE);
+        }
+        if (!isOutputHeld) {
+            flush();
+        }
+    }
+
+    private void appendEventWithIndex(Event event, long index, String priority) {
+        buffer.append("The event ").append(index).append(" is: ").append(NEW_LINE);
+        appendEvent(event);
+        buffer.append(NEW_LINE).append("Priority: ").append(priority).append(NEW_LINE).append(NEW_LINE);
     }
 
     /**
      * Displays a message when the list is empty.
      */
     public void showEmptyListMessage() {
-        System.out.println("There is nothing to view");
+        println("There is nothing to view");
     }
 
     /**
@@ -97,13 +241,18 @@ public class UI {
      */
     public void printMatchingEvents(ArrayList<Event> events) {
         if (events.isEmpty()){
-            System.out.println("No matching events found.");
+            println("No matching events found.");
 
         } else {
-            System.out.println("Found " + events.size() + " matching events.");
-            System.out.println("Here are the matching events in your list: ");
+            println("Found " + events.size() + " matching events.");
+            println("Here are the matching events in your list: ");
             for (int i = 0; i < events.size(); i++) {
-                System.out.println(" " + (i + 1) + ". " + events.get(i).toString());
+                buffer.append(' ').append(i + 1).append(". ");
+                appendEvent(events.get(i));
+                buffer.append(NEW_LINE);
+            }
+            if (!isOutputHeld) {
+                flush();
             }
         }
     }
@@ -112,7 +261,7 @@ public class UI {
      * Prompts the user to input event details for adding an event.
      */
     public void showAddFormat() {
-        System.out.println("Enter event details (format: Event Name | " +
+        println("Enter event details (format: Event Name | " +
                 "Start Date | End Date | Location | Description):");
     }
 
@@ -122,7 +271,7 @@ public class UI {
      * @param event The event that has been added.
      */
     public void showAddedMessage(Event event) {
-        System.out.println("The event\n" + event.toString() + "\nhas been added to the list.");
+        println("The event\n" + event.toString() + "\nhas been added to the list.");
     }
 
     /**
@@ -131,56 +280,56 @@ public class UI {
      * @param event The event that is being edited.
      */
     public void showEditCommandMessage(Event event) {
-        System.out.println("\nEditing Event: " + event.getName());
-        System.out.println("1. Edit Name");
-        System.out.println("2. Edit Start Time");
-        System.out.println("3. Edit End Time");
-        System.out.println("4. Edit Location");
-        System.out.println("5. Edit Description");
-        System.out.println("6. Done Editing");
-        System.out.print("Select an option: ");
+        println("\nEditing Event: " + event.getName());
+        println("1. Edit Name");
+        println("2. Edit Start Time");
+        println("3. Edit End Time");
+        println("4. Edit Location");
+        println("5. Edit Description");
+        println("6. Done Editing");
+        print("Select an option: ");
     }
 
     /**
      * Displays a message when an invalid input is entered for editing an event.
      */
     public void showEditCommandCorrectFormat() {
-        System.out.println("Invalid input! Please enter a number from 1 to 5");
+        println("Invalid input! Please enter a number from 1 to 5");
     }
 
     /**
      * Prompts the user to input a new event name for editing.
      */
     public void showEditCommandStep1() {
-        System.out.print("Enter New Event Name  (or type 'exit' to cancel): ");
+        print("Enter New Event Name  (or type 'exit' to cancel): ");
     }
 
     /**
      * Prompts the user to input a new start time for editing.
      */
     public void showEditCommandStep2() {
-        System.out.print("Enter New Start Time (YYYY-MM-DD HH:MM) (or type 'exit' to cancel): ");
+        print("Enter New Start Time (YYYY-MM-DD HH:MM) (or type 'exit' to cancel): ");
     }
 
     /**
      * Prompts the user to input a new end time for editing.
      */
     public void showEditCommandStep3() {
-        System.out.print("Enter New End Time (YYYY-MM-DD HH:MM) (or type 'exit' to cancel): ");
+        print("Enter New End Time (YYYY-MM-DD HH:MM) (or type 'exit' to cancel): ");
     }
 
     /**
      * Prompts the user to input a new event location for editing.
      */
     public void showEditCommandStep4() {
-        System.out.print("Enter New Event Location (or type 'exit' to cancel): ");
+        print("Enter New Event Location (or type 'exit' to cancel): ");
     }
 
     /**
      * Prompts the user to input a new event description for editing.
      */
     public void showEditCommandStep5() {
-        System.out.print("Enter New Event Description (or type 'exit' to cancel): ");
+        print("Enter New Event Description (or type 'exit' to cancel): ");
     }
 
     /**
@@ -189,15 +338,15 @@ public class UI {
      * @param event The edited event.
      */
     public void showEditedEvent(Event event) {
-        System.out.println("\nUpdated Event Details:");
-        System.out.println(event);
+        println("\nUpdated Event Details:");
+        println(event);
     }
 
     /**
      * Displays a goodbye message to the user.
      */
     public void showByeMessage() {
-        System.out.println("Bye!");
+        println("Bye!");
     }
 
     /**
@@ -207,12 +356,45 @@ public class UI {
      * @param collisions A list of events that overlap with the new event.
      */
     public void showCollisionWarning(Event newEvent, ArrayList<Event> collisions) {
-        System.out.println("Warning: Scheduling Conflict");
-        System.out.println("Time of the new event overlaps with the following event(s):");
+        println("Warning: Scheduling Conflict");
+        println("Time of the new event overlaps with the following event(s):");
         for (Event collision : collisions) {
-            System.out.println(collision.toString());
+            println(collision.toString());
+        }
+        println("Please edit your events to resolve the conflict.");
+    }
+
+    /**
+     * Displays one line of a conflict report describing two overlapping events.
+     *
+     * @param label  What the two events share, such as a location or participant.
+     * @param first  The event that starts first.
+     * @param second The event that overlaps it.
+     */
+    public void showConflict(String label, Event first, Event second) {
+        println("[" + label + "] " + first.getName() + " ("
+                + first.getStartTime().format(TIME_FORMATTER) + " to " + first.getEndTime().format(TIME_FORMATTER)
+                + ") overlaps " + second.getName() + " ("
+                + second.getStartTime().format(TIME_FORMATTER) + " to " + second.getEndTime().format(TIME_FORMATTER)
+                + ")");
+    }
+
+    /**
+     * Displays a numbered list of availability windows.
+     *
+     * @param windows The windows to display.
+     */
+    public void showAvailabilityWindows(List<AvailabilitySlot> windows) {
+        if (windows.isEmpty()) {
+            println("No common free time found.");
+            return;
+        }
+        println("Common free time:");
+        for (int i = 0; i < windows.size(); i++) {
+            AvailabilitySlot window = windows.get(i);
+            println(" " + (i + 1) + ". " + window.getStartTime().format(TIME_FORMATTER) + " to "
+                    + window.getEndTime().format(TIME_FORMATTER));
         }
-        System.out.println("Please edit your events to resolve the conflict.");
     }
 
     /**
@@ -222,12 +404,12 @@ public class UI {
      * @param collisions A list of events that have a scheduling conflict with the participants.
      */
     public void showParticipantSlotCollisionWarning(Event event, ArrayList<Event> collisions) {
-        System.out.println("Warning: Scheduling Conflict");
-        System.out.println("Participants are not able to attend");
+        println("Warning: Scheduling Conflict");
+        println("Participants are not able to attend");
         for (Event collision : collisions) {
-            System.out.println(collision.toString());
+            println(collision.toString());
         }
-        System.out.println("Please find another participant");
+        println("Please find another participant");
     }
 
     /**
@@ -236,7 +418,7 @@ public class UI {
      * @param event The event that has been deleted.
      */
     public void showDeletedMessage(Event event) {
-        System.out.println("\"" + event.getName() + "\" has been deleted.");
+        println("\"" + event.getName() + "\" has been deleted.");
     }
 
     /**
@@ -246,8 +428,8 @@ public class UI {
      * @throws SyncException If the user enters an invalid input or cancels the operation.
      */
     public String readDuplicateEventInput() throws SyncException {
-        System.out.print("Enter duplicate command (format: <index> <New Event Name>) (or type 'exit' to cancel): ");
-        String input = scanner.nextLine().trim();
+        print("Enter duplicate command (format: <index> <New Event Name>) (or type 'exit' to cancel): ");
+        String input = nextLine().trim();
         checkForExit(input);
         return input;
     }
@@ -259,9 +441,9 @@ public class UI {
      * @param eventManager   The event manager instance used to retrieve event details.
      */
     public void showMatchingEventsWithIndices(ArrayList<Event> matchingEvents, EventManager eventManager) {
-        System.out.println("\nMatching Events:");
+        println("\nMatching Events:");
         for (int i = 0; i < matchingEvents.size(); i++) {
-            System.out.println((i + 1) + ". " + matchingEvents.get(i).getName());
+            println((i + 1) + ". " + matchingEvents.get(i).getName());
         }
     }
 
@@ -272,8 +454,8 @@ public class UI {
      * @return true if the user confirms deletion, false otherwise.
      */
     public boolean confirmDeletion(String eventName) {
-        System.out.print("Confirm deletion of \"" + eventName + "\"? (yes/no): ");
-        String confirmation = scanner.nextLine().trim().toLowerCase();
+        print("Confirm deletion of \"" + eventName + "\"? (yes/no): ");
+        String confirmation = nextLine().trim().toLowerCase();
         return confirmation.equals("yes");
     }
 
@@ -281,14 +463,14 @@ public class UI {
      * Displays a message confirming that the deletion process has been cancelled.
      */
     public void showDeletionCancelledMessage() {
-        System.out.println("Deletion cancelled.");
+        println("Deletion cancelled.");
     }
 
     /**
      * Prompts the user to input participant details for adding a participant.
      */
     public void showAddParticipantFormat() {
-        System.out.println("Enter participant details (format: Name | Email | AccessLevel[ADMIN/MEMBER]):");
+        println("Enter participant details (format: Name | Email | AccessLevel[ADMIN/MEMBER]):");
     }
 
     /**
@@ -297,14 +479,14 @@ public class UI {
      * @param p The participant that was added.
      */
     public void showParticipantAdded(Participant p) {
-        System.out.println("Participant added: " + p);
+        println("Participant added: " + p);
     }
 
     /**
      * Displays a logout message to the user.
      */
     public void showLogOutMessage() {
-        System.out.println("Bye! Press 'login' to log in or 'create' to create a new user.");
+        println("Bye! Press 'login' to log in or 'create' to create a new user.");
     }
 
     /**
@@ -314,8 +496,8 @@ public class UI {
      * @return true if the user confirms, false otherwise.
      */
     public boolean askConfirmation(String message) {
-        System.out.println(message);
-        String input = scanner.nextLine().trim().toLowerCase();
+        println(message);
+        String input = nextLine().trim().toLowerCase();
 
         return input.equals("y");
     }
@@ -324,7 +506,7 @@ public class UI {
      * Displays a success message when a user successfully logs in.
      */
     public void showSuccessLoginMessage() {
-        System.out.println("Successfully logged in.");
+        println("Successfully logged in.");
     }
 
     /**
@@ -333,16 +515,33 @@ public class UI {
      * @param participant The participant that was created.
      */
     public void showSuccessCreateMessage(Participant participant) {
-        System.out.println("Successfully created: " + participant.getName());
-        System.out.println("Please enter 'login' to log in or continue with your previous command.");
+        println("Successfully created: " + participant.getName());
+        println("Please enter 'login' to log in or continue with your previous command.");
+    }
+
+    /**
+     * Displays the participants of an event.
+     *
+     * @param event The event whose participants are displayed.
+     */
+    public void showParticipants(Event event) {
+        ArrayList<Participant> participants = event.getParticipants();
+        if (participants.isEmpty()) {
+            println("No participants assigned to this event.");
+            return;
+        }
+        println("Participants for event \"" + event.getName() + "\":");
+        for (Participant participant : participants) {
+            println("- " + participant);
+        }
     }
 
     /**
      * Displays a welcome message to the user when the system starts.
      */
     public void showWelcomeMessage() {
-        System.out.println("Welcome to EventSync!");
-        System.out.println("Press 'login' to log in or 'create' to create a new user.");
+        println("Welcome to EventSync!");
+        println("Press 'login' to log in or 'create' to create a new user.");
     }
 
     /**
@@ -351,7 +550,7 @@ public class UI {
      * @return The line of input entered by the user.
      */
     public String readLine() {
-        return scanner.nextLine();
+        return nextLine();
     }
 
     /**
@@ -360,7 +559,7 @@ public class UI {
      * @return The integer input entered by the user, or null if the input is not a valid integer.
      */
     public Integer readInt() {
-        String input = scanner.nextLine().trim();
+        String input = nextLine().trim();
         try {
             return Integer.parseInt(input);
         } catch (NumberFormatException e) {
@@ -374,16 +573,16 @@ public class UI {
      * @param event The event being edited.
      */
     public void showEditCommandMessageWithOptions(event.Event event) {
-        System.out.println("\n--- Editing Event ---");
-        System.out.println(event);
-        System.out.println("What would you like to edit?");
-        System.out.println("1. Name");
-        System.out.println("2. Start Time (format: yyyy-MM-dd HH:mm)");
-        System.out.println("3. End Time (format: yyyy-MM-dd HH:mm)");
-        System.out.println("4. Location");
-        System.out.println("5. Description");
-        System.out.println("6. Done");
-        System.out.print("Enter your choice (1-6): ");
+        println("\n--- Editing Event ---");
+        println(event);
+        println("What would you like to edit?");
+        println("1. Name");
+        println("2. Start Time (format: yyyy-MM-dd HH:mm)");
+        println("3. End Time (format: yyyy-MM-dd HH:mm)");
+        println("4. Location");
+        println("5. Description");
+        println("6. Done");
+        print("Enter your choice (1-6): ");
     }
 
     /**
@@ -393,9 +592,9 @@ public class UI {
      * @throws SyncException If the user cancels the operation by typing 'exit'.
      */
     public String readAddCommandInput() throws SyncException {
-        System.out.print("Enter event details (format: Event Name | " +
+        print("Enter event details (format: Event Name | " +
                 "Start Date | End Date | Location | Description) (or type 'exit' to cancel) : \n");
-        String input = scanner.nextLine().trim();
+        String input = nextLine().trim();
         checkForExit(input);
         return input;
     }
@@ -407,10 +606,10 @@ public class UI {
      * @throws SyncException If the input format is invalid.
      */
     public String[] splitAddParticipantCommandInput() throws SyncException {
-        System.out.println("Use: <EventIndex> | <Participant Name>");
-        System.out.println("Type 'exit' to cancel.");
+        println("Use: <EventIndex> | <Participant Name>");
+        println("Type 'exit' to cancel.");
 
-        String input = scanner.nextLine().trim();
+        String input = nextLine().trim();
         checkForExit(input);
         String[] parts = input.split("\\|");
         if (parts.length != 2) {
@@ -428,8 +627,8 @@ public class UI {
      * @throws SyncException If the user cancels the operation by typing 'exit'.
      */
     public String readDeleteName() throws SyncException {
-        System.out.print("Enter name to search for events to delete (or type 'exit' to cancel): ");
-        String input = scanner.nextLine().trim();
+        print("Enter name to search for events to delete (or type 'exit' to cancel): ");
+        String input = nextLine().trim();
         checkForExit(input);
         return input;
     }
@@ -441,8 +640,8 @@ public class UI {
      * @throws SyncException If the user types "exit", the operation is cancelled.
      */
     public String readFilterInput() throws SyncException {
-        System.out.print("Enter a priority or a range (or type 'exit' to cancel): ");
-        String input = scanner.nextLine().trim();
+        print("Enter a priority or a range (or type 'exit' to cancel): ");
+        String input = nextLine().trim();
         checkForExit(input);
         return input;
     }
@@ -454,8 +653,8 @@ public class UI {
      * @throws SyncException If the user types "exit", the operation is cancelled.
      */
     public String askParticipantName() throws SyncException {
-        System.out.print("Enter participant's name (or type 'exit' to cancel): ");
-        String input = scanner.nextLine().trim();
+        print("Enter participant's name (or type 'exit' to cancel): ");
+        String input = nextLine().trim();
         checkForExit(input);
         return input;
     }
@@ -467,8 +666,8 @@ public class UI {
      * @throws SyncException If the user types "exit", the operation is cancelled.
      */
     public String askPassword() throws SyncException {
-        System.out.print("Enter participant's password (or type 'exit' to cancel): ");
-        String input = scanner.nextLine().trim();
+        print("Enter participant's password (or type 'exit' to cancel): ");
+        String input = nextLine().trim();
         checkForExit(input);
         return input;
     }
@@ -480,8 +679,8 @@ public class UI {
      * @throws SyncException If the user types "exit", the operation is cancelled.
      */
     public String readListCommandInput() throws SyncException {
-        System.out.print("Enter your sort type (priority, start, end) or type 'exit' to cancel: ");
-        String input = scanner.nextLine().trim();
+        print("Enter your sort type (priority, start, end) or type 'exit' to cancel: ");
+        String input = nextLine().trim();
         checkForExit(input);
         return input;
     }
@@ -492,8 +691,8 @@ public class UI {
      * @return The input containing event index, participant name, access level, and availability.
      */
     public String readAddParticipantInput() {
-        System.out.print("Follow this format: <EventIndex> | <Participant Name> | <AccessLevel> | <Availability> \n");
-        return scanner.nextLine().trim();
+        print("Follow this format: <EventIndex> | <Participant Name> | <AccessLevel> | <Availability> \n");
+        return nextLine().trim();
     }
 
     /**
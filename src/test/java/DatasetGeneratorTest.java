@@ -0,0 +1,92 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import label.Priority;
+import participant.Participant;
+import seedu.DatasetGenerator;
+import storage.Storage;
+import storage.UserStorage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+class DatasetGeneratorTest {
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("dataset");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        Priority.clearPriorities();
+    }
+
+    private EventManager load(Path dir) throws SyncException {
+        UserStorage userStorage = new UserStorage(dir.resolve(DatasetGenerator.USER_FILE_NAME).toString());
+        Storage storage = new Storage(dir.resolve(DatasetGenerator.EVENT_FILE_NAME).toString(), userStorage);
+        return new EventManager(storage.loadEvents(), new ui.UI(), storage, userStorage);
+    }
+
+    @Test
+    void generate_loadsBackWithRequestedCounts() throws SyncException {
+        new DatasetGenerator(7, 20, 300, 5, 3, 4, 0.1).generate(directory);
+
+        UserStorage userStorage = new UserStorage(directory.resolve(DatasetGenerator.USER_FILE_NAME).toString());
+        ArrayList<Participant> users = userStorage.loadUsers();
+        assertEquals(20, users.size());
+        assertEquals(Participant.AccessLevel.ADMIN, users.get(0).getAccessLevel());
+        assertEquals(4, users.get(5).getAvailableTimes().size());
+
+        EventManager events = load(directory);
+        assertEquals(300, events.getEvents().size());
+        assertEquals(300, Priority.getAllPriorities().size());
+        for (Event event : events.getEvents()) {
+            assertEquals(3, event.getParticipants().size());
+            assertFalse(event.getEndTime().isBefore(event.getStartTime()));
+        }
+    }
+
+    @Test
+    void generate_sameSeed_writesIdenticalFiles() throws SyncException, IOException {
+        Path other = directory.resolve("again");
+        new DatasetGenerator(42, 10, 200, 4, 2, 3, 0.3).generate(directory);
+        new DatasetGenerator(42, 10, 200, 4, 2, 3, 0.3).generate(other);
+
+        for (String name : new String[]{DatasetGenerator.EVENT_FILE_NAME, DatasetGenerator.USER_FILE_NAME}) {
+            assertEquals(Files.readAllLines(directory.resolve(name)), Files.readAllLines(other.resolve(name)));
+        }
+    }
+
+    @Test
+    void generate_collisionDensity_controlsLocationConflicts() throws SyncException {
+        new DatasetGenerator(1, 10, 500, 10, 1, 1, 0).generate(directory);
+        assertEquals(0, load(directory).reportLocationConflicts((key, first, second) -> { }));
+
+        new DatasetGenerator(1, 10, 500, 10, 1, 1, 0.5).generate(directory);
+        assertTrue(load(directory).reportLocationConflicts((key, first, second) -> { }) > 0);
+    }
+
+    @Test
+    void constructor_invalidCounts_throwsException() {
+        assertThrows(SyncException.class, () -> new DatasetGenerator(1, 0, 10, 1, 0, 0, 0));
+        assertThrows(SyncException.class, () -> new DatasetGenerator(1, 2, 10, 1, 3, 0, 0));
+        assertThrows(SyncException.class, () -> new DatasetGenerator(1, 2, 10, 1, 1, 0, 1.5));
+    }
+}
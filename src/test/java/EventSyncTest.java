@@ -1,4 +1,5 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -7,7 +8,10 @@ import org.junit.jupiter.api.Test;
 import exception.SyncException;
 import event.Event;
 import event.EventManager;
+import metrics.Metrics;
+import participant.AvailabilitySlot;
 import participant.Participant;
+import seedu.BatchSummary;
 import seedu.EventSync;
 import storage.Storage;
 import storage.UserStorage;
@@ -15,10 +19,16 @@ import storage.UserStorage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 
 class EventSyncTest {
     private EventManager eventManager;
@@ -178,4 +188,146 @@ class EventSyncTest {
         // Verify no collision detected
         assertEquals(0, collisions2.size());
     }
+
+    @Test
+    void testRunBatch_runsInlineCommandsAndCommitsOnce() throws SyncException, IOException {
+        Path script = Paths.get("./data/BatchTest-script.txt");
+        UserStorage userStorage = new UserStorage("./data/BatchTest-users.txt");
+        userStorage.saveUsers(List.of(new Participant("Admin", "secret", Participant.AccessLevel.ADMIN,
+                new ArrayList<>(List.of(new AvailabilitySlot(LocalDateTime.of(2025, 5, 1, 0, 0),
+                        LocalDateTime.of(2025, 5, 31, 23, 59)))))));
+        Files.deleteIfExists(Paths.get("./data/BatchTest-events.txt"));
+        Files.write(script, List.of(
+                "# set up the week",
+                "login Admin secret",
+                "add Standup | 2025-05-05 09:00 | 2025-05-05 09:30 | Room 1 | Daily sync | HIGH",
+                "add Review | 2025-05-06 14:00 | 2025-05-06 15:00 | Room 2 | Code review",
+                "add Retro | 2025-05-07 16:00 | 2025-05-07 17:00 | Room 2 | Retrospective",
+                "",
+                "delete Review",
+                "delete Nothing",
+                "find",
+                "bye",
+                "add Ignored | 2025-05-08 09:00 | 2025-05-08 10:00 | Room 1 | After bye"));
+
+        EventSync app = new EventSync("./data/BatchTest-events.txt", "./data/BatchTest-users.txt");
+        BatchSummary summary = app.runBatch(script, 0);
+
+        assertEquals(8, summary.getCommands());
+        assertEquals(2, summary.getFailures());
+        assertEquals(1, summary.getCommits());
+        List<Event> saved = new Storage("./data/BatchTest-events.txt", userStorage).loadEvents();
+        assertEquals(2, saved.size());
+        assertEquals("Standup", saved.get(0).getName());
+        assertEquals("Retro", saved.get(1).getName());
+
+        Files.deleteIfExists(script);
+        Files.deleteIfExists(Paths.get("./data/BatchTest-events.txt"));
+        Files.deleteIfExists(Paths.get("./data/BatchTest-users.txt"));
+    }
+
+    @Test
+    void testStartup_recordsPhasesUntilWelcome() throws SyncException {
+        Metrics.getShared().clear();
+        EventSync eventSync = new EventSync(new ByteArrayInputStream("bye\n".getBytes()),
+                "./data/EventSyncTest.txt", "./data/UserSyncTest.txt");
+
+        PrintStream originalSystemOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            eventSync.run();
+        } finally {
+            System.setOut(originalSystemOut);
+        }
+
+        assertTrue(Metrics.getShared().getPhase(Metrics.Phase.READY) > 0);
+        assertEquals(1, Metrics.getShared().getIo(Metrics.Io.EVENT_LOAD).getCount());
+        assertEquals(1, Metrics.getShared().getIo(Metrics.Io.USER_LOAD).getCount());
+    }
+
+    @Test
+    void testStartup_corruptedUserFile_throwsFromLoaderThread() throws IOException {
+        Path users = Paths.get("./data/StartupTest-users.txt");
+        Files.createDirectories(users.getParent());
+        Files.writeString(users, "only a name\n");
+
+        SyncException e = assertThrows(SyncException.class, () -> new EventSync(
+                new ByteArrayInputStream(new byte[0]), "./data/StartupTest-events.txt", users.toString()));
+        assertEquals("Error reading file: Skipping corrupted line: only a name", e.getMessage());
+
+        Files.deleteIfExists(users);
+        Files.deleteIfExists(Paths.get("./data/StartupTest-events.txt"));
+    }
+
+    @Test
+    void testRun_writesIndexFilesForNextStart() throws SyncException, IOException {
+        Path events = Paths.get("./data/SidecarTest-events.txt");
+        Path calendarIndex = Paths.get("./data/SidecarTest-events.txt.calendar.idx");
+        Path locationIndex = Paths.get("./data/SidecarTest-events.txt.location.idx");
+        Files.createDirectories(events.getParent());
+        Files.writeString(events, "Standup | 2025-05-07 09:00 | 2025-05-07 09:15 | Room 1 | Daily | LOW | \n");
+
+        PrintStream originalSystemOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            new EventSync(new ByteArrayInputStream("bye\n".getBytes()), events.toString(),
+                    "./data/SidecarTest-users.txt").run();
+            assertTrue(Files.exists(calendarIndex));
+            assertTrue(Files.exists(locationIndex));
+            long written = Files.getLastModifiedTime(calendarIndex).toMillis();
+
+            EventSync restarted = new EventSync(new ByteArrayInputStream("bye\n".getBytes()), events.toString(),
+                    "./data/SidecarTest-users.txt");
+            Files.setLastModifiedTime(calendarIndex, FileTime.fromMillis(written - 10_000));
+            restarted.run();
+            // Nothing changed, so the index files read at startup are not written again
+            assertEquals(written - 10_000, Files.getLastModifiedTime(calendarIndex).toMillis());
+        } finally {
+            System.setOut(originalSystemOut);
+            Files.deleteIfExists(events);
+            Files.deleteIfExists(calendarIndex);
+            Files.deleteIfExists(locationIndex);
+            Files.deleteIfExists(Paths.get("./data/SidecarTest-users.txt"));
+        }
+    }
+
+    @Test
+    void testStartup_withSnapshot_skipsDataFiles() throws SyncException, IOException {
+        Path events = Paths.get("./data/SnapshotStartTest-events.txt");
+        Path users = Paths.get("./data/SnapshotStartTest-users.txt");
+        Path snapshot = Paths.get("./data/SnapshotStartTest-events.txt.snapshot");
+        Files.createDirectories(events.getParent());
+        Files.writeString(users, "Alice | ADMIN | pw | 2025-05-07 08:00,2025-05-07 18:00\n");
+        Files.writeString(events,
+                "Standup | 2025-05-07 09:00 | 2025-05-07 09:15 | Room 1 | Daily | HIGH | Alice:ADMIN\n");
+
+        PrintStream originalSystemOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        System.setProperty("eventsync.snapshot", "true");
+        try {
+            new EventSync(new ByteArrayInputStream("bye\n".getBytes()), events.toString(), users.toString()).run();
+            assertTrue(Files.exists(snapshot));
+
+            Metrics.getShared().clear();
+            new EventSync(new ByteArrayInputStream("bye\n".getBytes()), events.toString(), users.toString()).run();
+            assertTrue(Metrics.getShared().getPhase(Metrics.Phase.SNAPSHOT_LOAD) > 0);
+            assertNull(Metrics.getShared().getIo(Metrics.Io.EVENT_LOAD));
+            assertNull(Metrics.getShared().getIo(Metrics.Io.USER_LOAD));
+
+            // A data file saved after the snapshot wins over it
+            Files.writeString(events, "Retro | 2025-05-08 09:00 | 2025-05-08 10:00 | Room 2 | Weekly | LOW | \n");
+            Files.setLastModifiedTime(events, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+            Metrics.getShared().clear();
+            new EventSync(new ByteArrayInputStream("bye\n".getBytes()), events.toString(), users.toString()).run();
+            assertEquals(1, Metrics.getShared().getIo(Metrics.Io.EVENT_LOAD).getCount());
+        } finally {
+            System.clearProperty("eventsync.snapshot");
+            System.setOut(originalSystemOut);
+            Files.deleteIfExists(events);
+            Files.deleteIfExists(users);
+            Files.deleteIfExists(snapshot);
+            Files.deleteIfExists(Paths.get(events + ".calendar.idx"));
+            Files.deleteIfExists(Paths.get(events + ".location.idx"));
+        }
+    }
 }
@@ -5,8 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -33,7 +35,7 @@ class ListParticipantsTest {
     @Test
     void testListParticipantsWhenNoParticipants() {
         // Test when no participants have been added to the event
-        event.listParticipants(); // Expect the message "No participants assigned to this event."
+        assertTrue(event.getParticipants().isEmpty(), "Event should start without participants.");
     }
 
     @Test
@@ -41,9 +43,7 @@ class ListParticipantsTest {
         // Add one participant and list participants
         event.addParticipant(participant1);
 
-        // Capture the output (assuming listParticipants prints output)
-        // Here, you might want to use a custom OutputStream or similar approach to capture printed statements.
-        event.listParticipants(); // Expect the message "Participants for event: Team Meeting"
+        assertEquals(List.of(participant1), event.getParticipants());
     }
 
     @Test
@@ -52,8 +52,8 @@ class ListParticipantsTest {
         event.addParticipant(participant1);
         event.addParticipant(participant2);
 
-        // Verify the list output is correct, assuming it prints the list of participants
-        event.listParticipants(); // Expect both Alice and Bob to be printed as participants
+        // Verify both participants are listed in the order they were added
+        assertEquals(List.of(participant1, participant2), event.getParticipants());
     }
 
     @Test
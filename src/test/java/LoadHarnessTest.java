@@ -0,0 +1,77 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import exception.SyncException;
+import label.Priority;
+import seedu.DatasetGenerator;
+import seedu.LoadHarness;
+import seedu.LoadReport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+class LoadHarnessTest {
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("load");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        Priority.clearPriorities();
+    }
+
+    @Test
+    void run_writeHeavy_runsEveryScriptedCommand() throws SyncException, IOException {
+        LoadHarness harness = new LoadHarness(LoadHarness.Profile.WRITE_HEAVY, 5, 200, 120);
+        LoadReport report = harness.run(directory);
+
+        List<String> script = Files.readAllLines(directory.resolve(LoadHarness.SCRIPT_FILE_NAME));
+        long adds = script.stream().filter(line -> line.startsWith("add ")).count();
+        long deletes = script.stream().filter(line -> line.startsWith("delete ")).count();
+        assertEquals(120, report.getCommands());
+        assertEquals("bye", script.get(script.size() - 1));
+        assertTrue(report.getBytesWritten() > 0);
+        assertTrue(report.getPercentile(50) <= report.getPercentile(99));
+
+        // Every add and delete in the script was accepted
+        List<String> events = Files.readAllLines(directory.resolve(DatasetGenerator.EVENT_FILE_NAME));
+        assertEquals(200 + adds - deletes, events.size());
+        assertEquals(adds - deletes, events.stream().filter(line -> line.startsWith("Load#")).count());
+    }
+
+    @Test
+    void getScript_sameSeed_isReproducible() throws SyncException {
+        String script = new LoadHarness(LoadHarness.Profile.MIXED, 9, 100, 300).getScript();
+        assertEquals(script, new LoadHarness(LoadHarness.Profile.MIXED, 9, 100, 300).getScript());
+        assertNotEquals(script, new LoadHarness(LoadHarness.Profile.MIXED, 10, 100, 300).getScript());
+    }
+
+    @Test
+    void fromName_acceptsDashedNames() throws SyncException {
+        assertEquals(LoadHarness.Profile.READ_HEAVY, LoadHarness.Profile.fromName("read-heavy"));
+        assertThrows(SyncException.class, () -> LoadHarness.Profile.fromName("heavy"));
+    }
+
+    @Test
+    void getPercentile_usesNearestRank() {
+        LoadReport report = new LoadReport("test", new long[]{40, 10, 30, 20}, 1_000_000_000L, 0);
+        assertEquals(20, report.getPercentile(50));
+        assertEquals(40, report.getPercentile(99));
+        assertEquals(4.0, report.getCommandsPerSecond());
+    }
+}
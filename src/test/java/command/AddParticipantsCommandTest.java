@@ -0,0 +1,83 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.AvailabilitySlot;
+import participant.BulkAssignResult;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AddParticipantsCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private TestUI ui;
+    private Event meeting;
+    private Participant alice;
+    private Participant bob;
+
+    private static class TestUI extends UI {
+        private final ArrayList<String> messages = new ArrayList<>();
+
+        @Override
+        public void showMessage(String message) {
+            messages.add(message);
+        }
+    }
+
+    private static LocalDateTime at(int hour) {
+        return LocalDateTime.of(2025, 5, 1, hour, 0);
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        alice = new Participant("alice", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(8), at(18)))));
+        bob = new Participant("bob", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(8), at(18)))));
+        Participant carol = new Participant("carol", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(13), at(18)))));
+        participantManager = new ParticipantManager(new ArrayList<>(List.of(alice, bob, carol)), ui, userStorage);
+
+        meeting = new Event("Meeting", at(10), at(11), "Room 1", "Weekly");
+        meeting.addParticipant(bob);
+        eventManager = new EventManager(new ArrayList<>(List.of(meeting)), ui, eventStorage, userStorage);
+    }
+
+    @Test
+    void testAddParticipants_assignsEligibleAndRejectsOthers() throws SyncException {
+        BulkAssignResult result = eventManager.addParticipants(0,
+                List.of("alice", "bob", "carol", "dave", "alice"), participantManager);
+
+        assertEquals(List.of(alice), result.getAssigned());
+        assertEquals(List.of("bob", "carol", "dave"), new ArrayList<>(result.getRejected().keySet()));
+        assertTrue(meeting.hasParticipant(alice));
+        assertFalse(alice.isAvailableDuring(at(10), at(11)));
+    }
+
+    @Test
+    void testExecute_reportsRejectedNames() throws SyncException {
+        new AddParticipantsCommand(0, List.of("alice", "carol")).execute(eventManager, ui, participantManager);
+
+        assertEquals("Added 1 participant(s) to Meeting.", ui.messages.get(0));
+        assertEquals("  Not added: carol is not available at this time", ui.messages.get(1));
+    }
+}
@@ -0,0 +1,171 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import label.Priority;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Archive;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ArchiveCommandTest {
+    private static final String EVENT_FILE = "./data/ArchiveCommandTest.txt";
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private Archive archive;
+    private TestUI ui;
+    private Participant admin;
+    private Participant member;
+
+    private static class TestUI extends UI {
+        private ArrayList<Event> lastPrintedEvents;
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void printMatchingEvents(ArrayList<Event> events) {
+            this.lastPrintedEvents = new ArrayList<>(events);
+        }
+
+        @Override
+        public void showMessage(String message) {
+            messages.add(message);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/ArchiveCommandTestUsers.txt");
+        Storage eventStorage = new Storage(EVENT_FILE, userStorage);
+        participantManager = new ParticipantManager(new ArrayList<>(), ui, userStorage);
+        admin = new Participant("admin", "pw", Participant.AccessLevel.ADMIN);
+        member = new Participant("member", "pw", Participant.AccessLevel.MEMBER);
+
+        Event old = new Event("Old review", LocalDateTime.of(2020, 1, 1, 9, 0),
+                LocalDateTime.of(2020, 1, 1, 10, 0), "Room 1", "Already happened");
+        old.addParticipant(member);
+        Event otherOld = new Event("Old party", LocalDateTime.of(2020, 2, 1, 9, 0),
+                LocalDateTime.of(2020, 2, 1, 10, 0), "Room 2", "Someone else's");
+        Event future = new Event("Future review", LocalDateTime.of(2099, 1, 1, 9, 0),
+                LocalDateTime.of(2099, 1, 1, 10, 0), "Room 1", "Not yet");
+
+        ArrayList<Event> events = new ArrayList<>(List.of(old, future, otherOld));
+        Priority.loadFromStorage(List.of(Priority.HIGH, Priority.MEDIUM, Priority.LOW));
+        eventManager = new EventManager(events, ui, eventStorage, userStorage);
+        archive = new Archive(EVENT_FILE, eventStorage);
+        eventManager.setArchive(archive);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get(EVENT_FILE));
+        Files.deleteIfExists(Paths.get("./data/ArchiveCommandTestUsers.txt"));
+        Files.deleteIfExists(archive.getFile());
+        Files.deleteIfExists(archive.getIndexFile());
+        Files.deleteIfExists(archive.getPendingFile());
+        Priority.clearPriorities();
+    }
+
+    @Test
+    void testExecute_movesEndedEventsWithTheirPriorities() throws SyncException {
+        participantManager.setCurrentUser(admin);
+        new ArchiveCommand(LocalDateTime.of(2025, 1, 1, 0, 0)).execute(eventManager, ui, participantManager);
+
+        assertEquals(1, eventManager.size());
+        assertEquals("Future review", eventManager.getEvent(0).getName());
+        assertEquals(List.of(Priority.MEDIUM), Priority.getAllPriorities());
+        assertEquals(2, archive.size());
+        assertTrue(ui.messages.get(0).startsWith("Archived 2 events"));
+        assertEquals(1, eventManager.getEventsInRange(LocalDateTime.of(2000, 1, 1, 0, 0),
+                LocalDateTime.of(2100, 1, 1, 0, 0)).size());
+
+        // Nothing is left to archive the second time
+        new ArchiveCommand(LocalDateTime.of(2025, 1, 1, 0, 0)).execute(eventManager, ui, participantManager);
+        assertEquals(2, archive.size());
+        assertTrue(ui.messages.get(1).startsWith("No events ended before"));
+    }
+
+    @Test
+    void testExecute_archiveNotWritable_keepsEvents() throws SyncException, IOException {
+        participantManager.setCurrentUser(admin);
+        // A directory in place of the archive file makes the append fail before anything else changes
+        Files.createDirectories(archive.getFile());
+
+        assertThrows(SyncException.class, () -> new ArchiveCommand(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .execute(eventManager, ui, participantManager));
+        assertEquals(3, eventManager.size());
+        assertEquals("Old review", eventManager.getEvent(0).getName());
+        assertEquals(List.of(Priority.HIGH, Priority.MEDIUM, Priority.LOW), Priority.getAllPriorities());
+    }
+
+    @Test
+    void testExecute_afterInterruptedRun_archivesOnce() throws SyncException {
+        participantManager.setCurrentUser(admin);
+        // A run that appended its events but stopped before saving the event file
+        archive.append(List.of(eventManager.getEvent(0), eventManager.getEvent(2)),
+                List.of(Priority.HIGH, Priority.LOW));
+
+        new ArchiveCommand(LocalDateTime.of(2025, 1, 1, 0, 0)).execute(eventManager, ui, participantManager);
+        assertEquals(1, eventManager.size());
+        assertEquals(2, archive.size());
+        assertTrue(Files.notExists(archive.getPendingFile()));
+    }
+
+    @Test
+    void testExecute_member_throwsException() {
+        participantManager.setCurrentUser(member);
+        assertThrows(SyncException.class, () -> new ArchiveCommand(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .execute(eventManager, ui, participantManager));
+        assertEquals(3, eventManager.size());
+    }
+
+    @Test
+    void testArchived_membersOnlySeeTheirOwnEvents() throws SyncException {
+        eventManager.archiveEndedBefore(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        participantManager.setCurrentUser(admin);
+        new ArchivedCommand("old").execute(eventManager, ui, participantManager);
+        assertEquals(2, ui.lastPrintedEvents.size());
+        assertEquals("Old party", ui.lastPrintedEvents.get(0).getName());
+
+        participantManager.setCurrentUser(member);
+        new ArchivedCommand("").execute(eventManager, ui, participantManager);
+        assertEquals(1, ui.lastPrintedEvents.size());
+        assertEquals("Old review", ui.lastPrintedEvents.get(0).getName());
+    }
+
+    @Test
+    void testArchived_manyMatches_listsNewestUpToLimit() throws SyncException {
+        ArrayList<Event> ended = new ArrayList<>();
+        for (int i = 0; i < ArchivedCommand.LIMIT + 5; i++) {
+            ended.add(new Event("Standup " + i, LocalDateTime.of(2019, 1, 1, 9, 0).plusDays(i),
+                    LocalDateTime.of(2019, 1, 1, 9, 15).plusDays(i), "Room 1", "Daily"));
+        }
+        archive.append(ended, List.of());
+        participantManager.setCurrentUser(admin);
+
+        new ArchivedCommand("standup").execute(eventManager, ui, participantManager);
+        assertEquals(ArchivedCommand.LIMIT, ui.lastPrintedEvents.size());
+        assertEquals("Standup " + (ArchivedCommand.LIMIT + 4), ui.lastPrintedEvents.get(0).getName());
+        assertTrue(ui.messages.get(0).startsWith("Only the " + ArchivedCommand.LIMIT));
+    }
+}
@@ -0,0 +1,121 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import event.Event;
+import event.EventManager;
+import event.Recurrence;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConflictsCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private TestUI ui;
+
+    private static class TestUI extends UI {
+        private final ArrayList<String> conflicts = new ArrayList<>();
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void showConflict(String label, Event first, Event second) {
+            conflicts.add(label + ": " + first.getName() + " / " + second.getName());
+        }
+
+        @Override
+        public void showMessage(String message) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        participantManager = new ParticipantManager(new ArrayList<>(), ui, userStorage);
+        participantManager.setCurrentUser(new Participant("admin", "pw", Participant.AccessLevel.ADMIN));
+
+        Participant alice = new Participant("alice", "pw", Participant.AccessLevel.MEMBER);
+        Event standup = new Event("Standup", LocalDateTime.of(2025, 5, 10, 9, 0),
+                LocalDateTime.of(2025, 5, 10, 10, 0), "Room 1", "Daily standup");
+        Event review = new Event("Review", LocalDateTime.of(2025, 5, 10, 9, 30),
+                LocalDateTime.of(2025, 5, 10, 11, 0), "Room 1", "Design review");
+        Event training = new Event("Training", LocalDateTime.of(2025, 5, 10, 9, 45),
+                LocalDateTime.of(2025, 5, 10, 12, 0), "Room 2", "Onboarding");
+        standup.addParticipant(alice);
+        training.addParticipant(alice);
+
+        ArrayList<Event> events = new ArrayList<>();
+        events.add(standup);
+        events.add(review);
+        events.add(training);
+        eventManager = new EventManager(events, ui, eventStorage, userStorage);
+    }
+
+    @Test
+    void testExecute_locationOnly_reportsRoomConflict() throws SyncException {
+        new ConflictsCommand(false).execute(eventManager, ui, participantManager);
+
+        assertEquals(1, ui.conflicts.size());
+        assertEquals("Location: Room 1: Standup / Review", ui.conflicts.get(0));
+    }
+
+    @Test
+    void testExecute_withParticipants_reportsDoubleBooking() throws SyncException {
+        new ConflictsCommand(true).execute(eventManager, ui, participantManager);
+
+        assertEquals(2, ui.conflicts.size());
+        assertEquals("Participant: alice: Standup / Training", ui.conflicts.get(1));
+    }
+
+    @Test
+    void testExecute_series_reportsOverlappingOccurrence() throws SyncException {
+        Event workshop = new Event("Workshop", LocalDateTime.of(2025, 5, 8, 10, 0),
+                LocalDateTime.of(2025, 5, 8, 11, 0), "Room 2", "Every day");
+        workshop.setRecurrence(Recurrence.parse("DAILY:1:4"));
+        eventManager.getEvents().add(workshop);
+
+        new ConflictsCommand(false).execute(eventManager, ui, participantManager);
+
+        assertEquals(2, ui.conflicts.size());
+        assertTrue(ui.conflicts.contains("Location: Room 2: Training / Workshop"));
+    }
+
+    @Test
+    void testExecute_manyConflicts_flushesAsItReports() throws SyncException {
+        for (int i = 0; i < 15; i++) {
+            eventManager.getEvents().add(new Event("Clash " + i, LocalDateTime.of(2025, 6, 1, 9, 0),
+                    LocalDateTime.of(2025, 6, 1, 10, 0), "Room 3", "Double-booked"));
+        }
+
+        new ConflictsCommand(false).execute(eventManager, ui, participantManager);
+
+        assertEquals(1 + 15 * 14 / 2, ui.conflicts.size());
+        assertEquals(ui.conflicts.size() / ConflictsCommand.FLUSH_EVERY, ui.flushes);
+    }
+
+    @Test
+    void testExecute_member_throwsException() {
+        participantManager.setCurrentUser(new Participant("bob", "pw", Participant.AccessLevel.MEMBER));
+        assertThrows(SyncException.class, () -> new ConflictsCommand(false)
+                .execute(eventManager, ui, participantManager));
+    }
+}
@@ -0,0 +1,116 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import label.Priority;
+import participant.AvailabilitySlot;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DuplicateSeriesCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private TestUI ui;
+
+    private static class TestUI extends UI {
+        private final ArrayList<String> messages = new ArrayList<>();
+
+        @Override
+        public void showMessage(String message) {
+            messages.add(message);
+        }
+    }
+
+    private static LocalDateTime on(int day, int hour) {
+        return LocalDateTime.of(2025, 5, day, hour, 0);
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        participantManager = new ParticipantManager(new ArrayList<>(), ui, userStorage);
+
+        Event lecture = new Event("Lecture", on(1, 10), on(1, 12), "Hall", "Weekly");
+        Event exam = new Event("Exam", on(15, 11), on(15, 13), "Hall", "Once");
+        Event elsewhere = new Event("Talk", on(8, 10), on(8, 12), "Room 2", "Once");
+        eventManager = new EventManager(new ArrayList<>(List.of(lecture, exam, elsewhere)), ui, eventStorage,
+                userStorage);
+        Priority.clearPriorities();
+        Priority.addPriority(Priority.HIGH);
+        Priority.addPriority(Priority.LOW);
+        Priority.addPriority(Priority.LOW);
+    }
+
+    @Test
+    void testExecute_addsAllCopiesAndReportsConflicts() throws SyncException {
+        new DuplicateSeriesCommand(0, Duration.ofDays(7), 3).execute(eventManager, ui, participantManager);
+
+        assertEquals(6, eventManager.size());
+        assertEquals(on(8, 10), eventManager.getEvent(3).getStartTime());
+        assertEquals(on(22, 12), eventManager.getEvent(5).getEndTime());
+        assertEquals(Priority.HIGH, Priority.getPriority(5));
+        assertEquals(2, eventManager.getEventsInRange(on(15, 0), on(15, 23)).size());
+
+        assertEquals(3, ui.messages.size());
+        assertTrue(ui.messages.get(0).startsWith("Added 3 copies of Lecture"));
+        assertTrue(ui.messages.get(1).startsWith("1 of the copies"));
+        assertEquals("  2025-05-15 10:00 overlaps Exam (2025-05-15 11:00)", ui.messages.get(2));
+    }
+
+    @Test
+    void testExecute_assignsParticipantsToEachCopyTheyAreFreeFor() throws SyncException {
+        Participant alice = new Participant("Alice", "pw", Participant.AccessLevel.MEMBER,
+                List.of(new AvailabilitySlot(on(1, 0), on(31, 0))));
+        Participant bob = new Participant("Bob", "pw", Participant.AccessLevel.MEMBER,
+                List.of(new AvailabilitySlot(on(1, 0), on(10, 0))));
+        Event lecture = eventManager.getEvent(0);
+        lecture.addParticipant(alice);
+        lecture.addParticipant(bob);
+
+        new DuplicateSeriesCommand(0, Duration.ofDays(7), 2).execute(eventManager, ui, participantManager);
+
+        Event week2 = eventManager.getEvent(3);
+        Event week3 = eventManager.getEvent(4);
+        assertEquals(2, week2.getParticipants().size());
+        assertEquals(List.of(alice), week3.getParticipants());
+        assertEquals(2, lecture.getParticipants().size());
+        assertFalse(alice.isAvailableDuring(on(8, 10), on(8, 12)));
+        assertFalse(alice.isAvailableDuring(on(15, 10), on(15, 12)));
+        assertFalse(bob.isAvailableDuring(on(8, 10), on(8, 12)));
+        assertEquals("1 of the copies leave out participants who are busy:", ui.messages.get(3));
+        assertEquals("  2025-05-15 10:00 without Bob", ui.messages.get(4));
+
+        // Each copy has its own participants, so adding to one leaves the others as they are
+        week3.addParticipant(bob);
+        assertEquals(2, lecture.getParticipants().size());
+        assertEquals(2, week3.getParticipants().size());
+        assertEquals(2, week2.getParticipants().size());
+    }
+
+    @Test
+    void testExecute_eventLongerThanInterval_throws() {
+        assertThrows(SyncException.class, () ->
+                new DuplicateSeriesCommand(0, Duration.ofHours(1), 3).execute(eventManager, ui, participantManager));
+        assertEquals(3, eventManager.size());
+    }
+}
@@ -0,0 +1,112 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import event.Event;
+import event.EventManager;
+import event.EventPage;
+import exception.SyncException;
+import label.Priority;
+import participant.Participant;
+import participant.ParticipantManager;
+import ui.UI;
+
+public class QueryCacheTest {
+    private EventManager eventManager;
+    private Participant admin;
+
+    @BeforeEach
+    public void setUp() {
+        Priority.clearPriorities();
+        ArrayList<Event> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            LocalDateTime start = LocalDateTime.of(2025, 5, 1 + i, 9, 0);
+            events.add(new Event("Meeting " + i, start, start.plusHours(1), "Room", "Sync"));
+            Priority.addPriority("LOW");
+        }
+        eventManager = new EventManager(events, new UI(), null, null);
+        admin = new Participant("admin", "pw", Participant.AccessLevel.ADMIN, new ArrayList<>());
+    }
+
+    private EventPage all() {
+        return eventManager.getMatching((event, priority) -> true);
+    }
+
+    @Test
+    public void testGet_sameVersion_hitsUntilEventsChange() {
+        QueryCache cache = new QueryCache(8, 1024 * 1024);
+        String key = QueryCache.key(admin, "list", "priority");
+        EventPage first = cache.computeIfAbsent(key, eventManager, this::all);
+        assertSame(first, cache.computeIfAbsent(key, eventManager, this::all));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        eventManager.reindexEvent(eventManager.getEvents().get(0));
+        assertNull(cache.get(key, eventManager));
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testGet_otherEventManager_misses() {
+        QueryCache cache = new QueryCache(8, 1024 * 1024);
+        String key = QueryCache.key(admin, "find", "meeting");
+        cache.put(key, eventManager, all());
+        EventManager other = new EventManager(new ArrayList<>(), new UI(), null, null);
+        assertNull(cache.get(key, other));
+    }
+
+    @Test
+    public void testPut_overEntryLimit_evictsLeastRecentlyUsed() {
+        QueryCache cache = new QueryCache(2, 1024 * 1024);
+        cache.put("a", eventManager, all());
+        cache.put("b", eventManager, all());
+        cache.get("a", eventManager);
+        cache.put("c", eventManager, all());
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNull(cache.get("b", eventManager));
+        assertTrue(cache.get("a", eventManager) != null);
+    }
+
+    @Test
+    public void testPut_overMemoryLimit_evictsUntilItFits() {
+        QueryCache cache = new QueryCache(100, 500);
+        cache.put("a", eventManager, all());
+        cache.put("b", eventManager, all());
+        cache.put("c", eventManager, all());
+
+        assertTrue(cache.getBytes() <= 500);
+        assertTrue(cache.getEvictions() >= 1);
+        assertTrue(cache.toString().startsWith("Query cache: 0 hits"));
+    }
+
+    @Test
+    public void testFindCommand_repeatedQuery_reusesResultUntilEventAdded() throws SyncException {
+        QueryCache.getShared().clear();
+        ParticipantManager participantManager = new ParticipantManager(new ArrayList<>(), new UI(), null);
+        participantManager.setCurrentUser(admin);
+
+        new FindCommand("meeting").execute(eventManager, new UI(), participantManager);
+        new FindCommand("meeting").execute(eventManager, new UI(), participantManager);
+        assertEquals(1, QueryCache.getShared().getHits());
+
+        LocalDateTime start = LocalDateTime.of(2025, 6, 1, 9, 0);
+        ArrayList<Event> events = new ArrayList<>(eventManager.getEvents());
+        events.add(new Event("Meeting 3", start, start.plusHours(1), "Hall", "Sync"));
+        eventManager.setEvents(events);
+        new FindCommand("meeting").execute(eventManager, new UI(), participantManager);
+        assertEquals(1, QueryCache.getShared().getHits());
+        assertEquals(2, QueryCache.getShared().getMisses());
+    }
+}
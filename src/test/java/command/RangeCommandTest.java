@@ -0,0 +1,117 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RangeCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private TestUI ui;
+    private Participant admin;
+    private Participant member;
+
+    private static class TestUI extends UI {
+        private ArrayList<Event> lastPrintedEvents;
+
+        @Override
+        public void printMatchingEvents(ArrayList<Event> events) {
+            this.lastPrintedEvents = new ArrayList<>(events);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        participantManager = new ParticipantManager(new ArrayList<>(), ui, userStorage);
+        admin = new Participant("admin", "pw", Participant.AccessLevel.ADMIN);
+        member = new Participant("member", "pw", Participant.AccessLevel.MEMBER);
+
+        Event review = new Event("Review", LocalDateTime.of(2025, 5, 10, 9, 0),
+                LocalDateTime.of(2025, 5, 10, 10, 0), "Room 1", "Code review");
+        Event retro = new Event("Retro", LocalDateTime.of(2025, 5, 12, 9, 0),
+                LocalDateTime.of(2025, 5, 12, 10, 0), "Room 1", "Sprint retro");
+        Event launch = new Event("Launch", LocalDateTime.of(2025, 6, 1, 9, 0),
+                LocalDateTime.of(2025, 6, 1, 10, 0), "Hall", "Product launch");
+        retro.addParticipant(member);
+
+        ArrayList<Event> events = new ArrayList<>();
+        events.add(launch);
+        events.add(retro);
+        events.add(review);
+        eventManager = new EventManager(events, ui, eventStorage, userStorage);
+    }
+
+    @Test
+    void testExecute_admin_seesAllEventsInRange() throws SyncException {
+        participantManager.setCurrentUser(admin);
+        new RangeCommand(LocalDateTime.of(2025, 5, 1, 0, 0), LocalDateTime.of(2025, 5, 31, 23, 59))
+                .execute(eventManager, ui, participantManager);
+
+        assertEquals(2, ui.lastPrintedEvents.size());
+        assertEquals("Review", ui.lastPrintedEvents.get(0).getName());
+        assertEquals("Retro", ui.lastPrintedEvents.get(1).getName());
+    }
+
+    @Test
+    void testExecute_member_seesOnlyOwnEvents() throws SyncException {
+        participantManager.setCurrentUser(member);
+        new RangeCommand(LocalDateTime.of(2025, 5, 1, 0, 0), LocalDateTime.of(2025, 6, 30, 23, 59))
+                .execute(eventManager, ui, participantManager);
+
+        assertEquals(1, ui.lastPrintedEvents.size());
+        assertEquals("Retro", ui.lastPrintedEvents.get(0).getName());
+    }
+
+    @Test
+    void testExecute_afterDelete_eventNoLongerListed() throws SyncException {
+        participantManager.setCurrentUser(admin);
+        eventManager.deleteEvent(0);
+        new RangeCommand(LocalDateTime.of(2025, 6, 1, 0, 0), LocalDateTime.of(2025, 6, 1, 23, 59))
+                .execute(eventManager, ui, participantManager);
+
+        assertEquals(0, ui.lastPrintedEvents.size());
+    }
+
+    @Test
+    void testExecute_afterInPlaceRetime_eventListedAtNewTime() throws SyncException {
+        participantManager.setCurrentUser(admin);
+        Event launch = eventManager.getEvent(0);
+        launch.setStartTime(LocalDateTime.of(2025, 5, 20, 9, 0));
+        launch.setEndTime(LocalDateTime.of(2025, 5, 20, 10, 0));
+        new RangeCommand(LocalDateTime.of(2025, 5, 1, 0, 0), LocalDateTime.of(2025, 5, 31, 23, 59))
+                .execute(eventManager, ui, participantManager);
+
+        assertEquals(3, ui.lastPrintedEvents.size());
+        assertEquals("Launch", ui.lastPrintedEvents.get(2).getName());
+        assertEquals(List.of(), eventManager.getEventsInRange(LocalDateTime.of(2025, 6, 1, 0, 0),
+                LocalDateTime.of(2025, 6, 1, 23, 59)));
+        assertEquals(1, eventManager.checkSeriesCollision(new Event("Demo", LocalDateTime.of(2025, 5, 20, 9, 30),
+                LocalDateTime.of(2025, 5, 20, 11, 0), "Hall", "Demo")).size());
+    }
+
+    @Test
+    void testExecute_notLoggedIn_throwsException() {
+        RangeCommand command = new RangeCommand(LocalDateTime.of(2025, 5, 1, 0, 0),
+                LocalDateTime.of(2025, 5, 31, 23, 59));
+        assertThrows(SyncException.class, () -> command.execute(eventManager, ui, participantManager));
+    }
+}
@@ -0,0 +1,129 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import event.Event;
+import event.EventManager;
+import event.Recurrence;
+import exception.SyncException;
+import participant.AvailabilitySlot;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RepeatCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private Participant alice;
+    private TestUI ui;
+
+    private static class TestUI extends UI {
+        private final ArrayList<String> messages = new ArrayList<>();
+
+        @Override
+        public void showMessage(String message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void showCollisionWarning(Event event, ArrayList<Event> collisions) {
+            messages.add("collision");
+        }
+    }
+
+    private static LocalDateTime on(int day, int hour) {
+        return LocalDateTime.of(2025, 5, day, hour, 0);
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        alice = new Participant("alice", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(on(1, 8), on(31, 18)))));
+        participantManager = new ParticipantManager(new ArrayList<>(List.of(alice)), ui, userStorage);
+
+        Event standup = new Event("Standup", on(1, 9), on(1, 10), "Room 1", "Weekly");
+        standup.addParticipant(alice);
+        Event review = new Event("Review", on(15, 9), on(15, 11), "Room 2", "Once");
+        eventManager = new EventManager(new ArrayList<>(List.of(standup, review)), ui, eventStorage, userStorage);
+    }
+
+    private Recurrence weekly(int count) {
+        return new Recurrence(Recurrence.Frequency.WEEKLY, 1, count);
+    }
+
+    @Test
+    void testExecute_repeatsEventAndExpandsInRange() throws SyncException {
+        new RepeatCommand(0, weekly(3)).execute(eventManager, ui, participantManager);
+
+        assertEquals("Standup now repeats every week, 3 times.", ui.messages.get(0));
+        ArrayList<Event> inRange = eventManager.getEventsInRange(on(14, 0), on(16, 0));
+        assertEquals(2, inRange.size());
+        assertEquals(on(15, 9), inRange.get(0).getStartTime());
+        assertFalse(alice.isAvailableDuring(on(8, 9), on(8, 10)));
+        assertTrue(alice.isAvailableDuring(on(22, 9), on(22, 10)));
+    }
+
+    @Test
+    void testExecute_occurrenceCollidesWithBooking_throwsAndKeepsOneOffEvent() throws SyncException {
+        eventManager.getEvent(1).setLocation("Room 1");
+        eventManager.reindexEvent(eventManager.getEvent(1));
+
+        assertThrows(SyncException.class,
+                () -> new RepeatCommand(0, weekly(3)).execute(eventManager, ui, participantManager));
+        assertFalse(eventManager.getEvent(0).isRecurring());
+        assertTrue(alice.isAvailableDuring(on(8, 9), on(8, 10)));
+    }
+
+    @Test
+    void testExecute_participantUnavailableForLaterOccurrence_throws() throws SyncException {
+        assertThrows(SyncException.class,
+                () -> new RepeatCommand(0, weekly(6)).execute(eventManager, ui, participantManager));
+        assertFalse(eventManager.getEvent(0).isRecurring());
+        assertTrue(alice.isAvailableDuring(on(8, 9), on(8, 10)));
+    }
+
+    @Test
+    void testCheckSeriesCollision_twoSeriesSameLocation_detectsClash() throws SyncException {
+        new RepeatCommand(0, weekly(3)).execute(eventManager, ui, participantManager);
+        Event daily = new Event("Daily", on(13, 9), on(13, 9).plusMinutes(30), "Room 1", "Sync");
+        daily.setRecurrence(new Recurrence(Recurrence.Frequency.DAILY, 1, 5));
+
+        assertEquals(1, eventManager.checkSeriesCollision(daily).size());
+        daily.setRecurrence(new Recurrence(Recurrence.Frequency.DAILY, 1, 2));
+        assertTrue(eventManager.checkSeriesCollision(daily).isEmpty());
+    }
+
+    @Test
+    void testUpdateEvent_seriesMovedOntoLaterBooking_rejectedAndKept() throws SyncException {
+        new RepeatCommand(0, weekly(3)).execute(eventManager, ui, participantManager);
+        Event standup = eventManager.getEvent(0);
+        Event moved = new Event("Standup", on(1, 9), on(1, 10), "Room 2", "Weekly");
+        moved.setRecurrence(weekly(3));
+        moved.addParticipant(alice);
+
+        assertThrows(SyncException.class, () -> eventManager.updateEvent(0, moved));
+        assertTrue(ui.messages.contains("collision"));
+        assertEquals(standup, eventManager.getEvent(0));
+        assertEquals("Room 1", eventManager.getEvent(0).getLocation());
+        assertFalse(alice.isAvailableDuring(on(8, 9), on(8, 10)));
+        ArrayList<Event> inRange = eventManager.getEventsInRange(on(8, 0), on(8, 23));
+        assertEquals(1, inRange.size());
+        assertEquals("Room 1", inRange.get(0).getLocation());
+    }
+}
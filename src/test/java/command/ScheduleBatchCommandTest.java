@@ -0,0 +1,100 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import event.Event;
+import event.EventManager;
+import event.PendingEvent;
+import event.ScheduleResult;
+import exception.SyncException;
+import label.Priority;
+import participant.AvailabilitySlot;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScheduleBatchCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private TestUI ui;
+
+    private static class TestUI extends UI {
+        private final ArrayList<String> messages = new ArrayList<>();
+
+        @Override
+        public void showMessage(String message) {
+            messages.add(message);
+        }
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2099, 3, 2, hour, minute);
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        Participant alice = new Participant("alice", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(9, 0), at(10, 30)))));
+        Participant bob = new Participant("bob", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(9, 0), at(12, 0)))));
+        participantManager = new ParticipantManager(new ArrayList<>(List.of(alice, bob)), ui, userStorage);
+        eventManager = new EventManager(new ArrayList<>(), ui, eventStorage, userStorage);
+        Priority.clearPriorities();
+    }
+
+    @Test
+    void testScheduleBatch_placesHigherPriorityFirst() throws SyncException {
+        PendingEvent low = new PendingEvent("Catch-up", Duration.ofMinutes(60), List.of("Room 1"), "Chat",
+                List.of("alice"), Priority.LOW);
+        PendingEvent high = new PendingEvent("Review", Duration.ofMinutes(60), List.of("Room 1"), "Review",
+                List.of("alice", "bob"), Priority.HIGH);
+
+        ScheduleResult result = eventManager.scheduleBatch(List.of(low, high), participantManager, at(0, 0));
+
+        assertEquals(1, result.getScheduled().size());
+        Event review = result.getScheduled().get(0);
+        assertEquals("Review", review.getName());
+        assertEquals(at(9, 0), review.getStartTime());
+        assertEquals(List.of(low), result.getUnscheduled());
+        assertEquals(List.of(Priority.HIGH), Priority.getAllPriorities());
+    }
+
+    @Test
+    void testScheduleBatch_laterEventsSeeEarlierPlacements() throws SyncException {
+        PendingEvent first = new PendingEvent("First", Duration.ofMinutes(30), List.of("Room 1"), "One",
+                List.of("bob"), Priority.MEDIUM);
+        PendingEvent second = new PendingEvent("Second", Duration.ofMinutes(30), List.of("Room 1"), "Two",
+                List.of("bob"), Priority.MEDIUM);
+
+        ScheduleResult result = eventManager.scheduleBatch(List.of(first, second), participantManager, at(0, 0));
+
+        assertEquals(2, eventManager.size());
+        assertEquals(at(9, 0), result.getScheduled().get(0).getStartTime());
+        assertEquals(at(9, 31), result.getScheduled().get(1).getStartTime());
+    }
+
+    @Test
+    void testExecute_reportsUnscheduledEvents() throws SyncException {
+        PendingEvent unknown = new PendingEvent("Ghost", Duration.ofMinutes(30), List.of("Room 1"), "Nobody",
+                List.of("carol"), Priority.LOW);
+
+        new ScheduleBatchCommand(List.of(unknown)).execute(eventManager, ui, participantManager);
+
+        assertEquals("Scheduled 0 of 1 events.", ui.messages.get(0));
+        assertEquals("  Could not schedule: Ghost", ui.messages.get(1));
+    }
+}
@@ -0,0 +1,98 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import event.Event;
+import event.EventManager;
+import event.PendingEvent;
+import exception.SyncException;
+import label.Priority;
+import participant.AvailabilitySlot;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScheduleCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private UI ui;
+    private Participant alice;
+    private Participant bob;
+
+    private static LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2099, 3, 2, hour, minute);
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new UI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        alice = new Participant("alice", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(9, 0), at(17, 0)))));
+        bob = new Participant("bob", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(11, 0), at(18, 0)))));
+        participantManager = new ParticipantManager(new ArrayList<>(List.of(alice, bob)), ui, userStorage);
+        participantManager.setCurrentUser(new Participant("admin", "pw", Participant.AccessLevel.ADMIN));
+
+        Event standup = new Event("Standup", at(11, 0), at(12, 0), "Room 1", "Daily standup");
+        eventManager = new EventManager(new ArrayList<>(List.of(standup)), ui, eventStorage, userStorage);
+        Priority.clearPriorities();
+        Priority.addPriority(Priority.LOW);
+    }
+
+    @Test
+    void testExecute_placesEventAtEarliestFreeTime() throws SyncException {
+        new ScheduleCommand(new PendingEvent("Planning", Duration.ofMinutes(60), List.of("Room 1"),
+                "Sprint planning", List.of("alice", "bob"), Priority.HIGH))
+                .execute(eventManager, ui, participantManager);
+
+        assertEquals(2, eventManager.size());
+        Event planned = eventManager.getEvent(1);
+        assertEquals(at(12, 1), planned.getStartTime());
+        assertEquals(at(13, 1), planned.getEndTime());
+        assertTrue(planned.hasParticipant(alice));
+        assertTrue(planned.hasParticipant(bob));
+        assertFalse(alice.isAvailableDuring(at(12, 1), at(13, 1)));
+        assertEquals(Priority.HIGH, Priority.getPriority(1));
+    }
+
+    @Test
+    void testExecute_noCommonTime_throwsException() {
+        ScheduleCommand command = new ScheduleCommand(new PendingEvent("Offsite", Duration.ofMinutes(600),
+                List.of("Room 1"), "All day", List.of("alice", "bob"), Priority.LOW));
+        assertThrows(SyncException.class, () -> command.execute(eventManager, ui, participantManager));
+        assertEquals(1, eventManager.size());
+    }
+
+    @Test
+    void testExecute_unknownParticipant_throwsException() {
+        ScheduleCommand command = new ScheduleCommand(new PendingEvent("Planning", Duration.ofMinutes(30),
+                List.of("Room 1"), "Sprint", List.of("alice", "carol"), Priority.LOW));
+        assertThrows(SyncException.class, () -> command.execute(eventManager, ui, participantManager));
+    }
+
+    @Test
+    void testExecute_busyLocation_usesNextCandidateLocation() throws SyncException {
+        new ScheduleCommand(new PendingEvent("Sync", Duration.ofMinutes(30), List.of("Room 1", "Room 2"),
+                "Quick sync", List.of("bob"), Priority.LOW)).execute(eventManager, ui, participantManager);
+
+        Event sync = eventManager.getEvent(1);
+        assertEquals("Room 2", sync.getLocation());
+        assertEquals(at(11, 0), sync.getStartTime());
+    }
+}
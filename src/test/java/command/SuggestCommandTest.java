@@ -0,0 +1,71 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.AvailabilitySlot;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SuggestCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private TestUI ui;
+
+    private static class TestUI extends UI {
+        private final ArrayList<String> messages = new ArrayList<>();
+
+        @Override
+        public void showMessage(String message) {
+            messages.add(message);
+        }
+    }
+
+    private static LocalDateTime at(int hour) {
+        return LocalDateTime.of(2025, 5, 1, hour, 0);
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        Participant alice = new Participant("alice", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(8), at(18)))));
+        Participant bob = new Participant("bob", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(8), at(18)))));
+        Participant carol = new Participant("carol", "pw", Participant.AccessLevel.MEMBER,
+                new ArrayList<>(List.of(new AvailabilitySlot(at(13), at(18)))));
+        participantManager = new ParticipantManager(new ArrayList<>(List.of(alice, bob, carol)), ui, userStorage);
+
+        Event meeting = new Event("Meeting", at(10), at(11), "Room 1", "Weekly");
+        meeting.addParticipant(bob);
+        eventManager = new EventManager(new ArrayList<>(List.of(meeting)), ui, eventStorage, userStorage);
+    }
+
+    @Test
+    void testExecute_listsFreeParticipantsNotInEvent() throws SyncException {
+        new SuggestCommand(0).execute(eventManager, ui, participantManager);
+
+        assertEquals(List.of("Participants free for Meeting:", "1. alice"), ui.messages);
+    }
+
+    @Test
+    void testExecute_invalidIndex_throwsException() {
+        assertThrows(SyncException.class, () -> new SuggestCommand(5).execute(eventManager, ui, participantManager));
+    }
+}
@@ -0,0 +1,94 @@
+package command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import event.Event;
+import event.EventManager;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.Storage;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpcomingCommandTest {
+
+    private EventManager eventManager;
+    private ParticipantManager participantManager;
+    private TestUI ui;
+    private Event first;
+    private Event second;
+
+    private static class TestUI extends UI {
+        private ArrayList<Event> lastPrintedEvents;
+
+        @Override
+        public void printMatchingEvents(ArrayList<Event> events) {
+            this.lastPrintedEvents = new ArrayList<>(events);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        ui = new TestUI();
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        Storage eventStorage = new Storage("./data/test-events.txt", userStorage);
+        participantManager = new ParticipantManager(new ArrayList<>(), ui, userStorage);
+        Participant member = new Participant("member", "pw", Participant.AccessLevel.MEMBER);
+        participantManager.setCurrentUser(member);
+
+        Event past = new Event("Past", LocalDateTime.of(2020, 1, 1, 9, 0),
+                LocalDateTime.of(2020, 1, 1, 10, 0), "Room 1", "Already happened");
+        first = new Event("First", LocalDateTime.of(2099, 1, 1, 9, 0),
+                LocalDateTime.of(2099, 1, 1, 10, 0), "Room 1", "Soon");
+        second = new Event("Second", LocalDateTime.of(2099, 2, 1, 9, 0),
+                LocalDateTime.of(2099, 2, 1, 10, 0), "Room 1", "Later");
+        Event notMine = new Event("Not Mine", LocalDateTime.of(2099, 1, 15, 9, 0),
+                LocalDateTime.of(2099, 1, 15, 10, 0), "Room 2", "Someone else's");
+        past.addParticipant(member);
+        first.addParticipant(member);
+        second.addParticipant(member);
+
+        ArrayList<Event> events = new ArrayList<>();
+        events.add(second);
+        events.add(notMine);
+        events.add(past);
+        events.add(first);
+        eventManager = new EventManager(events, ui, eventStorage, userStorage);
+    }
+
+    @Test
+    void testExecute_listsOwnFutureEventsInStartOrder() throws SyncException {
+        new UpcomingCommand(5).execute(eventManager, ui, participantManager);
+
+        assertEquals(2, ui.lastPrintedEvents.size());
+        assertEquals("First", ui.lastPrintedEvents.get(0).getName());
+        assertEquals("Second", ui.lastPrintedEvents.get(1).getName());
+    }
+
+    @Test
+    void testExecute_limitOne_returnsEarliestOnly() throws SyncException {
+        new UpcomingCommand(1).execute(eventManager, ui, participantManager);
+
+        assertEquals(1, ui.lastPrintedEvents.size());
+        assertEquals("First", ui.lastPrintedEvents.get(0).getName());
+    }
+
+    @Test
+    void testExecute_afterInPlaceEdit_reflectsNewStartTime() throws SyncException {
+        first.setStartTime(LocalDateTime.of(2099, 3, 1, 9, 0));
+        first.setEndTime(LocalDateTime.of(2099, 3, 1, 10, 0));
+        eventManager.reindexEvent(first);
+
+        new UpcomingCommand(5).execute(eventManager, ui, participantManager);
+
+        assertEquals("Second", ui.lastPrintedEvents.get(0).getName());
+        assertEquals("First", ui.lastPrintedEvents.get(1).getName());
+    }
+}
@@ -170,4 +170,33 @@ public class AddParticipantCommandFactoryTest {
         Scanner testScanner = new Scanner(in);
         ui.setScanner(testScanner);
     }
+
+    @Test
+    void testCreateCommand_inlineArguments_doesNotPrompt() throws SyncException {
+        eventManager.addEvent(new Event("Test Event", LocalDateTime.of(2020, 5, 10, 14, 0),
+                LocalDateTime.of(2020, 5, 10, 14, 30), "Test Location", "Test Description"));
+        simulateInput("");
+
+        AddParticipantCommand command = new AddParticipantCommandFactory(eventManager, participantManager, ui,
+                "1 | John Smith").createCommand();
+        assertEquals(0, command.getEventIndex());
+        assertEquals("John Smith", command.getParticipantName());
+
+        SyncException e = assertThrows(SyncException.class, () -> new AddParticipantCommandFactory(eventManager,
+                participantManager, ui, "1 | john | extra").createCommand());
+        assertEquals("Invalid format. Use: addparticipant <EventIndex> | <Participant Name>", e.getMessage());
+    }
+
+    @Test
+    void testExecute_inlineUnknownParticipant_throwsWithoutPrompting() throws SyncException {
+        eventManager.addEvent(new Event("Test Event", LocalDateTime.of(2020, 5, 10, 14, 0),
+                LocalDateTime.of(2020, 5, 10, 14, 30), "Test Location", "Test Description"));
+        simulateInput("");
+
+        AddParticipantCommand command = new AddParticipantCommandFactory(eventManager, participantManager, ui,
+                "1 | nobody").createCommand();
+        SyncException e = assertThrows(SyncException.class,
+                () -> command.execute(eventManager, ui, participantManager));
+        assertEquals("Participant 'nobody' does not exist. Enter 'create' to create them first.", e.getMessage());
+    }
 }
@@ -0,0 +1,75 @@
+package commandfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import command.ArchiveCommand;
+import command.ArchivedCommand;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ArchiveCommandFactoryTest {
+
+    private ParticipantManager participantManager;
+
+    @BeforeEach
+    public void setUp() throws SyncException {
+        participantManager = new ParticipantManager(new ArrayList<>(), new UI(),
+                new UserStorage("./data/test-users.txt"));
+        participantManager.setCurrentUser(new Participant("admin", "pw", Participant.AccessLevel.ADMIN));
+    }
+
+    @Test
+    public void testCreateCommand_withDays_setsHorizon() throws SyncException {
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+        ArchiveCommand command = (ArchiveCommand) new ArchiveCommandFactory("7", participantManager)
+                .createCommand();
+        LocalDateTime after = LocalDateTime.now().minusDays(7);
+        assertTrue(!command.getHorizon().isBefore(before) && !command.getHorizon().isAfter(after));
+    }
+
+    @Test
+    public void testCreateCommand_noArgument_usesDefaultDays() throws SyncException {
+        ArchiveCommand command = (ArchiveCommand) new ArchiveCommandFactory("", participantManager)
+                .createCommand();
+        assertTrue(command.getHorizon().isBefore(LocalDateTime.now().minusDays(29)));
+        assertTrue(command.getHorizon().isAfter(LocalDateTime.now().minusDays(31)));
+    }
+
+    @Test
+    public void testCreateCommand_invalidDays_throwsException() {
+        assertThrows(SyncException.class, () -> new ArchiveCommandFactory("abc", participantManager)
+                .createCommand());
+        assertThrows(SyncException.class, () -> new ArchiveCommandFactory("-1", participantManager)
+                .createCommand());
+    }
+
+    @Test
+    public void testCreateCommand_member_throwsException() {
+        participantManager.setCurrentUser(new Participant("member", "pw", Participant.AccessLevel.MEMBER));
+        assertThrows(SyncException.class, () -> new ArchiveCommandFactory("7", participantManager)
+                .createCommand());
+    }
+
+    @Test
+    public void testCreateArchivedCommand_memberCanSearch() throws SyncException {
+        participantManager.setCurrentUser(new Participant("member", "pw", Participant.AccessLevel.MEMBER));
+        ArchivedCommand command = (ArchivedCommand) new ArchivedCommandFactory(" review ", participantManager)
+                .createCommand();
+        assertEquals("review", command.getKeyword());
+
+        participantManager.setCurrentUser(null);
+        assertThrows(SyncException.class, () -> new ArchivedCommandFactory("", participantManager)
+                .createCommand());
+    }
+}
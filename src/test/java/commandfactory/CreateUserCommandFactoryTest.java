@@ -110,4 +110,28 @@ class CreateUserCommandFactoryTest {
         Scanner testScanner = new Scanner(inputStream);
         ui.setScanner(testScanner);
     }
+
+    @Test
+    void testCreateCommandWithInlineArguments() throws SyncException {
+        Command command = new CreateUserCommandFactory(ui, participantManager,
+                "John Doe | password123 | member | 2025-04-08 09:00 | 2025-04-08 17:00 | 2025-04-09 09:00 | "
+                        + "2025-04-09 12:00").createCommand();
+
+        Participant created = ((CreateUserCommand) command).getParticipant();
+        assertEquals("John Doe", created.getName());
+        assertEquals("password123", created.getPassword());
+        assertEquals(Participant.AccessLevel.MEMBER, created.getAccessLevel());
+        assertEquals(2, created.getAvailableTimes().size());
+        assertEquals(LocalDateTime.of(2025, 4, 9, 12, 0), created.getAvailableTimes().get(1).getEndTime());
+    }
+
+    @Test
+    void testCreateCommandWithInvalidInlineArguments() {
+        assertThrows(SyncException.class, () -> new CreateUserCommandFactory(ui, participantManager,
+                "John Doe | password123 | member | 2025-04-08 09:00").createCommand());
+        assertThrows(SyncException.class, () -> new CreateUserCommandFactory(ui, participantManager,
+                "John Doe | password123 | owner | 2025-04-08 09:00 | 2025-04-08 17:00").createCommand());
+        assertThrows(SyncException.class, () -> new CreateUserCommandFactory(ui, participantManager,
+                "admin_user | pw | admin | 2025-04-08 09:00 | 2025-04-08 17:00").createCommand());
+    }
 }
@@ -16,7 +16,6 @@ import participant.ParticipantManager;
 import storage.UserStorage;
 import ui.UI;
 
-import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -44,6 +43,11 @@ public class DeleteCommandFactoryTest {
         public String readDeleteName() {
             return inputs.poll();
         }
+
+        @Override
+        public String readLine() {
+            return inputs.poll();
+        }
     }
 
     @BeforeEach
@@ -84,8 +88,7 @@ public class DeleteCommandFactoryTest {
     @Test
     void testDeleteMultipleMatchingEventsWithUserInputIndex() throws SyncException {
         ui.addInput("Meeting");
-        String consoleInput = "2\n";
-        System.setIn(new ByteArrayInputStream(consoleInput.getBytes()));
+        ui.addInput("2");
 
         Command command = factory.createCommand();
         assertTrue(command instanceof DeleteCommand);
@@ -133,7 +136,7 @@ public class DeleteCommandFactoryTest {
     @Test
     void testThrowsIfInvalidIndexFormatEntered() {
         ui.addInput("Meeting");
-        System.setIn(new ByteArrayInputStream("abc\n".getBytes()));
+        ui.addInput("abc");
 
         SyncException ex = assertThrows(SyncException.class, () -> {
             factory.createCommand();
@@ -145,7 +148,7 @@ public class DeleteCommandFactoryTest {
     @Test
     void testThrowsIfOutOfBoundsIndexEntered() {
         ui.addInput("Meeting");
-        System.setIn(new ByteArrayInputStream("10\n".getBytes()));
+        ui.addInput("10");
 
         SyncException ex = assertThrows(SyncException.class, () -> {
             factory.createCommand();
@@ -1,10 +1,12 @@
 package commandfactory;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import command.Command;
 import command.DuplicateCommand;
+import command.DuplicateSeriesCommand;
 import event.Event;
 import event.EventManager;
 import exception.SyncException;
@@ -15,6 +17,7 @@ import participant.ParticipantManager;
 import storage.UserStorage;
 import ui.UI;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -121,4 +124,34 @@ public class DuplicateCommandFactoryTest {
 
         assertTrue(ex.getMessage().contains("Invalid event index"));
     }
+
+    @Test
+    void testSeriesInputOnCommandLine_returnsDuplicateSeriesCommand() throws SyncException {
+        Command command = new DuplicateCommandFactory(participantManager, ui, eventManager, "1 every 2w x 3")
+                .createCommand();
+
+        assertTrue(command instanceof DuplicateSeriesCommand);
+        DuplicateSeriesCommand series = (DuplicateSeriesCommand) command;
+        assertEquals(0, series.getEventIndex());
+        assertEquals(Duration.ofDays(14), series.getStep());
+        assertEquals(3, series.getCount());
+    }
+
+    @Test
+    void testSeriesInputAtPrompt_returnsDuplicateSeriesCommand() throws SyncException {
+        ui.setSimulatedInput("1 every 1d x 5");
+
+        DuplicateSeriesCommand series = (DuplicateSeriesCommand) factory.createCommand();
+
+        assertEquals(Duration.ofDays(1), series.getStep());
+        assertEquals(5, series.getCount());
+    }
+
+    @Test
+    void testSeriesInputWithZeroCount_throws() {
+        SyncException ex = assertThrows(SyncException.class, () ->
+                new DuplicateCommandFactory(participantManager, ui, eventManager, "1 every 1d x 0").createCommand());
+
+        assertTrue(ex.getMessage().contains("at least 1"));
+    }
 }
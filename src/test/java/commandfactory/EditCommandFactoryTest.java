@@ -1,5 +1,6 @@
 package commandfactory;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -102,4 +103,26 @@ public class EditCommandFactoryTest {
 
         assertThrows(SyncException.class, () -> editCommandFactory.createCommand());
     }
+
+    @Test
+    void testCreateCommandWithInlineArgumentsReplacesEvent() throws SyncException {
+        Command command = new EditCommandFactory(participantManager, eventManager, ui,
+                "1 | Renamed | 2020-05-10 15:00 | 2020-05-10 16:00 | Room 2 | New description").createCommand();
+        assertTrue(command instanceof EditEventCommand);
+
+        command.execute(eventManager, ui, participantManager);
+        Event edited = eventManager.getEvent(0);
+        assertEquals("Renamed", edited.getName());
+        assertEquals(LocalDateTime.of(2020, 5, 10, 15, 0), edited.getStartTime());
+        assertEquals("Room 2", edited.getLocation());
+        assertEquals("New description", edited.getDescription());
+    }
+
+    @Test
+    void testCreateCommandWithInvalidInlineArgumentsThrows() {
+        assertThrows(SyncException.class, () -> new EditCommandFactory(participantManager, eventManager, ui,
+                "2 | Renamed | 2020-05-10 15:00 | 2020-05-10 16:00 | Room 2 | Text").createCommand());
+        assertThrows(SyncException.class, () -> new EditCommandFactory(participantManager, eventManager, ui,
+                "1 | Renamed | 2020-05-10 15:00").createCommand());
+    }
 }
@@ -0,0 +1,65 @@
+package commandfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import command.FreeTimeCommand;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FreeTimeCommandFactoryTest {
+
+    private ParticipantManager participantManager;
+
+    @BeforeEach
+    public void setUp() throws SyncException {
+        participantManager = new ParticipantManager(new ArrayList<>(), new UI(),
+                new UserStorage("./data/test-users.txt"));
+        participantManager.setCurrentUser(new Participant("member", "pw", Participant.AccessLevel.MEMBER));
+    }
+
+    @Test
+    public void testCreateCommand_namesAndDuration_keepsNameCase() throws SyncException {
+        FreeTimeCommand command = (FreeTimeCommand) new FreeTimeCommandFactory("Alice, Bob Tan 45",
+                participantManager).createCommand();
+        assertEquals(List.of("Alice", "Bob Tan"), command.getParticipantNames());
+        assertEquals(Duration.ofMinutes(45), command.getDuration());
+        assertFalse(command.isEarliestOnly());
+    }
+
+    @Test
+    public void testCreateCommand_firstFlag_setsEarliestOnly() throws SyncException {
+        FreeTimeCommand command = (FreeTimeCommand) new FreeTimeCommandFactory("alice,bob 30 first",
+                participantManager).createCommand();
+        assertTrue(command.isEarliestOnly());
+    }
+
+    @Test
+    public void testCreateCommand_invalidArguments_throwsException() {
+        assertThrows(SyncException.class, () -> new FreeTimeCommandFactory("", participantManager)
+                .createCommand());
+        assertThrows(SyncException.class, () -> new FreeTimeCommandFactory("alice,bob soon", participantManager)
+                .createCommand());
+        assertThrows(SyncException.class, () -> new FreeTimeCommandFactory("alice 0", participantManager)
+                .createCommand());
+    }
+
+    @Test
+    public void testCreateCommand_notLoggedIn_throwsException() {
+        participantManager.setCurrentUser(null);
+        assertThrows(SyncException.class, () -> new FreeTimeCommandFactory("alice 30", participantManager)
+                .createCommand());
+    }
+}
@@ -2,7 +2,10 @@ package commandfactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import command.Command;
+import command.ListAllCommand;
 import exception.SyncException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +68,16 @@ class ListAllCommandFactoryTest {
 
         assertEquals("Sorry, you need to be an ADMIN to access all events.", exception.getMessage());
     }
+
+    @Test
+    void testCreateCommandWithInlinePageOptions_doesNotPrompt() throws SyncException {
+        Command command = new ListAllCommandFactory(participantManager, ui, "start --page 2 --size 5").createCommand();
+        assertTrue(command instanceof ListAllCommand);
+    }
+
+    @Test
+    void testCreateCommandWithInvalidPage_throwsException() {
+        assertThrows(SyncException.class, () ->
+                new ListAllCommandFactory(participantManager, ui, "start --page -1").createCommand());
+    }
 }
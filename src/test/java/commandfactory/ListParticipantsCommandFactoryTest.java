@@ -2,7 +2,9 @@ package commandfactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import command.ListParticipantsCommand;
 import exception.SyncException;
 import event.Event;
 import event.EventManager;
@@ -95,4 +97,28 @@ public class ListParticipantsCommandFactoryTest {
         SyncException exception = assertThrows(SyncException.class, factory::createCommand);
         assertEquals("No events available.", exception.getMessage());
     }
+
+    @Test
+    public void testCreateCommandInlineIndexDoesNotPrompt() throws SyncException {
+        Participant testUser = new Participant("john_doe", "password123",
+                Participant.AccessLevel.ADMIN, new ArrayList<>());
+        participantManager.addNewUser(testUser);
+        participantManager.setCurrentUser(testUser);
+        eventManager.addEvent(new Event("Test Event", LocalDateTime.of(2020, 5, 10, 14, 0),
+                LocalDateTime.of(2020, 5, 10, 14, 30), "Test Location", "Test Description"));
+
+        UI mockUi = new UI() {
+            @Override
+            public String readLine() {
+                throw new AssertionError("Inline listparticipants must not prompt");
+            }
+        };
+
+        assertTrue(new ListParticipantsCommandFactory(mockUi, eventManager, participantManager, "1")
+                .createCommand() instanceof ListParticipantsCommand);
+        assertThrows(SyncException.class, () -> new ListParticipantsCommandFactory(mockUi, eventManager,
+                participantManager, "2").createCommand());
+        assertThrows(SyncException.class, () -> new ListParticipantsCommandFactory(mockUi, eventManager,
+                participantManager, "x").createCommand());
+    }
 }
@@ -0,0 +1,60 @@
+package commandfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import command.Command;
+import command.RangeCommand;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RangeCommandFactoryTest {
+
+    private ParticipantManager participantManager;
+
+    @BeforeEach
+    public void setUp() throws SyncException {
+        participantManager = new ParticipantManager(new ArrayList<>(), new UI(),
+                new UserStorage("./data/test-users.txt"));
+        participantManager.setCurrentUser(new Participant("admin", "pw", Participant.AccessLevel.ADMIN));
+    }
+
+    @Test
+    public void testCreateCommand_validDates_coversWholeDays() throws SyncException {
+        Command command = new RangeCommandFactory("2025-05-10 2025-05-12", participantManager).createCommand();
+
+        assertTrue(command instanceof RangeCommand);
+        RangeCommand rangeCommand = (RangeCommand) command;
+        assertEquals(LocalDateTime.of(2025, 5, 10, 0, 0), rangeCommand.getFrom());
+        assertEquals(LocalDateTime.of(2025, 5, 12, 23, 59), rangeCommand.getTo().withSecond(0).withNano(0));
+    }
+
+    @Test
+    public void testCreateCommand_missingDate_throwsException() {
+        RangeCommandFactory factory = new RangeCommandFactory("2025-05-10", participantManager);
+        assertThrows(SyncException.class, factory::createCommand);
+    }
+
+    @Test
+    public void testCreateCommand_endBeforeStart_throwsException() {
+        RangeCommandFactory factory = new RangeCommandFactory("2025-05-12 2025-05-10", participantManager);
+        assertThrows(SyncException.class, factory::createCommand);
+    }
+
+    @Test
+    public void testCreateCommand_notLoggedIn_throwsException() {
+        participantManager.setCurrentUser(null);
+        RangeCommandFactory factory = new RangeCommandFactory("2025-05-10 2025-05-12", participantManager);
+        assertThrows(SyncException.class, factory::createCommand);
+    }
+}
@@ -0,0 +1,52 @@
+package commandfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import command.RoomsCommand;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.UserStorage;
+import ui.UI;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RoomsCommandFactoryTest {
+
+    private ParticipantManager participantManager;
+
+    @BeforeEach
+    public void setUp() throws SyncException {
+        participantManager = new ParticipantManager(new ArrayList<>(), new UI(),
+                new UserStorage("./data/test-users.txt"));
+        participantManager.setCurrentUser(new Participant("member", "pw", Participant.AccessLevel.MEMBER));
+    }
+
+    @Test
+    public void testCreateCommand_validWindow_parsesTimes() throws SyncException {
+        RoomsCommand command = (RoomsCommand) new RoomsCommandFactory("2025-05-01 09:00 2025-05-01 10:30",
+                participantManager).createCommand();
+        assertEquals(LocalDateTime.of(2025, 5, 1, 9, 0), command.getStart());
+        assertEquals(LocalDateTime.of(2025, 5, 1, 10, 30), command.getEnd());
+    }
+
+    @Test
+    public void testCreateCommand_invalidWindow_throwsException() {
+        assertThrows(SyncException.class, () -> new RoomsCommandFactory("2025-05-01 09:00", participantManager)
+                .createCommand());
+        assertThrows(SyncException.class, () -> new RoomsCommandFactory("2025-05-01 11:00 2025-05-01 10:00",
+                participantManager).createCommand());
+    }
+
+    @Test
+    public void testCreateCommand_notLoggedIn_throwsException() {
+        participantManager.setCurrentUser(null);
+        assertThrows(SyncException.class, () -> new RoomsCommandFactory("2025-05-01 09:00 2025-05-01 10:00",
+                participantManager).createCommand());
+    }
+}
@@ -0,0 +1,51 @@
+package commandfactory;
+
+import command.Command;
+import command.StatsCommand;
+import exception.SyncException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.UserStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+public class StatsCommandFactoryTest {
+
+    private StatsCommandFactory factory;
+    private ParticipantManager participantManager;
+
+    @BeforeEach
+    void setUp() throws SyncException {
+        UserStorage userStorage = new UserStorage("./data/test-users.txt");
+        participantManager = new ParticipantManager(new ArrayList<>(), null, userStorage);
+        factory = new StatsCommandFactory(participantManager);
+    }
+
+    @Test
+    public void testCreateCommandNotLoggedInThrowsException() {
+        SyncException exception = assertThrows(SyncException.class, factory::createCommand);
+        assertEquals("You are not logged in. Please enter 'login' to login.", exception.getMessage());
+    }
+
+    @Test
+    public void testCreateCommandMemberThrowsException() {
+        participantManager.setCurrentUser(new Participant("member", "pw", Participant.AccessLevel.MEMBER));
+
+        SyncException exception = assertThrows(SyncException.class, factory::createCommand);
+        assertEquals("Only admin can view statistics!", exception.getMessage());
+    }
+
+    @Test
+    public void testCreateCommandAdminReturnsStatsCommand() throws SyncException {
+        participantManager.setCurrentUser(new Participant("admin", "pw", Participant.AccessLevel.ADMIN));
+
+        Command command = factory.createCommand();
+        assertTrue(command instanceof StatsCommand);
+    }
+}
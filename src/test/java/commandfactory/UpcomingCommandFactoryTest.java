@@ -0,0 +1,57 @@
+package commandfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import command.UpcomingCommand;
+import exception.SyncException;
+import participant.Participant;
+import participant.ParticipantManager;
+import storage.UserStorage;
+import ui.UI;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UpcomingCommandFactoryTest {
+
+    private ParticipantManager participantManager;
+
+    @BeforeEach
+    public void setUp() throws SyncException {
+        participantManager = new ParticipantManager(new ArrayList<>(), new UI(),
+                new UserStorage("./data/test-users.txt"));
+        participantManager.setCurrentUser(new Participant("member", "pw", Participant.AccessLevel.MEMBER));
+    }
+
+    @Test
+    public void testCreateCommand_noArgument_usesDefaultLimit() throws SyncException {
+        UpcomingCommand command = (UpcomingCommand) new UpcomingCommandFactory("", participantManager)
+                .createCommand();
+        assertEquals(5, command.getLimit());
+    }
+
+    @Test
+    public void testCreateCommand_withLimit_usesLimit() throws SyncException {
+        UpcomingCommand command = (UpcomingCommand) new UpcomingCommandFactory("12", participantManager)
+                .createCommand();
+        assertEquals(12, command.getLimit());
+    }
+
+    @Test
+    public void testCreateCommand_invalidLimit_throwsException() {
+        assertThrows(SyncException.class, () -> new UpcomingCommandFactory("abc", participantManager)
+                .createCommand());
+        assertThrows(SyncException.class, () -> new UpcomingCommandFactory("0", participantManager)
+                .createCommand());
+    }
+
+    @Test
+    public void testCreateCommand_notLoggedIn_throwsException() {
+        participantManager.setCurrentUser(null);
+        assertThrows(SyncException.class, () -> new UpcomingCommandFactory("3", participantManager)
+                .createCommand());
+    }
+}
@@ -0,0 +1,127 @@
+package event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.SyncException;
+import participant.Participant;
+
+class CalendarIndexTest {
+
+    private CalendarIndex index;
+    private Event morning;
+    private Event afternoon;
+    private Event conference;
+
+    @BeforeEach
+    void setUp() {
+        index = new CalendarIndex();
+        morning = new Event("Morning", LocalDateTime.of(2025, 5, 10, 9, 0),
+                LocalDateTime.of(2025, 5, 10, 10, 0), "Room 1", "Standup");
+        afternoon = new Event("Afternoon", LocalDateTime.of(2025, 5, 10, 14, 0),
+                LocalDateTime.of(2025, 5, 10, 15, 0), "Room 1", "Review");
+        conference = new Event("Conference", LocalDateTime.of(2025, 5, 9, 9, 0),
+                LocalDateTime.of(2025, 5, 12, 17, 0), "Hall", "Three day conference");
+        index.rebuild(List.of(afternoon, morning, conference));
+    }
+
+    @Test
+    void testFindOverlapping_singleDay_returnsEventsInStartOrder() {
+        ArrayList<Event> result = index.findOverlapping(LocalDateTime.of(2025, 5, 10, 0, 0),
+                LocalDateTime.of(2025, 5, 10, 23, 59), event -> true);
+
+        assertEquals(List.of(conference, morning, afternoon), result);
+    }
+
+    @Test
+    void testFindOverlapping_multiDayEvent_reportedOnce() {
+        ArrayList<Event> result = index.findOverlapping(LocalDateTime.of(2025, 5, 8, 0, 0),
+                LocalDateTime.of(2025, 5, 13, 0, 0), event -> event.getLocation().equals("Hall"));
+
+        assertEquals(List.of(conference), result);
+    }
+
+    @Test
+    void testFindOverlapping_windowBetweenEvents_returnsEmpty() {
+        ArrayList<Event> result = index.findOverlapping(LocalDateTime.of(2025, 5, 10, 11, 0),
+                LocalDateTime.of(2025, 5, 10, 13, 0), event -> !event.getLocation().equals("Hall"));
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testRemove_afterInPlaceEdit_removesFromOriginalDays() {
+        conference.setStartTime(LocalDateTime.of(2025, 6, 1, 9, 0));
+        conference.setEndTime(LocalDateTime.of(2025, 6, 1, 17, 0));
+        index.remove(conference);
+        index.add(conference);
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(morning, afternoon), index.findOverlapping(LocalDateTime.of(2025, 5, 9, 0, 0),
+                LocalDateTime.of(2025, 5, 12, 23, 59), event -> true));
+        assertEquals(List.of(conference), index.findOverlapping(LocalDateTime.of(2025, 6, 1, 0, 0),
+                LocalDateTime.of(2025, 6, 1, 23, 59), event -> true));
+    }
+
+    @Test
+    void testFindUpcoming_returnsNextEventsInStartOrder() {
+        ArrayList<Event> result = index.findUpcoming(LocalDateTime.of(2025, 5, 10, 9, 30), 5, event -> true);
+
+        assertEquals(List.of(afternoon), result);
+    }
+
+    @Test
+    void testFindUpcoming_respectsLimitAndFilter() {
+        Event later = new Event("Later", LocalDateTime.of(2025, 5, 20, 9, 0),
+                LocalDateTime.of(2025, 5, 20, 10, 0), "Room 1", "Planning");
+        index.add(later);
+
+        assertEquals(List.of(conference, morning), index.findUpcoming(LocalDateTime.of(2025, 5, 1, 0, 0), 2,
+                event -> true));
+        assertEquals(List.of(morning, afternoon, later), index.findUpcoming(LocalDateTime.of(2025, 5, 1, 0, 0), 5,
+                event -> event.getLocation().equals("Room 1")));
+    }
+
+    @Test
+    void testFindUpcomingForParticipant_onlyVisitsOwnEvents() throws SyncException {
+        Participant alice = new Participant("Alice", "pw", Participant.AccessLevel.MEMBER);
+        Participant bob = new Participant("Bob", "pw", Participant.AccessLevel.MEMBER);
+        morning.addParticipant(alice);
+        afternoon.addParticipant(bob);
+        conference.addParticipant(alice);
+        conference.addParticipant(bob);
+        index.rebuild(List.of(afternoon, morning, conference));
+
+        assertEquals(List.of(conference, morning), index.findUpcoming(alice, LocalDateTime.of(2025, 5, 1, 0, 0), 5));
+        assertEquals(List.of(afternoon), index.findUpcoming(new Participant("BOB", "", Participant.AccessLevel.MEMBER),
+                LocalDateTime.of(2025, 5, 10, 0, 0), 5));
+        assertEquals(List.of(conference), index.findUpcoming(alice, LocalDateTime.of(2025, 5, 1, 0, 0), 1));
+    }
+
+    @Test
+    void testFindUpcomingForParticipant_followsChangesAfterFirstQuery() throws SyncException {
+        Participant alice = new Participant("Alice", "pw", Participant.AccessLevel.MEMBER);
+        morning.addParticipant(alice);
+        index.rebuild(List.of(afternoon, morning, conference));
+        assertEquals(List.of(morning), index.findUpcoming(alice, LocalDateTime.of(2025, 5, 1, 0, 0), 5));
+
+        index.remove(morning);
+        morning.setStartTime(LocalDateTime.of(2025, 5, 11, 9, 0));
+        morning.setEndTime(LocalDateTime.of(2025, 5, 11, 10, 0));
+        index.add(morning);
+        index.remove(afternoon);
+        afternoon.addParticipant(alice);
+        index.add(afternoon);
+
+        assertEquals(List.of(afternoon, morning), index.findUpcoming(alice, LocalDateTime.of(2025, 5, 1, 0, 0), 5));
+        index.remove(afternoon);
+        assertEquals(List.of(morning), index.findUpcoming(alice, LocalDateTime.of(2025, 5, 1, 0, 0), 5));
+    }
+}
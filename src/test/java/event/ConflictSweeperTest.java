@@ -0,0 +1,94 @@
+package event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import exception.SyncException;
+import org.junit.jupiter.api.Test;
+
+class ConflictSweeperTest {
+
+    private static Event event(String name, int startHour, int endHour) {
+        return new Event(name, LocalDateTime.of(2025, 5, 10, startHour, 0),
+                LocalDateTime.of(2025, 5, 10, endHour, 0), "Room", "Description");
+    }
+
+    @Test
+    void testSweep_reportsEveryOverlappingPair() {
+        Event a = event("A", 9, 12);
+        Event b = event("B", 10, 11);
+        Event c = event("C", 11, 13);
+        Event d = event("D", 14, 15);
+        List<String> pairs = new ArrayList<>();
+
+        long count = new ConflictSweeper().sweep(Map.of("Room", List.of(d, c, b, a)),
+                (key, first, second) -> pairs.add(first.getName() + second.getName()));
+
+        assertEquals(3, count);
+        assertEquals(3, pairs.size());
+        assertTrue(pairs.containsAll(List.of("AB", "AC")));
+        assertTrue(pairs.contains("BC") || pairs.contains("CB"));
+    }
+
+    @Test
+    void testSweep_touchingEndpointsCountAsOverlap() {
+        long count = new ConflictSweeper().sweep(Map.of("Room", List.of(event("A", 9, 10), event("B", 10, 11))),
+                (key, first, second) -> { });
+
+        assertEquals(1, count);
+    }
+
+    @Test
+    void testSweep_separateGroupsDoNotConflict() {
+        long count = new ConflictSweeper().sweep(Map.of("Room 1", List.of(event("A", 9, 10)),
+                "Room 2", List.of(event("B", 9, 10))), (key, first, second) -> { });
+
+        assertEquals(0, count);
+    }
+
+    @Test
+    void testInStartOrder_mergesOccurrencesAsTheyAreReached() throws SyncException {
+        Event daily = event("Daily", 10, 11);
+        daily.setRecurrence(Recurrence.parse("DAILY:1:3"));
+        Event early = event("Early", 8, 9);
+        Event nextDay = new Event("Next day", LocalDateTime.of(2025, 5, 11, 9, 0),
+                LocalDateTime.of(2025, 5, 11, 12, 0), "Room", "Description");
+        List<String> order = new ArrayList<>();
+
+        Iterator<Event> merged = ConflictSweeper.inStartOrder(List.of(early, nextDay).iterator(), List.of(daily));
+        while (merged.hasNext()) {
+            Event event = merged.next();
+            order.add(event.getName() + " " + event.getStartTime().getDayOfMonth());
+        }
+
+        assertEquals(List.of("Early 10", "Daily 10", "Next day 11", "Daily 11", "Daily 12"), order);
+        long count = new ConflictSweeper().sweep(List.of("Room"),
+                key -> ConflictSweeper.inStartOrder(List.of(early, nextDay).iterator(), List.of(daily)),
+                (key, first, second) -> assertEquals("Next day", first.getName()));
+        assertEquals(1, count);
+    }
+
+    @Test
+    void testFindCollisions_reportsOnlyCandidatesThatOverlap() {
+        Event a = event("A", 9, 12);
+        Event b = event("B", 11, 13);
+        Event c = event("C", 16, 17);
+        Event early = event("Early", 8, 8);
+        Event middle = event("Middle", 12, 12);
+        Event gap = event("Gap", 14, 15);
+        Event late = event("Late", 17, 18);
+
+        Map<Event, ArrayList<Event>> collisions = new ConflictSweeper()
+                .findCollisions(List.of(a, b, c), List.of(early, middle, gap, late));
+
+        assertEquals(List.of(middle, late), new ArrayList<>(collisions.keySet()));
+        assertEquals(List.of(a, b), collisions.get(middle));
+        assertEquals(List.of(c), collisions.get(late));
+    }
+}
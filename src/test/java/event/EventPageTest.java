@@ -0,0 +1,96 @@
+package event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.SyncException;
+import label.Priority;
+import ui.UI;
+
+public class EventPageTest {
+    private static final String[] PRIORITIES = {"LOW", "HIGH", "MEDIUM", "HIGH", "LOW", "MEDIUM", "HIGH"};
+
+    private EventManager eventManager;
+
+    @BeforeEach
+    public void setUp() {
+        Priority.clearPriorities();
+        ArrayList<Event> events = new ArrayList<>();
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            // Start times run backwards so that start order is the reverse of insertion order
+            LocalDateTime start = LocalDateTime.of(2025, 5, 20 - i, 9, 0);
+            events.add(new Event("Event " + i, start, start.plusHours(1 + i % 3), "Room", "Desc"));
+            Priority.addPriority(PRIORITIES[i]);
+        }
+        eventManager = new EventManager(events, new UI(), null, null);
+    }
+
+    private static String names(EventPage page) {
+        StringBuilder names = new StringBuilder();
+        for (Event event : page.getEvents()) {
+            names.append(event.getName().substring(6));
+        }
+        return names.toString();
+    }
+
+    @Test
+    public void testGetPage_unordered_returnsWindowAndTotals() {
+        EventPage page = eventManager.getPage((event, priority) -> true, EventOrder.NONE, new PageRequest(2, 3));
+        assertEquals("345", names(page));
+        assertEquals(4, page.getFirstNumber());
+        assertEquals(7, page.getTotal());
+        assertEquals(3, page.getPageCount());
+        assertTrue(page.hasMore());
+    }
+
+    @Test
+    public void testGetPage_orderedPages_matchFullSort() {
+        StringBuilder byStart = new StringBuilder();
+        StringBuilder byPriority = new StringBuilder();
+        for (int page = 1; page <= 3; page++) {
+            byStart.append(names(eventManager.getPage((event, priority) -> true, EventOrder.START,
+                    new PageRequest(page, 3))));
+            byPriority.append(names(eventManager.getPage((event, priority) -> true, EventOrder.PRIORITY,
+                    new PageRequest(page, 3))));
+        }
+        assertEquals("6543210", byStart.toString());
+        // HIGH events 1, 3, 6 by end time, then MEDIUM 5, 2, then LOW 4, 0
+        assertEquals("6315240", byPriority.toString());
+    }
+
+    @Test
+    public void testGetPage_priorityFilter_keepsPrioritiesAlongsideEvents() {
+        EventPage page = eventManager.getPage((event, priority) -> priority.equals("HIGH"), EventOrder.END,
+                new PageRequest(1, 2));
+        assertEquals("63", names(page));
+        assertEquals("HIGH", page.getPriorities().get(0));
+        assertEquals(3, page.getTotal());
+        assertTrue(page.hasMore());
+    }
+
+    @Test
+    public void testGetNextPage_continuesLastQueryUntilExhausted() throws SyncException {
+        eventManager.getPage((event, priority) -> true, EventOrder.START, new PageRequest(1, 4));
+        EventPage next = eventManager.getNextPage();
+        assertEquals("210", names(next));
+        assertEquals(2, next.getPage());
+        assertFalse(next.hasMore());
+        assertThrows(SyncException.class, () -> eventManager.getNextPage());
+    }
+
+    @Test
+    public void testGetNextPage_withoutListingOrAfterClear_throwsException() {
+        assertThrows(SyncException.class, () -> eventManager.getNextPage());
+        eventManager.getPage((event, priority) -> true, EventOrder.NONE, new PageRequest(1, 2));
+        eventManager.clearPageQuery();
+        assertThrows(SyncException.class, () -> eventManager.getNextPage());
+    }
+}
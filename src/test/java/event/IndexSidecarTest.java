@@ -0,0 +1,150 @@
+package event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import exception.SyncException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IndexSidecarTest {
+    private static final Path EVENT_FILE = Paths.get("./data/IndexSidecarTest.txt");
+
+    private IndexSidecar sidecar;
+    private ArrayList<Event> events;
+
+    private static LocalDateTime at(int day, int hour) {
+        return LocalDateTime.of(2025, 5, day, hour, 0);
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException, SyncException {
+        Files.createDirectories(EVENT_FILE.getParent());
+        Files.writeString(EVENT_FILE, "stands in for the saved events\n");
+        sidecar = new IndexSidecar(EVENT_FILE.toString());
+        events = new ArrayList<>();
+        events.add(new Event("Overnight", at(1, 22), at(2, 2), "Hall", "Spans two days"));
+        events.add(new Event("Talk", at(1, 10), at(1, 11), "Hall", "Keynote"));
+        events.add(new Event("Lab", at(2, 9), at(2, 12), "Room 1", "Practical"));
+        Event standup = new Event("Standup", at(1, 9), at(1, 10), "Room 2", "Daily");
+        standup.setRecurrence(Recurrence.parse("DAILY:1:5"));
+        events.add(standup);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(EVENT_FILE);
+        Files.deleteIfExists(sidecar.getCalendarFile());
+        Files.deleteIfExists(sidecar.getLocationFile());
+    }
+
+    private void saveBuiltIndexes() throws SyncException {
+        CalendarIndex calendar = new CalendarIndex();
+        LocationIndex location = new LocationIndex();
+        calendar.rebuild(events);
+        location.rebuild(events);
+        sidecar.save(events, calendar, location);
+    }
+
+    // The header holds the magic number, version, kind, event file size and time, fingerprint and event count
+    private static ByteBuffer body(Path file) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(file)).position(4 + 4 + 4 + 8 + 8 + 8 + 4);
+    }
+
+    // Occurrences of a series are created for each query, so results are compared by start time
+    private static List<LocalDateTime> startTimes(List<Event> found) {
+        List<LocalDateTime> times = new ArrayList<>();
+        for (Event event : found) {
+            times.add(event.getStartTime());
+        }
+        return times;
+    }
+
+    @Test
+    public void testLoad_afterSave_answersLikeRebuiltIndexes() throws SyncException {
+        saveBuiltIndexes();
+
+        CalendarIndex calendar = new CalendarIndex();
+        LocationIndex location = new LocationIndex();
+        assertTrue(sidecar.load(events, calendar, location));
+
+        CalendarIndex rebuilt = new CalendarIndex();
+        rebuilt.rebuild(events);
+        assertEquals(4, calendar.size());
+        assertEquals(startTimes(rebuilt.findOverlapping(at(1, 0), at(3, 0), event -> true)),
+                startTimes(calendar.findOverlapping(at(1, 0), at(3, 0), event -> true)));
+        assertEquals(List.of(events.get(1), events.get(0)), location.getBookings("Hall"));
+        assertEquals(List.of(events.get(3)), location.getSeries("Room 2"));
+        assertEquals(List.of("Room 1"), location.findFreeLocations(at(1, 9), at(1, 10)));
+
+        // The loaded index can still be changed like a rebuilt one
+        calendar.remove(events.get(0));
+        location.remove(events.get(0));
+        assertEquals(List.of(events.get(1)), location.getBookings("Hall"));
+        assertEquals(3, calendar.size());
+    }
+
+    @Test
+    public void testLoad_missingFiles_returnsFalse() {
+        assertFalse(sidecar.load(events, new CalendarIndex(), new LocationIndex()));
+    }
+
+    @Test
+    public void testLoad_eventFileChanged_returnsFalse() throws SyncException, IOException {
+        saveBuiltIndexes();
+        Files.setLastModifiedTime(EVENT_FILE, FileTime.fromMillis(0));
+
+        assertFalse(sidecar.load(events, new CalendarIndex(), new LocationIndex()));
+    }
+
+    @Test
+    public void testLoad_differentEvents_returnsFalse() throws SyncException {
+        saveBuiltIndexes();
+
+        ArrayList<Event> reordered = new ArrayList<>(events);
+        Collections.swap(reordered, 0, 1);
+        assertFalse(sidecar.load(reordered, new CalendarIndex(), new LocationIndex()));
+
+        events.get(2).setStartTime(at(2, 8));
+        assertFalse(sidecar.load(events, new CalendarIndex(), new LocationIndex()));
+    }
+
+    @Test
+    public void testLoad_indexMissingAnEvent_returnsFalse() throws SyncException, IOException {
+        // The headers match the events, but neither index holds the lab
+        ArrayList<Event> withoutLab = new ArrayList<>(events);
+        withoutLab.remove(2);
+        CalendarIndex calendar = new CalendarIndex();
+        LocationIndex location = new LocationIndex();
+        calendar.rebuild(withoutLab);
+        location.rebuild(withoutLab);
+        sidecar.save(events, calendar, location);
+
+        assertFalse(new CalendarIndex().read(body(sidecar.getCalendarFile()), events));
+        assertFalse(new LocationIndex().read(body(sidecar.getLocationFile()), events));
+        assertFalse(sidecar.load(events, new CalendarIndex(), new LocationIndex()));
+    }
+
+    @Test
+    public void testLoad_truncatedFile_returnsFalse() throws SyncException, IOException {
+        saveBuiltIndexes();
+        byte[] bytes = Files.readAllBytes(sidecar.getLocationFile());
+        Files.write(sidecar.getLocationFile(), Arrays.copyOf(bytes, bytes.length - 6));
+
+        assertFalse(sidecar.load(events, new CalendarIndex(), new LocationIndex()));
+    }
+}
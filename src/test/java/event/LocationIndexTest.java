@@ -0,0 +1,49 @@
+package event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LocationIndexTest {
+
+    private static LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2025, 5, 1, hour, minute);
+    }
+
+    @Test
+    public void testFindFreeLocations_inclusiveOverlap() {
+        LocationIndex index = new LocationIndex();
+        index.add(new Event("Long", at(8, 0), at(12, 0), "Hall", "All morning"));
+        index.add(new Event("Short", at(9, 0), at(9, 30), "Hall", "Briefing"));
+        index.add(new Event("Class", at(10, 0), at(11, 0), "Room 1", "Lecture"));
+
+        assertEquals(List.of("Room 1"), index.findFreeLocations(at(11, 1), at(11, 30)));
+        assertEquals(List.of(), index.findFreeLocations(at(10, 30), at(10, 45)));
+        assertEquals(List.of(), index.findFreeLocations(at(11, 0), at(12, 0)));
+        assertEquals(List.of("Hall", "Room 1"), index.findFreeLocations(at(6, 0), at(7, 59)));
+    }
+
+    @Test
+    public void testFindFreeLocations_tracksRemovalAndEdits() {
+        LocationIndex index = new LocationIndex();
+        Event talk = new Event("Talk", at(10, 0), at(11, 0), "Hall", "Keynote");
+        Event lab = new Event("Lab", at(10, 0), at(11, 0), "Room 1", "Practical");
+        index.add(talk);
+        index.add(lab);
+        assertEquals(List.of(), index.findFreeLocations(at(10, 0), at(10, 30)));
+
+        index.remove(talk);
+        talk.setLocation("Room 2");
+        talk.setStartTime(at(14, 0));
+        talk.setEndTime(at(15, 0));
+        index.add(talk);
+        assertEquals(List.of("Room 2"), index.findFreeLocations(at(10, 0), at(10, 30)));
+
+        index.remove(lab);
+        assertEquals(List.of(), index.findFreeLocations(at(14, 30), at(14, 45)));
+        assertEquals(1, index.size());
+    }
+}
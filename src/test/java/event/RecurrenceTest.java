@@ -0,0 +1,140 @@
+package event;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import exception.SyncException;
+import participant.Participant;
+
+public class RecurrenceTest {
+
+    private static LocalDateTime on(int day, int hour) {
+        return LocalDateTime.of(2025, 5, day, hour, 0);
+    }
+
+    private static Event weeklyStandup() {
+        Event event = new Event("Standup", on(1, 9), on(1, 10), "Room 1", "Weekly");
+        event.setRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 1, 4));
+        return event;
+    }
+
+    @Test
+    public void testFindOverlapping_windowInsideSeries_returnsOccurrenceRange() {
+        Recurrence weekly = new Recurrence(Recurrence.Frequency.WEEKLY, 1, 10);
+        assertArrayEquals(new int[]{1, 2}, weekly.findOverlapping(on(1, 9), on(1, 10), on(5, 0), on(20, 0)));
+    }
+
+    @Test
+    public void testFindOverlapping_touchingEndpoints_countAsOverlap() {
+        Recurrence daily = new Recurrence(Recurrence.Frequency.DAILY, 1, 5);
+        assertArrayEquals(new int[]{2, 2}, daily.findOverlapping(on(1, 9), on(1, 10), on(3, 10), on(3, 12)));
+        assertArrayEquals(new int[]{2, 2}, daily.findOverlapping(on(1, 9), on(1, 10), on(3, 8), on(3, 9)));
+    }
+
+    @Test
+    public void testFindOverlapping_windowOutsideSeries_returnsNull() {
+        Recurrence daily = new Recurrence(Recurrence.Frequency.DAILY, 2, 3);
+        assertNull(daily.findOverlapping(on(1, 9), on(1, 10), on(2, 9), on(2, 10)));
+        assertNull(daily.findOverlapping(on(1, 9), on(1, 10), on(10, 0), on(20, 0)));
+        assertNull(daily.findOverlapping(on(10, 9), on(10, 10), on(1, 0), on(5, 0)));
+    }
+
+    @Test
+    public void testFormatAndParse_roundTrip() throws SyncException {
+        Recurrence rule = new Recurrence(Recurrence.Frequency.DAILY, 3, 7);
+        assertEquals("DAILY:3:7", rule.format());
+        Recurrence parsed = Recurrence.parse(rule.format());
+        assertEquals(Recurrence.Frequency.DAILY, parsed.getFrequency());
+        assertEquals(3, parsed.getInterval());
+        assertEquals(7, parsed.getCount());
+        assertEquals("every 3 days, 7 times", parsed.toString());
+    }
+
+    @Test
+    public void testParse_invalidText_throwsException() {
+        assertThrows(SyncException.class, () -> Recurrence.parse("MONTHLY:1:3"));
+        assertThrows(SyncException.class, () -> Recurrence.parse("WEEKLY:0:3"));
+        assertThrows(SyncException.class, () -> Recurrence.parse("WEEKLY:1"));
+    }
+
+    @Test
+    public void testGetOccurrencesOverlapping_createsOnlyOccurrencesInWindow() {
+        Event standup = weeklyStandup();
+        ArrayList<Event> occurrences = standup.getOccurrencesOverlapping(on(7, 0), on(16, 0));
+        assertEquals(2, occurrences.size());
+        assertEquals(on(8, 9), occurrences.get(0).getStartTime());
+        assertEquals(on(15, 10), occurrences.get(1).getEndTime());
+        assertEquals(on(22, 10), standup.getSeriesEndTime());
+    }
+
+    @Test
+    public void testOverlaps_checksEveryOccurrence() {
+        Event standup = weeklyStandup();
+        assertTrue(standup.overlaps(on(22, 9), on(22, 9).plusMinutes(30)));
+        assertFalse(standup.overlaps(on(29, 9), on(29, 10)));
+        assertFalse(standup.overlaps(on(2, 9), on(2, 10)));
+    }
+
+    @Test
+    public void testCalendarIndex_expandsSeriesInRangeAndUpcoming() {
+        CalendarIndex index = new CalendarIndex();
+        index.add(weeklyStandup());
+        index.add(new Event("Review", on(9, 14), on(9, 15), "Room 2", "Once"));
+
+        ArrayList<Event> inRange = index.findOverlapping(on(8, 0), on(9, 23), event -> true);
+        assertEquals(2, inRange.size());
+        assertEquals(on(8, 9), inRange.get(0).getStartTime());
+        assertEquals("Review", inRange.get(1).getName());
+
+        ArrayList<Event> upcoming = index.findUpcoming(on(2, 0), 3, event -> true);
+        assertEquals(3, upcoming.size());
+        assertEquals(on(8, 9), upcoming.get(0).getStartTime());
+        assertEquals("Review", upcoming.get(1).getName());
+        assertEquals(on(15, 9), upcoming.get(2).getStartTime());
+    }
+
+    @Test
+    public void testFindUpcoming_seriesStartingAfterQuery_returnsLimit() throws SyncException {
+        Event daily = new Event("Daily", LocalDateTime.of(2025, 3, 1, 9, 0), LocalDateTime.of(2025, 3, 1, 10, 0),
+                "Room 1", "Starts in March");
+        daily.setRecurrence(new Recurrence(Recurrence.Frequency.DAILY, 1, 10));
+        Participant alice = new Participant("Alice", "pw", Participant.AccessLevel.MEMBER);
+        daily.addParticipant(alice);
+        CalendarIndex index = new CalendarIndex();
+        index.add(daily);
+
+        for (LocalDateTime after : new LocalDateTime[]{LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 2, 27, 0, 0)}) {
+            ArrayList<Event> upcoming = index.findUpcoming(after, 5, event -> true);
+            assertEquals(5, upcoming.size());
+            assertEquals(LocalDateTime.of(2025, 3, 1, 9, 0), upcoming.get(0).getStartTime());
+            assertEquals(LocalDateTime.of(2025, 3, 5, 9, 0), upcoming.get(4).getStartTime());
+            assertEquals(5, index.findUpcoming(alice, after, 5).size());
+        }
+        assertEquals(LocalDateTime.of(2025, 3, 3, 9, 0),
+                index.findUpcoming(LocalDateTime.of(2025, 3, 2, 9, 1), 5, event -> true).get(0).getStartTime());
+        assertEquals(2, index.findUpcoming(LocalDateTime.of(2025, 3, 9, 0, 0), 5, event -> true).size());
+    }
+
+    @Test
+    public void testAppendTo_matchesToStringWithRepeatsRow() throws IOException {
+        Event standup = weeklyStandup();
+        StringBuilder out = new StringBuilder();
+        standup.appendTo(out);
+
+        assertEquals(standup.toString(), out.toString());
+        assertTrue(out.toString().contains("| Start Time           | 2025-05-01 09:00\n"));
+        assertTrue(out.toString().contains("| Repeats              | every week, 4 times\n"));
+        assertTrue(out.toString().contains("| Participants         | []\n"));
+    }
+}
@@ -0,0 +1,61 @@
+package event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import participant.AvailabilitySlot;
+
+public class SlotFinderTest {
+
+    private static LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2025, 5, 1, hour, minute);
+    }
+
+    private static Event booking(int startHour, int endHour) {
+        return new Event("Booking", at(startHour, 0), at(endHour, 0), "Room 1", "Taken");
+    }
+
+    @Test
+    public void testFindEarliestStart_noBookings_returnsWindowStart() {
+        List<AvailabilitySlot> windows = List.of(new AvailabilitySlot(at(9, 0), at(17, 0)));
+        LocalDateTime start = new SlotFinder().findEarliestStart(windows.iterator(), new ArrayList<>(),
+                Duration.ofMinutes(60), at(0, 0));
+        assertEquals(at(9, 0), start);
+    }
+
+    @Test
+    public void testFindEarliestStart_bookingBlocksWindowStart_startsAfterBooking() {
+        List<AvailabilitySlot> windows = List.of(new AvailabilitySlot(at(9, 0), at(17, 0)));
+        List<Event> bookings = List.of(booking(8, 10), booking(11, 12));
+        LocalDateTime start = new SlotFinder().findEarliestStart(windows.iterator(), bookings,
+                Duration.ofMinutes(90), at(0, 0));
+        assertEquals(at(12, 1), start);
+    }
+
+    @Test
+    public void testFindEarliestStart_windowTooShortAfterBooking_movesToNextWindow() {
+        List<AvailabilitySlot> windows = List.of(new AvailabilitySlot(at(9, 0), at(10, 30)),
+                new AvailabilitySlot(at(13, 0), at(15, 0)));
+        List<Event> bookings = List.of(booking(9, 10), booking(13, 14));
+        LocalDateTime start = new SlotFinder().findEarliestStart(windows.iterator(), bookings,
+                Duration.ofMinutes(45), at(0, 0));
+        assertEquals(at(14, 1), start);
+    }
+
+    @Test
+    public void testFindEarliestStart_respectsLowerBound() {
+        List<AvailabilitySlot> windows = List.of(new AvailabilitySlot(at(9, 0), at(17, 0)));
+        LocalDateTime start = new SlotFinder().findEarliestStart(windows.iterator(), new ArrayList<>(),
+                Duration.ofMinutes(30), at(16, 0));
+        assertEquals(at(16, 0), start);
+        assertNull(new SlotFinder().findEarliestStart(windows.iterator(), new ArrayList<>(),
+                Duration.ofMinutes(90), at(16, 0)));
+    }
+}
@@ -0,0 +1,127 @@
+package logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void testRecordsWrittenInOrderOnFlush() {
+        CollectingHandler target = new CollectingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(target, 128);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.getMessages().size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.getMessages().get(i));
+        }
+        assertEquals(1, target.flushes);
+        handler.close();
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void testSourceClassIsLoggerName() {
+        CollectingHandler target = new CollectingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(target, 4);
+
+        LogRecord record = new LogRecord(Level.INFO, "message");
+        record.setLoggerName("storage.Storage");
+        handler.publish(record);
+        handler.close();
+
+        assertEquals("storage.Storage", target.records.get(0).getSourceClassName());
+    }
+
+    @Test
+    public void testFullRingDropsAndReports() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingHandler target = new CollectingHandler(release);
+        AsyncLogHandler handler = new AsyncLogHandler(target, 2);
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        target.started.await();
+        // The writer is stuck on the first record, so only two more fit
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+        assertEquals(3, handler.getDropped());
+
+        release.countDown();
+        handler.close();
+
+        assertEquals(List.of("first", "Dropped 3 log records", "queued 0", "queued 1"),
+                target.getMessages());
+    }
+
+    @Test
+    public void testLevelFiltersBeforeQueueing() {
+        CollectingHandler target = new CollectingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(target, 4);
+        handler.setLevel(Level.WARNING);
+
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.publish(new LogRecord(Level.WARNING, "warning"));
+        handler.close();
+
+        assertEquals(List.of("warning"), target.getMessages());
+        handler.publish(new LogRecord(Level.SEVERE, "after close"));
+        assertEquals(1, target.getMessages().size());
+    }
+
+    private static class CollectingHandler extends Handler {
+        private final List<LogRecord> records = new ArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private int flushes;
+        private boolean isClosed;
+
+        CollectingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            records.add(record);
+            started.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            flushes++;
+        }
+
+        @Override
+        public synchronized void close() {
+            isClosed = true;
+        }
+
+        synchronized List<String> getMessages() {
+            List<String> messages = new ArrayList<>();
+            for (LogRecord record : records) {
+                messages.add(record.getMessage());
+            }
+            return messages;
+        }
+    }
+}
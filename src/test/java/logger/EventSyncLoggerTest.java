@@ -1,6 +1,7 @@
 package logger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -23,7 +24,7 @@ public class EventSyncLoggerTest {
 
     @Test
     public void testConsoleHandlerLevel() {
-        Logger logger = EventSyncLogger.getLogger();
+        Logger logger = Logger.getLogger("");
 
         ConsoleHandler consoleHandler = null;
         for (var handler : logger.getHandlers()) {
@@ -34,17 +35,17 @@ public class EventSyncLoggerTest {
         }
 
         assertNotNull(consoleHandler, "ConsoleHandler should be initialized");
-        assertEquals(Level.INFO, consoleHandler.getLevel(), "ConsoleHandler level should be INFO");
+        assertEquals(Level.WARNING, consoleHandler.getLevel(), "ConsoleHandler level should be WARNING");
     }
 
     @Test
     public void testFileHandlerInitialization() throws IOException {
-        Logger logger = EventSyncLogger.getLogger();
+        Logger logger = Logger.getLogger("");
 
-        FileHandler fileHandler = null;
+        AsyncLogHandler fileHandler = null;
         for (var handler : logger.getHandlers()) {
-            if (handler instanceof FileHandler) {
-                fileHandler = (FileHandler) handler;
+            if (handler instanceof AsyncLogHandler) {
+                fileHandler = (AsyncLogHandler) handler;
                 break;
             }
         }
@@ -54,6 +55,33 @@ public class EventSyncLoggerTest {
         assertEquals(Level.ALL, fileHandler.getLevel(), "FileHandler level should be ALL");
     }
 
+    @Test
+    public void testCategoryLevel() {
+        Logger logger = Logger.getLogger("sort.SortByPriority");
+        assertTrue(logger.isLoggable(Level.INFO));
+
+        EventSyncLogger.setCategoryLevel("sort", Level.OFF);
+        assertFalse(logger.isLoggable(Level.INFO));
+        assertTrue(Logger.getLogger("storage.Storage").isLoggable(Level.INFO));
+
+        EventSyncLogger.setCategoryLevel("sort", null);
+        assertTrue(logger.isLoggable(Level.INFO));
+    }
+
+    @Test
+    public void testCategoryLevelFromProperty() {
+        System.setProperty("eventsync.log.levels", "storage=FINE, sort=off");
+        try {
+            EventSyncLogger.setupLogger();
+            assertTrue(Logger.getLogger("storage.Storage").isLoggable(Level.FINE));
+            assertFalse(Logger.getLogger("sort.SortByStartTime").isLoggable(Level.SEVERE));
+            assertFalse(Logger.getLogger("event.EventManager").isLoggable(Level.FINE));
+        } finally {
+            System.clearProperty("eventsync.log.levels");
+            EventSyncLogger.setupLogger();
+        }
+    }
+
     @Test
     public void testLoggerInfoMessage() {
         Logger logger = EventSyncLogger.getLogger();
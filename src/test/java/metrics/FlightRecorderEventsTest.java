@@ -0,0 +1,48 @@
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import event.ConflictSweeper;
+import event.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecorderEventsTest {
+
+    private static Event event(String name, int startHour, int endHour) {
+        return new Event(name, LocalDateTime.of(2025, 5, 10, startHour, 0),
+                LocalDateTime.of(2025, 5, 10, endHour, 0), "Room", "Description");
+    }
+
+    @Test
+    void sweep_duringRecording_emitsCollisionCheckEvent() throws IOException {
+        Path file = Files.createTempFile("eventsync", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CollisionCheckEvent.class).withoutThreshold();
+            recording.start();
+            new ConflictSweeper().sweep(Map.of("Room", List.of(event("A", 9, 11), event("B", 10, 12))),
+                    (key, first, second) -> { });
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> checks = RecordingFile.readAllEvents(file);
+            checks.removeIf(recorded -> !recorded.getEventType().getName().equals("eventsync.CollisionCheck"));
+            assertEquals(1, checks.size());
+            assertEquals("sweep", checks.get(0).getString("kind"));
+            assertEquals(2, checks.get(0).getLong("events"));
+            assertEquals(1, checks.get(0).getLong("collisions"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
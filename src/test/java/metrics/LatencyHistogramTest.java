@@ -0,0 +1,52 @@
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void getPercentile_emptyHistogram_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMin());
+        assertEquals(0.0, histogram.getMean());
+    }
+
+    @Test
+    void getPercentile_smallValues_areExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 60; value++) {
+            histogram.record(value);
+        }
+        assertEquals(30, histogram.getPercentile(50));
+        assertEquals(60, histogram.getPercentile(100));
+        assertEquals(1, histogram.getMin());
+    }
+
+    @Test
+    void getPercentile_largeValues_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p50 >= 5_000_000 && p50 <= 5_000_000 * 1.03, "p50 was " + p50);
+        assertTrue(p99 >= 9_900_000 && p99 <= 9_900_000 * 1.03, "p99 was " + p99);
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(10_000, histogram.getCount());
+    }
+
+    @Test
+    void record_hugeAndNegativeValues_stayInRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE / 2);
+        assertEquals(0, histogram.getMin());
+        assertEquals(Long.MAX_VALUE / 2, histogram.getMax());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.getPercentile(100));
+    }
+}
@@ -0,0 +1,71 @@
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+
+    @Test
+    void recordCommand_countsRunsAndFailuresPerType() {
+        Metrics metrics = new Metrics();
+        metrics.recordCommand("AddEventCommand", 1_000, false);
+        metrics.recordCommand("AddEventCommand", 3_000, true);
+        metrics.recordCommand("ListCommand", 500, false);
+
+        assertEquals(2, metrics.getCommand("AddEventCommand").getCount());
+        assertEquals(1, metrics.getCommand("AddEventCommand").getFailures());
+        assertEquals(3_000, metrics.getCommand("AddEventCommand").getLatencies().getMax());
+        assertNull(metrics.getCommand("DeleteCommand"));
+    }
+
+    @Test
+    void recordIo_sumsBytesReadAndWritten() {
+        Metrics metrics = new Metrics();
+        metrics.recordIo(Metrics.Io.EVENT_LOAD, 10, 100, 2);
+        metrics.recordIo(Metrics.Io.USER_LOAD, 10, 50, 1);
+        metrics.recordIo(Metrics.Io.EVENT_SAVE, 10, 120, 3);
+        metrics.recordIo(Metrics.Io.EVENT_SAVE, 10, 130, 3);
+
+        assertEquals(150, metrics.getBytesRead());
+        assertEquals(250, metrics.getBytesWritten());
+        assertEquals(2, metrics.getIo(Metrics.Io.EVENT_SAVE).getCount());
+        assertEquals(6, metrics.getIo(Metrics.Io.EVENT_SAVE).getRecords());
+    }
+
+    @Test
+    void toJson_listsCommandsAndIo() {
+        Metrics metrics = new Metrics();
+        metrics.recordCommand("FindCommand", 2_000, false);
+        metrics.recordIo(Metrics.Io.USER_SAVE, 40, 64, 1);
+
+        String json = metrics.toJson();
+        assertTrue(json.contains("\"FindCommand\": {\"count\": 1, \"failures\": 0"), json);
+        assertTrue(json.contains("\"user_save\": {\"count\": 1, \"bytes\": 64, \"records\": 1"), json);
+        assertTrue(json.contains("\"bytesWritten\": 64"), json);
+    }
+
+    @Test
+    void toJson_empty_isValidObject() {
+        assertEquals("{\n  \"commands\": {},\n  \"io\": {},\n  \"bytesRead\": 0,\n  \"bytesWritten\": 0\n}\n",
+                new Metrics().toJson());
+    }
+
+    @Test
+    void recordPhase_addsUpAndAppearsInJson() {
+        Metrics metrics = new Metrics();
+        metrics.recordPhase(Metrics.Phase.PARSE, 300);
+        metrics.recordPhase(Metrics.Phase.PARSE, 200);
+        metrics.recordPhase(Metrics.Phase.READY, 900);
+
+        assertEquals(500, metrics.getPhase(Metrics.Phase.PARSE));
+        assertEquals(0, metrics.getPhase(Metrics.Phase.INDEX_BUILD));
+        assertTrue(metrics.toJson().contains("\"startup\": {\"parse\": 500, \"ready\": 900}"), metrics.toJson());
+        assertTrue(metrics.toString().contains("Startup"));
+
+        metrics.clear();
+        assertEquals(0, metrics.getPhase(Metrics.Phase.READY));
+    }
+}
@@ -1,8 +1,11 @@
 package parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import event.PageRequest;
+import event.PendingEvent;
 import exception.SyncException;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +14,9 @@ import participant.Participant;
 import ui.UI;
 
 import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Scanner;
 
 public class CommandParserTest {
@@ -53,6 +58,27 @@ public class CommandParserTest {
         assertThrows(SyncException.class, () -> CommandParser.splitAddCommandInput(input));
     }
 
+    @Test
+    public void testParsePendingEventValid() throws SyncException {
+        PendingEvent pending = CommandParser.parsePendingEvent(
+                "Planning | 45 | Room 1/Room 2 | Sprint planning | Alice, Bob | high");
+
+        assertEquals("Planning", pending.getName());
+        assertEquals(Duration.ofMinutes(45), pending.getDuration());
+        assertEquals(List.of("Room 1", "Room 2"), pending.getCandidateLocations());
+        assertEquals(List.of("Alice", "Bob"), pending.getParticipantNames());
+        assertEquals("HIGH", pending.getPriority());
+    }
+
+    @Test
+    public void testParsePendingEventInvalid() {
+        assertThrows(SyncException.class, () -> CommandParser.parsePendingEvent("Planning | 45 | Room 1"));
+        assertThrows(SyncException.class, () -> CommandParser.parsePendingEvent(
+                "Planning | soon | Room 1 | Sprint | Alice"));
+        assertThrows(SyncException.class, () -> CommandParser.parsePendingEvent(
+                "Planning | 45 | Room 1 | Sprint | Alice | urgent"));
+    }
+
     @Test
     public void testAskAccessLevelValidAdminInput() throws SyncException {
         String simulatedInput = "1\n";
@@ -94,4 +120,26 @@ public class CommandParserTest {
 
         assertThrows(SyncException.class, () -> parser.askAccessLevel());
     }
+
+    @Test
+    public void testParsePageRequest_readsOptionsAndDefaults() throws SyncException {
+        PageRequest request = CommandParser.parsePageRequest("start --page 3 --size 5");
+        assertEquals(3, request.getPage());
+        assertEquals(5, request.getSize());
+        assertEquals(10, request.getOffset());
+
+        PageRequest sizeOnly = CommandParser.parsePageRequest("--size 7");
+        assertEquals(1, sizeOnly.getPage());
+        assertEquals(7, sizeOnly.getSize());
+        assertEquals(PageRequest.DEFAULT_SIZE, CommandParser.parsePageRequest("--page 2").getSize());
+        assertNull(CommandParser.parsePageRequest("priority"));
+        assertEquals("low high", CommandParser.stripPageOptions(" low --page 2 high  --size 4"));
+    }
+
+    @Test
+    public void testParsePageRequest_invalidValue_throwsException() {
+        assertThrows(SyncException.class, () -> CommandParser.parsePageRequest("--page 0"));
+        assertThrows(SyncException.class, () -> CommandParser.parsePageRequest("--size x"));
+        assertThrows(SyncException.class, () -> CommandParser.parsePageRequest("start --page"));
+    }
 }
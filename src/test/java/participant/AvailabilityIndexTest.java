@@ -0,0 +1,125 @@
+package participant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import storage.UserStorage;
+import ui.UI;
+
+public class AvailabilityIndexTest {
+
+    private static LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2025, 5, 1, hour, minute);
+    }
+
+    private static Participant participant(String name, AvailabilitySlot... slots) {
+        return new Participant(name, "pw", Participant.AccessLevel.MEMBER, new ArrayList<>(List.of(slots)));
+    }
+
+    @Test
+    public void testFindAvailable_matchesIsAvailableDuring() {
+        Participant alice = participant("alice", new AvailabilitySlot(at(9, 0), at(12, 0)));
+        Participant bob = participant("bob",
+                new AvailabilitySlot(at(8, 0), at(10, 0)), new AvailabilitySlot(at(10, 30), at(17, 0)));
+        Participant carol = participant("carol", new AvailabilitySlot(at(11, 0), at(18, 0)));
+        List<Participant> everyone = List.of(carol, bob, alice);
+        AvailabilityIndex index = new AvailabilityIndex(everyone);
+
+        for (int startHour = 7; startHour < 18; startHour++) {
+            for (int length = 0; length < 4; length++) {
+                LocalDateTime start = at(startHour, 30);
+                LocalDateTime end = start.plusHours(length);
+                List<Participant> expected = new ArrayList<>();
+                for (Participant participant : List.of(alice, bob, carol)) {
+                    if (participant.isAvailableDuring(start, end)) {
+                        expected.add(participant);
+                    }
+                }
+                assertEquals(expected, index.findAvailable(start, end));
+            }
+        }
+    }
+
+    @Test
+    public void testFindAvailable_boundariesAreInclusive() {
+        Participant alice = participant("alice", new AvailabilitySlot(at(9, 0), at(12, 0)));
+        AvailabilityIndex index = new AvailabilityIndex(List.of(alice));
+
+        assertEquals(List.of(alice), index.findAvailable(at(9, 0), at(12, 0)));
+        assertTrue(index.findAvailable(at(8, 59), at(12, 0)).isEmpty());
+        assertTrue(index.findAvailable(at(9, 0), at(12, 1)).isEmpty());
+    }
+
+    @Test
+    public void testFindAvailableParticipants_reflectsAssignedEvents() throws Exception {
+        Participant alice = participant("alice", new AvailabilitySlot(at(9, 0), at(12, 0)));
+        ParticipantManager manager = new ParticipantManager(new ArrayList<>(List.of(alice)), new UI(),
+                new UserStorage("./data/test-users.txt"));
+
+        assertEquals(List.of(alice), manager.findAvailableParticipants(at(10, 0), at(11, 0)));
+        alice.assignEventTime(at(10, 30), at(11, 30));
+        assertTrue(manager.findAvailableParticipants(at(10, 0), at(11, 0)).isEmpty());
+    }
+
+    @Test
+    public void testFindAvailableParticipants_followsChangesReportedByParticipants() throws Exception {
+        Participant alice = participant("alice", new AvailabilitySlot(at(9, 0), at(12, 0)));
+        Participant bob = participant("bob", new AvailabilitySlot(at(8, 0), at(17, 0)));
+        ParticipantManager manager = new ParticipantManager(new ArrayList<>(List.of(alice, bob)), new UI(),
+                new UserStorage("./data/test-users.txt"));
+        assertEquals(List.of(alice, bob), manager.findAvailableParticipants(at(10, 0), at(11, 0)));
+
+        alice.setAvailableTimes(List.of(new AvailabilitySlot(at(13, 0), at(15, 0))));
+        bob.assignEventTime(at(13, 30), at(14, 0));
+        assertEquals(List.of(bob), manager.findAvailableParticipants(at(10, 0), at(11, 0)));
+        assertEquals(List.of(alice), manager.findAvailableParticipants(at(13, 30), at(14, 0)));
+
+        // A replaced participant no longer reports to the manager
+        Participant newBob = participant("bob", new AvailabilitySlot(at(8, 0), at(9, 0)));
+        manager.updateParticipant(newBob);
+        assertEquals(List.of(newBob), manager.findAvailableParticipants(at(8, 0), at(9, 0)));
+        bob.unassignEventTime(at(13, 30), at(14, 0));
+        assertEquals(List.of(alice), manager.findAvailableParticipants(at(13, 30), at(14, 0)));
+    }
+
+    @Test
+    public void testUpdate_changedParticipant_matchesIsAvailableDuring() {
+        Participant alice = participant("alice", new AvailabilitySlot(at(9, 0), at(12, 0)));
+        Participant bob = participant("bob", new AvailabilitySlot(at(8, 0), at(17, 0)));
+        List<Participant> everyone = List.of(alice, bob);
+        AvailabilityIndex index = new AvailabilityIndex(everyone);
+        assertFalse(index.isStale(alice));
+
+        bob.assignEventTime(at(10, 0), at(11, 0));
+        alice.addAvailableTime(at(13, 0), at(16, 0));
+        assertTrue(index.isStale(bob));
+        index.update(bob);
+        index.update(alice);
+        bob.unassignEventTime(at(10, 0), at(11, 0));
+        bob.assignEventTime(at(14, 0), at(14, 30));
+        index.update(bob);
+
+        assertFalse(index.isStale(alice) || index.isStale(bob));
+        assertEquals(4, index.size());
+        for (int startHour = 7; startHour < 18; startHour++) {
+            for (int length = 0; length < 4; length++) {
+                LocalDateTime start = at(startHour, 30);
+                LocalDateTime end = start.plusHours(length);
+                List<Participant> expected = new ArrayList<>();
+                for (Participant participant : everyone) {
+                    if (participant.isAvailableDuring(start, end)) {
+                        expected.add(participant);
+                    }
+                }
+                assertEquals(expected, index.findAvailable(start, end));
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package participant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import storage.UserStorage;
+import ui.UI;
+
+public class CommonAvailabilityTest {
+
+    private static LocalDateTime at(int day, int hour) {
+        return LocalDateTime.of(2025, 5, day, hour, 0);
+    }
+
+    private static Participant participant(String name, AvailabilitySlot... slots) {
+        return new Participant(name, "pw", Participant.AccessLevel.MEMBER, new ArrayList<>(List.of(slots)));
+    }
+
+    @Test
+    public void testIntersection_overlappingSlots_returnsCommonWindows() {
+        Participant alice = participant("alice",
+                new AvailabilitySlot(at(1, 9), at(1, 12)), new AvailabilitySlot(at(1, 14), at(1, 18)));
+        Participant bob = participant("bob",
+                new AvailabilitySlot(at(1, 10), at(1, 15)), new AvailabilitySlot(at(1, 17), at(1, 20)));
+
+        CommonAvailability common = new CommonAvailability(List.of(alice, bob));
+        List<AvailabilitySlot> windows = new ArrayList<>();
+        common.forEachRemaining(windows::add);
+
+        assertEquals(3, windows.size());
+        assertEquals(at(1, 10), windows.get(0).getStartTime());
+        assertEquals(at(1, 12), windows.get(0).getEndTime());
+        assertEquals(at(1, 14), windows.get(1).getStartTime());
+        assertEquals(at(1, 15), windows.get(1).getEndTime());
+        assertEquals(at(1, 17), windows.get(2).getStartTime());
+        assertEquals(at(1, 18), windows.get(2).getEndTime());
+    }
+
+    @Test
+    public void testIntersection_participantWithoutSlots_returnsNothing() {
+        Participant alice = participant("alice", new AvailabilitySlot(at(1, 9), at(1, 12)));
+        Participant bob = participant("bob");
+
+        assertFalse(new CommonAvailability(List.of(alice, bob)).hasNext());
+    }
+
+    @Test
+    public void testIntersection_unorderedOverlappingSlots_areMergedFirst() {
+        Participant alice = participant("alice",
+                new AvailabilitySlot(at(2, 11), at(2, 16)), new AvailabilitySlot(at(2, 8), at(2, 12)));
+        Participant bob = participant("bob", new AvailabilitySlot(at(2, 10), at(2, 13)));
+
+        CommonAvailability common = new CommonAvailability(List.of(alice, bob));
+        AvailabilitySlot window = common.next();
+
+        assertEquals(at(2, 10), window.getStartTime());
+        assertEquals(at(2, 13), window.getEndTime());
+        assertFalse(common.hasNext());
+    }
+
+    @Test
+    public void testFindCommonFreeTime_filtersShortWindowsAndLimitsResults() throws Exception {
+        Participant alice = participant("alice",
+                new AvailabilitySlot(at(3, 9), at(3, 10)), new AvailabilitySlot(at(3, 12), at(3, 17)));
+        Participant bob = participant("bob",
+                new AvailabilitySlot(at(3, 9), at(3, 18)));
+        ParticipantManager manager = new ParticipantManager(new ArrayList<>(), new UI(),
+                new UserStorage("./data/test-users.txt"));
+
+        ArrayList<AvailabilitySlot> all = manager.findCommonFreeTime(List.of(alice, bob), Duration.ofMinutes(90), 0);
+        assertEquals(1, all.size());
+        assertEquals(at(3, 12), all.get(0).getStartTime());
+
+        ArrayList<AvailabilitySlot> first = manager.findCommonFreeTime(List.of(alice, bob), Duration.ofMinutes(30), 1);
+        assertEquals(1, first.size());
+        assertEquals(at(3, 9), first.get(0).getStartTime());
+    }
+}
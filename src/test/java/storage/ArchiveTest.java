@@ -0,0 +1,149 @@
+package storage;
+
+import event.Event;
+import event.Recurrence;
+import exception.SyncException;
+import label.Priority;
+import participant.Participant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArchiveTest {
+    private static final String EVENT_FILE = "./data/ArchiveTest.txt";
+
+    private Archive archive;
+
+    @BeforeEach
+    public void setUp() throws SyncException {
+        Storage storage = new Storage(EVENT_FILE, new UserStorage("./data/ArchiveTestUsers.txt"));
+        archive = new Archive(EVENT_FILE, storage);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get(EVENT_FILE));
+        Files.deleteIfExists(Paths.get("./data/ArchiveTestUsers.txt"));
+        Files.deleteIfExists(archive.getFile());
+        Files.deleteIfExists(archive.getIndexFile());
+        Files.deleteIfExists(archive.getPendingFile());
+    }
+
+    private static Event event(String name, int month) {
+        return new Event(name, LocalDateTime.of(2024, month, 1, 9, 0),
+                LocalDateTime.of(2024, month, 1, 10, 0), "Room " + month, "About " + name);
+    }
+
+    private static List<String> names(List<Event> events) {
+        List<String> names = new ArrayList<>();
+        for (Event event : events) {
+            names.add(event.getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void testFind_newestFirstAndStopsAtLimit() throws SyncException {
+        archive.append(List.of(event("January", 1), event("February", 2)), List.of(Priority.HIGH));
+        archive.append(List.of(event("March", 3)), List.of());
+
+        assertEquals(3, archive.size());
+        assertEquals(List.of("March", "February", "January"), names(archive.find(event -> true, 10)));
+        assertEquals(List.of("March", "February"), names(archive.find(event -> true, 2)));
+        assertEquals(List.of("January"), names(archive.find(event -> event.getName().startsWith("J"), 10)));
+    }
+
+    @Test
+    public void testFind_keepsEventDetails() throws SyncException {
+        Event review = event("Review", 4);
+        review.addParticipant(new Participant("Alice", "pw", Participant.AccessLevel.ADMIN));
+        review.setRecurrence(Recurrence.parse("WEEKLY:1:3"));
+        archive.append(List.of(review), List.of(Priority.MEDIUM));
+
+        Event found = archive.find(event -> true, 1).get(0);
+        assertEquals("Review", found.getName());
+        assertEquals(review.getStartTime(), found.getStartTime());
+        assertEquals(review.getEndTime(), found.getEndTime());
+        assertEquals("Room 4", found.getLocation());
+        assertEquals("About Review", found.getDescription());
+        assertEquals("WEEKLY:1:3", found.getRecurrence().format());
+        assertTrue(found.hasParticipant("alice"));
+    }
+
+    @Test
+    public void testFindOverlapping_onlyEventsInWindow() throws SyncException {
+        Event series = event("Weekly", 1);
+        series.setRecurrence(Recurrence.parse("WEEKLY:1:10"));
+        archive.append(List.of(series, event("February", 2), event("May", 5)), List.of());
+
+        List<Event> found = archive.findOverlapping(LocalDateTime.of(2024, 2, 1, 0, 0),
+                LocalDateTime.of(2024, 3, 1, 0, 0), event -> true, 10);
+        assertEquals(List.of("February", "Weekly"), names(found));
+    }
+
+    @Test
+    public void testAppend_pendingRun_skipsEventsItWrote() throws SyncException {
+        assertEquals(2, archive.append(List.of(event("January", 1), event("February", 2)), List.of(Priority.HIGH)));
+        assertTrue(Files.exists(archive.getPendingFile()));
+
+        // An identical event with another priority is a different line, so it is still archived
+        assertEquals(1, archive.append(List.of(event("January", 1), event("February", 2), event("March", 3)),
+                List.of(Priority.HIGH)));
+        assertEquals(1, archive.append(List.of(event("January", 1)), List.of(Priority.LOW)));
+
+        assertEquals(4, archive.size());
+        assertEquals(List.of("January", "March", "February", "January"), names(archive.find(event -> true, 10)));
+    }
+
+    @Test
+    public void testAppend_afterComplete_keepsIdenticalEvents() throws SyncException {
+        archive.append(List.of(event("January", 1)), List.of());
+        archive.complete();
+        assertTrue(Files.notExists(archive.getPendingFile()));
+
+        // Only the run since the last completed one is compared, so an identical later event is archived
+        archive.append(List.of(event("February", 2)), List.of());
+        assertEquals(1, archive.append(List.of(event("January", 1), event("February", 2)), List.of()));
+
+        assertEquals(3, archive.size());
+        assertEquals(List.of("January", "February", "January"), names(archive.find(event -> true, 10)));
+    }
+
+    @Test
+    public void testAppend_afterPartialIndexEntry_overwritesIt() throws SyncException, IOException {
+        archive.append(List.of(event("January", 1)), List.of());
+        Files.write(archive.getIndexFile(), new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+        assertEquals(1, archive.size());
+
+        archive.append(List.of(event("February", 2)), List.of());
+        assertEquals(2, archive.size());
+        assertEquals(List.of("February", "January"), names(archive.find(event -> true, 10)));
+    }
+
+    @Test
+    public void testFind_emptyArchive_returnsNothing() throws SyncException {
+        assertEquals(0, archive.size());
+        assertTrue(archive.find(event -> true, 10).isEmpty());
+    }
+
+    @Test
+    public void testFind_corruptedLine_throwsException() throws SyncException, IOException {
+        archive.append(List.of(event("January", 1)), List.of());
+        Files.write(archive.getFile(), "garbage".getBytes(), StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertThrows(SyncException.class, () -> archive.find(event -> true, 10));
+    }
+}
@@ -0,0 +1,175 @@
+package storage;
+
+import event.Event;
+import event.Recurrence;
+import exception.SyncException;
+import label.Priority;
+import participant.AvailabilitySlot;
+import participant.Participant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnapshotTest {
+    private static final String EVENT_FILE = "./data/SnapshotTest-events.txt";
+    private static final String USER_FILE = "./data/SnapshotTest-users.txt";
+
+    private Snapshot snapshot;
+    private ArrayList<Participant> participants;
+    private ArrayList<Event> events;
+    private ArrayList<String> priorities;
+
+    @BeforeEach
+    public void setUp() throws SyncException {
+        UserStorage userStorage = new UserStorage(USER_FILE);
+        Storage storage = new Storage(EVENT_FILE, userStorage);
+        snapshot = new Snapshot(EVENT_FILE, USER_FILE);
+
+        Participant alice = new Participant("Alice", "pw1", Participant.AccessLevel.ADMIN);
+        alice.addAvailableTime(LocalDateTime.of(2025, 5, 1, 8, 0), LocalDateTime.of(2025, 5, 1, 18, 0));
+        alice.addAvailableTime(LocalDateTime.of(2025, 5, 2, 8, 0), LocalDateTime.of(2025, 5, 2, 12, 30));
+        Participant bob = new Participant("Bob", "pw2", Participant.AccessLevel.MEMBER);
+        participants = new ArrayList<>(List.of(alice, bob));
+
+        Event review = new Event("Review", LocalDateTime.of(2025, 5, 1, 9, 0),
+                LocalDateTime.of(2025, 5, 1, 10, 0), "Room 1", "Code review");
+        review.addParticipant(alice);
+        review.addParticipant(bob);
+        Event standup = new Event("Standup", LocalDateTime.of(2025, 5, 1, 8, 45),
+                LocalDateTime.of(2025, 5, 1, 9, 0), "Room 1", "Daily sync");
+        standup.setRecurrence(Recurrence.parse("WEEKLY:2:4"));
+        standup.addParticipant(alice);
+        Event lunch = new Event("Lunch", LocalDateTime.of(2025, 5, 2, 12, 0),
+                LocalDateTime.of(2025, 5, 2, 13, 0), "Cafe", "");
+        events = new ArrayList<>(List.of(review, standup, lunch));
+        priorities = new ArrayList<>(List.of(Priority.HIGH, Priority.MEDIUM));
+
+        userStorage.saveUsers(participants);
+        storage.saveEvents(events, priorities);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get(EVENT_FILE));
+        Files.deleteIfExists(Paths.get(USER_FILE));
+        Files.deleteIfExists(snapshot.getFile());
+        Priority.clearPriorities();
+    }
+
+    @Test
+    public void testLoad_afterSave_matchesDataFiles() throws SyncException {
+        snapshot.save(participants, events, priorities);
+        assertTrue(snapshot.isCurrent());
+
+        ArrayList<Participant> loadedParticipants = new ArrayList<>();
+        ArrayList<Event> loadedEvents = new ArrayList<>();
+        assertTrue(snapshot.load(loadedParticipants, loadedEvents));
+        List<String> loadedPriorities = new ArrayList<>(Priority.getAllPriorities());
+
+        ArrayList<Participant> textParticipants = new UserStorage(USER_FILE).loadUsers();
+        ArrayList<Event> textEvents = new Storage(EVENT_FILE, new UserStorage(USER_FILE)).loadEvents();
+        assertEquals(Priority.getAllPriorities(), loadedPriorities);
+        assertEquals(List.of(Priority.HIGH, Priority.MEDIUM, Priority.LOW), loadedPriorities);
+
+        assertEquals(textParticipants.size(), loadedParticipants.size());
+        for (int i = 0; i < textParticipants.size(); i++) {
+            Participant expected = textParticipants.get(i);
+            Participant actual = loadedParticipants.get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getPassword(), actual.getPassword());
+            assertEquals(expected.getAccessLevel(), actual.getAccessLevel());
+            assertEquals(slots(expected), slots(actual));
+        }
+
+        assertEquals(textEvents.size(), loadedEvents.size());
+        for (int i = 0; i < textEvents.size(); i++) {
+            Event expected = textEvents.get(i);
+            Event actual = loadedEvents.get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getStartTime(), actual.getStartTime());
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(expected.getLocation(), actual.getLocation());
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.isRecurring(), actual.isRecurring());
+            if (expected.isRecurring()) {
+                assertEquals(expected.getRecurrence().format(), actual.getRecurrence().format());
+            }
+            assertEquals(expected.getParticipants(), actual.getParticipants());
+        }
+
+        // Events share one copy of each participant, apart from the participant list
+        Participant aliceInReview = loadedEvents.get(0).getParticipants().get(0);
+        assertSame(aliceInReview, loadedEvents.get(1).getParticipants().get(0));
+        assertNotSame(loadedParticipants.get(0), aliceInReview);
+        assertEquals(slots(loadedParticipants.get(0)), slots(aliceInReview));
+    }
+
+    @Test
+    public void testLoad_missingSnapshot_returnsFalse() {
+        ArrayList<Participant> loadedParticipants = new ArrayList<>();
+        ArrayList<Event> loadedEvents = new ArrayList<>();
+        assertFalse(snapshot.isCurrent());
+        assertFalse(snapshot.load(loadedParticipants, loadedEvents));
+        assertTrue(loadedParticipants.isEmpty());
+        assertTrue(loadedEvents.isEmpty());
+    }
+
+    @Test
+    public void testLoad_dataFileChanged_returnsFalse() throws SyncException, IOException {
+        snapshot.save(participants, events, priorities);
+        Files.setLastModifiedTime(Paths.get(USER_FILE), FileTime.fromMillis(0));
+
+        assertFalse(snapshot.isCurrent());
+        assertFalse(snapshot.load(new ArrayList<>(), new ArrayList<>()));
+    }
+
+    @Test
+    public void testLoad_truncatedSnapshot_returnsFalse() throws SyncException, IOException {
+        snapshot.save(participants, events, priorities);
+        Path file = snapshot.getFile();
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        ArrayList<Participant> loadedParticipants = new ArrayList<>();
+        ArrayList<Event> loadedEvents = new ArrayList<>();
+        assertFalse(snapshot.load(loadedParticipants, loadedEvents));
+        assertTrue(loadedParticipants.isEmpty());
+        assertTrue(loadedEvents.isEmpty());
+    }
+
+    @Test
+    public void testSave_unknownParticipant_keepsOldSnapshot() throws SyncException, IOException {
+        snapshot.save(participants, events, priorities);
+        byte[] saved = Files.readAllBytes(snapshot.getFile());
+        events.get(2).addParticipant(new Participant("Carol", "pw3", Participant.AccessLevel.MEMBER));
+
+        assertThrows(SyncException.class, () -> snapshot.save(participants, events, priorities));
+        assertTrue(Arrays.equals(saved, Files.readAllBytes(snapshot.getFile())));
+    }
+
+    private static List<String> slots(Participant participant) {
+        List<String> slots = new ArrayList<>();
+        for (AvailabilitySlot slot : participant.getAvailableTimes()) {
+            slots.add(slot.toString());
+        }
+        return slots;
+    }
+}
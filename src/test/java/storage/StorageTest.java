@@ -3,6 +3,7 @@ package storage;
 import event.Event;
 import exception.SyncException;
 import label.Priority;
+import participant.Participant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
@@ -17,10 +18,13 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class StorageTest {
@@ -73,6 +77,24 @@ public class StorageTest {
         }
     }
 
+    @Test
+    public void testDeferredSaves_writeOnlyOnFlush() throws SyncException {
+        Event event1 = new Event("Event 1", LocalDateTime.of(2025, 3, 25, 10, 0),
+                LocalDateTime.of(2025, 3, 25, 11, 0), "Room 101", "Description 1");
+        Event event2 = new Event("Event 2", LocalDateTime.of(2025, 3, 26, 14, 0),
+                LocalDateTime.of(2025, 3, 26, 15, 0), "Room 102", "Description 2");
+
+        storage.setDeferred(true);
+        storage.saveEvents(List.of(event1), Priority.getAllPriorities());
+        storage.saveEvents(List.of(event1, event2), Priority.getAllPriorities());
+        assertFalse(Files.exists(Paths.get(TEST_FILE_PATH)), "Deferred saves should not write the file");
+
+        assertTrue(storage.flush());
+        assertEquals(2, storage.loadEvents().size(), "Flush should write the latest state");
+        assertFalse(storage.flush(), "Nothing should be left to write");
+        storage.setDeferred(false);
+    }
+
     @Test
     public void testLoadEvents() throws SyncException {
         Event event1 = new Event("Event 1", LocalDateTime.of(2025, 3, 25, 10, 0),
@@ -161,4 +183,63 @@ public class StorageTest {
             assertTrue(e.getMessage().contains("Skipping corrupted line"), "Expected SyncException for corrupted data");
         }
     }
+
+    @Test
+    public void testSplitFields_matchesRegularExpression() {
+        String[] lines = {"a | b | c", "a|b|c", "a  |\t b |", "| a |  | b", "no separator", "", " a | b ",
+            "a |\u000B|\f b"};
+        for (String line : lines) {
+            assertArrayEquals(line.split("\\s*\\|\\s*", -1), Storage.splitFields(line), line);
+        }
+    }
+
+    @Test
+    public void testLoadEventsInParallel_matchesSerialLoad() throws SyncException, IOException {
+        Participant alice = new Participant("Alice", "pw", Participant.AccessLevel.ADMIN);
+        Participant bob = new Participant("Bob", "pw", Participant.AccessLevel.MEMBER);
+        StringBuilder file = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            String participants = i % 2 == 0 ? "alice:ADMIN" : "Alice:ADMIN, bob:MEMBER";
+            file.append("Event ").append(i).append(" | 2025-03-25 10:00 | 2025-03-25 11:00 | Room ").append(i % 7)
+                    .append(" | Description | ").append(i % 3 == 0 ? "HIGH" : "LOW").append(" | ")
+                    .append(participants).append('\n');
+        }
+        Files.writeString(Paths.get(TEST_FILE_PATH), file);
+
+        List<Event> events = storage.loadEvents(() -> List.of(alice, bob));
+        List<String> priorities = Priority.getAllPriorities();
+
+        assertEquals(20_000, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals("Event " + i, events.get(i).getName());
+            assertEquals(i % 3 == 0 ? "HIGH" : "LOW", priorities.get(i));
+            assertEquals(i % 2 == 0 ? List.of(alice) : List.of(alice, bob), events.get(i).getParticipants());
+            assertSame(alice, events.get(i).getParticipants().get(0));
+        }
+    }
+
+    @Test
+    public void testLoadEventsInParallel_reportsFirstCorruptedLine() throws IOException {
+        StringBuilder file = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            file.append(i == 9_000 || i == 19_000 ? "Broken " + i : "Event " + i
+                    + " | 2025-03-25 10:00 | 2025-03-25 11:00 | Room | Description | LOW | ").append('\n');
+        }
+        Files.writeString(Paths.get(TEST_FILE_PATH), file);
+
+        SyncException e = assertThrows(SyncException.class, () -> storage.loadEvents(List::of));
+        assertEquals("Error reading file: Skipping corrupted line: Broken 9000 | Error: Missing required fields",
+                e.getMessage());
+    }
+
+    @Test
+    public void testLoadEvents_unknownParticipant_reportsLine() throws IOException {
+        Files.writeString(Paths.get(TEST_FILE_PATH),
+                "Event | 2025-03-25 10:00 | 2025-03-25 11:00 | Room | Description | LOW | carol:MEMBER\n");
+
+        SyncException e = assertThrows(SyncException.class, () -> storage.loadEvents(List::of));
+        assertEquals("Error reading file: Skipping corrupted line: "
+                + "Event | 2025-03-25 10:00 | 2025-03-25 11:00 | Room | Description | LOW | carol:MEMBER"
+                + " | Error: Failed to parse event: Participant not found: carol", e.getMessage());
+    }
 }
@@ -15,6 +15,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 import event.Event;
@@ -291,4 +292,42 @@ public class UITest {
         ui.showByeMessage();
         assertTrue(outputStreamCaptor.toString().contains("Bye!"));
     }
+
+    @Test
+    public void testHeldOutput_writtenOnlyOnFlushOrRead() {
+        ui.setOutputHeld(true);
+        try {
+            ui.showMessage("first");
+            ui.showEmptyListMessage();
+            assertEquals("", outputStreamCaptor.toString());
+
+            ui.flush();
+            assertTrue(outputStreamCaptor.toString().contains("first"));
+            assertTrue(outputStreamCaptor.toString().contains("There is nothing to view"));
+
+            ui.showMessage("prompt");
+            ui.setScanner(new Scanner(new ByteArrayInputStream("answer\n".getBytes())));
+            assertEquals("answer", ui.readLine());
+            assertTrue(outputStreamCaptor.toString().contains("prompt"));
+        } finally {
+            ui.setOutputHeld(false);
+        }
+    }
+
+    @Test
+    public void testShowEventsWithIndices_matchesOneByOneRendering() {
+        Event first = new Event("Event 1", LocalDateTime.of(2025, 5, 1, 10, 0),
+                LocalDateTime.of(2025, 5, 1, 11, 0), "Room 1", "First");
+        Event second = new Event("Event 2", LocalDateTime.of(2025, 5, 2, 10, 0),
+                LocalDateTime.of(2025, 5, 2, 11, 0), "Room 2", "Second");
+        ui.showEventWithIndex(first, 1, "HIGH");
+        ui.showEventWithIndex(second, 2, "LOW");
+        String oneByOne = outputStreamCaptor.toString();
+        outputStreamCaptor.reset();
+
+        ui.showEventsWithIndices(List.of(first, second), List.of("HIGH", "LOW"));
+
+        assertEquals(oneByOne, outputStreamCaptor.toString());
+        assertTrue(oneByOne.contains("Priority: HIGH"));
+    }
 }